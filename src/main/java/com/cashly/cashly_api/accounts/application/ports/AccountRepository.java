@@ -1,5 +1,6 @@
 package com.cashly.cashly_api.accounts.application.ports;
 
+import com.cashly.cashly_api.accounts.application.dto.AccountResponse;
 import com.cashly.cashly_api.accounts.domain.entities.Account;
 import com.cashly.cashly_api.accounts.domain.valueobjects.AccountId;
 
@@ -8,8 +9,10 @@ import java.util.Optional;
 
 public interface AccountRepository {
     Account save(Account account);
+    Account update(Account account);
     Optional<Account> findById(AccountId id);
     List<Account> findByUserId(String userId);
+    List<AccountResponse> findResponsesByUserId(String userId);
     void deleteById(AccountId id);
     boolean existsById(AccountId id);
 }
@@ -35,7 +35,7 @@ public class DeactivateAccountUseCase {
 
         account.deactivate();
 
-        Account deactivatedAccount = accountRepository.save(account);
+        Account deactivatedAccount = accountRepository.update(account);
 
         return mapToResponse(deactivatedAccount);
     }
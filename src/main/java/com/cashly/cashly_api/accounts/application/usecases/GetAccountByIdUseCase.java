@@ -5,10 +5,12 @@ import com.cashly.cashly_api.accounts.application.ports.AccountRepository;
 import com.cashly.cashly_api.accounts.domain.entities.Account;
 import com.cashly.cashly_api.accounts.domain.valueobjects.AccountId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Service
+@Transactional(readOnly = true)
 public class GetAccountByIdUseCase {
 
     private final AccountRepository accountRepository;
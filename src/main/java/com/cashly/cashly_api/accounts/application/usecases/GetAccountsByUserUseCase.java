@@ -2,13 +2,14 @@ package com.cashly.cashly_api.accounts.application.usecases;
 
 import com.cashly.cashly_api.accounts.application.dto.AccountResponse;
 import com.cashly.cashly_api.accounts.application.ports.AccountRepository;
-import com.cashly.cashly_api.accounts.domain.entities.Account;
+import com.cashly.cashly_api.shared.utils.Uuids;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class GetAccountsByUserUseCase {
 
     private final AccountRepository accountRepository;
@@ -21,25 +22,8 @@ public class GetAccountsByUserUseCase {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
         }
+        Uuids.requireValid(userId, "user ID");
 
-        List<Account> accounts = accountRepository.findByUserId(userId);
-
-        return accounts.stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
-    }
-
-    private AccountResponse mapToResponse(Account account) {
-        return new AccountResponse(
-            account.getId().getValue().toString(),
-            account.getName().getValue(),
-            account.getType().getValue(),
-            account.getBalance().getValue(),
-            account.getCurrency().getValue(),
-            account.isActive(),
-            account.getUserId(),
-            account.getCreatedAt(),
-            account.getUpdatedAt()
-        );
+        return accountRepository.findResponsesByUserId(userId);
     }
 }
@@ -39,7 +39,7 @@ public class UpdateAccountUseCase {
             account.updateBalance(new Balance(request.getBalance()));
         }
 
-        Account updatedAccount = accountRepository.save(account);
+        Account updatedAccount = accountRepository.update(account);
 
         return mapToResponse(updatedAccount);
     }
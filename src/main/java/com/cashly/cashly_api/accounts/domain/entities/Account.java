@@ -1,6 +1,7 @@
 package com.cashly.cashly_api.accounts.domain.entities;
 
 import com.cashly.cashly_api.accounts.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.utils.Uuids;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -31,6 +32,28 @@ public class Account {
         this.updatedAt = LocalDateTime.now();
     }
 
+    private Account(AccountId id, AccountName name, AccountType type, Balance balance,
+                    Currency currency, String userId, boolean active,
+                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+        validateParameters(id, name, type, balance, currency, userId);
+
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.balance = balance;
+        this.currency = currency;
+        this.userId = userId;
+        this.active = active;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static Account rehydrate(AccountId id, AccountName name, AccountType type, Balance balance,
+                                    Currency currency, String userId, boolean active,
+                                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Account(id, name, type, balance, currency, userId, active, createdAt, updatedAt);
+    }
+
     private void validateParameters(AccountId id, AccountName name, AccountType type,
                                    Balance balance, Currency currency, String userId) {
         if (id == null) {
@@ -54,6 +77,7 @@ public class Account {
         if (userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be empty");
         }
+        Uuids.requireValid(userId.trim(), "user ID");
     }
 
     public void updateName(AccountName newName) {
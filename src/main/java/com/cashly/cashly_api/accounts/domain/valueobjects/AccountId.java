@@ -1,5 +1,7 @@
 package com.cashly.cashly_api.accounts.domain.valueobjects;
 
+import com.cashly.cashly_api.shared.utils.UuidV7;
+
 import java.util.Objects;
 import java.util.UUID;
 
@@ -14,7 +16,7 @@ public class AccountId {
     }
 
     public static AccountId generate() {
-        return new AccountId(UUID.randomUUID());
+        return new AccountId(UuidV7.generate());
     }
 
     public UUID getValue() {
@@ -2,12 +2,17 @@ package com.cashly.cashly_api.accounts.infrastructure.persistence;
 
 import com.cashly.cashly_api.accounts.domain.entities.Account;
 import com.cashly.cashly_api.accounts.domain.valueobjects.*;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryType;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -24,10 +29,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString
-public class AccountEntity {
+public class AccountEntity implements Persistable<String> {
 
     @Id
-    @Column(name = "id", length = 36, nullable = false)
+    @Column(name = "id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Type(UuidBinaryType.class)
     @EqualsAndHashCode.Include
     private String id;
 
@@ -46,7 +53,9 @@ public class AccountEntity {
     @Column(name = "is_active", nullable = false)
     private boolean active;
 
-    @Column(name = "user_id", length = 36, nullable = false)
+    @Column(name = "user_id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
     private String userId;
 
     @Column(name = "created_at", nullable = false)
@@ -55,6 +64,11 @@ public class AccountEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
     public static AccountEntity fromDomain(Account account) {
         if (account == null) {
             throw new IllegalArgumentException("Account cannot be null");
@@ -70,10 +84,22 @@ public class AccountEntity {
         entity.userId = account.getUserId();
         entity.createdAt = account.getCreatedAt();
         entity.updatedAt = account.getUpdatedAt();
+        entity.newEntity = true;
 
         return entity;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.newEntity = false;
+    }
+
     public void updateFromDomain(Account account) {
         if (account == null) {
             throw new IllegalArgumentException("Account cannot be null");
@@ -86,32 +112,16 @@ public class AccountEntity {
     }
 
     public Account toDomain() {
-        AccountId accountId = new AccountId(UUID.fromString(this.id));
-        AccountName accountName = new AccountName(this.name);
-        AccountType accountType = new AccountType(this.accountType);
-        Balance domainBalance = new Balance(this.balance);
-        Currency domainCurrency = new Currency(this.currency);
-
-        Account account = new Account(accountId, accountName, accountType,
-            domainBalance, domainCurrency, this.userId);
-
-        try {
-            java.lang.reflect.Field activeField = Account.class.getDeclaredField("active");
-            java.lang.reflect.Field createdAtField = Account.class.getDeclaredField("createdAt");
-            java.lang.reflect.Field updatedAtField = Account.class.getDeclaredField("updatedAt");
-
-            activeField.setAccessible(true);
-            createdAtField.setAccessible(true);
-            updatedAtField.setAccessible(true);
-
-            activeField.set(account, this.active);
-            createdAtField.set(account, this.createdAt);
-            updatedAtField.set(account, this.updatedAt);
-
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Failed to set fields on domain entity", e);
-        }
-
-        return account;
+        return Account.rehydrate(
+            new AccountId(UUID.fromString(this.id)),
+            new AccountName(this.name),
+            new AccountType(this.accountType),
+            new Balance(this.balance),
+            new Currency(this.currency),
+            this.userId,
+            this.active,
+            this.createdAt,
+            this.updatedAt
+        );
     }
 }
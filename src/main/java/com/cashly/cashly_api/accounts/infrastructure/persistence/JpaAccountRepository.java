@@ -1,9 +1,11 @@
 package com.cashly.cashly_api.accounts.infrastructure.persistence;
 
+import com.cashly.cashly_api.accounts.application.dto.AccountResponse;
 import com.cashly.cashly_api.accounts.application.ports.AccountRepository;
 import com.cashly.cashly_api.accounts.domain.entities.Account;
 import com.cashly.cashly_api.accounts.domain.valueobjects.AccountId;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,19 +26,26 @@ public class JpaAccountRepository implements AccountRepository {
             throw new IllegalArgumentException("Account cannot be null");
         }
 
-        String accountIdStr = account.getId().getValue().toString();
-        Optional<AccountEntity> existingEntity = springDataAccountRepository.findById(accountIdStr);
+        AccountEntity savedEntity = springDataAccountRepository.save(AccountEntity.fromDomain(account));
+        return savedEntity.toDomain();
+    }
+
+    @Override
+    @Transactional
+    public Account update(Account account) {
+        if (account == null) {
+            throw new IllegalArgumentException("Account cannot be null");
+        }
 
-        AccountEntity entity;
-        if (existingEntity.isPresent()) {
-            entity = existingEntity.get();
-            entity.updateFromDomain(account);
-        } else {
-            entity = AccountEntity.fromDomain(account);
+        AccountEntity entity = AccountEntity.fromDomain(account);
+        int updated = springDataAccountRepository.updateDetails(
+            entity.getId(), entity.getName(), entity.getBalance(), entity.isActive(), entity.getUpdatedAt()
+        );
+        if (updated == 0) {
+            throw new IllegalStateException("Account not found: " + entity.getId());
         }
 
-        AccountEntity savedEntity = springDataAccountRepository.save(entity);
-        return savedEntity.toDomain();
+        return account;
     }
 
     @Override
@@ -60,6 +69,16 @@ public class JpaAccountRepository implements AccountRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountResponse> findResponsesByUserId(String userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+
+        return springDataAccountRepository.findResponsesByUserId(userId);
+    }
+
     @Override
     public void deleteById(AccountId id) {
         if (id == null) {
@@ -1,11 +1,33 @@
 package com.cashly.cashly_api.accounts.infrastructure.persistence;
 
+import com.cashly.cashly_api.accounts.application.dto.AccountResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface SpringDataAccountRepository extends JpaRepository<AccountEntity, String> {
     List<AccountEntity> findByUserId(String userId);
+
+    @Query("SELECT new com.cashly.cashly_api.accounts.application.dto.AccountResponse(" +
+           "a.id, a.name, a.accountType, a.balance, a.currency, a.active, a.userId, a.createdAt, a.updatedAt) " +
+           "FROM AccountEntity a WHERE a.userId = :userId")
+    List<AccountResponse> findResponsesByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Query("UPDATE AccountEntity a SET a.name = :name, a.balance = :balance, a.active = :active, " +
+           "a.updatedAt = :updatedAt WHERE a.id = :id")
+    int updateDetails(
+        @Param("id") String id,
+        @Param("name") String name,
+        @Param("balance") BigDecimal balance,
+        @Param("active") boolean active,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
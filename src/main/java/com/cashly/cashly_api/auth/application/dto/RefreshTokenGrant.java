@@ -0,0 +1,10 @@
+package com.cashly.cashly_api.auth.application.dto;
+
+import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
+import com.cashly.cashly_api.auth.domain.entities.User;
+
+public record RefreshTokenGrant(
+    RefreshToken refreshToken,
+    User user
+) {
+}
@@ -0,0 +1,7 @@
+package com.cashly.cashly_api.auth.application.dto;
+
+public record RefreshTokenPurgeResult(
+    long deleted,
+    long backlog
+) {
+}
@@ -0,0 +1,27 @@
+package com.cashly.cashly_api.auth.application.dto;
+
+import com.cashly.cashly_api.auth.domain.entities.User;
+
+public record UserAuthenticationStatus(
+    boolean exists,
+    boolean active,
+    boolean emailVerified
+) {
+    private static final UserAuthenticationStatus NOT_FOUND = new UserAuthenticationStatus(false, false, false);
+
+    public static UserAuthenticationStatus from(User user) {
+        return new UserAuthenticationStatus(
+            true,
+            user.isActive(),
+            user.isEmailVerified()
+        );
+    }
+
+    public static UserAuthenticationStatus notFound() {
+        return NOT_FOUND;
+    }
+
+    public boolean canAuthenticate() {
+        return exists && active;
+    }
+}
@@ -0,0 +1,10 @@
+package com.cashly.cashly_api.auth.application.ports;
+
+import java.time.LocalDateTime;
+
+public interface AccessTokenDenylist {
+
+    void revoke(String tokenId, LocalDateTime expiresAt);
+
+    boolean isRevoked(String tokenId);
+}
@@ -0,0 +1,14 @@
+package com.cashly.cashly_api.auth.application.ports;
+
+import com.cashly.cashly_api.auth.domain.valueobjects.Email;
+
+public interface LoginThrottle {
+
+    boolean isBlocked(Email email, String clientAddress);
+
+    void recordFailure(Email email, String clientAddress);
+
+    void recordSuccess(Email email, String clientAddress);
+
+    long retryAfterSeconds();
+}
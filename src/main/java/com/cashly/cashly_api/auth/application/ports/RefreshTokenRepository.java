@@ -1,8 +1,11 @@
 package com.cashly.cashly_api.auth.application.ports;
 
+import com.cashly.cashly_api.auth.application.dto.RefreshTokenGrant;
 import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
+import com.cashly.cashly_api.auth.domain.valueobjects.RefreshTokenId;
 import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,11 +13,25 @@ public interface RefreshTokenRepository {
 
     RefreshToken save(RefreshToken refreshToken);
 
+    RefreshToken update(RefreshToken refreshToken);
+
     Optional<RefreshToken> findByToken(String token);
 
+    Optional<RefreshTokenGrant> findGrantByToken(String token);
+
     List<RefreshToken> findByUserId(UserId userId);
 
     void revokeAllByUserId(UserId userId);
 
+    boolean rotate(RefreshToken current, RefreshToken replacement);
+
     void deleteExpiredTokens();
+
+    List<RefreshTokenId> findExpiredTokenIds(LocalDateTime now, int limit);
+
+    List<RefreshTokenId> findRevokedTokenIds(LocalDateTime createdBefore, int limit);
+
+    int deleteAllByIds(List<RefreshTokenId> ids);
+
+    long countPurgeable(LocalDateTime now, LocalDateTime revokedCreatedBefore);
 }
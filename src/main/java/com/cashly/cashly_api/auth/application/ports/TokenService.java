@@ -19,6 +19,8 @@ public interface TokenService {
 
     Email extractEmail(String token);
 
+    String extractTokenId(String token);
+
     LocalDateTime getExpirationDate(String token);
 
     long getAccessTokenExpiration();
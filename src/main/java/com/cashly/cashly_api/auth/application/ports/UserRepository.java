@@ -10,6 +10,8 @@ public interface UserRepository {
 
     User save(User user);
 
+    User update(User user);
+
     Optional<User> findById(UserId id);
 
     Optional<User> findByEmail(Email email);
@@ -0,0 +1,11 @@
+package com.cashly.cashly_api.auth.application.ports;
+
+import com.cashly.cashly_api.auth.application.dto.UserAuthenticationStatus;
+import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+
+public interface UserStatusCache {
+
+    UserAuthenticationStatus get(UserId userId);
+
+    void invalidate(UserId userId);
+}
@@ -3,6 +3,7 @@ package com.cashly.cashly_api.auth.application.usecases;
 import com.cashly.cashly_api.auth.application.dto.AuthenticationResponse;
 import com.cashly.cashly_api.auth.application.dto.LoginRequest;
 import com.cashly.cashly_api.auth.application.dto.UserResponse;
+import com.cashly.cashly_api.auth.application.ports.LoginThrottle;
 import com.cashly.cashly_api.auth.application.ports.PasswordEncoder;
 import com.cashly.cashly_api.auth.application.ports.RefreshTokenRepository;
 import com.cashly.cashly_api.auth.application.ports.TokenService;
@@ -12,9 +13,9 @@ import com.cashly.cashly_api.auth.domain.entities.User;
 import com.cashly.cashly_api.auth.domain.services.AuthenticationDomainService;
 import com.cashly.cashly_api.auth.domain.valueobjects.Email;
 import com.cashly.cashly_api.shared.exceptions.InvalidCredentialsException;
+import com.cashly.cashly_api.shared.exceptions.TooManyLoginAttemptsException;
 import com.cashly.cashly_api.shared.exceptions.UserNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class LoginUserUseCase {
@@ -24,35 +25,53 @@ public class LoginUserUseCase {
     private final TokenService tokenService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationDomainService authenticationDomainService;
+    private final LoginThrottle loginThrottle;
 
     public LoginUserUseCase(
         UserRepository userRepository,
         RefreshTokenRepository refreshTokenRepository,
         TokenService tokenService,
         PasswordEncoder passwordEncoder,
-        AuthenticationDomainService authenticationDomainService
+        AuthenticationDomainService authenticationDomainService,
+        LoginThrottle loginThrottle
     ) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.tokenService = tokenService;
         this.passwordEncoder = passwordEncoder;
         this.authenticationDomainService = authenticationDomainService;
+        this.loginThrottle = loginThrottle;
     }
 
-    @Transactional
-    public AuthenticationResponse execute(LoginRequest request) {
+    // Deliberately not @Transactional: each repository call commits on its own, so a request
+    // queued behind the bounded hashing executor never pins a pooled database connection.
+    public AuthenticationResponse execute(LoginRequest request, String clientAddress) {
         Email email = new Email(request.email());
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new UserNotFoundException("User not found with email: " + request.email()));
+        if (loginThrottle.isBlocked(email, clientAddress)) {
+            throw new TooManyLoginAttemptsException(
+                "Too many failed login attempts, please retry later",
+                loginThrottle.retryAfterSeconds()
+            );
+        }
+
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(email, clientAddress);
+            throw new UserNotFoundException("User not found with email: " + request.email());
+        }
 
         if (!authenticationDomainService.canUserAuthenticate(user)) {
+            loginThrottle.recordFailure(email, clientAddress);
             throw new InvalidCredentialsException("User account is not active");
         }
 
         if (!passwordEncoder.matches(request.password(), user.getPassword().getHashedValue())) {
+            loginThrottle.recordFailure(email, clientAddress);
             throw new InvalidCredentialsException("Invalid email or password");
         }
 
+        loginThrottle.recordSuccess(email, clientAddress);
+
         String accessToken = tokenService.generateAccessToken(user);
 
         RefreshToken refreshToken = tokenService.generateRefreshToken(user);
@@ -1,7 +1,9 @@
 package com.cashly.cashly_api.auth.application.usecases;
 
 import com.cashly.cashly_api.auth.application.dto.LogoutRequest;
+import com.cashly.cashly_api.auth.application.ports.AccessTokenDenylist;
 import com.cashly.cashly_api.auth.application.ports.RefreshTokenRepository;
+import com.cashly.cashly_api.auth.application.ports.TokenService;
 import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
 import com.cashly.cashly_api.shared.exceptions.InvalidTokenException;
 import org.springframework.stereotype.Service;
@@ -11,17 +13,37 @@ import org.springframework.transaction.annotation.Transactional;
 public class LogoutUserUseCase {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenService tokenService;
+    private final AccessTokenDenylist accessTokenDenylist;
 
-    public LogoutUserUseCase(RefreshTokenRepository refreshTokenRepository) {
+    public LogoutUserUseCase(
+        RefreshTokenRepository refreshTokenRepository,
+        TokenService tokenService,
+        AccessTokenDenylist accessTokenDenylist
+    ) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenService = tokenService;
+        this.accessTokenDenylist = accessTokenDenylist;
     }
 
     @Transactional
     public void execute(LogoutRequest request) {
+        execute(request, null);
+    }
+
+    @Transactional
+    public void execute(LogoutRequest request, String accessToken) {
         RefreshToken refreshToken = refreshTokenRepository.findByToken(request.refreshToken())
             .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
 
         refreshToken.revoke();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenRepository.update(refreshToken);
+
+        if (accessToken != null && tokenService.validateToken(accessToken)) {
+            String tokenId = tokenService.extractTokenId(accessToken);
+            if (tokenId != null) {
+                accessTokenDenylist.revoke(tokenId, tokenService.getExpirationDate(accessToken));
+            }
+        }
     }
 }
@@ -0,0 +1,67 @@
+package com.cashly.cashly_api.auth.application.usecases;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.cashly.cashly_api.auth.application.dto.RefreshTokenPurgeResult;
+import com.cashly.cashly_api.auth.application.ports.RefreshTokenRepository;
+import com.cashly.cashly_api.auth.domain.valueobjects.RefreshTokenId;
+
+@Service
+public class PurgeRefreshTokensUseCase {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    public PurgeRefreshTokensUseCase(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    public RefreshTokenPurgeResult execute(LocalDateTime now, Duration revokedRetention, int chunkSize, int maxChunks) {
+        if (now == null) {
+            throw new IllegalArgumentException("Current time cannot be null");
+        }
+        if (revokedRetention == null || revokedRetention.isNegative()) {
+            throw new IllegalArgumentException("Revoked retention cannot be null or negative");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (maxChunks <= 0) {
+            throw new IllegalArgumentException("Max chunks must be positive");
+        }
+
+        LocalDateTime revokedCreatedBefore = now.minus(revokedRetention);
+        long deleted = 0;
+        int chunks = 0;
+
+        while (chunks < maxChunks) {
+            List<RefreshTokenId> ids = refreshTokenRepository.findExpiredTokenIds(now, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += refreshTokenRepository.deleteAllByIds(ids);
+            chunks++;
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        while (chunks < maxChunks) {
+            List<RefreshTokenId> ids = refreshTokenRepository.findRevokedTokenIds(revokedCreatedBefore, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += refreshTokenRepository.deleteAllByIds(ids);
+            chunks++;
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        long backlog = refreshTokenRepository.countPurgeable(now, revokedCreatedBefore);
+        return new RefreshTokenPurgeResult(deleted, backlog);
+    }
+}
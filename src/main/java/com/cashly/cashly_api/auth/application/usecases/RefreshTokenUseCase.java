@@ -1,15 +1,14 @@
 package com.cashly.cashly_api.auth.application.usecases;
 
 import com.cashly.cashly_api.auth.application.dto.AuthenticationResponse;
+import com.cashly.cashly_api.auth.application.dto.RefreshTokenGrant;
 import com.cashly.cashly_api.auth.application.dto.RefreshTokenRequest;
 import com.cashly.cashly_api.auth.application.dto.UserResponse;
 import com.cashly.cashly_api.auth.application.ports.RefreshTokenRepository;
 import com.cashly.cashly_api.auth.application.ports.TokenService;
-import com.cashly.cashly_api.auth.application.ports.UserRepository;
 import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
 import com.cashly.cashly_api.auth.domain.entities.User;
 import com.cashly.cashly_api.shared.exceptions.InvalidTokenException;
-import com.cashly.cashly_api.shared.exceptions.UserNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,41 +16,41 @@ import org.springframework.transaction.annotation.Transactional;
 public class RefreshTokenUseCase {
 
     private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
     private final TokenService tokenService;
 
     public RefreshTokenUseCase(
         RefreshTokenRepository refreshTokenRepository,
-        UserRepository userRepository,
         TokenService tokenService
     ) {
         this.refreshTokenRepository = refreshTokenRepository;
-        this.userRepository = userRepository;
         this.tokenService = tokenService;
     }
 
     @Transactional
     public AuthenticationResponse execute(RefreshTokenRequest request) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(request.refreshToken())
+        // The owning user comes back with the token row, so a refresh costs one read plus the
+        // conditional revoke and the insert.
+        RefreshTokenGrant grant = refreshTokenRepository.findGrantByToken(request.refreshToken())
             .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
 
+        RefreshToken refreshToken = grant.refreshToken();
+
         if (!refreshToken.isValid()) {
             throw new InvalidTokenException("Refresh token is expired or revoked");
         }
 
-        User user = userRepository.findById(refreshToken.getUserId())
-            .orElseThrow(() -> new UserNotFoundException("User not found"));
+        User user = grant.user();
 
         if (!user.canAuthenticate()) {
             throw new InvalidTokenException("User account is not active");
         }
 
-        refreshToken.revoke();
-        refreshTokenRepository.save(refreshToken);
+        RefreshToken newRefreshToken = tokenService.generateRefreshToken(user);
+        if (!refreshTokenRepository.rotate(refreshToken, newRefreshToken)) {
+            throw new InvalidTokenException("Refresh token is expired or revoked");
+        }
 
         String accessToken = tokenService.generateAccessToken(user);
-        RefreshToken newRefreshToken = tokenService.generateRefreshToken(user);
-        refreshTokenRepository.save(newRefreshToken);
 
         UserResponse userResponse = UserResponse.from(user);
         return AuthenticationResponse.of(
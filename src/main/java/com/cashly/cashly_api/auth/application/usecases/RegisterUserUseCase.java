@@ -4,24 +4,31 @@ import com.cashly.cashly_api.auth.application.dto.RegisterUserRequest;
 import com.cashly.cashly_api.auth.application.dto.UserResponse;
 import com.cashly.cashly_api.auth.application.ports.PasswordEncoder;
 import com.cashly.cashly_api.auth.application.ports.UserRepository;
+import com.cashly.cashly_api.auth.application.ports.UserStatusCache;
 import com.cashly.cashly_api.auth.domain.entities.User;
 import com.cashly.cashly_api.auth.domain.valueobjects.*;
 import com.cashly.cashly_api.shared.exceptions.DuplicateEmailException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class RegisterUserUseCase {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatusCache userStatusCache;
 
-    public RegisterUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public RegisterUserUseCase(
+        UserRepository userRepository,
+        PasswordEncoder passwordEncoder,
+        UserStatusCache userStatusCache
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userStatusCache = userStatusCache;
     }
 
-    @Transactional
+    // Deliberately not @Transactional: each repository call commits on its own, so a request
+    // queued behind the bounded hashing executor never pins a pooled database connection.
     public UserResponse execute(RegisterUserRequest request) {
         Email email = new Email(request.email());
         if (userRepository.existsByEmail(email)) {
@@ -38,6 +45,7 @@ public class RegisterUserUseCase {
         User user = new User(UserId.generate(), email, password, profile);
 
         User savedUser = userRepository.save(user);
+        userStatusCache.invalidate(savedUser.getId());
 
         return UserResponse.from(savedUser);
     }
@@ -16,6 +16,9 @@ public class RefreshToken {
 
     public RefreshToken(RefreshTokenId id, UserId userId, String token, LocalDateTime expiresAt) {
         validateParameters(id, userId, token, expiresAt);
+        if (expiresAt.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Expiration date cannot be in the past");
+        }
 
         this.id = id;
         this.userId = userId;
@@ -25,6 +28,23 @@ public class RefreshToken {
         this.createdAt = LocalDateTime.now();
     }
 
+    private RefreshToken(RefreshTokenId id, UserId userId, String token,
+                         LocalDateTime expiresAt, boolean revoked, LocalDateTime createdAt) {
+        validateParameters(id, userId, token, expiresAt);
+
+        this.id = id;
+        this.userId = userId;
+        this.token = token;
+        this.expiresAt = expiresAt;
+        this.revoked = revoked;
+        this.createdAt = createdAt;
+    }
+
+    public static RefreshToken rehydrate(RefreshTokenId id, UserId userId, String token,
+                                         LocalDateTime expiresAt, boolean revoked, LocalDateTime createdAt) {
+        return new RefreshToken(id, userId, token, expiresAt, revoked, createdAt);
+    }
+
     private void validateParameters(RefreshTokenId id, UserId userId, String token, LocalDateTime expiresAt) {
         if (id == null) {
             throw new IllegalArgumentException("RefreshToken ID cannot be null");
@@ -38,9 +58,6 @@ public class RefreshToken {
         if (expiresAt == null) {
             throw new IllegalArgumentException("Expiration date cannot be null");
         }
-        if (expiresAt.isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Expiration date cannot be in the past");
-        }
     }
 
     public boolean isExpired() {
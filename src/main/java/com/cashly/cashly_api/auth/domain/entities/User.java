@@ -31,6 +31,27 @@ public class User {
         this.updatedAt = LocalDateTime.now();
     }
 
+    private User(UserId id, Email email, Password password, UserProfile profile,
+                 boolean active, boolean emailVerified, LocalDateTime createdAt,
+                 LocalDateTime updatedAt) {
+        validateParameters(id, email, password, profile);
+
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.profile = profile;
+        this.active = active;
+        this.emailVerified = emailVerified;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static User rehydrate(UserId id, Email email, Password password, UserProfile profile,
+                                 boolean active, boolean emailVerified, LocalDateTime createdAt,
+                                 LocalDateTime updatedAt) {
+        return new User(id, email, password, profile, active, emailVerified, createdAt, updatedAt);
+    }
+
     private void validateParameters(UserId id, Email email, Password password, UserProfile profile) {
         if (id == null) {
             throw new IllegalArgumentException("User ID cannot be null");
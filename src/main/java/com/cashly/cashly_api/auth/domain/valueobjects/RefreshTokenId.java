@@ -1,5 +1,7 @@
 package com.cashly.cashly_api.auth.domain.valueobjects;
 
+import com.cashly.cashly_api.shared.utils.UuidV7;
+
 import java.util.Objects;
 import java.util.UUID;
 
@@ -14,7 +16,7 @@ public class RefreshTokenId {
     }
 
     public static RefreshTokenId generate() {
-        return new RefreshTokenId(UUID.randomUUID());
+        return new RefreshTokenId(UuidV7.generate());
     }
 
     public static RefreshTokenId from(String value) {
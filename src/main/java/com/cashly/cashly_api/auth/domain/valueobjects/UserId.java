@@ -1,5 +1,7 @@
 package com.cashly.cashly_api.auth.domain.valueobjects;
 
+import com.cashly.cashly_api.shared.utils.UuidV7;
+
 import java.util.Objects;
 import java.util.UUID;
 
@@ -14,7 +16,7 @@ public class UserId {
     }
 
     public static UserId generate() {
-        return new UserId(UUID.randomUUID());
+        return new UserId(UuidV7.generate());
     }
 
     public static UserId from(String value) {
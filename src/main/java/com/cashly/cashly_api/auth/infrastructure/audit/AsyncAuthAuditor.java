@@ -0,0 +1,141 @@
+package com.cashly.cashly_api.auth.infrastructure.audit;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records one event per authentication attempt. Every outcome is counted; failure
+ * events are always queued, successful ones only at the configured sample rate. A
+ * single background thread drains the queue and writes the log lines, so request
+ * threads never block on logging. Events that do not fit in the queue are counted
+ * as dropped.
+ */
+public class AsyncAuthAuditor implements AuthAuditor {
+
+    static final String EVENTS_METRIC = "auth.filter.events";
+    static final String DROPPED_METRIC = "auth.filter.events.dropped";
+
+    private static final Logger AUDIT_LOG = LoggerFactory.getLogger("auth.audit");
+    private static final int DRAIN_BATCH_SIZE = 256;
+
+    private final Map<AuthOutcome, Counter> outcomeCounters = new EnumMap<>(AuthOutcome.class);
+    private final Counter droppedCounter;
+    private final BlockingQueue<AuthEvent> queue;
+    private final double successSampleRate;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AsyncAuthAuditor(MeterRegistry meterRegistry, int queueCapacity, double successSampleRate) {
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("Meter registry cannot be null");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (successSampleRate < 0 || successSampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+
+        for (AuthOutcome outcome : AuthOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder(EVENTS_METRIC)
+                .description("Authentication filter outcomes")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        this.droppedCounter = Counter.builder(DROPPED_METRIC)
+            .description("Authentication audit events dropped because the queue was full")
+            .register(meterRegistry);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.successSampleRate = successSampleRate;
+        this.writer = new Thread(this::drainLoop, "auth-audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void record(AuthOutcome outcome, String path, UserId userId) {
+        outcomeCounters.get(outcome).increment();
+        if (outcome.isFailure() || sampled()) {
+            enqueue(new AuthEvent(outcome, path, userId, System.currentTimeMillis(), null));
+        }
+    }
+
+    @Override
+    public void recordError(String path, Throwable error) {
+        outcomeCounters.get(AuthOutcome.ERROR).increment();
+        enqueue(new AuthEvent(AuthOutcome.ERROR, path, null, System.currentTimeMillis(), error));
+    }
+
+    public void shutdown() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain(new ArrayList<>(DRAIN_BATCH_SIZE));
+    }
+
+    int pendingEvents() {
+        return queue.size();
+    }
+
+    private boolean sampled() {
+        return successSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < successSampleRate;
+    }
+
+    private void enqueue(AuthEvent event) {
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<AuthEvent> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (running) {
+            try {
+                AuthEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    write(first);
+                    drain(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void drain(List<AuthEvent> batch) {
+        while (queue.drainTo(batch, DRAIN_BATCH_SIZE) > 0) {
+            batch.forEach(this::write);
+            batch.clear();
+        }
+    }
+
+    private void write(AuthEvent event) {
+        String userId = event.userId() != null ? event.userId().getValue().toString() : "-";
+        if (event.outcome() == AuthOutcome.ERROR) {
+            AUDIT_LOG.error("auth outcome={} path={} ts={}", event.outcome(), event.path(), event.timestampMillis(), event.error());
+        } else if (event.outcome().isFailure()) {
+            AUDIT_LOG.warn("auth outcome={} path={} user={} ts={}", event.outcome(), event.path(), userId, event.timestampMillis());
+        } else {
+            AUDIT_LOG.info("auth outcome={} path={} user={} ts={}", event.outcome(), event.path(), userId, event.timestampMillis());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.cashly.cashly_api.auth.infrastructure.audit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class AuthAuditConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public AsyncAuthAuditor authAuditor(
+        MeterRegistry meterRegistry,
+        @Value("${auth.audit.queue-capacity:8192}") int queueCapacity,
+        @Value("${auth.audit.success-sample-rate:0.01}") double successSampleRate
+    ) {
+        return new AsyncAuthAuditor(meterRegistry, queueCapacity, successSampleRate);
+    }
+}
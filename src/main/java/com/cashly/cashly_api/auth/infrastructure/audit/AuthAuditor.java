@@ -0,0 +1,10 @@
+package com.cashly.cashly_api.auth.infrastructure.audit;
+
+import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+
+public interface AuthAuditor {
+
+    void record(AuthOutcome outcome, String path, UserId userId);
+
+    void recordError(String path, Throwable error);
+}
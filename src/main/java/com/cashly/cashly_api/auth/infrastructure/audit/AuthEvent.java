@@ -0,0 +1,12 @@
+package com.cashly.cashly_api.auth.infrastructure.audit;
+
+import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+
+public record AuthEvent(
+    AuthOutcome outcome,
+    String path,
+    UserId userId,
+    long timestampMillis,
+    Throwable error
+) {
+}
@@ -0,0 +1,21 @@
+package com.cashly.cashly_api.auth.infrastructure.audit;
+
+public enum AuthOutcome {
+    AUTHENTICATED(false),
+    NO_TOKEN(false),
+    INVALID_TOKEN(true),
+    REVOKED_TOKEN(true),
+    USER_NOT_FOUND(true),
+    USER_INACTIVE(true),
+    ERROR(true);
+
+    private final boolean failure;
+
+    AuthOutcome(boolean failure) {
+        this.failure = failure;
+    }
+
+    public boolean isFailure() {
+        return failure;
+    }
+}
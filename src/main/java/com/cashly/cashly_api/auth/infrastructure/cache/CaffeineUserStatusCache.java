@@ -0,0 +1,65 @@
+package com.cashly.cashly_api.auth.infrastructure.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cashly.cashly_api.auth.application.dto.UserAuthenticationStatus;
+import com.cashly.cashly_api.auth.application.ports.UserRepository;
+import com.cashly.cashly_api.auth.application.ports.UserStatusCache;
+import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class CaffeineUserStatusCache implements UserStatusCache {
+
+    static final String CACHE_NAME = "auth.user-status";
+
+    private final LoadingCache<UserId, UserAuthenticationStatus> statuses;
+
+    public CaffeineUserStatusCache(
+        UserRepository userRepository,
+        MeterRegistry meterRegistry,
+        @Value("${auth.user-status-cache.maximum-size:10000}") long maximumSize,
+        @Value("${auth.user-status-cache.expire-after-write:30000}") long expireAfterWriteMillis
+    ) {
+        if (userRepository == null) {
+            throw new IllegalArgumentException("User repository cannot be null");
+        }
+
+        this.statuses = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(expireAfterWriteMillis))
+            .recordStats()
+            .build(userId -> userRepository.findById(userId)
+                .map(UserAuthenticationStatus::from)
+                .orElseGet(UserAuthenticationStatus::notFound));
+
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, statuses, CACHE_NAME);
+        }
+    }
+
+    @Override
+    public UserAuthenticationStatus get(UserId userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+
+        return statuses.get(userId);
+    }
+
+    @Override
+    public void invalidate(UserId userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+
+        statuses.invalidate(userId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.cashly.cashly_api.auth.infrastructure.denylist;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AccessTokenDenylistConfig {
+
+    // Load the filters before the first request; until then every token would pass unchecked
+    @Bean(initMethod = "synchronize")
+    public BloomFilterAccessTokenDenylist accessTokenDenylist(
+        SpringDataRevokedAccessTokenRepository revokedAccessTokenRepository,
+        @Value("${jwt.access-token-expiration:900000}") long accessTokenExpiration,
+        @Value("${auth.access-token-denylist.sync-interval:5000}") long syncIntervalMillis,
+        @Value("${auth.access-token-denylist.expected-insertions:100000}") long expectedInsertions,
+        @Value("${auth.access-token-denylist.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        return new BloomFilterAccessTokenDenylist(
+            revokedAccessTokenRepository,
+            Clock.systemDefaultZone(),
+            Duration.ofMillis(accessTokenExpiration),
+            Duration.ofMillis(syncIntervalMillis * 2),
+            expectedInsertions,
+            falsePositiveRate
+        );
+    }
+}
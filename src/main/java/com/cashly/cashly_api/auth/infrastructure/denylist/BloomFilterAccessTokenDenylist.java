@@ -0,0 +1,132 @@
+package com.cashly.cashly_api.auth.infrastructure.denylist;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cashly.cashly_api.auth.application.ports.AccessTokenDenylist;
+
+/**
+ * Denylist of access token ids backed by {@code revoked_access_tokens}. A pair of Bloom
+ * filters answers the common "not revoked" case without touching the database; only
+ * filter hits are confirmed against the table.
+ *
+ * <p>Filters rotate once per access token lifetime. An id stays in the current or
+ * previous filter for at least one full lifetime after it was added, which covers the
+ * remaining validity of any token revoked in that window.
+ *
+ * <p>The filters start empty, so {@link #synchronize()} must run once before the instance
+ * answers {@link #isRevoked(String)}. Revocations made on other instances reach this one on
+ * the next {@link #synchronize()} and can therefore lag by up to the sync interval.
+ */
+public class BloomFilterAccessTokenDenylist implements AccessTokenDenylist {
+
+    private final SpringDataRevokedAccessTokenRepository repository;
+    private final Clock clock;
+    private final Duration generationLength;
+    private final Duration syncOverlap;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final AtomicReference<Generations> generations;
+    private volatile LocalDateTime synchronizedUntil;
+
+    public BloomFilterAccessTokenDenylist(
+        SpringDataRevokedAccessTokenRepository repository,
+        Clock clock,
+        Duration generationLength,
+        Duration syncOverlap,
+        long expectedInsertions,
+        double falsePositiveRate
+    ) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Revoked access token repository cannot be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        if (generationLength == null || generationLength.isZero() || generationLength.isNegative()) {
+            throw new IllegalArgumentException("Generation length must be positive");
+        }
+
+        this.repository = repository;
+        this.clock = clock;
+        this.generationLength = generationLength;
+        this.syncOverlap = syncOverlap;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.generations = new AtomicReference<>(new Generations(
+            newFilter(),
+            newFilter(),
+            LocalDateTime.now(clock)
+        ));
+    }
+
+    @Override
+    public void revoke(String tokenId, LocalDateTime expiresAt) {
+        if (tokenId == null || tokenId.isEmpty()) {
+            throw new IllegalArgumentException("Token ID cannot be null or empty");
+        }
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("Expiration date cannot be null");
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+
+        repository.save(new RevokedAccessTokenEntity(tokenId, expiresAt, now));
+        generations.get().current().put(tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || tokenId.isEmpty()) {
+            return false;
+        }
+
+        if (!generations.get().mightContain(tokenId)) {
+            return false;
+        }
+        return repository.existsByTokenIdAndExpiresAtAfter(tokenId, LocalDateTime.now(clock));
+    }
+
+    public void synchronize() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        rotateIfDue(now);
+
+        LocalDateTime since = synchronizedUntil == null
+            ? LocalDateTime.of(1970, 1, 1, 0, 0)
+            : synchronizedUntil.minus(syncOverlap);
+        BloomFilter current = generations.get().current();
+        repository.findActiveTokenIdsRevokedSince(since, now).forEach(current::put);
+        synchronizedUntil = now;
+    }
+
+    @Transactional
+    public int purgeExpired() {
+        return repository.deleteExpired(LocalDateTime.now(clock));
+    }
+
+    private void rotateIfDue(LocalDateTime now) {
+        Generations existing = generations.get();
+        if (now.isBefore(existing.startedAt().plus(generationLength))) {
+            return;
+        }
+        generations.compareAndSet(existing, new Generations(newFilter(), existing.current(), now));
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous, LocalDateTime startedAt) {
+
+        boolean mightContain(String tokenId) {
+            return current.mightContain(tokenId) || previous.mightContain(tokenId);
+        }
+    }
+}
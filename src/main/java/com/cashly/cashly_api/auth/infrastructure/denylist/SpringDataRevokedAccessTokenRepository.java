@@ -0,0 +1,23 @@
+package com.cashly.cashly_api.auth.infrastructure.denylist;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataRevokedAccessTokenRepository extends JpaRepository<RevokedAccessTokenEntity, String> {
+
+    boolean existsByTokenIdAndExpiresAtAfter(String tokenId, LocalDateTime now);
+
+    @Query("SELECT r.tokenId FROM RevokedAccessTokenEntity r WHERE r.revokedAt > :since AND r.expiresAt > :now")
+    List<String> findActiveTokenIdsRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedAccessTokenEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -5,12 +5,16 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.cashly.cashly_api.auth.application.dto.RefreshTokenGrant;
 import com.cashly.cashly_api.auth.application.ports.RefreshTokenRepository;
 import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
+import com.cashly.cashly_api.auth.domain.valueobjects.RefreshTokenId;
 import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
 
 
 @Component
@@ -28,19 +32,24 @@ public class JpaRefreshTokenRepository implements RefreshTokenRepository {
             throw new IllegalArgumentException("RefreshToken cannot be null");
         }
 
+        RefreshTokenEntity savedEntity = springDataRefreshTokenRepository.save(RefreshTokenEntity.fromDomain(refreshToken));
+        return savedEntity.toDomain(refreshToken.getToken());
+    }
+
+    @Override
+    @Transactional
+    public RefreshToken update(RefreshToken refreshToken) {
+        if (refreshToken == null) {
+            throw new IllegalArgumentException("RefreshToken cannot be null");
+        }
+
         String tokenIdStr = refreshToken.getId().getValue().toString();
-        Optional<RefreshTokenEntity> existingEntity = springDataRefreshTokenRepository.findById(tokenIdStr);
-
-        RefreshTokenEntity entity;
-        if (existingEntity.isPresent()) {
-            entity = existingEntity.get();
-            entity.updateFromDomain(refreshToken);
-        } else {
-            entity = RefreshTokenEntity.fromDomain(refreshToken);
+        int updated = springDataRefreshTokenRepository.updateRevoked(tokenIdStr, refreshToken.isRevoked());
+        if (updated == 0) {
+            throw new IllegalStateException("RefreshToken not found: " + tokenIdStr);
         }
 
-        RefreshTokenEntity savedEntity = springDataRefreshTokenRepository.save(entity);
-        return savedEntity.toDomain();
+        return refreshToken;
     }
 
     @Override
@@ -49,8 +58,18 @@ public class JpaRefreshTokenRepository implements RefreshTokenRepository {
             throw new IllegalArgumentException("Token cannot be null or empty");
         }
 
-        return springDataRefreshTokenRepository.findByToken(token)
-            .map(RefreshTokenEntity::toDomain);
+        return springDataRefreshTokenRepository.findByTokenHash(RefreshTokenHasher.hash(token))
+            .map(entity -> entity.toDomain(token));
+    }
+
+    @Override
+    public Optional<RefreshTokenGrant> findGrantByToken(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new IllegalArgumentException("Token cannot be null or empty");
+        }
+
+        return springDataRefreshTokenRepository.findGrantByTokenHash(RefreshTokenHasher.hash(token))
+            .map(row -> new RefreshTokenGrant(row.refreshToken().toDomain(token), row.user().toDomain()));
     }
 
     @Override
@@ -75,9 +94,81 @@ public class JpaRefreshTokenRepository implements RefreshTokenRepository {
         springDataRefreshTokenRepository.revokeAllUserTokens(userId.getValue().toString());
     }
 
+    @Override
+    @Transactional
+    public boolean rotate(RefreshToken current, RefreshToken replacement) {
+        if (current == null || replacement == null) {
+            throw new IllegalArgumentException("RefreshToken cannot be null");
+        }
+
+        int revoked = springDataRefreshTokenRepository.revokeIfActive(
+            current.getId().getValue().toString(),
+            LocalDateTime.now()
+        );
+        if (revoked == 0) {
+            return false;
+        }
+
+        springDataRefreshTokenRepository.insertToken(
+            UuidBinaryConverter.toBytes(replacement.getId().getValue().toString()),
+            UuidBinaryConverter.toBytes(replacement.getUserId().getValue().toString()),
+            RefreshTokenHasher.hash(replacement.getToken()),
+            replacement.getExpiresAt(),
+            replacement.isRevoked(),
+            replacement.getCreatedAt()
+        );
+        return true;
+    }
+
     @Override
     @Transactional
     public void deleteExpiredTokens() {
         springDataRefreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
     }
+
+    @Override
+    public List<RefreshTokenId> findExpiredTokenIds(LocalDateTime now, int limit) {
+        if (now == null) {
+            throw new IllegalArgumentException("Current time cannot be null");
+        }
+
+        return springDataRefreshTokenRepository.findExpiredIds(now, Limit.of(limit))
+            .stream()
+            .map(RefreshTokenId::from)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RefreshTokenId> findRevokedTokenIds(LocalDateTime createdBefore, int limit) {
+        if (createdBefore == null) {
+            throw new IllegalArgumentException("Created before cannot be null");
+        }
+
+        return springDataRefreshTokenRepository.findRevokedIds(createdBefore, Limit.of(limit))
+            .stream()
+            .map(RefreshTokenId::from)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByIds(List<RefreshTokenId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+
+        List<String> idStrings = ids.stream()
+            .map(id -> id.getValue().toString())
+            .collect(Collectors.toList());
+        return springDataRefreshTokenRepository.deleteAllByIdIn(idStrings);
+    }
+
+    @Override
+    public long countPurgeable(LocalDateTime now, LocalDateTime revokedCreatedBefore) {
+        if (now == null || revokedCreatedBefore == null) {
+            throw new IllegalArgumentException("Purge cut-off times cannot be null");
+        }
+
+        return springDataRefreshTokenRepository.countPurgeable(now, revokedCreatedBefore);
+    }
 }
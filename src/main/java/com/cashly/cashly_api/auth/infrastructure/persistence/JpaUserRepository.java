@@ -3,6 +3,7 @@ package com.cashly.cashly_api.auth.infrastructure.persistence;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.cashly.cashly_api.auth.application.ports.UserRepository;
 import com.cashly.cashly_api.auth.domain.entities.User;
@@ -25,19 +26,32 @@ public class JpaUserRepository implements UserRepository {
             throw new IllegalArgumentException("User cannot be null");
         }
 
-        String userIdStr = user.getId().getValue().toString();
-        Optional<UserEntity> existingEntity = springDataUserRepository.findById(userIdStr);
+        UserEntity savedEntity = springDataUserRepository.save(UserEntity.fromDomain(user));
+        return savedEntity.toDomain();
+    }
+
+    @Override
+    @Transactional
+    public User update(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("User cannot be null");
+        }
 
-        UserEntity entity;
-        if (existingEntity.isPresent()) {
-            entity = existingEntity.get();
-            entity.updateFromDomain(user);
-        } else {
-            entity = UserEntity.fromDomain(user);
+        UserEntity entity = UserEntity.fromDomain(user);
+        int updated = springDataUserRepository.updateDetails(
+            entity.getId(),
+            entity.getPasswordHash(),
+            entity.getFirstName(),
+            entity.getLastName(),
+            entity.isActive(),
+            entity.isEmailVerified(),
+            entity.getUpdatedAt()
+        );
+        if (updated == 0) {
+            throw new IllegalStateException("User not found: " + entity.getId());
         }
 
-        UserEntity savedEntity = springDataUserRepository.save(entity);
-        return savedEntity.toDomain();
+        return user;
     }
 
     @Override
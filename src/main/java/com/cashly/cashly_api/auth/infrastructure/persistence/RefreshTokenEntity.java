@@ -6,42 +6,58 @@ import java.util.UUID;
 import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
 import com.cashly.cashly_api.auth.domain.valueobjects.RefreshTokenId;
 import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryType;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
 @Entity
 @Table(name = "refresh_tokens", indexes = {
     @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_token", columnList = "token"),
     @Index(name = "idx_expires_at", columnList = "expires_at"),
-    @Index(name = "idx_revoked", columnList = "revoked")
+    @Index(name = "idx_revoked", columnList = "revoked"),
+    @Index(name = "idx_revoked_created_at", columnList = "revoked, created_at")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString
-public class RefreshTokenEntity {
+public class RefreshTokenEntity implements Persistable<String> {
 
     @Id
-    @Column(name = "id", length = 36, nullable = false)
+    @Column(name = "id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Type(UuidBinaryType.class)
     @EqualsAndHashCode.Include
     private String id;
 
-    @Column(name = "user_id", length = 36, nullable = false)
+    @Column(name = "user_id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
     private String userId;
 
-    @Column(name = "token", length = 500, nullable = false, unique = true)
-    private String token;
+    @Column(name = "token_hash", length = RefreshTokenHasher.HASH_LENGTH, nullable = false, unique = true,
+        columnDefinition = "BINARY(32)")
+    @ToString.Exclude
+    private byte[] tokenHash;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -52,6 +68,11 @@ public class RefreshTokenEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
     public static RefreshTokenEntity fromDomain(RefreshToken refreshToken) {
         if (refreshToken == null) {
             throw new IllegalArgumentException("RefreshToken cannot be null");
@@ -60,14 +81,26 @@ public class RefreshTokenEntity {
         RefreshTokenEntity entity = new RefreshTokenEntity();
         entity.id = refreshToken.getId().getValue().toString();
         entity.userId = refreshToken.getUserId().getValue().toString();
-        entity.token = refreshToken.getToken();
+        entity.tokenHash = RefreshTokenHasher.hash(refreshToken.getToken());
         entity.expiresAt = refreshToken.getExpiresAt();
         entity.revoked = refreshToken.isRevoked();
         entity.createdAt = refreshToken.getCreatedAt();
+        entity.newEntity = true;
 
         return entity;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.newEntity = false;
+    }
+
     public void updateFromDomain(RefreshToken refreshToken) {
         if (refreshToken == null) {
             throw new IllegalArgumentException("RefreshToken cannot be null");
@@ -76,38 +109,20 @@ public class RefreshTokenEntity {
         this.revoked = refreshToken.isRevoked();
     }
 
+    // Only the digest is stored, so the raw token has to come from the caller. Tokens loaded
+    // without it (e.g. by user id) carry the hex digest instead.
     public RefreshToken toDomain() {
-        RefreshTokenId tokenId = new RefreshTokenId(UUID.fromString(this.id));
-        UserId domainUserId = new UserId(UUID.fromString(this.userId));
-
-        LocalDateTime safeExpiresAt = this.expiresAt.isBefore(LocalDateTime.now())
-            ? LocalDateTime.now().plusDays(1)
-            : this.expiresAt;
-
-        RefreshToken refreshToken = new RefreshToken(
-            tokenId,
-            domainUserId,
-            this.token,
-            safeExpiresAt
-        );
-
-        try {
-            java.lang.reflect.Field revokedField = RefreshToken.class.getDeclaredField("revoked");
-            java.lang.reflect.Field createdAtField = RefreshToken.class.getDeclaredField("createdAt");
-            java.lang.reflect.Field expiresAtField = RefreshToken.class.getDeclaredField("expiresAt");
-
-            revokedField.setAccessible(true);
-            createdAtField.setAccessible(true);
-            expiresAtField.setAccessible(true);
-
-            revokedField.set(refreshToken, this.revoked);
-            createdAtField.set(refreshToken, this.createdAt);
-            expiresAtField.set(refreshToken, this.expiresAt);
-
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Failed to set fields on domain entity", e);
-        }
+        return toDomain(RefreshTokenHasher.toHex(this.tokenHash));
+    }
 
-        return refreshToken;
+    public RefreshToken toDomain(String token) {
+        return RefreshToken.rehydrate(
+            new RefreshTokenId(UUID.fromString(this.id)),
+            new UserId(UUID.fromString(this.userId)),
+            token,
+            this.expiresAt,
+            this.revoked,
+            this.createdAt
+        );
     }
 }
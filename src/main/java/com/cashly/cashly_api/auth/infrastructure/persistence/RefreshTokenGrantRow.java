@@ -0,0 +1,7 @@
+package com.cashly.cashly_api.auth.infrastructure.persistence;
+
+public record RefreshTokenGrantRow(
+    RefreshTokenEntity refreshToken,
+    UserEntity user
+) {
+}
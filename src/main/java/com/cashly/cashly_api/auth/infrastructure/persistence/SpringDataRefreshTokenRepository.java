@@ -1,5 +1,6 @@
 package com.cashly.cashly_api.auth.infrastructure.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,7 +14,12 @@ import java.util.Optional;
 @Repository
 public interface SpringDataRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, String> {
 
-    Optional<RefreshTokenEntity> findByToken(String token);
+    Optional<RefreshTokenEntity> findByTokenHash(byte[] tokenHash);
+
+    @Query("SELECT new com.cashly.cashly_api.auth.infrastructure.persistence.RefreshTokenGrantRow(rt, u) " +
+           "FROM RefreshTokenEntity rt JOIN UserEntity u ON u.id = rt.userId " +
+           "WHERE rt.tokenHash = :tokenHash")
+    Optional<RefreshTokenGrantRow> findGrantByTokenHash(@Param("tokenHash") byte[] tokenHash);
 
     List<RefreshTokenEntity> findByUserId(String userId);
 
@@ -23,7 +29,47 @@ public interface SpringDataRefreshTokenRepository extends JpaRepository<RefreshT
     @Query("DELETE FROM RefreshTokenEntity rt WHERE rt.expiresAt < :now")
     int deleteExpiredTokens(@Param("now") LocalDateTime now);
 
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity rt SET rt.revoked = :revoked WHERE rt.id = :id")
+    int updateRevoked(@Param("id") String id, @Param("revoked") boolean revoked);
+
     @Modifying
     @Query("UPDATE RefreshTokenEntity rt SET rt.revoked = true WHERE rt.userId = :userId AND rt.revoked = false")
     int revokeAllUserTokens(@Param("userId") String userId);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity rt SET rt.revoked = true " +
+           "WHERE rt.id = :id AND rt.revoked = false AND rt.expiresAt > :now")
+    int revokeIfActive(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "INSERT INTO refresh_tokens (id, user_id, token_hash, expires_at, revoked, created_at) " +
+                   "VALUES (:id, :userId, :tokenHash, :expiresAt, :revoked, :createdAt)", nativeQuery = true)
+    int insertToken(
+        @Param("id") byte[] id,
+        @Param("userId") byte[] userId,
+        @Param("tokenHash") byte[] tokenHash,
+        @Param("expiresAt") LocalDateTime expiresAt,
+        @Param("revoked") boolean revoked,
+        @Param("createdAt") LocalDateTime createdAt
+    );
+
+    @Query("SELECT rt.id FROM RefreshTokenEntity rt WHERE rt.expiresAt < :now ORDER BY rt.expiresAt, rt.id")
+    List<String> findExpiredIds(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query("SELECT rt.id FROM RefreshTokenEntity rt " +
+           "WHERE rt.revoked = true AND rt.createdAt < :createdBefore " +
+           "ORDER BY rt.createdAt, rt.id")
+    List<String> findRevokedIds(@Param("createdBefore") LocalDateTime createdBefore, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity rt WHERE rt.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<String> ids);
+
+    @Query("SELECT COUNT(rt) FROM RefreshTokenEntity rt " +
+           "WHERE rt.expiresAt < :now OR (rt.revoked = true AND rt.createdAt < :revokedCreatedBefore)")
+    long countPurgeable(
+        @Param("now") LocalDateTime now,
+        @Param("revokedCreatedBefore") LocalDateTime revokedCreatedBefore
+    );
 }
@@ -1,8 +1,12 @@
 package com.cashly.cashly_api.auth.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,18 @@ public interface SpringDataUserRepository extends JpaRepository<UserEntity, Stri
     Optional<UserEntity> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.passwordHash = :passwordHash, u.firstName = :firstName, " +
+           "u.lastName = :lastName, u.active = :active, u.emailVerified = :emailVerified, " +
+           "u.updatedAt = :updatedAt WHERE u.id = :id")
+    int updateDetails(
+        @Param("id") String id,
+        @Param("passwordHash") String passwordHash,
+        @Param("firstName") String firstName,
+        @Param("lastName") String lastName,
+        @Param("active") boolean active,
+        @Param("emailVerified") boolean emailVerified,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
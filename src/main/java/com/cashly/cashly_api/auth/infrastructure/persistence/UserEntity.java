@@ -2,8 +2,12 @@ package com.cashly.cashly_api.auth.infrastructure.persistence;
 
 import com.cashly.cashly_api.auth.domain.entities.User;
 import com.cashly.cashly_api.auth.domain.valueobjects.*;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -18,10 +22,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(exclude = "passwordHash")
-public class UserEntity {
+public class UserEntity implements Persistable<String> {
 
     @Id
-    @Column(name = "id", length = 36, nullable = false)
+    @Column(name = "id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Type(UuidBinaryType.class)
     @EqualsAndHashCode.Include
     private String id;
 
@@ -49,6 +55,11 @@ public class UserEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
     public static UserEntity fromDomain(User user) {
         if (user == null) {
             throw new IllegalArgumentException("User cannot be null");
@@ -64,10 +75,22 @@ public class UserEntity {
         entity.emailVerified = user.isEmailVerified();
         entity.createdAt = user.getCreatedAt();
         entity.updatedAt = user.getUpdatedAt();
+        entity.newEntity = true;
 
         return entity;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.newEntity = false;
+    }
+
     public void updateFromDomain(User user) {
         if (user == null) {
             throw new IllegalArgumentException("User cannot be null");
@@ -82,33 +105,15 @@ public class UserEntity {
     }
 
     public User toDomain() {
-        UserId userId = new UserId(UUID.fromString(this.id));
-        Email domainEmail = new Email(this.email);
-        Password domainPassword = Password.fromHash(this.passwordHash);
-        UserProfile profile = new UserProfile(this.firstName, this.lastName);
-
-        User user = new User(userId, domainEmail, domainPassword, profile);
-
-        try {
-            java.lang.reflect.Field activeField = User.class.getDeclaredField("active");
-            java.lang.reflect.Field emailVerifiedField = User.class.getDeclaredField("emailVerified");
-            java.lang.reflect.Field createdAtField = User.class.getDeclaredField("createdAt");
-            java.lang.reflect.Field updatedAtField = User.class.getDeclaredField("updatedAt");
-
-            activeField.setAccessible(true);
-            emailVerifiedField.setAccessible(true);
-            createdAtField.setAccessible(true);
-            updatedAtField.setAccessible(true);
-
-            activeField.set(user, this.active);
-            emailVerifiedField.set(user, this.emailVerified);
-            createdAtField.set(user, this.createdAt);
-            updatedAtField.set(user, this.updatedAt);
-
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Failed to set fields on domain entity", e);
-        }
-
-        return user;
+        return User.rehydrate(
+            new UserId(UUID.fromString(this.id)),
+            new Email(this.email),
+            Password.fromHash(this.passwordHash),
+            new UserProfile(this.firstName, this.lastName),
+            this.active,
+            this.emailVerified,
+            this.createdAt,
+            this.updatedAt
+        );
     }
 }
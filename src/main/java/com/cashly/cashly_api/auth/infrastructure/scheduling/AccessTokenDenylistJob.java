@@ -0,0 +1,46 @@
+package com.cashly.cashly_api.auth.infrastructure.scheduling;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cashly.cashly_api.auth.infrastructure.denylist.BloomFilterAccessTokenDenylist;
+import com.cashly.cashly_api.infrastructure.scheduling.ClusterJobLock;
+
+@Component
+public class AccessTokenDenylistJob {
+
+    static final String PURGE_LOCK_NAME = "auth.access-token-denylist-purge";
+
+    private final BloomFilterAccessTokenDenylist accessTokenDenylist;
+    private final ClusterJobLock clusterJobLock;
+    private final Duration lockAtMostFor;
+
+    public AccessTokenDenylistJob(
+        BloomFilterAccessTokenDenylist accessTokenDenylist,
+        ClusterJobLock clusterJobLock,
+        @Value("${auth.access-token-denylist.purge-lock-at-most-for:300000}") long lockAtMostForMillis
+    ) {
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.clusterJobLock = clusterJobLock;
+        this.lockAtMostFor = Duration.ofMillis(lockAtMostForMillis);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${auth.access-token-denylist.sync-interval:5000}",
+        initialDelayString = "${auth.access-token-denylist.sync-interval:5000}"
+    )
+    public void synchronize() {
+        accessTokenDenylist.synchronize();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${auth.access-token-denylist.purge-interval:900000}",
+        initialDelayString = "${auth.access-token-denylist.purge-initial-delay:60000}"
+    )
+    public void purgeExpired() {
+        clusterJobLock.runWithLock(PURGE_LOCK_NAME, lockAtMostFor, accessTokenDenylist::purgeExpired);
+    }
+}
@@ -0,0 +1,79 @@
+package com.cashly.cashly_api.auth.infrastructure.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cashly.cashly_api.auth.application.dto.RefreshTokenPurgeResult;
+import com.cashly.cashly_api.auth.application.usecases.PurgeRefreshTokensUseCase;
+import com.cashly.cashly_api.infrastructure.scheduling.ClusterJobLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurgeJob {
+
+    static final String LOCK_NAME = "auth.refresh-token-purge";
+
+    private final PurgeRefreshTokensUseCase purgeRefreshTokensUseCase;
+    private final ClusterJobLock clusterJobLock;
+    private final Duration revokedRetention;
+    private final Duration lockAtMostFor;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Timer purgeTimer;
+    private final Counter deletedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public RefreshTokenPurgeJob(
+        PurgeRefreshTokensUseCase purgeRefreshTokensUseCase,
+        ClusterJobLock clusterJobLock,
+        MeterRegistry meterRegistry,
+        @Value("${auth.refresh-token-purge.revoked-retention:86400000}") long revokedRetentionMillis,
+        @Value("${auth.refresh-token-purge.lock-at-most-for:600000}") long lockAtMostForMillis,
+        @Value("${auth.refresh-token-purge.chunk-size:500}") int chunkSize,
+        @Value("${auth.refresh-token-purge.max-chunks:200}") int maxChunks
+    ) {
+        this.purgeRefreshTokensUseCase = purgeRefreshTokensUseCase;
+        this.clusterJobLock = clusterJobLock;
+        this.revokedRetention = Duration.ofMillis(revokedRetentionMillis);
+        this.lockAtMostFor = Duration.ofMillis(lockAtMostForMillis);
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.purgeTimer = Timer.builder("auth.refresh.token.purge")
+            .description("Duration of a refresh token purge run")
+            .register(meterRegistry);
+        this.deletedCounter = Counter.builder("auth.refresh.token.purge.deleted")
+            .description("Refresh tokens deleted by the purge job")
+            .register(meterRegistry);
+        Gauge.builder("auth.refresh.token.purge.backlog", backlog, AtomicLong::get)
+            .description("Purgeable refresh tokens left after the last purge run")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${auth.refresh-token-purge.interval:900000}",
+        initialDelayString = "${auth.refresh-token-purge.initial-delay:60000}"
+    )
+    public void purge() {
+        clusterJobLock.runWithLock(LOCK_NAME, lockAtMostFor, () -> purgeTimer.record(() -> {
+            RefreshTokenPurgeResult result = purgeRefreshTokensUseCase.execute(
+                LocalDateTime.now(),
+                revokedRetention,
+                chunkSize,
+                maxChunks
+            );
+            deletedCounter.increment(result.deleted());
+            backlog.set(result.backlog());
+        }));
+    }
+}
@@ -2,9 +2,7 @@ package com.cashly.cashly_api.auth.infrastructure.security;
 
 import com.cashly.cashly_api.auth.application.ports.PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.stereotype.Component;
 
-@Component
 public class BcryptPasswordEncoder implements PasswordEncoder {
 
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
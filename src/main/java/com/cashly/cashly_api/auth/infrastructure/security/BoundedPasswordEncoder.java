@@ -0,0 +1,85 @@
+package com.cashly.cashly_api.auth.infrastructure.security;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.cashly.cashly_api.auth.application.ports.PasswordEncoder;
+import com.cashly.cashly_api.shared.exceptions.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    static final String HASHING_METRIC = "auth.password.hashing";
+    static final String REJECTED_METRIC = "auth.password.hashing.rejected";
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ExecutorService executor, MeterRegistry meterRegistry) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate password encoder cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Hashing executor cannot be null");
+        }
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("Meter registry cannot be null");
+        }
+
+        this.delegate = delegate;
+        this.executor = executor;
+        this.encodeTimer = Timer.builder(HASHING_METRIC).tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(HASHING_METRIC).tag("operation", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return runBounded(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return runBounded(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T runBounded(Callable<T> hashing, Timer timer) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(hashing));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Too many concurrent authentication requests, please retry later", e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+}
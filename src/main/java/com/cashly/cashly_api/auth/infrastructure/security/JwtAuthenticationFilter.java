@@ -1,9 +1,12 @@
 package com.cashly.cashly_api.auth.infrastructure.security;
 
+import com.cashly.cashly_api.auth.application.dto.UserAuthenticationStatus;
+import com.cashly.cashly_api.auth.application.ports.AccessTokenDenylist;
 import com.cashly.cashly_api.auth.application.ports.TokenService;
-import com.cashly.cashly_api.auth.application.ports.UserRepository;
-import com.cashly.cashly_api.auth.domain.entities.User;
+import com.cashly.cashly_api.auth.application.ports.UserStatusCache;
 import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+import com.cashly.cashly_api.auth.infrastructure.audit.AuthAuditor;
+import com.cashly.cashly_api.auth.infrastructure.audit.AuthOutcome;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,11 +29,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final TokenService tokenService;
-    private final UserRepository userRepository;
-
-    public JwtAuthenticationFilter(TokenService tokenService, UserRepository userRepository) {
+    private final UserStatusCache userStatusCache;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final AuthAuditor authAuditor;
+
+    public JwtAuthenticationFilter(
+        TokenService tokenService,
+        UserStatusCache userStatusCache,
+        AccessTokenDenylist accessTokenDenylist,
+        AuthAuditor authAuditor
+    ) {
         this.tokenService = tokenService;
-        this.userRepository = userRepository;
+        this.userStatusCache = userStatusCache;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.authAuditor = authAuditor;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PublicRoutes.DEFAULT.isPublic(request.getMethod(), path);
     }
 
     @Override
@@ -40,46 +58,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
 
+        String jwt = extractJwtFromRequest(request);
+        if (jwt == null) {
+            authAuditor.record(AuthOutcome.NO_TOKEN, request.getRequestURI(), null);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getRequestURI();
         try {
-            String jwt = extractJwtFromRequest(request);
-
-            if (jwt != null) {
-                logger.info("JWT token found for request: " + request.getRequestURI());
-
-                if (tokenService.validateToken(jwt)) {
-                    logger.info("JWT token is valid");
-                    UserId userId = tokenService.extractUserId(jwt);
-                    logger.info("Extracted userId: " + userId);
-
-                    User user = userRepository.findById(userId).orElse(null);
-
-                    if (user != null) {
-                        logger.info("User found: " + user.getEmail().getValue());
-
-                        if (user.canAuthenticate()) {
-                            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                                user.getId().getValue().toString(),
-                                null,
-                                List.of(new SimpleGrantedAuthority("ROLE_USER"))
-                            );
-
-                            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                            SecurityContextHolder.getContext().setAuthentication(authentication);
-                            logger.info("Authentication set successfully for user: " + user.getEmail().getValue());
-                        } else {
-                            logger.error("User cannot authenticate (inactive or deleted): " + user.getEmail().getValue());
-                        }
-                    } else {
-                        logger.error("User not found in database for userId: " + userId);
-                    }
+            if (!tokenService.validateToken(jwt)) {
+                authAuditor.record(AuthOutcome.INVALID_TOKEN, path, null);
+            } else if (accessTokenDenylist.isRevoked(tokenService.extractTokenId(jwt))) {
+                authAuditor.record(AuthOutcome.REVOKED_TOKEN, path, null);
+            } else {
+                UserId userId = tokenService.extractUserId(jwt);
+                UserAuthenticationStatus status = userStatusCache.get(userId);
+
+                if (!status.exists()) {
+                    authAuditor.record(AuthOutcome.USER_NOT_FOUND, path, userId);
+                } else if (!status.canAuthenticate()) {
+                    authAuditor.record(AuthOutcome.USER_INACTIVE, path, userId);
                 } else {
-                    logger.error("JWT token validation failed");
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        userId.getValue().toString(),
+                        null,
+                        List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                    );
+
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    authAuditor.record(AuthOutcome.AUTHENTICATED, path, userId);
                 }
-            } else {
-                logger.info("No JWT token in request: " + request.getRequestURI());
             }
         } catch (Exception e) {
-            logger.error("Cannot set user authentication: " + e.getMessage(), e);
+            authAuditor.recordError(path, e);
         }
 
         filterChain.doFilter(request, response);
@@ -26,15 +26,18 @@ import io.jsonwebtoken.security.Keys;
 public class JwtTokenService implements TokenService {
 
     private final SecretKey secretKey;
+    private final JwtClaimsVerifier claimsVerifier;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
     public JwtTokenService(
         @Value("${jwt.secret:defaultSecretKeyThatIsAtLeast256BitsLongForHS256Algorithm}") String secret,
         @Value("${jwt.access-token-expiration:900000}") long accessTokenExpiration,
-        @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration
+        @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration,
+        @Value("${jwt.claims-cache.maximum-size:10000}") long claimsCacheMaximumSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.claimsVerifier = new JwtClaimsVerifier(secretKey, claimsCacheMaximumSize);
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -49,6 +52,7 @@ public class JwtTokenService implements TokenService {
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
 
         return Jwts.builder()
+            .id(UUID.randomUUID().toString())
             .subject(user.getId().getValue().toString())
             .claim("email", user.getEmail().getValue())
             .claim("firstName", user.getProfile().getFirstName())
@@ -83,10 +87,7 @@ public class JwtTokenService implements TokenService {
         }
 
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+            claimsVerifier.verify(token);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | io.jsonwebtoken.MalformedJwtException | io.jsonwebtoken.ExpiredJwtException | IllegalArgumentException e) {
             return false;
@@ -115,6 +116,15 @@ public class JwtTokenService implements TokenService {
         return new Email(email);
     }
 
+    @Override
+    public String extractTokenId(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new IllegalArgumentException("Token cannot be null or empty");
+        }
+
+        return extractClaims(token).getId();
+    }
+
     @Override
     public LocalDateTime getExpirationDate(String token) {
         if (token == null || token.trim().isEmpty()) {
@@ -139,10 +149,6 @@ public class JwtTokenService implements TokenService {
     }
 
     private Claims extractClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        return claimsVerifier.verify(token);
     }
 }
@@ -0,0 +1,82 @@
+package com.cashly.cashly_api.auth.infrastructure.security;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Routes that never need an authenticated principal. {@link SecurityConfig} permits them
+ * and {@link JwtAuthenticationFilter} skips them, so both read the same table. Exact
+ * paths resolve with one hash lookup; {@code /**} patterns become prefix checks.
+ */
+public final class PublicRoutes {
+
+    public static final PublicRoutes DEFAULT = new PublicRoutes(List.of(
+        new Route(HttpMethod.POST, "/api/auth/register"),
+        new Route(HttpMethod.POST, "/api/auth/login"),
+        new Route(HttpMethod.POST, "/api/auth/refresh"),
+        new Route(null, "/actuator/health"),
+        new Route(null, "/api-docs/**"),
+        new Route(null, "/swagger-ui/**"),
+        new Route(null, "/swagger-ui.html")
+    ));
+
+    private static final String WILDCARD_SUFFIX = "/**";
+
+    private final List<Route> routes;
+    private final Map<String, HttpMethod> exactRoutes = new HashMap<>();
+    private final Map<String, HttpMethod> prefixRoutes = new HashMap<>();
+    private final String[] prefixes;
+
+    public PublicRoutes(List<Route> routes) {
+        if (routes == null) {
+            throw new IllegalArgumentException("Routes cannot be null");
+        }
+
+        this.routes = List.copyOf(routes);
+        for (Route route : this.routes) {
+            if (route.pattern().endsWith(WILDCARD_SUFFIX)) {
+                String prefix = route.pattern().substring(0, route.pattern().length() - WILDCARD_SUFFIX.length());
+                prefixRoutes.put(prefix, route.method());
+            } else {
+                exactRoutes.put(route.pattern(), route.method());
+            }
+        }
+        this.prefixes = prefixRoutes.keySet().toArray(String[]::new);
+    }
+
+    public boolean isPublic(String method, String path) {
+        if (path == null) {
+            return false;
+        }
+
+        if (exactRoutes.containsKey(path)) {
+            return methodMatches(exactRoutes.get(path), method);
+        }
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return methodMatches(prefixRoutes.get(prefix), method);
+            }
+        }
+        return false;
+    }
+
+    public List<Route> routes() {
+        return routes;
+    }
+
+    private static boolean methodMatches(HttpMethod expected, String method) {
+        return expected == null || expected.name().equals(method);
+    }
+
+    public record Route(HttpMethod method, String pattern) {
+
+        public Route {
+            if (pattern == null || !pattern.startsWith("/")) {
+                throw new IllegalArgumentException("Route pattern must start with /");
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.cashly.cashly_api.auth.infrastructure.throttle;
+
+/**
+ * Storage for failed-attempt counters. The default keeps counters in process;
+ * provide another bean (e.g. backed by a shared cache) to share them across nodes.
+ */
+public interface AttemptCounterStore {
+
+    long increment(String key, long nowMillis);
+
+    long count(String key, long nowMillis);
+
+    void reset(String key);
+}
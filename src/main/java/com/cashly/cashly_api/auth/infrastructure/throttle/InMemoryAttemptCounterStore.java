@@ -0,0 +1,48 @@
+package com.cashly.cashly_api.auth.infrastructure.throttle;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+public class InMemoryAttemptCounterStore implements AttemptCounterStore {
+
+    private final Cache<String, SlidingWindowCounter> counters;
+    private final int buckets;
+    private final long bucketMillis;
+
+    public InMemoryAttemptCounterStore(long maximumKeys, int buckets, long bucketMillis) {
+        if (maximumKeys <= 0) {
+            throw new IllegalArgumentException("Maximum keys must be positive");
+        }
+
+        this.buckets = buckets;
+        this.bucketMillis = bucketMillis;
+        this.counters = Caffeine.newBuilder()
+            .maximumSize(maximumKeys)
+            .expireAfterAccess(Duration.ofMillis(bucketMillis * buckets))
+            .build();
+    }
+
+    @Override
+    public long increment(String key, long nowMillis) {
+        return counters.get(key, k -> new SlidingWindowCounter(buckets, bucketMillis))
+            .incrementAndGet(nowMillis);
+    }
+
+    @Override
+    public long count(String key, long nowMillis) {
+        SlidingWindowCounter counter = counters.getIfPresent(key);
+        return counter == null ? 0 : counter.count(nowMillis);
+    }
+
+    @Override
+    public void reset(String key) {
+        counters.invalidate(key);
+    }
+
+    long trackedKeys() {
+        counters.cleanUp();
+        return counters.estimatedSize();
+    }
+}
@@ -0,0 +1,40 @@
+package com.cashly.cashly_api.auth.infrastructure.throttle;
+
+import java.time.Clock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.cashly.cashly_api.auth.application.ports.LoginThrottle;
+
+@Configuration
+public class LoginThrottleConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(AttemptCounterStore.class)
+    public AttemptCounterStore attemptCounterStore(
+        @Value("${auth.login-throttle.maximum-keys:100000}") long maximumKeys,
+        @Value("${auth.login-throttle.buckets:15}") int buckets,
+        @Value("${auth.login-throttle.window:900000}") long windowMillis
+    ) {
+        return new InMemoryAttemptCounterStore(maximumKeys, buckets, Math.max(1, windowMillis / buckets));
+    }
+
+    @Bean
+    public LoginThrottle loginThrottle(
+        AttemptCounterStore attemptCounterStore,
+        @Value("${auth.login-throttle.max-failures-per-email:5}") long maxFailuresPerEmail,
+        @Value("${auth.login-throttle.max-failures-per-address:50}") long maxFailuresPerAddress,
+        @Value("${auth.login-throttle.window:900000}") long windowMillis
+    ) {
+        return new SlidingWindowLoginThrottle(
+            attemptCounterStore,
+            Clock.systemUTC(),
+            maxFailuresPerEmail,
+            maxFailuresPerAddress,
+            windowMillis
+        );
+    }
+}
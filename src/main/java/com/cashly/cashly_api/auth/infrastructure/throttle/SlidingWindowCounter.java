@@ -0,0 +1,86 @@
+package com.cashly.cashly_api.auth.infrastructure.throttle;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free sliding-window event counter. The window is split into a ring of
+ * buckets; each slot packs its bucket epoch and count into one long so that
+ * rolling a bucket over and incrementing it is a single CAS.
+ */
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final long bucketMillis;
+
+    public SlidingWindowCounter(int buckets, long bucketMillis) {
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("Bucket count must be positive");
+        }
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("Bucket duration must be positive");
+        }
+
+        this.slots = new AtomicLongArray(buckets);
+        this.bucketMillis = bucketMillis;
+    }
+
+    public long incrementAndGet(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int index = (int) (epoch % slots.length());
+
+        long current;
+        long next;
+        do {
+            current = slots.get(index);
+            if (epochOf(current) != epoch) {
+                next = pack(epoch, 1);
+            } else if (countOf(current) == COUNT_MASK) {
+                next = current;
+            } else {
+                next = current + 1;
+            }
+        } while (!slots.compareAndSet(index, current, next));
+
+        return count(nowMillis);
+    }
+
+    public long count(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        long oldestEpoch = epoch - slots.length() + 1;
+
+        long total = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            long slotEpoch = epochOf(slot);
+            if (slotEpoch >= oldestEpoch && slotEpoch <= epoch) {
+                total += countOf(slot);
+            }
+        }
+        return total;
+    }
+
+    public void reset() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0L);
+        }
+    }
+
+    public long windowMillis() {
+        return bucketMillis * slots.length();
+    }
+
+    private static long pack(long epoch, long count) {
+        return (epoch << COUNT_BITS) | count;
+    }
+
+    private static long epochOf(long slot) {
+        return slot >>> COUNT_BITS;
+    }
+
+    private static long countOf(long slot) {
+        return slot & COUNT_MASK;
+    }
+}
@@ -0,0 +1,82 @@
+package com.cashly.cashly_api.auth.infrastructure.throttle;
+
+import java.time.Clock;
+import java.util.Locale;
+
+import com.cashly.cashly_api.auth.application.ports.LoginThrottle;
+import com.cashly.cashly_api.auth.domain.valueobjects.Email;
+
+public class SlidingWindowLoginThrottle implements LoginThrottle {
+
+    private static final String EMAIL_PREFIX = "email:";
+    private static final String ADDRESS_PREFIX = "ip:";
+
+    private final AttemptCounterStore store;
+    private final Clock clock;
+    private final long maxFailuresPerEmail;
+    private final long maxFailuresPerAddress;
+    private final long retryAfterSeconds;
+
+    public SlidingWindowLoginThrottle(
+        AttemptCounterStore store,
+        Clock clock,
+        long maxFailuresPerEmail,
+        long maxFailuresPerAddress,
+        long windowMillis
+    ) {
+        if (store == null) {
+            throw new IllegalArgumentException("Attempt counter store cannot be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+
+        this.store = store;
+        this.clock = clock;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        this.retryAfterSeconds = Math.max(1, windowMillis / 1000);
+    }
+
+    @Override
+    public boolean isBlocked(Email email, String clientAddress) {
+        long now = clock.millis();
+
+        if (email != null && store.count(emailKey(email), now) >= maxFailuresPerEmail) {
+            return true;
+        }
+        return clientAddress != null && store.count(addressKey(clientAddress), now) >= maxFailuresPerAddress;
+    }
+
+    @Override
+    public void recordFailure(Email email, String clientAddress) {
+        long now = clock.millis();
+
+        if (email != null) {
+            store.increment(emailKey(email), now);
+        }
+        if (clientAddress != null) {
+            store.increment(addressKey(clientAddress), now);
+        }
+    }
+
+    @Override
+    public void recordSuccess(Email email, String clientAddress) {
+        if (email != null) {
+            store.reset(emailKey(email));
+        }
+    }
+
+    @Override
+    public long retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    private static String emailKey(Email email) {
+        return EMAIL_PREFIX + email.getValue().toLowerCase(Locale.ROOT);
+    }
+
+    private static String addressKey(String clientAddress) {
+        return ADDRESS_PREFIX + clientAddress;
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,12 +19,15 @@ import com.cashly.cashly_api.auth.application.usecases.LogoutUserUseCase;
 import com.cashly.cashly_api.auth.application.usecases.RefreshTokenUseCase;
 import com.cashly.cashly_api.auth.application.usecases.RegisterUserUseCase;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final RegisterUserUseCase registerUserUseCase;
     private final LoginUserUseCase loginUserUseCase;
     private final RefreshTokenUseCase refreshTokenUseCase;
@@ -48,8 +52,11 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthenticationResponse> login(@Valid @RequestBody LoginRequest request) {
-        AuthenticationResponse response = loginUserUseCase.execute(request);
+    public ResponseEntity<AuthenticationResponse> login(
+        @Valid @RequestBody LoginRequest request,
+        HttpServletRequest httpRequest
+    ) {
+        AuthenticationResponse response = loginUserUseCase.execute(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
@@ -60,8 +67,14 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@Valid @RequestBody LogoutRequest request) {
-        logoutUserUseCase.execute(request);
+    public ResponseEntity<Void> logout(
+        @Valid @RequestBody LogoutRequest request,
+        @RequestHeader(value = "Authorization", required = false) String authorization
+    ) {
+        String accessToken = authorization != null && authorization.startsWith(BEARER_PREFIX)
+            ? authorization.substring(BEARER_PREFIX.length())
+            : null;
+        logoutUserUseCase.execute(request, accessToken);
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,9 +1,13 @@
 package com.cashly.cashly_api.expenses.application.ports;
 
+import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Amount;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Category;
 import com.cashly.cashly_api.expenses.domain.valueobjects.ExpenseId;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,9 +19,25 @@ public interface ExpenseRepository {
     
     Expense save(Expense expense);
     
+    List<Expense> saveAll(List<Expense> expenses);
+    
+    Expense update(Expense expense);
+    
     Optional<Expense> findById(ExpenseId id);
     
-    List<Expense> findByUserId(String userId);
+    /**
+     * Finds an expense and write-locks its row until the surrounding transaction ends, so a
+     * concurrent update or delete of the same expense waits and then sees this one's outcome.
+     */
+    Optional<Expense> findByIdForUpdate(ExpenseId id);
+    
+    CursorPage<Expense> findByUserId(String userId, PageRequest page);
+    
+    /**
+     * Reads one page of a user's expenses, in {@link #findByUserId} order, straight into
+     * response DTOs without loading managed entities; for read-only listings.
+     */
+    CursorPage<ExpenseResponse> findResponsesByUserId(String userId, PageRequest page);
     
     List<Expense> findByUserIdAndDateRange(String userId, LocalDateTime start, LocalDateTime end);
     
@@ -68,4 +88,14 @@ public interface ExpenseRepository {
      * @return the category with the highest spending, or null if no expenses found
      */
     Category analyzeHighestSpendingCategory(String userId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Calculates expense totals and counts per day for a user within a date range.
+     * Uses database aggregation for optimal performance.
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return one entry per day with expenses, in no particular order
+     */
+    List<PeriodTotal> calculateDailyTotals(String userId, LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.cashly.cashly_api.expenses.application.ports;
+
+import com.cashly.cashly_api.expenses.domain.entities.Expense;
+import com.cashly.cashly_api.expenses.domain.valueobjects.Amount;
+import com.cashly.cashly_api.expenses.domain.valueobjects.Category;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Port for the per-user, per-month, per-category expense totals, keyed by each expense's business date.
+ * Writers apply their changes in the same transaction as the expense rows they touch.
+ */
+public interface ExpenseRollupRepository {
+
+    /**
+     * Counts a new expense into the rollup of its month and category.
+     * @param expense the expense that was saved
+     */
+    void add(Expense expense);
+
+    /**
+     * Counts new expenses into their rollups, one write per distinct month and category.
+     * @param expenses the expenses that were saved
+     */
+    void addAll(List<Expense> expenses);
+
+    /**
+     * Takes an expense back out of the rollup of its month and category.
+     * @param expense the expense as it was stored before it was deleted or changed
+     */
+    void remove(Expense expense);
+
+    /**
+     * Sums a user's expenses over whole months.
+     * @param userId the user ID
+     * @param from the first month (inclusive)
+     * @param to the last month (inclusive)
+     * @return the total expense amount
+     */
+    Amount calculateTotal(String userId, YearMonth from, YearMonth to);
+
+    /**
+     * Sums a user's expenses per month in one read.
+     * @param userId the user ID
+     * @param from the first month (inclusive)
+     * @param to the last month (inclusive)
+     * @return a map of months to their total expense amounts; months without expenses are absent
+     */
+    Map<YearMonth, Amount> calculateMonthlyTotals(String userId, YearMonth from, YearMonth to);
+
+    /**
+     * Sums a user's expenses per category in one read, taking whole months from the rollups and
+     * partial months at either end of the period from the expenses themselves.
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return a map of categories to their total expense amounts
+     */
+    Map<Category, Amount> calculateByCategory(String userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Sums a user's expenses and counts them per month in one read, taking whole months from the
+     * rollups and partial months at either end of the period from the expenses themselves.
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return one entry per month with expenses, keyed by the first day of the month, in no particular order
+     */
+    List<PeriodTotal> calculateMonthlySeries(String userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Lists users with expenses or rollups, in ID order, for the repair job.
+     * @param afterUserId the last user ID already returned, or null to start from the beginning
+     * @param limit the maximum number of user IDs
+     * @return the next user IDs
+     */
+    List<String> findUserIds(String afterUserId, int limit);
+
+    /**
+     * Recomputes a user's rollups from their expenses.
+     * @param userId the user ID
+     */
+    void rebuild(String userId);
+}
@@ -3,22 +3,66 @@ package com.cashly.cashly_api.expenses.application.usecases;
 import com.cashly.cashly_api.expenses.application.dto.CreateExpenseRequest;
 import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse.ItemResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class CreateExpenseUseCase {
     
+    static final int MAX_BATCH_SIZE = 1000;
+    
     private final ExpenseRepository expenseRepository;
+    private final ExpenseRollupRepository rollupRepository;
     
-    public CreateExpenseUseCase(ExpenseRepository expenseRepository) {
+    public CreateExpenseUseCase(ExpenseRepository expenseRepository, ExpenseRollupRepository rollupRepository) {
         this.expenseRepository = expenseRepository;
+        this.rollupRepository = rollupRepository;
     }
     
+    @Transactional
     public ExpenseResponse execute(CreateExpenseRequest request) {
+        Expense expense = toExpense(request);
+        
+        Expense savedExpense = expenseRepository.save(expense);
+        rollupRepository.add(savedExpense);
+        
+        return mapToResponse(savedExpense);
+    }
+    
+    @Transactional
+    public BulkCreateResponse<ExpenseResponse> executeAll(List<CreateExpenseRequest> requests) {
+        validateBatch(requests);
+        
+        List<ItemResult<ExpenseResponse>> items = new ArrayList<>(requests.size());
+        List<Expense> expenses = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                Expense expense = toExpense(requests.get(i));
+                expenses.add(expense);
+                items.add(ItemResult.created(i, mapToResponse(expense)));
+            } catch (IllegalArgumentException e) {
+                items.add(ItemResult.rejected(i, e.getMessage()));
+            }
+        }
+        
+        if (!expenses.isEmpty()) {
+            expenseRepository.saveAll(expenses);
+            rollupRepository.addAll(expenses);
+        }
+        
+        return BulkCreateResponse.of(items);
+    }
+    
+    private Expense toExpense(CreateExpenseRequest request) {
         validateRequest(request);
         
         ExpenseId id = ExpenseId.generate();
@@ -27,11 +71,16 @@ public class CreateExpenseUseCase {
         Category category = new Category(request.getCategory());
         LocalDate date = LocalDate.now();
         
-        Expense expense = new Expense(id, amount, description, category, date, request.getUserId());
-        
-        Expense savedExpense = expenseRepository.save(expense);
-        
-        return mapToResponse(savedExpense);
+        return new Expense(id, amount, description, category, date, request.getUserId());
+    }
+    
+    private void validateBatch(List<CreateExpenseRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Create expense requests cannot be null or empty");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot create more than " + MAX_BATCH_SIZE + " expenses at once");
+        }
     }
     
     private void validateRequest(CreateExpenseRequest request) {
@@ -1,8 +1,11 @@
 package com.cashly.cashly_api.expenses.application.usecases;
 
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
+import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.ExpenseId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -10,20 +13,26 @@ import java.util.UUID;
 public class DeleteExpenseUseCase {
     
     private final ExpenseRepository expenseRepository;
+    private final ExpenseRollupRepository rollupRepository;
     
-    public DeleteExpenseUseCase(ExpenseRepository expenseRepository) {
+    public DeleteExpenseUseCase(ExpenseRepository expenseRepository, ExpenseRollupRepository rollupRepository) {
         this.expenseRepository = expenseRepository;
+        this.rollupRepository = rollupRepository;
     }
     
+    @Transactional
     public void execute(String expenseIdString) {
         validateExpenseId(expenseIdString);
         
         ExpenseId expenseId = parseExpenseId(expenseIdString);
         
-        expenseRepository.findById(expenseId)
+        // Locked so a concurrent delete waits and then finds nothing, instead of removing the
+        // expense from its monthly rollup a second time
+        Expense expense = expenseRepository.findByIdForUpdate(expenseId)
                 .orElseThrow(() -> new RuntimeException("Expense not found with ID: " + expenseIdString));
         
         expenseRepository.deleteById(expenseId);
+        rollupRepository.remove(expense);
     }
     
     private void validateExpenseId(String expenseIdString) {
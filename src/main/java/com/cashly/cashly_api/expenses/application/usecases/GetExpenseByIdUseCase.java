@@ -5,10 +5,12 @@ import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.ExpenseId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Service
+@Transactional(readOnly = true)
 public class GetExpenseByIdUseCase {
     
     private final ExpenseRepository expenseRepository;
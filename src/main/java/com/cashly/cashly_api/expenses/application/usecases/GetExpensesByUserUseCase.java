@@ -2,13 +2,14 @@ package com.cashly.cashly_api.expenses.application.usecases;
 
 import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
-import com.cashly.cashly_api.expenses.domain.entities.Expense;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
+import com.cashly.cashly_api.shared.utils.Uuids;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class GetExpensesByUserUseCase {
     
     private final ExpenseRepository expenseRepository;
@@ -17,14 +18,10 @@ public class GetExpensesByUserUseCase {
         this.expenseRepository = expenseRepository;
     }
     
-    public List<ExpenseResponse> execute(String userId) {
+    public CursorPage<ExpenseResponse> execute(String userId, PageRequest page) {
         validateUserId(userId);
         
-        List<Expense> expenses = expenseRepository.findByUserId(userId);
-        
-        return expenses.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return expenseRepository.findResponsesByUserId(userId, page);
     }
     
     private void validateUserId(String userId) {
@@ -34,17 +31,6 @@ public class GetExpensesByUserUseCase {
         if (userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be empty or blank");
         }
+        Uuids.requireValid(userId, "user ID");
     }
-    
-    private ExpenseResponse mapToResponse(Expense expense) {
-        return new ExpenseResponse(
-            expense.getId().getValue().toString(),
-            expense.getAmount().getValue(),
-            expense.getDescription().getValue(),
-            expense.getCategory().getValue(),
-            expense.getUserId(),
-            expense.getCreatedAt(),
-            expense.getUpdatedAt()
-        );
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.cashly.cashly_api.expenses.application.usecases;
+
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Recomputes every user's monthly expense rollups from the expenses themselves, one user per
+ * transaction, so drift left by failed writes or manual data fixes does not outlive a run.
+ */
+@Service
+public class RebuildExpenseRollupsUseCase {
+
+    private final ExpenseRollupRepository rollupRepository;
+
+    public RebuildExpenseRollupsUseCase(ExpenseRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * @param chunkSize the number of user IDs fetched at a time
+     * @return the number of users whose rollups were rebuilt
+     */
+    public long execute(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+
+        long rebuilt = 0;
+        String afterUserId = null;
+
+        while (true) {
+            List<String> userIds = rollupRepository.findUserIds(afterUserId, chunkSize);
+            for (String userId : userIds) {
+                rollupRepository.rebuild(userId);
+                rebuilt++;
+            }
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+        }
+
+        return rebuilt;
+    }
+}
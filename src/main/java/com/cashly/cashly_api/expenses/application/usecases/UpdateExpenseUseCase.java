@@ -3,12 +3,14 @@ package com.cashly.cashly_api.expenses.application.usecases;
 import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
 import com.cashly.cashly_api.expenses.application.dto.UpdateExpenseRequest;
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Amount;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Category;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Description;
 import com.cashly.cashly_api.expenses.domain.valueobjects.ExpenseId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -16,19 +18,25 @@ import java.util.UUID;
 public class UpdateExpenseUseCase {
     
     private final ExpenseRepository expenseRepository;
+    private final ExpenseRollupRepository rollupRepository;
     
-    public UpdateExpenseUseCase(ExpenseRepository expenseRepository) {
+    public UpdateExpenseUseCase(ExpenseRepository expenseRepository, ExpenseRollupRepository rollupRepository) {
         this.expenseRepository = expenseRepository;
+        this.rollupRepository = rollupRepository;
     }
     
+    @Transactional
     public ExpenseResponse execute(String expenseIdString, UpdateExpenseRequest request) {
         validateInput(expenseIdString, request);
         
         ExpenseId expenseId = parseExpenseId(expenseIdString);
         
-        Expense expense = expenseRepository.findById(expenseId)
+        // Locked so the snapshot below is still current when the rollup delta is applied
+        Expense expense = expenseRepository.findByIdForUpdate(expenseId)
                 .orElseThrow(() -> new RuntimeException("Expense not found with ID: " + expenseIdString));
         
+        Expense previous = snapshot(expense);
+        
         if (request.getAmount() != null) {
             Amount newAmount = new Amount(request.getAmount());
             expense.updateAmount(newAmount);
@@ -44,7 +52,12 @@ public class UpdateExpenseUseCase {
             expense.updateCategory(newCategory);
         }
         
-        Expense updatedExpense = expenseRepository.save(expense);
+        Expense updatedExpense = expenseRepository.update(expense);
+        if (!previous.getAmount().equals(updatedExpense.getAmount())
+                || !previous.getCategory().equals(updatedExpense.getCategory())) {
+            rollupRepository.remove(previous);
+            rollupRepository.add(updatedExpense);
+        }
         
         return mapToResponse(updatedExpense);
     }
@@ -67,6 +80,19 @@ public class UpdateExpenseUseCase {
         }
     }
     
+    private Expense snapshot(Expense expense) {
+        return Expense.rehydrate(
+            expense.getId(),
+            expense.getAmount(),
+            expense.getDescription(),
+            expense.getCategory(),
+            expense.getDate(),
+            expense.getUserId(),
+            expense.getCreatedAt(),
+            expense.getUpdatedAt()
+        );
+    }
+    
     private ExpenseResponse mapToResponse(Expense expense) {
         return new ExpenseResponse(
             expense.getId().getValue().toString(),
@@ -1,6 +1,7 @@
 package com.cashly.cashly_api.expenses.domain.entities;
 
 import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.utils.Uuids;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,6 +21,9 @@ public class Expense {
     public Expense(ExpenseId id, Amount amount, Description description, Category category, 
                    LocalDate date, String userId) {
         validateParameters(id, amount, description, category, date, userId);
+        if (date.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Expense date cannot be in the future");
+        }
         
         this.id = id;
         this.amount = amount;
@@ -31,6 +35,27 @@ public class Expense {
         this.updatedAt = LocalDateTime.now();
     }
 
+    private Expense(ExpenseId id, Amount amount, Description description,
+                    Category category, LocalDate date, String userId,
+                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+        validateParameters(id, amount, description, category, date, userId);
+
+        this.id = id;
+        this.amount = amount;
+        this.description = description;
+        this.category = category;
+        this.date = date;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static Expense rehydrate(ExpenseId id, Amount amount, Description description,
+                                    Category category, LocalDate date, String userId,
+                                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Expense(id, amount, description, category, date, userId, createdAt, updatedAt);
+    }
+
     private void validateParameters(ExpenseId id, Amount amount, Description description, 
                                   Category category, LocalDate date, String userId) {
         if (id == null) {
@@ -54,9 +79,7 @@ public class Expense {
         if (userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be empty");
         }
-        if (date.isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException("Expense date cannot be in the future");
-        }
+        Uuids.requireValid(userId.trim(), "user ID");
     }
 
     public void updateAmount(Amount newAmount) {
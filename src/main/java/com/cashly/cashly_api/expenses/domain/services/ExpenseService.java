@@ -1,8 +1,13 @@
 package com.cashly.cashly_api.expenses.domain.services;
 
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Amount;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Category;
+import com.cashly.cashly_api.shared.analytics.AmountSeries;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import com.cashly.cashly_api.shared.analytics.SeriesGranularity;
+import com.cashly.cashly_api.shared.utils.Uuids;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -14,9 +19,11 @@ import java.util.Map;
 public class ExpenseService {
 
     private final ExpenseRepository expenseRepository;
+    private final ExpenseRollupRepository rollupRepository;
 
-    public ExpenseService(ExpenseRepository expenseRepository) {
+    public ExpenseService(ExpenseRepository expenseRepository, ExpenseRollupRepository rollupRepository) {
         this.expenseRepository = expenseRepository;
+        this.rollupRepository = rollupRepository;
     }
 
 
@@ -24,6 +31,7 @@ public class ExpenseService {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be null or empty");
         }
+        Uuids.requireValid(userId, "user ID");
         if (months <= 0) {
             throw new IllegalArgumentException("Months must be positive");
         }
@@ -31,10 +39,9 @@ public class ExpenseService {
             throw new IllegalArgumentException("Reference date cannot be null");
         }
 
-        LocalDate startDate = referenceDate.minusMonths(months - 1).withDayOfMonth(1);
-        LocalDate endDate = referenceDate.withDayOfMonth(referenceDate.lengthOfMonth());
+        YearMonth lastMonth = YearMonth.from(referenceDate);
 
-        Amount totalExpense = expenseRepository.calculateTotalExpenseForPeriod(userId, startDate, endDate);
+        Amount totalExpense = rollupRepository.calculateTotal(userId, lastMonth.minusMonths(months - 1), lastMonth);
         BigDecimal average = totalExpense.getValue().divide(
             BigDecimal.valueOf(months), 
             2, 
@@ -48,19 +55,17 @@ public class ExpenseService {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be null or empty");
         }
+        Uuids.requireValid(userId, "user ID");
         if (currentMonth == null) {
             throw new IllegalArgumentException("Current month cannot be null");
         }
 
         YearMonth previousMonth = currentMonth.minusMonths(1);
 
-        LocalDate currentStart = currentMonth.atDay(1);
-        LocalDate currentEnd = currentMonth.atEndOfMonth();
-        LocalDate previousStart = previousMonth.atDay(1);
-        LocalDate previousEnd = previousMonth.atEndOfMonth();
-
-        Amount currentExpense = expenseRepository.calculateTotalExpenseForPeriod(userId, currentStart, currentEnd);
-        Amount previousExpense = expenseRepository.calculateTotalExpenseForPeriod(userId, previousStart, previousEnd);
+        Map<YearMonth, Amount> monthlyTotals =
+            rollupRepository.calculateMonthlyTotals(userId, previousMonth, currentMonth);
+        Amount currentExpense = monthlyTotals.getOrDefault(currentMonth, new Amount(BigDecimal.ZERO));
+        Amount previousExpense = monthlyTotals.getOrDefault(previousMonth, new Amount(BigDecimal.ZERO));
 
         BigDecimal changePercentage = calculateChangePercentage(
             previousExpense.getValue(), 
@@ -75,6 +80,19 @@ public class ExpenseService {
         );
     }
 
+    public AmountSeries analyzeSpendingSeries(String userId, SeriesGranularity granularity,
+                                              LocalDate startDate, LocalDate endDate) {
+        validatePeriodCalculationParams(userId, startDate, endDate);
+        AmountSeries.validateRange(granularity, startDate, endDate);
+
+        // Monthly buckets come from the rollups; days and weeks are folded from daily totals
+        List<PeriodTotal> totals = granularity == SeriesGranularity.MONTH ?
+            rollupRepository.calculateMonthlySeries(userId, startDate, endDate) :
+            expenseRepository.calculateDailyTotals(userId, startDate, endDate);
+
+        return AmountSeries.fill(granularity, startDate, endDate, totals);
+    }
+
     public boolean isExcessiveExpense(Amount amount, Amount userAverageExpense, 
                                     BigDecimal excessThreshold) {
         if (amount == null) {
@@ -127,6 +145,7 @@ public class ExpenseService {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be null or empty");
         }
+        Uuids.requireValid(userId, "user ID");
         if (startDate == null) {
             throw new IllegalArgumentException("Start date cannot be null");
         }
@@ -243,8 +262,9 @@ public class ExpenseService {
     public List<CategoryAnalysis> analyzeCategoryBreakdown(String userId, LocalDate startDate, LocalDate endDate) {
         validatePeriodCalculationParams(userId, startDate, endDate);
         
-        Map<Category, Amount> categoryAmounts = expenseRepository.calculateExpensesByCategory(userId, startDate, endDate);
-        Amount totalExpense = expenseRepository.calculateTotalExpenseForPeriod(userId, startDate, endDate);
+        Map<Category, Amount> categoryAmounts = rollupRepository.calculateByCategory(userId, startDate, endDate);
+        Amount totalExpense = categoryAmounts.values().stream()
+            .reduce(new Amount(BigDecimal.ZERO), Amount::add);
         
         return categoryAmounts.entrySet().stream()
             .map(entry -> {
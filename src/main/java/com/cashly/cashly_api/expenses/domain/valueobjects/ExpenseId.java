@@ -1,5 +1,7 @@
 package com.cashly.cashly_api.expenses.domain.valueobjects;
 
+import com.cashly.cashly_api.shared.utils.UuidV7;
+
 import java.util.Objects;
 import java.util.UUID;
 
@@ -18,7 +20,7 @@ public class ExpenseId {
     }
     
     public static ExpenseId generate() {
-        return new ExpenseId(UUID.randomUUID());
+        return new ExpenseId(UuidV7.generate());
     }
     
     @Override
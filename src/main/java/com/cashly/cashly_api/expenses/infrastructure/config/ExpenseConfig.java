@@ -4,13 +4,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
 import com.cashly.cashly_api.expenses.domain.services.ExpenseService;
 
 @Configuration
 public class ExpenseConfig {
 
     @Bean
-    public ExpenseService expenseService(ExpenseRepository expenseRepository) {
-        return new ExpenseService(expenseRepository);
+    public ExpenseService expenseService(ExpenseRepository expenseRepository, ExpenseRollupRepository expenseRollupRepository) {
+        return new ExpenseService(expenseRepository, expenseRollupRepository);
     }
 }
\ No newline at end of file
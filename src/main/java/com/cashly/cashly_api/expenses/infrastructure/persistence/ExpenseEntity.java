@@ -2,12 +2,17 @@ package com.cashly.cashly_api.expenses.infrastructure.persistence;
 
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryType;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -18,17 +23,20 @@ import java.util.UUID;
 @Table(name = "expenses", indexes = {
     @Index(name = "idx_user_id", columnList = "user_id"),
     @Index(name = "idx_user_category", columnList = "user_id, category"),
-    @Index(name = "idx_user_created", columnList = "user_id, created_at")
+    @Index(name = "idx_expenses_user_created_id", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_expenses_user_date_category_amount", columnList = "user_id, date, category, amount")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString
-public class ExpenseEntity {
+public class ExpenseEntity implements Persistable<String> {
 
     @Id
-    @Column(name = "id", length = 36, nullable = false)
+    @Column(name = "id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Type(UuidBinaryType.class)
     @EqualsAndHashCode.Include
     private String id;
 
@@ -44,7 +52,9 @@ public class ExpenseEntity {
     @Column(name = "date", nullable = false)
     private LocalDate date;
 
-    @Column(name = "user_id", length = 36, nullable = false)
+    @Column(name = "user_id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
     private String userId;
 
     @Column(name = "created_at", nullable = false)
@@ -53,6 +63,10 @@ public class ExpenseEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
 
     public static ExpenseEntity fromDomain(Expense expense) {
         if (expense == null) {
@@ -68,10 +82,22 @@ public class ExpenseEntity {
         entity.userId = expense.getUserId();
         entity.createdAt = expense.getCreatedAt();
         entity.updatedAt = expense.getUpdatedAt();
-        
+        entity.newEntity = true;
+
         return entity;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.newEntity = false;
+    }
+
     public void updateFromDomain(Expense expense) {
         if (expense == null) {
             throw new IllegalArgumentException("Expense cannot be null");
@@ -84,28 +110,16 @@ public class ExpenseEntity {
     }
 
     public Expense toDomain() {
-        ExpenseId expenseId = new ExpenseId(UUID.fromString(this.id));
-        Amount domainAmount = new Amount(this.amount);
-        Description domainDescription = new Description(this.description);
-        Category domainCategory = new Category(this.category);
-        
-        Expense expense = new Expense(expenseId, domainAmount, domainDescription, domainCategory, this.date, this.userId);
-        
-        try {
-            java.lang.reflect.Field createdAtField = Expense.class.getDeclaredField("createdAt");
-            java.lang.reflect.Field updatedAtField = Expense.class.getDeclaredField("updatedAt");
-            
-            createdAtField.setAccessible(true);
-            updatedAtField.setAccessible(true);
-            
-            createdAtField.set(expense, this.createdAt);
-            updatedAtField.set(expense, this.updatedAt);
-            
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Failed to set timestamps on domain entity", e);
-        }
-        
-        return expense;
+        return Expense.rehydrate(
+            new ExpenseId(UUID.fromString(this.id)),
+            new Amount(this.amount),
+            new Description(this.description),
+            new Category(this.category),
+            this.date,
+            this.userId,
+            this.createdAt,
+            this.updatedAt
+        );
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.cashly.cashly_api.expenses.infrastructure.persistence;
+
+import com.cashly.cashly_api.infrastructure.persistence.MonthlyRollupKey;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * Mapped so the rollup table is managed with the rest of the schema; rows are read and
+ * written through {@link com.cashly.cashly_api.infrastructure.persistence.MonthlyRollupStore}.
+ */
+@Entity
+@Table(name = "expense_monthly_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class ExpenseMonthlyRollupEntity {
+
+    @EmbeddedId
+    @EqualsAndHashCode.Include
+    private MonthlyRollupKey key;
+
+    @Column(name = "total", precision = 19, scale = 2, nullable = false)
+    private BigDecimal total;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+}
@@ -0,0 +1,156 @@
+package com.cashly.cashly_api.expenses.infrastructure.persistence;
+
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
+import com.cashly.cashly_api.expenses.domain.entities.Expense;
+import com.cashly.cashly_api.expenses.domain.valueobjects.Amount;
+import com.cashly.cashly_api.expenses.domain.valueobjects.Category;
+import com.cashly.cashly_api.infrastructure.persistence.MonthlyRollupStore;
+import com.cashly.cashly_api.infrastructure.persistence.MonthlyRollupStore.Delta;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class JdbcExpenseRollupRepository implements ExpenseRollupRepository {
+
+    private final MonthlyRollupStore store;
+
+    public JdbcExpenseRollupRepository(DataSource dataSource) {
+        this.store = new MonthlyRollupStore(dataSource, "expense_monthly_rollups", "expenses");
+    }
+
+    @Override
+    @Transactional
+    public void add(Expense expense) {
+        if (expense == null) {
+            throw new IllegalArgumentException("Expense cannot be null");
+        }
+
+        store.applyAll(List.of(delta(expense, 1)));
+    }
+
+    @Override
+    @Transactional
+    public void addAll(List<Expense> expenses) {
+        if (expenses == null) {
+            throw new IllegalArgumentException("Expenses cannot be null");
+        }
+
+        store.applyAll(expenses.stream().map(expense -> delta(expense, 1)).toList());
+    }
+
+    @Override
+    @Transactional
+    public void remove(Expense expense) {
+        if (expense == null) {
+            throw new IllegalArgumentException("Expense cannot be null");
+        }
+
+        store.applyAll(List.of(delta(expense, -1)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Amount calculateTotal(String userId, YearMonth from, YearMonth to) {
+        validateMonths(userId, from, to);
+
+        return new Amount(store.total(userId, from, to));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<YearMonth, Amount> calculateMonthlyTotals(String userId, YearMonth from, YearMonth to) {
+        validateMonths(userId, from, to);
+
+        Map<YearMonth, Amount> totals = new HashMap<>();
+        store.totalsByMonth(userId, from, to).forEach((month, total) -> totals.put(month, new Amount(total)));
+        return totals;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Category, Amount> calculateByCategory(String userId, LocalDate startDate, LocalDate endDate) {
+        validateDates(userId, startDate, endDate);
+
+        Map<Category, Amount> totals = new HashMap<>();
+        for (Map.Entry<String, BigDecimal> entry : store.totalsByCategory(userId, startDate, endDate).entrySet()) {
+            try {
+                totals.put(new Category(entry.getKey()), new Amount(entry.getValue()));
+            } catch (IllegalArgumentException e) {
+                // Skip invalid categories, as the raw aggregations do
+            }
+        }
+        return totals;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PeriodTotal> calculateMonthlySeries(String userId, LocalDate startDate, LocalDate endDate) {
+        validateDates(userId, startDate, endDate);
+
+        return store.monthlySeries(userId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUserIds(String afterUserId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        return store.findUserIds(afterUserId, limit);
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        store.rebuild(userId);
+    }
+
+    private static Delta delta(Expense expense, int sign) {
+        BigDecimal amount = expense.getAmount().getValue();
+        return new Delta(
+            expense.getUserId(),
+            YearMonth.from(expense.getDate()),
+            expense.getCategory().getValue(),
+            sign < 0 ? amount.negate() : amount,
+            sign
+        );
+    }
+
+    private static void validateDates(String userId, LocalDate startDate, LocalDate endDate) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+    }
+
+    private static void validateMonths(String userId, YearMonth from, YearMonth to) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Months cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start month cannot be after end month");
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.cashly.cashly_api.expenses.infrastructure.persistence;
 
+import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Amount;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Category;
 import com.cashly.cashly_api.expenses.domain.valueobjects.ExpenseId;
+import com.cashly.cashly_api.infrastructure.persistence.BatchInserter;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageCursor;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -20,9 +28,11 @@ import java.util.stream.Collectors;
 public class JpaExpenseRepository implements ExpenseRepository {
 
     private final SpringDataExpenseRepository springDataRepository;
+    private final BatchInserter batchInserter;
 
-    public JpaExpenseRepository(SpringDataExpenseRepository springDataRepository) {
+    public JpaExpenseRepository(SpringDataExpenseRepository springDataRepository, BatchInserter batchInserter) {
         this.springDataRepository = springDataRepository;
+        this.batchInserter = batchInserter;
     }
 
     @Override
@@ -36,6 +46,34 @@ public class JpaExpenseRepository implements ExpenseRepository {
         return savedEntity.toDomain();
     }
 
+    @Override
+    @Transactional
+    public List<Expense> saveAll(List<Expense> expenses) {
+        if (expenses == null) {
+            throw new IllegalArgumentException("Expenses cannot be null");
+        }
+
+        batchInserter.insertAll(expenses.stream().map(ExpenseEntity::fromDomain).toList());
+        return expenses;
+    }
+
+    @Override
+    @Transactional
+    public Expense update(Expense expense) {
+        if (expense == null) {
+            throw new IllegalArgumentException("Expense cannot be null");
+        }
+
+        ExpenseEntity entity = ExpenseEntity.fromDomain(expense);
+        int updated = springDataRepository.updateDetails(
+                entity.getId(), entity.getAmount(), entity.getDescription(), entity.getCategory(), entity.getUpdatedAt());
+        if (updated == 0) {
+            throw new IllegalStateException("Expense not found: " + entity.getId());
+        }
+
+        return expense;
+    }
+
     @Override
     public Optional<Expense> findById(ExpenseId id) {
         if (id == null) {
@@ -47,21 +85,62 @@ public class JpaExpenseRepository implements ExpenseRepository {
     }
 
     @Override
-    public List<Expense> findByUserId(String userId) {
+    public Optional<Expense> findByIdForUpdate(ExpenseId id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Expense ID cannot be null");
+        }
+
+        return springDataRepository.findByIdForUpdate(id.getValue().toString()).map(ExpenseEntity::toDomain);
+    }
+
+    @Override
+    public CursorPage<Expense> findByUserId(String userId, PageRequest page) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
         }
         if (userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be empty");
         }
+        if (page == null) {
+            throw new IllegalArgumentException("Page request cannot be null");
+        }
 
-        List<ExpenseEntity> entities = springDataRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return entities.stream()
+        Limit limit = Limit.of(page.size() + 1);
+        List<ExpenseEntity> entities = page.isFirst()
+                ? springDataRepository.findFirstPageByUserId(userId, limit)
+                : springDataRepository.findPageByUserIdAfter(
+                        userId, page.after().position(), page.after().id(), limit);
+        List<Expense> expenses = entities.stream()
                 .map(ExpenseEntity::toDomain)
                 .collect(Collectors.toList());
+        return CursorPage.fromLookahead(expenses, page.size(),
+                expense -> new PageCursor(expense.getCreatedAt(), expense.getId().getValue().toString()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ExpenseResponse> findResponsesByUserId(String userId, PageRequest page) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be empty");
+        }
+        if (page == null) {
+            throw new IllegalArgumentException("Page request cannot be null");
+        }
+
+        Limit limit = Limit.of(page.size() + 1);
+        List<ExpenseResponse> responses = page.isFirst()
+                ? springDataRepository.findFirstResponsePageByUserId(userId, limit)
+                : springDataRepository.findResponsePageByUserIdAfter(
+                        userId, page.after().position(), page.after().id(), limit);
+        return CursorPage.fromLookahead(responses, page.size(),
+                response -> new PageCursor(response.getCreatedAt(), response.getId()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Expense> findByUserIdAndDateRange(String userId, LocalDateTime start, LocalDateTime end) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -81,6 +160,7 @@ public class JpaExpenseRepository implements ExpenseRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Expense> findByUserIdAndCategory(String userId, Category category) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -115,6 +195,7 @@ public class JpaExpenseRepository implements ExpenseRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Amount calculateTotalExpenseForPeriod(String userId, LocalDate startDate, LocalDate endDate) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -129,14 +210,12 @@ public class JpaExpenseRepository implements ExpenseRepository {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59, 999999999);
-        
-        BigDecimal total = springDataRepository.calculateTotalExpenseForPeriod(userId, startDateTime, endDateTime);
+        BigDecimal total = springDataRepository.calculateTotalExpenseForPeriod(userId, startDate, endDate);
         return new Amount(total != null ? total : BigDecimal.ZERO);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<Category, Amount> calculateExpensesByCategory(String userId, LocalDate startDate, LocalDate endDate) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -151,10 +230,7 @@ public class JpaExpenseRepository implements ExpenseRepository {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59, 999999999);
-        
-        List<Object[]> results = springDataRepository.calculateExpensesByCategory(userId, startDateTime, endDateTime);
+        List<Object[]> results = springDataRepository.calculateExpensesByCategory(userId, startDate, endDate);
         Map<Category, Amount> expensesByCategory = new HashMap<>();
         
         for (Object[] result : results) {
@@ -174,6 +250,7 @@ public class JpaExpenseRepository implements ExpenseRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<Category, Double> calculateCategoryPercentages(String userId, LocalDate startDate, LocalDate endDate) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -188,26 +265,40 @@ public class JpaExpenseRepository implements ExpenseRepository {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        Map<Category, Amount> expensesByCategory = calculateExpensesByCategory(userId, startDate, endDate);
-        Amount totalExpenses = calculateTotalExpenseForPeriod(userId, startDate, endDate);
+        // One grouped read: the grand total is the sum of every group, invalid categories included
+        List<Object[]> results = springDataRepository.calculateExpensesByCategory(userId, startDate, endDate);
+        BigDecimal totalExpenses = BigDecimal.ZERO;
+        for (Object[] result : results) {
+            if (result[1] != null) {
+                totalExpenses = totalExpenses.add((BigDecimal) result[1]);
+            }
+        }
         
         Map<Category, Double> percentages = new HashMap<>();
         
-        if (totalExpenses.getValue().compareTo(BigDecimal.ZERO) == 0) {
+        if (totalExpenses.compareTo(BigDecimal.ZERO) == 0) {
             return percentages; // Return empty map if no expenses
         }
         
-        for (Map.Entry<Category, Amount> entry : expensesByCategory.entrySet()) {
-            BigDecimal percentage = entry.getValue().getValue()
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(totalExpenses.getValue(), 2, java.math.RoundingMode.HALF_UP);
-            percentages.put(entry.getKey(), percentage.doubleValue());
+        for (Object[] result : results) {
+            BigDecimal amount = (BigDecimal) result[1];
+            try {
+                Category category = new Category((String) result[0]);
+                BigDecimal percentage = (amount != null ? amount : BigDecimal.ZERO)
+                        .multiply(BigDecimal.valueOf(100))
+                        .divide(totalExpenses, 2, java.math.RoundingMode.HALF_UP);
+                percentages.put(category, percentage.doubleValue());
+            } catch (IllegalArgumentException e) {
+                // Skip invalid categories - this maintains data integrity
+                continue;
+            }
         }
         
         return percentages;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Category analyzeHighestSpendingCategory(String userId, LocalDate startDate, LocalDate endDate) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -222,10 +313,7 @@ public class JpaExpenseRepository implements ExpenseRepository {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59, 999999999);
-        
-        String categoryString = springDataRepository.findHighestSpendingCategory(userId, startDateTime, endDateTime);
+        String categoryString = springDataRepository.findHighestSpendingCategory(userId, startDate, endDate);
         
         if (categoryString == null) {
             return null; // No expenses found
@@ -237,4 +325,25 @@ public class JpaExpenseRepository implements ExpenseRepository {
             return null; // Invalid category found, return null
         }
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PeriodTotal> calculateDailyTotals(String userId, LocalDate startDate, LocalDate endDate) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (startDate == null) {
+            throw new IllegalArgumentException("Start date cannot be null");
+        }
+        if (endDate == null) {
+            throw new IllegalArgumentException("End date cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+
+        return springDataRepository.calculateDailyTotals(userId, startDate, endDate).stream()
+            .map(row -> new PeriodTotal((LocalDate) row[0], (BigDecimal) row[1], ((Number) row[2]).longValue()))
+            .toList();
+    }
 }
\ No newline at end of file
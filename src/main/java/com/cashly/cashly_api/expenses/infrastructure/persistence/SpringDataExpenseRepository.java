@@ -1,49 +1,103 @@
 package com.cashly.cashly_api.expenses.infrastructure.persistence;
 
+import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SpringDataExpenseRepository extends JpaRepository<ExpenseEntity, String> {
 
     List<ExpenseEntity> findByUserIdOrderByCreatedAtDesc(String userId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM ExpenseEntity e WHERE e.id = :id")
+    Optional<ExpenseEntity> findByIdForUpdate(@Param("id") String id);
+
+    @Query("SELECT e FROM ExpenseEntity e WHERE e.userId = :userId ORDER BY e.createdAt DESC, e.id DESC")
+    List<ExpenseEntity> findFirstPageByUserId(@Param("userId") String userId, Limit limit);
+
+    @Query("SELECT e FROM ExpenseEntity e WHERE e.userId = :userId " +
+           "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<ExpenseEntity> findPageByUserIdAfter(@Param("userId") String userId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") String id,
+                                              Limit limit);
+
+    @Query("SELECT new com.cashly.cashly_api.expenses.application.dto.ExpenseResponse(" +
+           "e.id, e.amount, e.description, e.category, e.userId, e.createdAt, e.updatedAt) " +
+           "FROM ExpenseEntity e WHERE e.userId = :userId ORDER BY e.createdAt DESC, e.id DESC")
+    List<ExpenseResponse> findFirstResponsePageByUserId(@Param("userId") String userId, Limit limit);
+
+    @Query("SELECT new com.cashly.cashly_api.expenses.application.dto.ExpenseResponse(" +
+           "e.id, e.amount, e.description, e.category, e.userId, e.createdAt, e.updatedAt) " +
+           "FROM ExpenseEntity e WHERE e.userId = :userId " +
+           "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<ExpenseResponse> findResponsePageByUserIdAfter(@Param("userId") String userId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") String id,
+                                                        Limit limit);
+
     List<ExpenseEntity> findByUserIdAndCategoryOrderByCreatedAtDesc(String userId, String category);
 
     List<ExpenseEntity> findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(String userId, 
                                                                            LocalDateTime startDate, 
                                                                            LocalDateTime endDate);
+
+    @Modifying
+    @Query("UPDATE ExpenseEntity e SET e.amount = :amount, e.description = :description, " +
+           "e.category = :category, e.updatedAt = :updatedAt WHERE e.id = :id")
+    int updateDetails(@Param("id") String id,
+                      @Param("amount") BigDecimal amount,
+                      @Param("description") String description,
+                      @Param("category") String category,
+                      @Param("updatedAt") LocalDateTime updatedAt);
     
     // Heavy computation queries for database-optimized operations
     
     @Query("SELECT COALESCE(SUM(e.amount), 0) FROM ExpenseEntity e " +
            "WHERE e.userId = :userId " +
-           "AND e.createdAt BETWEEN :startDate AND :endDate")
+           "AND e.date BETWEEN :startDate AND :endDate")
     BigDecimal calculateTotalExpenseForPeriod(@Param("userId") String userId,
-                                             @Param("startDate") LocalDateTime startDate,
-                                             @Param("endDate") LocalDateTime endDate);
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
     
     @Query("SELECT e.category, COALESCE(SUM(e.amount), 0) FROM ExpenseEntity e " +
            "WHERE e.userId = :userId " +
-           "AND e.createdAt BETWEEN :startDate AND :endDate " +
+           "AND e.date BETWEEN :startDate AND :endDate " +
            "GROUP BY e.category")
     List<Object[]> calculateExpensesByCategory(@Param("userId") String userId,
-                                              @Param("startDate") LocalDateTime startDate,
-                                              @Param("endDate") LocalDateTime endDate);
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT e.date, COALESCE(SUM(e.amount), 0), COUNT(e) FROM ExpenseEntity e " +
+           "WHERE e.userId = :userId " +
+           "AND e.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY e.date")
+    List<Object[]> calculateDailyTotals(@Param("userId") String userId,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
     
     @Query("SELECT e.category FROM ExpenseEntity e " +
            "WHERE e.userId = :userId " +
-           "AND e.createdAt BETWEEN :startDate AND :endDate " +
+           "AND e.date BETWEEN :startDate AND :endDate " +
            "GROUP BY e.category " +
            "ORDER BY SUM(e.amount) DESC " +
            "LIMIT 1")
     String findHighestSpendingCategory(@Param("userId") String userId,
-                                      @Param("startDate") LocalDateTime startDate,
-                                      @Param("endDate") LocalDateTime endDate);
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.cashly.cashly_api.expenses.infrastructure.scheduling;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cashly.cashly_api.expenses.application.usecases.RebuildExpenseRollupsUseCase;
+import com.cashly.cashly_api.infrastructure.scheduling.ClusterJobLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+@ConditionalOnProperty(name = "analytics.rollup-repair.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpenseRollupRepairJob {
+
+    static final String LOCK_NAME = "expenses.rollup-repair";
+
+    private final RebuildExpenseRollupsUseCase rebuildExpenseRollupsUseCase;
+    private final ClusterJobLock clusterJobLock;
+    private final Duration lockAtMostFor;
+    private final int chunkSize;
+    private final Timer repairTimer;
+    private final Counter rebuiltCounter;
+
+    public ExpenseRollupRepairJob(
+        RebuildExpenseRollupsUseCase rebuildExpenseRollupsUseCase,
+        ClusterJobLock clusterJobLock,
+        MeterRegistry meterRegistry,
+        @Value("${analytics.rollup-repair.lock-at-most-for:3600000}") long lockAtMostForMillis,
+        @Value("${analytics.rollup-repair.chunk-size:500}") int chunkSize
+    ) {
+        this.rebuildExpenseRollupsUseCase = rebuildExpenseRollupsUseCase;
+        this.clusterJobLock = clusterJobLock;
+        this.lockAtMostFor = Duration.ofMillis(lockAtMostForMillis);
+        this.chunkSize = chunkSize;
+        this.repairTimer = Timer.builder("expenses.rollup.repair")
+            .description("Duration of a monthly expense rollup rebuild")
+            .register(meterRegistry);
+        this.rebuiltCounter = Counter.builder("expenses.rollup.repair.users")
+            .description("Users whose monthly expense rollups were rebuilt")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${analytics.rollup-repair.cron:0 30 3 * * *}")
+    public void repair() {
+        clusterJobLock.runWithLock(LOCK_NAME, lockAtMostFor, () -> repairTimer.record(() ->
+            rebuiltCounter.increment(rebuildExpenseRollupsUseCase.execute(chunkSize))
+        ));
+    }
+}
@@ -5,6 +5,8 @@ import com.cashly.cashly_api.expenses.domain.services.ExpenseService.SpendingAna
 import com.cashly.cashly_api.expenses.domain.services.ExpenseService.BudgetUtilization;
 import com.cashly.cashly_api.expenses.domain.services.ExpenseService.CategoryAnalysis;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Amount;
+import com.cashly.cashly_api.shared.analytics.AmountSeries;
+import com.cashly.cashly_api.shared.analytics.SeriesGranularity;
 import com.cashly.cashly_api.shared.utils.ControllerUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -121,4 +123,30 @@ public class ExpenseAnalyticsController {
             expenseService.calculateMonthlyAverageExpense(userId, monthCount, reference)
         );
     }
+
+    @GetMapping("/series")
+    public ResponseEntity<AmountSeries> getSeries(
+            @RequestParam String userId,
+            @RequestParam(defaultValue = "MONTH") String granularity,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        
+        if (!ControllerUtils.isValidUserId(userId) || 
+            !ControllerUtils.isValidParameter(startDate) ||
+            !ControllerUtils.isValidParameter(endDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        SeriesGranularity bucket = SeriesGranularity.parse(granularity);
+        LocalDate start = ControllerUtils.parseLocalDate(startDate);
+        LocalDate end = ControllerUtils.parseLocalDate(endDate);
+        
+        if (bucket == null || start == null || end == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return ControllerUtils.executeServiceCall(() -> 
+            expenseService.analyzeSpendingSeries(userId, bucket, start, end)
+        );
+    }
 }
\ No newline at end of file
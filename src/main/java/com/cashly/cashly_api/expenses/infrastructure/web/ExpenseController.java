@@ -4,6 +4,9 @@ import com.cashly.cashly_api.expenses.application.dto.CreateExpenseRequest;
 import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
 import com.cashly.cashly_api.expenses.application.dto.UpdateExpenseRequest;
 import com.cashly.cashly_api.expenses.application.usecases.*;
+import com.cashly.cashly_api.infrastructure.web.PageRequestFactory;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,17 +22,20 @@ public class ExpenseController {
     private final DeleteExpenseUseCase deleteExpenseUseCase;
     private final GetExpenseByIdUseCase getExpenseByIdUseCase;
     private final GetExpensesByUserUseCase getExpensesByUserUseCase;
+    private final PageRequestFactory pageRequestFactory;
 
     public ExpenseController(CreateExpenseUseCase createExpenseUseCase,
                            UpdateExpenseUseCase updateExpenseUseCase,
                            DeleteExpenseUseCase deleteExpenseUseCase,
                            GetExpenseByIdUseCase getExpenseByIdUseCase,
-                           GetExpensesByUserUseCase getExpensesByUserUseCase) {
+                           GetExpensesByUserUseCase getExpensesByUserUseCase,
+                           PageRequestFactory pageRequestFactory) {
         this.createExpenseUseCase = createExpenseUseCase;
         this.updateExpenseUseCase = updateExpenseUseCase;
         this.deleteExpenseUseCase = deleteExpenseUseCase;
         this.getExpenseByIdUseCase = getExpenseByIdUseCase;
         this.getExpensesByUserUseCase = getExpensesByUserUseCase;
+        this.pageRequestFactory = pageRequestFactory;
     }
 
     @PostMapping
@@ -38,6 +44,13 @@ public class ExpenseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResponse<ExpenseResponse>> createExpenses(@RequestBody List<CreateExpenseRequest> requests) {
+        BulkCreateResponse<ExpenseResponse> response = createExpenseUseCase.executeAll(requests);
+        HttpStatus status = response.allCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ExpenseResponse> updateExpense(@PathVariable String id,
                                                         @RequestBody UpdateExpenseRequest request) {
@@ -58,8 +71,11 @@ public class ExpenseController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ExpenseResponse>> getExpensesByUser(@RequestParam String userId) {
-        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(userId);
+    public ResponseEntity<CursorPage<ExpenseResponse>> getExpensesByUser(@RequestParam String userId,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(required = false) Integer size) {
+        CursorPage<ExpenseResponse> responses = getExpensesByUserUseCase.execute(
+            userId, pageRequestFactory.create(cursor, size));
         return ResponseEntity.ok(responses);
     }
 }
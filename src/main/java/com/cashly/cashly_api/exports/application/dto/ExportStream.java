@@ -0,0 +1,22 @@
+package com.cashly.cashly_api.exports.application.dto;
+
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A validated export that has not touched the database yet. Rows are read and written
+ * only when {@link #writeTo(OutputStream)} runs, so callers can commit response headers first.
+ */
+public record ExportStream(ExportFormat format, String fileName, Body body) {
+
+    public long writeTo(OutputStream out) throws IOException {
+        return body.writeTo(out);
+    }
+
+    @FunctionalInterface
+    public interface Body {
+        long writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,22 @@
+package com.cashly.cashly_api.exports.application.ports;
+
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportDataset;
+
+import java.io.IOException;
+
+public interface ExportSource {
+
+    /**
+     * Hands every row of the dataset owned by the user to {@code handler} as it is read,
+     * with values in {@link ExportDataset#columns()} order. Implementations must not
+     * buffer the result, so memory stays flat regardless of row count.
+     *
+     * @return the number of rows streamed
+     */
+    long stream(ExportDataset dataset, String userId, RowHandler handler) throws IOException;
+
+    @FunctionalInterface
+    interface RowHandler {
+        void accept(Object[] values) throws IOException;
+    }
+}
@@ -0,0 +1,47 @@
+package com.cashly.cashly_api.exports.application.usecases;
+
+import com.cashly.cashly_api.exports.application.dto.ExportStream;
+import com.cashly.cashly_api.exports.application.ports.ExportSource;
+import com.cashly.cashly_api.exports.application.writers.RecordWriter;
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportDataset;
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportFormat;
+import com.cashly.cashly_api.shared.utils.Uuids;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-history export of a user's transactions, expenses or incomes. Arguments are
+ * validated eagerly; rows are streamed from the source straight into the writer.
+ */
+@Service
+public class ExportUserDataUseCase {
+
+    private final ExportSource exportSource;
+
+    public ExportUserDataUseCase(ExportSource exportSource) {
+        this.exportSource = exportSource;
+    }
+
+    public ExportStream execute(String userId, String dataset, String format) {
+        validateUserId(userId);
+        ExportDataset exportDataset = ExportDataset.fromString(dataset);
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+
+        return new ExportStream(
+            exportFormat,
+            exportDataset.fileName(exportFormat),
+            out -> {
+                RecordWriter writer = RecordWriter.open(exportFormat, exportDataset.columns(), out);
+                long rows = exportSource.stream(exportDataset, userId, writer::write);
+                writer.finish();
+                return rows;
+            }
+        );
+    }
+
+    private void validateUserId(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        Uuids.requireValid(userId, "user ID");
+    }
+}
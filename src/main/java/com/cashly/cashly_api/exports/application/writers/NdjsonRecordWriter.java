@@ -0,0 +1,56 @@
+package com.cashly.cashly_api.exports.application.writers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Newline-delimited JSON: one object per row, keyed by column name.
+ */
+public class NdjsonRecordWriter implements RecordWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactoryBuilder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .rootValueSeparator((String) null)
+        .build();
+
+    private final List<String> columns;
+    private final JsonGenerator generator;
+
+    public NdjsonRecordWriter(List<String> columns, OutputStream out) throws IOException {
+        this.columns = columns;
+        this.generator = JSON_FACTORY.createGenerator(out);
+    }
+
+    @Override
+    public void write(Object[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            generator.writeFieldName(columns.get(i));
+            writeValue(values[i]);
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof BigDecimal number) {
+            generator.writeNumber(number);
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.cashly.cashly_api.exports.application.writers;
+
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Serialises export rows one at a time onto an output stream. Writers buffer at most a
+ * few kilobytes; {@link #finish()} flushes them but leaves the stream open for the caller.
+ */
+public interface RecordWriter {
+
+    void write(Object[] values) throws IOException;
+
+    void finish() throws IOException;
+
+    static RecordWriter open(ExportFormat format, List<String> columns, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonRecordWriter(columns, out);
+            case CSV -> new CsvRecordWriter(columns, out);
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.cashly.cashly_api.exports.domain.valueobjects;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum ExportDataset {
+    TRANSACTIONS(List.of(
+        "id", "userId", "type", "status", "amount", "currency", "description", "transactionDate",
+        "sourceAccountId", "destinationAccountId", "expenseId", "incomeId", "createdAt", "updatedAt"
+    )),
+    EXPENSES(List.of(
+        "id", "userId", "amount", "description", "category", "date", "createdAt", "updatedAt"
+    )),
+    INCOMES(List.of(
+        "id", "userId", "amount", "description", "category", "date", "createdAt", "updatedAt"
+    ));
+
+    private final List<String> columns;
+
+    ExportDataset(List<String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Field names of an exported record, in the order every row supplies its values.
+     */
+    public List<String> columns() {
+        return columns;
+    }
+
+    public String fileName(ExportFormat format) {
+        return name().toLowerCase() + "." + format.extension();
+    }
+
+    public static ExportDataset fromString(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Export dataset cannot be null");
+        }
+        try {
+            return ExportDataset.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid export dataset: " + value +
+                ". Must be one of: " + Arrays.toString(ExportDataset.values()));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.cashly.cashly_api.exports.infrastructure.persistence;
+
+import com.cashly.cashly_api.exports.application.ports.ExportSource;
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportDataset;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Reads export rows over plain JDBC with a forward-only, read-only cursor and hands each
+ * row on before fetching the next. Nothing passes through the persistence context, so no
+ * entity is retained. With MySQL Connector/J a fetch size of {@link Integer#MIN_VALUE}
+ * makes the driver stream rows instead of loading the whole result set.
+ */
+@Repository
+public class JdbcExportSource implements ExportSource {
+
+    private static final String TRANSACTIONS_SQL =
+        "SELECT id, user_id, transaction_type, transaction_status, amount, currency, description, " +
+        "transaction_date, source_account_id, destination_account_id, expense_id, income_id, " +
+        "created_at, updated_at FROM transactions WHERE user_id = ? ORDER BY transaction_date, id";
+
+    private static final String EXPENSES_SQL =
+        "SELECT id, user_id, amount, description, category, date, created_at, updated_at " +
+        "FROM expenses WHERE user_id = ? ORDER BY created_at, id";
+
+    private static final String INCOMES_SQL =
+        "SELECT id, user_id, amount, description, category, date, created_at, updated_at " +
+        "FROM incomes WHERE user_id = ? ORDER BY created_at, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcExportSource(DataSource dataSource, @Value("${export.fetch-size:-2147483648}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public long stream(ExportDataset dataset, String userId, RowHandler handler) throws IOException {
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                        sqlFor(dataset), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setBytes(1, UuidBinaryConverter.toBytes(userId));
+                    return statement;
+                },
+                resultSet -> {
+                    try {
+                        handler.accept(readRow(dataset, resultSet));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                }
+            );
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return rows[0];
+    }
+
+    private static String sqlFor(ExportDataset dataset) {
+        return switch (dataset) {
+            case TRANSACTIONS -> TRANSACTIONS_SQL;
+            case EXPENSES -> EXPENSES_SQL;
+            case INCOMES -> INCOMES_SQL;
+        };
+    }
+
+    private static Object[] readRow(ExportDataset dataset, ResultSet rs) throws SQLException {
+        return switch (dataset) {
+            case TRANSACTIONS -> new Object[] {
+                uuid(rs, 1), uuid(rs, 2), rs.getString(3), rs.getString(4), rs.getBigDecimal(5),
+                rs.getString(6), rs.getString(7), rs.getObject(8, LocalDate.class), uuid(rs, 9),
+                uuid(rs, 10), uuid(rs, 11), uuid(rs, 12), rs.getObject(13, LocalDateTime.class),
+                rs.getObject(14, LocalDateTime.class)
+            };
+            case EXPENSES, INCOMES -> new Object[] {
+                uuid(rs, 1), uuid(rs, 2), rs.getBigDecimal(3), rs.getString(4), rs.getString(5),
+                rs.getObject(6, LocalDate.class), rs.getObject(7, LocalDateTime.class),
+                rs.getObject(8, LocalDateTime.class)
+            };
+        };
+    }
+
+    private static String uuid(ResultSet rs, int column) throws SQLException {
+        byte[] bytes = rs.getBytes(column);
+        return bytes == null ? null : UuidBinaryConverter.fromBytes(bytes);
+    }
+}
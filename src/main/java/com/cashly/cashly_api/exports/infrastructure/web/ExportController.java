@@ -0,0 +1,49 @@
+package com.cashly.cashly_api.exports.infrastructure.web;
+
+import com.cashly.cashly_api.exports.application.dto.ExportStream;
+import com.cashly.cashly_api.exports.application.usecases.ExportUserDataUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private final ExportUserDataUseCase exportUserDataUseCase;
+    private final long requestTimeoutMillis;
+
+    public ExportController(ExportUserDataUseCase exportUserDataUseCase,
+                            @Value("${export.request-timeout:1800000}") long requestTimeoutMillis) {
+        this.exportUserDataUseCase = exportUserDataUseCase;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String dataset,
+                                                        @RequestParam String userId,
+                                                        @RequestParam(defaultValue = "ndjson") String format,
+                                                        NativeWebRequest webRequest) {
+        ExportStream export = exportUserDataUseCase.execute(userId, dataset, format);
+        StreamingResponseBody body = export::writeTo;
+
+        // A full-history download outlives the default async timeout; extend it for this request only
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(webRequest).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(requestTimeoutMillis);
+        }
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(export.format().mediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(export.fileName()).build().toString())
+            .body(body);
+    }
+}
@@ -0,0 +1,38 @@
+package com.cashly.cashly_api.imports.application.dto;
+
+import com.cashly.cashly_api.imports.domain.entities.ImportJob;
+
+import java.time.LocalDateTime;
+
+public record ImportJobResponse(
+    String id,
+    String userId,
+    String accountId,
+    String format,
+    String status,
+    long linesRead,
+    long imported,
+    long duplicates,
+    long rejected,
+    String errorMessage,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    public static ImportJobResponse from(ImportJob job) {
+        return new ImportJobResponse(
+            job.getId().getValue().toString(),
+            job.getUserId(),
+            job.getAccountId(),
+            job.getFormat().name(),
+            job.getStatus().name(),
+            job.getLinesRead(),
+            job.getImported(),
+            job.getDuplicates(),
+            job.getRejected(),
+            job.getErrorMessage(),
+            job.getCreatedAt(),
+            job.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.cashly.cashly_api.imports.application.ports;
+
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Remembers which statement lines have already been imported into an account, keyed by
+ * a fingerprint that already encodes the account.
+ */
+public interface ImportFingerprintRepository {
+    Set<String> findExisting(Collection<String> fingerprints);
+    void saveAll(Collection<String> fingerprints, ImportJobId importJobId);
+}
@@ -0,0 +1,13 @@
+package com.cashly.cashly_api.imports.application.ports;
+
+import java.util.concurrent.RejectedExecutionException;
+
+public interface ImportJobExecutor {
+
+    /**
+     * Queues an import to run in the background.
+     *
+     * @throws RejectedExecutionException when the import queue is full
+     */
+    void submit(Runnable importTask);
+}
@@ -0,0 +1,12 @@
+package com.cashly.cashly_api.imports.application.ports;
+
+import com.cashly.cashly_api.imports.domain.entities.ImportJob;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+
+import java.util.Optional;
+
+public interface ImportJobRepository {
+    ImportJob save(ImportJob job);
+    ImportJob update(ImportJob job);
+    Optional<ImportJob> findById(ImportJobId id);
+}
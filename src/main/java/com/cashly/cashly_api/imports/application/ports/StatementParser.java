@@ -0,0 +1,27 @@
+package com.cashly.cashly_api.imports.application.ports;
+
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface StatementParser {
+
+    StatementFormat format();
+
+    /**
+     * Reads the statement sequentially and hands each entry to {@code handler} as soon as it
+     * is complete, so only one entry is held in memory at a time. Malformed entries are
+     * reported through {@link LineHandler#reject(long, String)} with their 1-based position
+     * and parsing continues; a structurally unreadable document throws
+     * {@link IllegalArgumentException}.
+     */
+    void parse(InputStream content, LineHandler handler) throws IOException;
+
+    interface LineHandler {
+        void accept(StatementLine line);
+
+        void reject(long entryNumber, String reason);
+    }
+}
@@ -0,0 +1,149 @@
+package com.cashly.cashly_api.imports.application.services;
+
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
+import com.cashly.cashly_api.expenses.domain.entities.Expense;
+import com.cashly.cashly_api.expenses.domain.valueobjects.ExpenseId;
+import com.cashly.cashly_api.imports.application.ports.ImportFingerprintRepository;
+import com.cashly.cashly_api.imports.application.ports.ImportJobRepository;
+import com.cashly.cashly_api.imports.domain.entities.ImportJob;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
+import com.cashly.cashly_api.incomes.domain.entities.Income;
+import com.cashly.cashly_api.incomes.domain.valueobjects.IncomeId;
+import com.cashly.cashly_api.transactions.application.ports.TransactionRepository;
+import com.cashly.cashly_api.transactions.domain.entities.Transaction;
+import com.cashly.cashly_api.transactions.domain.valueobjects.*;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes one batch of statement lines in a single database transaction: lines whose
+ * fingerprint is already recorded are skipped, the rest become an expense (debits) or
+ * income (credits) plus the matching completed transaction on the imported account, the
+ * monthly rollups take the new rows in, and the job's progress is updated alongside so it
+ * never over- or under-reports.
+ */
+@Service
+public class StatementBatchWriter {
+
+    static final String IMPORTED_CATEGORY = "OTHER";
+    static final String DEFAULT_DESCRIPTION = "Bank statement entry";
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final ExpenseRollupRepository expenseRollupRepository;
+    private final IncomeRollupRepository incomeRollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final ImportFingerprintRepository fingerprintRepository;
+    private final ImportJobRepository importJobRepository;
+
+    public StatementBatchWriter(ExpenseRepository expenseRepository,
+                                IncomeRepository incomeRepository,
+                                ExpenseRollupRepository expenseRollupRepository,
+                                IncomeRollupRepository incomeRollupRepository,
+                                TransactionRepository transactionRepository,
+                                ImportFingerprintRepository fingerprintRepository,
+                                ImportJobRepository importJobRepository) {
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.expenseRollupRepository = expenseRollupRepository;
+        this.incomeRollupRepository = incomeRollupRepository;
+        this.transactionRepository = transactionRepository;
+        this.fingerprintRepository = fingerprintRepository;
+        this.importJobRepository = importJobRepository;
+    }
+
+    @Transactional
+    public void write(ImportJob job, String accountCurrency, List<PendingLine> batch, long parseRejections) {
+        Set<String> seen = new HashSet<>(fingerprintRepository.findExisting(
+            batch.stream().map(PendingLine::fingerprint).toList()));
+
+        List<Expense> expenses = new ArrayList<>();
+        List<Income> incomes = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
+        List<String> fingerprints = new ArrayList<>();
+        long duplicates = 0;
+        long rejected = parseRejections;
+
+        for (PendingLine pending : batch) {
+            if (!seen.add(pending.fingerprint())) {
+                duplicates++;
+                continue;
+            }
+            try {
+                map(job, accountCurrency, pending.line(), expenses, incomes, transactions);
+                fingerprints.add(pending.fingerprint());
+            } catch (IllegalArgumentException e) {
+                rejected++;
+            }
+        }
+
+        expenseRepository.saveAll(expenses);
+        incomeRepository.saveAll(incomes);
+        expenseRollupRepository.addAll(expenses);
+        incomeRollupRepository.addAll(incomes);
+        transactionRepository.saveAll(transactions);
+        fingerprintRepository.saveAll(fingerprints, job.getId());
+
+        job.recordBatch(batch.size() + parseRejections, fingerprints.size(), duplicates, rejected);
+        importJobRepository.update(job);
+    }
+
+    private static void map(ImportJob job, String accountCurrency, StatementLine line,
+                            List<Expense> expenses, List<Income> incomes, List<Transaction> transactions) {
+        String description = describe(line);
+        String currency = line.currency() != null ? line.currency() : accountCurrency;
+        TransactionDate transactionDate = new TransactionDate(line.bookingDate());
+        Amount amount = new Amount(line.amount().abs());
+
+        if (line.isDebit()) {
+            Expense expense = new Expense(
+                ExpenseId.generate(),
+                new com.cashly.cashly_api.expenses.domain.valueobjects.Amount(line.amount().abs()),
+                new com.cashly.cashly_api.expenses.domain.valueobjects.Description(description),
+                new com.cashly.cashly_api.expenses.domain.valueobjects.Category(IMPORTED_CATEGORY),
+                line.bookingDate(),
+                job.getUserId()
+            );
+            Transaction transaction = new Transaction(
+                TransactionId.generate(), job.getUserId(), TransactionType.PAYMENT, TransactionStatus.COMPLETED,
+                amount, currency, new Description(description), transactionDate,
+                job.getAccountId(), null, expense.getId().getValue().toString(), null
+            );
+            expenses.add(expense);
+            transactions.add(transaction);
+        } else {
+            Income income = new Income(
+                IncomeId.generate(),
+                new com.cashly.cashly_api.incomes.domain.valueobjects.Amount(line.amount()),
+                new com.cashly.cashly_api.incomes.domain.valueobjects.Description(description),
+                new com.cashly.cashly_api.incomes.domain.valueobjects.Category(IMPORTED_CATEGORY),
+                line.bookingDate(),
+                job.getUserId()
+            );
+            Transaction transaction = new Transaction(
+                TransactionId.generate(), job.getUserId(), TransactionType.DEPOSIT, TransactionStatus.COMPLETED,
+                amount, currency, new Description(description), transactionDate,
+                null, job.getAccountId(), null, null
+            );
+            incomes.add(income);
+            transactions.add(transaction);
+        }
+    }
+
+    private static String describe(StatementLine line) {
+        String description = line.description() == null ? DEFAULT_DESCRIPTION : line.description().trim();
+        return description.length() > MAX_DESCRIPTION_LENGTH ? description.substring(0, MAX_DESCRIPTION_LENGTH) : description;
+    }
+
+    public record PendingLine(StatementLine line, String fingerprint) {
+    }
+}
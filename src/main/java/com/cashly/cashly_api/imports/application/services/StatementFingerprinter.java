@@ -0,0 +1,54 @@
+package com.cashly.cashly_api.imports.application.services;
+
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Derives a stable dedupe key for each line of one statement. Lines carrying a bank
+ * reference are keyed by it; other lines by their content plus how many identical lines
+ * preceded them, so two genuine same-day coffees stay distinct while re-importing an
+ * overlapping statement still matches. Keys are scoped to the account.
+ */
+public class StatementFingerprinter {
+
+    private final String accountId;
+    private final MessageDigest digest;
+    private final Map<String, Integer> occurrences = new HashMap<>();
+
+    public StatementFingerprinter(String accountId) {
+        if (accountId == null || accountId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Account ID cannot be null or empty");
+        }
+        this.accountId = accountId.trim();
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public String next(StatementLine line) {
+        if (line == null) {
+            throw new IllegalArgumentException("Statement line cannot be null");
+        }
+
+        String key;
+        if (line.bankReference() != null) {
+            key = "ref|" + line.bankReference();
+        } else {
+            String content = line.bookingDate() + "|" + line.amount().stripTrailingZeros().toPlainString() + "|" +
+                (line.currency() == null ? "" : line.currency().toUpperCase(Locale.ROOT)) + "|" +
+                (line.description() == null ? "" : line.description().trim().toLowerCase(Locale.ROOT));
+            key = "line|" + content + "|" + occurrences.merge(content, 1, Integer::sum);
+        }
+
+        return HexFormat.of().formatHex(digest.digest((accountId + "|" + key).getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,140 @@
+package com.cashly.cashly_api.imports.application.services;
+
+import com.cashly.cashly_api.imports.application.ports.ImportJobRepository;
+import com.cashly.cashly_api.imports.application.ports.StatementParser;
+import com.cashly.cashly_api.imports.application.services.StatementBatchWriter.PendingLine;
+import com.cashly.cashly_api.imports.domain.entities.ImportJob;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs one import job: streams the statement through its parser, fingerprints each line
+ * and hands full batches to {@link StatementBatchWriter}. Only the current batch is held
+ * in memory, and progress becomes visible after every committed batch.
+ */
+@Service
+public class StatementImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementImporter.class);
+
+    private final Map<StatementFormat, StatementParser> parsers = new EnumMap<>(StatementFormat.class);
+    private final StatementBatchWriter batchWriter;
+    private final ImportJobRepository importJobRepository;
+    private final int batchSize;
+
+    public StatementImporter(List<StatementParser> parsers,
+                             StatementBatchWriter batchWriter,
+                             ImportJobRepository importJobRepository,
+                             @Value("${imports.batch-size:1000}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        parsers.forEach(parser -> this.parsers.put(parser.format(), parser));
+        this.batchWriter = batchWriter;
+        this.importJobRepository = importJobRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports a statement staged on disk and deletes the file afterwards.
+     */
+    public void run(ImportJob job, String accountCurrency, Path stagedStatement) {
+        try (InputStream content = new BufferedInputStream(Files.newInputStream(stagedStatement))) {
+            run(job, accountCurrency, content);
+        } catch (IOException e) {
+            failJob(job, "Could not read staged statement", e);
+        } finally {
+            try {
+                Files.deleteIfExists(stagedStatement);
+            } catch (IOException e) {
+                log.warn("Could not delete staged statement {}", stagedStatement, e);
+            }
+        }
+    }
+
+    public void run(ImportJob job, String accountCurrency, InputStream content) {
+        StatementParser parser = parsers.get(job.getFormat());
+        if (parser == null) {
+            failJob(job, "No parser available for " + job.getFormat(), null);
+            return;
+        }
+
+        try {
+            job.start();
+            importJobRepository.update(job);
+
+            BatchCollector collector = new BatchCollector(job, accountCurrency);
+            parser.parse(content, collector);
+            collector.flush();
+
+            job.complete();
+            importJobRepository.update(job);
+        } catch (IllegalArgumentException e) {
+            failJob(job, e.getMessage(), null);
+        } catch (IOException | RuntimeException e) {
+            failJob(job, "Import failed after " + job.getLinesRead() + " lines", e);
+        }
+    }
+
+    private void failJob(ImportJob job, String reason, Exception cause) {
+        if (cause != null) {
+            log.warn("Import job {} failed: {}", job.getId().getValue(), reason, cause);
+        }
+        if (!job.getStatus().isFinished()) {
+            job.fail(reason);
+            importJobRepository.update(job);
+        }
+    }
+
+    private final class BatchCollector implements StatementParser.LineHandler {
+
+        private final ImportJob job;
+        private final String accountCurrency;
+        private final StatementFingerprinter fingerprinter;
+        private final List<PendingLine> pending = new ArrayList<>(batchSize);
+        private long rejections;
+
+        BatchCollector(ImportJob job, String accountCurrency) {
+            this.job = job;
+            this.accountCurrency = accountCurrency;
+            this.fingerprinter = new StatementFingerprinter(job.getAccountId());
+        }
+
+        @Override
+        public void accept(StatementLine line) {
+            pending.add(new PendingLine(line, fingerprinter.next(line)));
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void reject(long entryNumber, String reason) {
+            log.debug("Import job {} skipped entry {}: {}", job.getId().getValue(), entryNumber, reason);
+            rejections++;
+        }
+
+        void flush() {
+            if (pending.isEmpty() && rejections == 0) {
+                return;
+            }
+            batchWriter.write(job, accountCurrency, List.copyOf(pending), rejections);
+            pending.clear();
+            rejections = 0;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.cashly.cashly_api.imports.application.usecases;
+
+import com.cashly.cashly_api.imports.application.dto.ImportJobResponse;
+import com.cashly.cashly_api.imports.application.ports.ImportJobRepository;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetImportJobUseCase {
+
+    private final ImportJobRepository importJobRepository;
+
+    public GetImportJobUseCase(ImportJobRepository importJobRepository) {
+        this.importJobRepository = importJobRepository;
+    }
+
+    public ImportJobResponse execute(String id) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException("Import job ID cannot be null or empty");
+        }
+
+        return importJobRepository.findById(ImportJobId.from(id))
+            .map(ImportJobResponse::from)
+            .orElseThrow(() -> new RuntimeException("Import job not found with id: " + id));
+    }
+}
@@ -0,0 +1,100 @@
+package com.cashly.cashly_api.imports.application.usecases;
+
+import com.cashly.cashly_api.accounts.application.ports.AccountRepository;
+import com.cashly.cashly_api.accounts.domain.entities.Account;
+import com.cashly.cashly_api.accounts.domain.valueobjects.AccountId;
+import com.cashly.cashly_api.imports.application.dto.ImportJobResponse;
+import com.cashly.cashly_api.imports.application.ports.ImportJobExecutor;
+import com.cashly.cashly_api.imports.application.ports.ImportJobRepository;
+import com.cashly.cashly_api.imports.application.services.StatementImporter;
+import com.cashly.cashly_api.imports.domain.entities.ImportJob;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import com.cashly.cashly_api.shared.exceptions.ServiceOverloadedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Accepts a statement upload, stages it on local disk and queues the import. The caller
+ * gets the queued job back immediately and polls it for progress.
+ */
+@Service
+public class StartStatementImportUseCase {
+
+    private final AccountRepository accountRepository;
+    private final ImportJobRepository importJobRepository;
+    private final StatementImporter statementImporter;
+    private final ImportJobExecutor importJobExecutor;
+
+    public StartStatementImportUseCase(AccountRepository accountRepository,
+                                       ImportJobRepository importJobRepository,
+                                       StatementImporter statementImporter,
+                                       ImportJobExecutor importJobExecutor) {
+        this.accountRepository = accountRepository;
+        this.importJobRepository = importJobRepository;
+        this.statementImporter = statementImporter;
+        this.importJobExecutor = importJobExecutor;
+    }
+
+    public ImportJobResponse execute(String userId, String accountId, String format, InputStream content) throws IOException {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (content == null) {
+            throw new IllegalArgumentException("Statement content cannot be null");
+        }
+        StatementFormat statementFormat = StatementFormat.fromString(format);
+        Account account = findImportableAccount(userId, accountId);
+
+        Path stagedStatement = Files.createTempFile("statement-import-", ".tmp");
+        try {
+            Files.copy(content, stagedStatement, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(stagedStatement);
+            throw e;
+        }
+
+        ImportJob job = importJobRepository.save(new ImportJob(
+            ImportJobId.generate(), userId, account.getId().getValue().toString(), statementFormat));
+        String currency = account.getCurrency().getValue();
+        ImportJobResponse queued = ImportJobResponse.from(job);
+
+        try {
+            importJobExecutor.submit(() -> statementImporter.run(job, currency, stagedStatement));
+        } catch (RejectedExecutionException e) {
+            Files.deleteIfExists(stagedStatement);
+            job.fail("Import queue is full");
+            importJobRepository.update(job);
+            throw new ServiceOverloadedException("Too many statement imports in progress, please retry later", e);
+        }
+
+        return queued;
+    }
+
+    private Account findImportableAccount(String userId, String accountId) {
+        if (accountId == null || accountId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Account ID cannot be null or empty");
+        }
+        AccountId id;
+        try {
+            id = new AccountId(UUID.fromString(accountId.trim()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid account ID format");
+        }
+
+        Account account = accountRepository.findById(id)
+            .filter(candidate -> candidate.belongsToUser(userId))
+            .orElseThrow(() -> new RuntimeException("Account not found with id: " + accountId));
+        if (!account.canAcceptTransactions()) {
+            throw new IllegalStateException("Account cannot accept transactions");
+        }
+        return account;
+    }
+}
@@ -0,0 +1,181 @@
+package com.cashly.cashly_api.imports.domain.entities;
+
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobStatus;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import com.cashly.cashly_api.shared.utils.Uuids;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class ImportJob {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ImportJobId id;
+    private final String userId;
+    private final String accountId;
+    private final StatementFormat format;
+    private ImportJobStatus status;
+    private long linesRead;
+    private long imported;
+    private long duplicates;
+    private long rejected;
+    private String errorMessage;
+    private final LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public ImportJob(ImportJobId id, String userId, String accountId, StatementFormat format) {
+        if (id == null) {
+            throw new IllegalArgumentException("Import job ID cannot be null");
+        }
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (accountId == null || accountId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Account ID cannot be null or empty");
+        }
+        if (format == null) {
+            throw new IllegalArgumentException("Statement format cannot be null");
+        }
+        Uuids.requireValid(userId.trim(), "user ID");
+        Uuids.requireValid(accountId.trim(), "account ID");
+
+        this.id = id;
+        this.userId = userId.trim();
+        this.accountId = accountId.trim();
+        this.format = format;
+        this.status = ImportJobStatus.QUEUED;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    private ImportJob(ImportJobId id, String userId, String accountId, StatementFormat format,
+                      ImportJobStatus status, long linesRead, long imported, long duplicates,
+                      long rejected, String errorMessage, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.accountId = accountId;
+        this.format = format;
+        this.status = status;
+        this.linesRead = linesRead;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.rejected = rejected;
+        this.errorMessage = errorMessage;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static ImportJob rehydrate(ImportJobId id, String userId, String accountId, StatementFormat format,
+                                      ImportJobStatus status, long linesRead, long imported, long duplicates,
+                                      long rejected, String errorMessage, LocalDateTime createdAt,
+                                      LocalDateTime updatedAt) {
+        return new ImportJob(id, userId, accountId, format, status, linesRead, imported, duplicates,
+            rejected, errorMessage, createdAt, updatedAt);
+    }
+
+    public void start() {
+        if (status != ImportJobStatus.QUEUED) {
+            throw new IllegalStateException("Cannot start import job in status " + status);
+        }
+        this.status = ImportJobStatus.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void recordBatch(long linesRead, long imported, long duplicates, long rejected) {
+        if (status != ImportJobStatus.RUNNING) {
+            throw new IllegalStateException("Cannot record progress for import job in status " + status);
+        }
+        if (linesRead < 0 || imported < 0 || duplicates < 0 || rejected < 0) {
+            throw new IllegalArgumentException("Progress counts cannot be negative");
+        }
+        this.linesRead += linesRead;
+        this.imported += imported;
+        this.duplicates += duplicates;
+        this.rejected += rejected;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        if (status != ImportJobStatus.RUNNING) {
+            throw new IllegalStateException("Cannot complete import job in status " + status);
+        }
+        this.status = ImportJobStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        if (status.isFinished()) {
+            throw new IllegalStateException("Cannot fail import job in status " + status);
+        }
+        String message = reason == null || reason.isBlank() ? "Import failed" : reason.trim();
+        this.errorMessage = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        this.status = ImportJobStatus.FAILED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean belongsToUser(String userId) {
+        return this.userId.equals(userId);
+    }
+
+    public ImportJobId getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public StatementFormat getFormat() {
+        return format;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ImportJob importJob = (ImportJob) obj;
+        return Objects.equals(id, importJob.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
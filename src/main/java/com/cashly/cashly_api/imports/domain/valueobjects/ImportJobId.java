@@ -0,0 +1,54 @@
+package com.cashly.cashly_api.imports.domain.valueobjects;
+
+import com.cashly.cashly_api.shared.utils.UuidV7;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public class ImportJobId {
+    private final UUID value;
+
+    public ImportJobId(UUID value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Import job ID cannot be null");
+        }
+        this.value = value;
+    }
+
+    public static ImportJobId from(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Import job ID string cannot be null");
+        }
+        try {
+            return new ImportJobId(UUID.fromString(value.trim()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid import job ID format", e);
+        }
+    }
+
+    public UUID getValue() {
+        return value;
+    }
+
+    public static ImportJobId generate() {
+        return new ImportJobId(UuidV7.generate());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ImportJobId importJobId = (ImportJobId) obj;
+        return Objects.equals(value, importJobId.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportJobId{" + "value=" + value + '}';
+    }
+}
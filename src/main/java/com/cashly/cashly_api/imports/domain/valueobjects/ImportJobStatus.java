@@ -0,0 +1,26 @@
+package com.cashly.cashly_api.imports.domain.valueobjects;
+
+import java.util.Arrays;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+
+    public static ImportJobStatus fromString(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Import job status cannot be null");
+        }
+        try {
+            return ImportJobStatus.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid import job status: " + value +
+                ". Must be one of: " + Arrays.toString(ImportJobStatus.values()));
+        }
+    }
+}
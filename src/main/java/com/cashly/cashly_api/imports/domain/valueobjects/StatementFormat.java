@@ -0,0 +1,24 @@
+package com.cashly.cashly_api.imports.domain.valueobjects;
+
+import java.util.Arrays;
+
+public enum StatementFormat {
+    CSV,
+    OFX,
+    CAMT053;
+
+    /**
+     * Accepts the enum name as well as the ISO 20022 spelling {@code camt.053}.
+     */
+    public static StatementFormat fromString(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Statement format cannot be null");
+        }
+        try {
+            return StatementFormat.valueOf(value.trim().replace(".", "").replace("_", "").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid statement format: " + value +
+                ". Must be one of: " + Arrays.toString(StatementFormat.values()));
+        }
+    }
+}
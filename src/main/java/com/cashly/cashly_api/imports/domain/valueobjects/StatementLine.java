@@ -0,0 +1,25 @@
+package com.cashly.cashly_api.imports.domain.valueobjects;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One booked entry of a bank statement. {@code amount} is signed: negative for debits.
+ * {@code currency} and {@code bankReference} are null when the statement omits them.
+ */
+public record StatementLine(LocalDate bookingDate, BigDecimal amount, String currency,
+                            String description, String bankReference) {
+
+    public StatementLine {
+        if (bookingDate == null) {
+            throw new IllegalArgumentException("Booking date cannot be null");
+        }
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+    }
+
+    public boolean isDebit() {
+        return amount.signum() < 0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.cashly.cashly_api.imports.infrastructure.config;
+
+import com.cashly.cashly_api.imports.application.ports.ImportJobExecutor;
+
+import java.util.concurrent.ExecutorService;
+
+public class BoundedImportJobExecutor implements ImportJobExecutor {
+
+    private final ExecutorService executor;
+
+    public BoundedImportJobExecutor(ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Import executor cannot be null");
+        }
+        this.executor = executor;
+    }
+
+    @Override
+    public void submit(Runnable importTask) {
+        executor.execute(importTask);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
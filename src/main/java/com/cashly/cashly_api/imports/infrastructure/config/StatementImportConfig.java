@@ -0,0 +1,38 @@
+package com.cashly.cashly_api.imports.infrastructure.config;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+public class StatementImportConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedImportJobExecutor importJobExecutor(
+        MeterRegistry meterRegistry,
+        @Value("${imports.threads:2}") int threads,
+        @Value("${imports.queue-capacity:20}") int queueCapacity
+    ) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("statement-import-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        new ExecutorServiceMetrics(executor, "statement-import", List.of()).bindTo(meterRegistry);
+
+        return new BoundedImportJobExecutor(executor);
+    }
+}
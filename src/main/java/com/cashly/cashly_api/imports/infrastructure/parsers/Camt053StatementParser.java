@@ -0,0 +1,181 @@
+package com.cashly.cashly_api.imports.infrastructure.parsers;
+
+import com.cashly.cashly_api.imports.application.ports.StatementParser;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * ISO 20022 camt.053 bank-to-customer statements, read with StAX so only the current
+ * {@code <Ntry>} is held in memory. DTDs and external entities are disabled. Only booked
+ * entries are imported; {@code <AcctSvcrRef>} is used as the bank reference.
+ */
+@Component
+public class Camt053StatementParser implements StatementParser {
+
+    private static final int MAX_DESCRIPTION_PARTS_LENGTH = 255;
+
+    private final XMLInputFactory inputFactory;
+
+    public Camt053StatementParser() {
+        this.inputFactory = XMLInputFactory.newFactory();
+        this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.CAMT053;
+    }
+
+    @Override
+    public void parse(InputStream content, LineHandler handler) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = inputFactory.createXMLStreamReader(content);
+            read(reader, handler);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Statement is not well-formed XML: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // nothing left to release
+                }
+            }
+        }
+    }
+
+    private void read(XMLStreamReader reader, LineHandler handler) throws XMLStreamException {
+        Deque<String> path = new ArrayDeque<>();
+        Entry entry = null;
+        long entryNumber = 0;
+        boolean sawStatement = false;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                String parent = path.peek();
+
+                if ("Stmt".equals(name)) {
+                    sawStatement = true;
+                } else if ("Ntry".equals(name)) {
+                    entry = new Entry();
+                } else if (entry != null && isLeaf(name, parent)) {
+                    String currency = reader.getAttributeValue(null, "Ccy");
+                    entry.set(name, reader.getElementText().trim(), currency);
+                    continue;
+                }
+                path.push(name);
+            } else if (event == XMLStreamConstants.CHARACTERS && entry != null && "Sts".equals(path.peek())) {
+                // camt.053.001.02 writes the status as text; later versions nest it in <Cd>
+                String text = reader.getText().trim();
+                if (!text.isEmpty()) {
+                    entry.set("Sts", text, null);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                path.pop();
+                if ("Ntry".equals(reader.getLocalName()) && entry != null) {
+                    entryNumber++;
+                    if (entry.isBooked()) {
+                        try {
+                            handler.accept(entry.toLine());
+                        } catch (IllegalArgumentException | DateTimeParseException e) {
+                            handler.reject(entryNumber, e.getMessage());
+                        }
+                    } else {
+                        handler.reject(entryNumber, "Entry is not booked");
+                    }
+                    entry = null;
+                }
+            }
+        }
+
+        if (!sawStatement) {
+            throw new IllegalArgumentException("Statement is not a camt.053 document");
+        }
+    }
+
+    private static boolean isLeaf(String name, String parent) {
+        return switch (name) {
+            case "Amt", "CdtDbtInd", "AcctSvcrRef", "AddtlNtryInf" -> "Ntry".equals(parent);
+            case "Dt", "DtTm" -> "BookgDt".equals(parent);
+            case "Cd" -> "Sts".equals(parent);
+            case "Ustrd" -> true;
+            default -> false;
+        };
+    }
+
+    private static final class Entry {
+        private String amount;
+        private String currency;
+        private String direction;
+        private String bookingDate;
+        private String reference;
+        private String status;
+        private String additionalInfo;
+        private final StringBuilder remittance = new StringBuilder();
+
+        void set(String name, String value, String currencyAttribute) {
+            switch (name) {
+                case "Amt" -> {
+                    amount = value;
+                    currency = currencyAttribute;
+                }
+                case "CdtDbtInd" -> direction = value;
+                case "Dt", "DtTm" -> bookingDate = value;
+                case "AcctSvcrRef" -> reference = value;
+                case "Sts", "Cd" -> status = value;
+                case "AddtlNtryInf" -> additionalInfo = value;
+                case "Ustrd" -> {
+                    if (!value.isEmpty() && remittance.length() < MAX_DESCRIPTION_PARTS_LENGTH) {
+                        if (!remittance.isEmpty()) {
+                            remittance.append(' ');
+                        }
+                        remittance.append(value);
+                    }
+                }
+                default -> { }
+            }
+        }
+
+        boolean isBooked() {
+            return status == null || "BOOK".equalsIgnoreCase(status);
+        }
+
+        StatementLine toLine() {
+            if (bookingDate == null || bookingDate.length() < 10) {
+                throw new IllegalArgumentException("Missing or invalid BookgDt");
+            }
+            BigDecimal value = StatementValues.parseAmount(amount);
+            if ("DBIT".equalsIgnoreCase(direction)) {
+                value = value.negate();
+            } else if (!"CRDT".equalsIgnoreCase(direction)) {
+                throw new IllegalArgumentException("Missing or invalid CdtDbtInd");
+            }
+            String description = !remittance.isEmpty() ? remittance.toString() : additionalInfo;
+            return new StatementLine(
+                LocalDate.parse(bookingDate.substring(0, 10)),
+                value,
+                StatementValues.emptyToNull(currency),
+                StatementValues.emptyToNull(description),
+                StatementValues.emptyToNull(reference)
+            );
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.cashly.cashly_api.imports.infrastructure.parsers;
+
+import com.cashly.cashly_api.imports.application.ports.StatementParser;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV statements with a header row naming at least {@code date}, {@code amount} and
+ * {@code description} columns; {@code currency} and {@code reference} are optional.
+ * Dates are ISO-8601, amounts are signed, and the delimiter is {@code ,} or {@code ;}
+ * as detected from the header.
+ */
+@Component
+public class CsvStatementParser implements StatementParser {
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.CSV;
+    }
+
+    @Override
+    public void parse(InputStream content, LineHandler handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null || headerLine.isBlank()) {
+            throw new IllegalArgumentException("Statement is empty");
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+
+        char delimiter = headerLine.indexOf(';') >= 0 && headerLine.indexOf(',') < 0 ? ';' : ',';
+        Columns columns = Columns.from(new RecordReader(new StringReader(headerLine), delimiter).next());
+
+        RecordReader records = new RecordReader(reader, delimiter);
+        long recordNumber = 1;
+        List<String> record;
+        while ((record = records.next()) != null) {
+            recordNumber++;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                handler.accept(columns.toLine(record));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                handler.reject(recordNumber, e.getMessage());
+            }
+        }
+    }
+
+    private record Columns(int date, int amount, int description, int currency, int reference) {
+
+        static Columns from(List<String> header) {
+            int date = -1, amount = -1, description = -1, currency = -1, reference = -1;
+            for (int i = 0; i < header.size(); i++) {
+                switch (header.get(i).trim().toLowerCase(Locale.ROOT).replace(" ", "_")) {
+                    case "date", "booking_date", "bookingdate", "posted" -> date = i;
+                    case "amount" -> amount = i;
+                    case "description", "memo", "payee" -> description = description < 0 ? i : description;
+                    case "currency" -> currency = i;
+                    case "reference", "id", "transaction_id" -> reference = i;
+                    default -> { }
+                }
+            }
+            if (date < 0 || amount < 0 || description < 0) {
+                throw new IllegalArgumentException("CSV header must contain date, amount and description columns");
+            }
+            return new Columns(date, amount, description, currency, reference);
+        }
+
+        StatementLine toLine(List<String> record) {
+            return new StatementLine(
+                LocalDate.parse(field(record, date).trim()),
+                StatementValues.parseAmount(field(record, amount)),
+                StatementValues.emptyToNull(field(record, currency)),
+                StatementValues.emptyToNull(field(record, description)),
+                StatementValues.emptyToNull(field(record, reference))
+            );
+        }
+
+        private static String field(List<String> record, int index) {
+            if (index < 0) {
+                return null;
+            }
+            if (index >= record.size()) {
+                throw new IllegalArgumentException("Record has " + record.size() + " fields, expected at least " + (index + 1));
+            }
+            return record.get(index);
+        }
+    }
+
+    /**
+     * RFC 4180 record reader: quoted fields may contain delimiters, doubled quotes and line breaks.
+     */
+    private static final class RecordReader {
+
+        private final Reader reader;
+        private final char delimiter;
+        private final StringBuilder field = new StringBuilder();
+
+        RecordReader(Reader reader, char delimiter) {
+            this.reader = reader;
+            this.delimiter = delimiter;
+        }
+
+        List<String> next() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> record = new ArrayList<>();
+            field.setLength(0);
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = following;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == -1 || c == '\n') {
+                    record.add(field.toString());
+                    return record;
+                } else if (c == '\r') {
+                    // CRLF: the following \n ends the record
+                } else if (c == delimiter) {
+                    record.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
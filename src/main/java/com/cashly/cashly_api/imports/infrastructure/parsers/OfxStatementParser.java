@@ -0,0 +1,174 @@
+package com.cashly.cashly_api.imports.infrastructure.parsers;
+
+import com.cashly.cashly_api.imports.application.ports.StatementParser;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * OFX bank statements, both the SGML 1.x dialect (leaf elements without end tags) and
+ * XML 2.x. The document is scanned tag by tag; each {@code <STMTTRN>} aggregate becomes
+ * one line, using {@code <FITID>} as the bank reference.
+ */
+@Component
+public class OfxStatementParser implements StatementParser {
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.OFX;
+    }
+
+    @Override
+    public void parse(InputStream content, LineHandler handler) throws IOException {
+        TagScanner scanner = new TagScanner(new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8)));
+        String statementCurrency = null;
+        Entry entry = null;
+        long entryNumber = 0;
+        boolean sawOfx = false;
+
+        String tag;
+        while ((tag = scanner.nextTag()) != null) {
+            switch (tag) {
+                case "OFX" -> sawOfx = true;
+                case "CURDEF" -> statementCurrency = StatementValues.emptyToNull(scanner.text());
+                case "STMTTRN" -> entry = new Entry();
+                case "/STMTTRN" -> {
+                    if (entry != null) {
+                        entryNumber++;
+                        try {
+                            handler.accept(entry.toLine(statementCurrency));
+                        } catch (IllegalArgumentException | DateTimeParseException e) {
+                            handler.reject(entryNumber, e.getMessage());
+                        }
+                        entry = null;
+                    }
+                }
+                default -> {
+                    if (entry != null) {
+                        entry.set(tag, scanner.text());
+                    }
+                }
+            }
+        }
+
+        if (!sawOfx) {
+            throw new IllegalArgumentException("Statement is not an OFX document");
+        }
+    }
+
+    private static final class Entry {
+        private String posted;
+        private String amount;
+        private String name;
+        private String memo;
+        private String fitId;
+        private String currency;
+
+        void set(String tag, String value) {
+            switch (tag) {
+                case "DTPOSTED" -> posted = value;
+                case "TRNAMT" -> amount = value;
+                case "NAME" -> name = value;
+                case "MEMO" -> memo = value;
+                case "FITID" -> fitId = value;
+                case "CURSYM" -> currency = value;
+                default -> { }
+            }
+        }
+
+        StatementLine toLine(String statementCurrency) {
+            if (posted == null || posted.length() < 8) {
+                throw new IllegalArgumentException("Missing or invalid DTPOSTED");
+            }
+            String description = StatementValues.emptyToNull(name) != null ? name : memo;
+            return new StatementLine(
+                LocalDate.parse(posted.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE),
+                StatementValues.parseAmount(amount),
+                StatementValues.emptyToNull(currency) != null ? currency.trim() : statementCurrency,
+                StatementValues.emptyToNull(description),
+                StatementValues.emptyToNull(fitId)
+            );
+        }
+    }
+
+    /**
+     * Yields upper-cased tag names ({@code /NAME} for end tags) and the character data that
+     * follows the most recent start tag. Processing instructions and declarations are skipped.
+     */
+    private static final class TagScanner {
+
+        private final Reader reader;
+        private final StringBuilder buffer = new StringBuilder();
+        private String text = "";
+        private int pending = -1;
+
+        TagScanner(Reader reader) {
+            this.reader = reader;
+        }
+
+        String nextTag() throws IOException {
+            int c = pending >= 0 ? pending : reader.read();
+            pending = -1;
+            while (c != -1 && c != '<') {
+                c = reader.read();
+            }
+            if (c == -1) {
+                return null;
+            }
+
+            buffer.setLength(0);
+            while ((c = reader.read()) != -1 && c != '>') {
+                buffer.append((char) c);
+            }
+            String tag = buffer.toString().trim();
+            if (tag.startsWith("?") || tag.startsWith("!")) {
+                return nextTag();
+            }
+            int attributes = indexOfWhitespace(tag);
+            if (attributes > 0) {
+                tag = tag.substring(0, attributes);
+            }
+
+            buffer.setLength(0);
+            while ((c = reader.read()) != -1 && c != '<') {
+                buffer.append((char) c);
+            }
+            pending = c;
+            text = unescape(buffer.toString().trim());
+
+            return tag.toUpperCase(Locale.ROOT);
+        }
+
+        String text() {
+            return text;
+        }
+
+        private static int indexOfWhitespace(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (Character.isWhitespace(value.charAt(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static String unescape(String value) {
+            if (value.indexOf('&') < 0) {
+                return value;
+            }
+            return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&nbsp;", " ").replace("&amp;", "&");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.cashly.cashly_api.imports.infrastructure.parsers;
+
+import java.math.BigDecimal;
+
+/**
+ * Lenient number parsing shared by the statement parsers. Banks write amounts with either
+ * a decimal point or a decimal comma, sometimes with grouping separators.
+ */
+final class StatementValues {
+
+    private StatementValues() {
+    }
+
+    static BigDecimal parseAmount(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalArgumentException("Amount is missing");
+        }
+
+        String value = raw.trim().replace(" ", "").replace("\u00A0", "");
+        int lastComma = value.lastIndexOf(',');
+        int lastPoint = value.lastIndexOf('.');
+        if (lastComma >= 0 && lastPoint >= 0) {
+            value = lastComma > lastPoint
+                ? value.replace(".", "").replace(',', '.')
+                : value.replace(",", "");
+        } else if (lastComma >= 0) {
+            value = value.replace(',', '.');
+        }
+
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + raw);
+        }
+    }
+
+    static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,66 @@
+package com.cashly.cashly_api.imports.infrastructure.persistence;
+
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "import_fingerprints")
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class ImportFingerprintEntity implements Persistable<String> {
+
+    public static final int FINGERPRINT_LENGTH = 64;
+
+    @Id
+    @Column(name = "fingerprint", length = FINGERPRINT_LENGTH, nullable = false, columnDefinition = "CHAR(64)")
+    @EqualsAndHashCode.Include
+    private String fingerprint;
+
+    @Column(name = "import_job_id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
+    private String importJobId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
+    public ImportFingerprintEntity(String fingerprint, String importJobId, LocalDateTime createdAt) {
+        this.fingerprint = fingerprint;
+        this.importJobId = importJobId;
+        this.createdAt = createdAt;
+        this.newEntity = true;
+    }
+
+    @Override
+    public String getId() {
+        return fingerprint;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,132 @@
+package com.cashly.cashly_api.imports.infrastructure.persistence;
+
+import com.cashly.cashly_api.imports.domain.entities.ImportJob;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobStatus;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "import_jobs", indexes = {
+    @Index(name = "idx_import_jobs_user_created", columnList = "user_id, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class ImportJobEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Type(UuidBinaryType.class)
+    @EqualsAndHashCode.Include
+    private String id;
+
+    @Column(name = "user_id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
+    private String userId;
+
+    @Column(name = "account_id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
+    private String accountId;
+
+    @Column(name = "format", length = 10, nullable = false)
+    private String format;
+
+    @Column(name = "status", length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "lines_read", nullable = false)
+    private long linesRead;
+
+    @Column(name = "imported", nullable = false)
+    private long imported;
+
+    @Column(name = "duplicates", nullable = false)
+    private long duplicates;
+
+    @Column(name = "rejected", nullable = false)
+    private long rejected;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
+    public static ImportJobEntity fromDomain(ImportJob job) {
+        if (job == null) {
+            throw new IllegalArgumentException("Import job cannot be null");
+        }
+
+        ImportJobEntity entity = new ImportJobEntity();
+        entity.id = job.getId().getValue().toString();
+        entity.userId = job.getUserId();
+        entity.accountId = job.getAccountId();
+        entity.format = job.getFormat().name();
+        entity.status = job.getStatus().name();
+        entity.linesRead = job.getLinesRead();
+        entity.imported = job.getImported();
+        entity.duplicates = job.getDuplicates();
+        entity.rejected = job.getRejected();
+        entity.errorMessage = job.getErrorMessage();
+        entity.createdAt = job.getCreatedAt();
+        entity.updatedAt = job.getUpdatedAt();
+        entity.newEntity = true;
+
+        return entity;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.newEntity = false;
+    }
+
+    public ImportJob toDomain() {
+        return ImportJob.rehydrate(
+            new ImportJobId(UUID.fromString(this.id)),
+            this.userId,
+            this.accountId,
+            StatementFormat.fromString(this.format),
+            ImportJobStatus.fromString(this.status),
+            this.linesRead,
+            this.imported,
+            this.duplicates,
+            this.rejected,
+            this.errorMessage,
+            this.createdAt,
+            this.updatedAt
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.cashly.cashly_api.imports.infrastructure.persistence;
+
+import com.cashly.cashly_api.imports.application.ports.ImportFingerprintRepository;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+import com.cashly.cashly_api.infrastructure.persistence.BatchInserter;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+@Repository
+public class JpaImportFingerprintRepository implements ImportFingerprintRepository {
+
+    private final SpringDataImportFingerprintRepository springDataRepository;
+    private final BatchInserter batchInserter;
+
+    public JpaImportFingerprintRepository(SpringDataImportFingerprintRepository springDataRepository,
+                                          BatchInserter batchInserter) {
+        this.springDataRepository = springDataRepository;
+        this.batchInserter = batchInserter;
+    }
+
+    @Override
+    public Set<String> findExisting(Collection<String> fingerprints) {
+        if (fingerprints == null) {
+            throw new IllegalArgumentException("Fingerprints cannot be null");
+        }
+        if (fingerprints.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(springDataRepository.findExistingFingerprints(fingerprints));
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(Collection<String> fingerprints, ImportJobId importJobId) {
+        if (fingerprints == null) {
+            throw new IllegalArgumentException("Fingerprints cannot be null");
+        }
+        if (importJobId == null) {
+            throw new IllegalArgumentException("Import job ID cannot be null");
+        }
+
+        String jobId = importJobId.getValue().toString();
+        LocalDateTime now = LocalDateTime.now();
+        batchInserter.insertAll(fingerprints.stream()
+            .map(fingerprint -> new ImportFingerprintEntity(fingerprint, jobId, now))
+            .toList());
+    }
+}
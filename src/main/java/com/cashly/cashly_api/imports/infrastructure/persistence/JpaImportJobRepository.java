@@ -0,0 +1,61 @@
+package com.cashly.cashly_api.imports.infrastructure.persistence;
+
+import com.cashly.cashly_api.imports.application.ports.ImportJobRepository;
+import com.cashly.cashly_api.imports.domain.entities.ImportJob;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public class JpaImportJobRepository implements ImportJobRepository {
+
+    private final SpringDataImportJobRepository springDataRepository;
+
+    public JpaImportJobRepository(SpringDataImportJobRepository springDataRepository) {
+        this.springDataRepository = springDataRepository;
+    }
+
+    @Override
+    public ImportJob save(ImportJob job) {
+        if (job == null) {
+            throw new IllegalArgumentException("Import job cannot be null");
+        }
+
+        return springDataRepository.save(ImportJobEntity.fromDomain(job)).toDomain();
+    }
+
+    @Override
+    @Transactional
+    public ImportJob update(ImportJob job) {
+        if (job == null) {
+            throw new IllegalArgumentException("Import job cannot be null");
+        }
+
+        int updated = springDataRepository.updateProgress(
+            job.getId().getValue().toString(),
+            job.getStatus().name(),
+            job.getLinesRead(),
+            job.getImported(),
+            job.getDuplicates(),
+            job.getRejected(),
+            job.getErrorMessage(),
+            job.getUpdatedAt()
+        );
+        if (updated == 0) {
+            throw new IllegalStateException("Import job not found: " + job.getId().getValue());
+        }
+
+        return job;
+    }
+
+    @Override
+    public Optional<ImportJob> findById(ImportJobId id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Import job ID cannot be null");
+        }
+
+        return springDataRepository.findById(id.getValue().toString()).map(ImportJobEntity::toDomain);
+    }
+}
@@ -0,0 +1,16 @@
+package com.cashly.cashly_api.imports.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SpringDataImportFingerprintRepository extends JpaRepository<ImportFingerprintEntity, String> {
+
+    @Query("SELECT f.fingerprint FROM ImportFingerprintEntity f WHERE f.fingerprint IN :fingerprints")
+    List<String> findExistingFingerprints(@Param("fingerprints") Collection<String> fingerprints);
+}
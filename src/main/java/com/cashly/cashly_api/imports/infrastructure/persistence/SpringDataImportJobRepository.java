@@ -0,0 +1,28 @@
+package com.cashly.cashly_api.imports.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SpringDataImportJobRepository extends JpaRepository<ImportJobEntity, String> {
+
+    @Modifying
+    @Query("UPDATE ImportJobEntity j SET j.status = :status, j.linesRead = :linesRead, j.imported = :imported, " +
+           "j.duplicates = :duplicates, j.rejected = :rejected, j.errorMessage = :errorMessage, " +
+           "j.updatedAt = :updatedAt WHERE j.id = :id")
+    int updateProgress(
+        @Param("id") String id,
+        @Param("status") String status,
+        @Param("linesRead") long linesRead,
+        @Param("imported") long imported,
+        @Param("duplicates") long duplicates,
+        @Param("rejected") long rejected,
+        @Param("errorMessage") String errorMessage,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+}
@@ -0,0 +1,46 @@
+package com.cashly.cashly_api.imports.infrastructure.web;
+
+import com.cashly.cashly_api.imports.application.dto.ImportJobResponse;
+import com.cashly.cashly_api.imports.application.usecases.GetImportJobUseCase;
+import com.cashly.cashly_api.imports.application.usecases.StartStatementImportUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/imports")
+public class ImportController {
+
+    private final StartStatementImportUseCase startStatementImportUseCase;
+    private final GetImportJobUseCase getImportJobUseCase;
+
+    public ImportController(StartStatementImportUseCase startStatementImportUseCase,
+                            GetImportJobUseCase getImportJobUseCase) {
+        this.startStatementImportUseCase = startStatementImportUseCase;
+        this.getImportJobUseCase = getImportJobUseCase;
+    }
+
+    @PostMapping
+    public ResponseEntity<ImportJobResponse> startImport(@RequestParam String userId,
+                                                         @RequestParam String accountId,
+                                                         @RequestParam String format,
+                                                         @RequestParam("file") MultipartFile file) throws IOException {
+        ImportJobResponse response;
+        try (InputStream content = file.getInputStream()) {
+            response = startStatementImportUseCase.execute(userId, accountId, format, content);
+        }
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/imports/" + response.id()))
+            .body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable String id) {
+        ImportJobResponse response = getImportJobUseCase.execute(id);
+        return ResponseEntity.ok(response);
+    }
+}
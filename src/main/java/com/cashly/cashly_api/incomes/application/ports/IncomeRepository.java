@@ -1,9 +1,13 @@
 package com.cashly.cashly_api.incomes.application.ports;
 
+import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.Amount;
 import com.cashly.cashly_api.incomes.domain.valueobjects.Category;
 import com.cashly.cashly_api.incomes.domain.valueobjects.IncomeId;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,12 +23,26 @@ import java.util.Optional;
 public interface IncomeRepository {
     
     /**
-     * Saves an Income entity.
+     * Saves a new Income entity.
      * @param income the income to save
      * @return the saved income
      */
     Income save(Income income);
     
+    /**
+     * Saves new Income entities as batched inserts in a single transaction.
+     * @param incomes the incomes to save
+     * @return the saved incomes, in the given order
+     */
+    List<Income> saveAll(List<Income> incomes);
+    
+    /**
+     * Updates the mutable fields of an existing Income entity.
+     * @param income the income to update
+     * @return the updated income
+     */
+    Income update(Income income);
+    
     /**
      * Finds an Income by its ID.
      * @param id the income ID
@@ -33,11 +51,29 @@ public interface IncomeRepository {
     Optional<Income> findById(IncomeId id);
     
     /**
-     * Finds all incomes for a specific user.
+     * Finds an Income and write-locks its row until the surrounding transaction ends, so a
+     * concurrent update or delete of the same income waits and then sees this one's outcome.
+     * @param id the income ID
+     * @return an Optional containing the income if found, empty otherwise
+     */
+    Optional<Income> findByIdForUpdate(IncomeId id);
+    
+    /**
+     * Finds one page of a user's incomes, newest first by creation time and then by ID.
      * @param userId the user ID
-     * @return a list of incomes for the user
+     * @param page the cursor to continue after and the page size
+     * @return the page of incomes and the cursor of the next page, if any
      */
-    List<Income> findByUserId(String userId);
+    CursorPage<Income> findByUserId(String userId, PageRequest page);
+    
+    /**
+     * Reads one page of a user's incomes, in {@link #findByUserId} order, straight into
+     * response DTOs without loading managed entities.
+     * @param userId the user ID
+     * @param page the cursor to continue after and the page size
+     * @return the page of income responses and the cursor of the next page, if any
+     */
+    CursorPage<IncomeResponse> findResponsesByUserId(String userId, PageRequest page);
     
     /**
      * Finds all incomes for a user within a date range.
@@ -100,4 +136,14 @@ public interface IncomeRepository {
      * @return a map of categories to their percentage of total income
      */
     Map<Category, Double> calculateCategoryPercentages(String userId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Calculates income totals and counts per day for a user within a date range.
+     * Uses database aggregation for optimal performance.
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return one entry per day with incomes, in no particular order
+     */
+    List<PeriodTotal> calculateDailyTotals(String userId, LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
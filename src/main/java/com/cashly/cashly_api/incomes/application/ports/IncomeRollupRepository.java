@@ -0,0 +1,88 @@
+package com.cashly.cashly_api.incomes.application.ports;
+
+import com.cashly.cashly_api.incomes.domain.entities.Income;
+import com.cashly.cashly_api.incomes.domain.valueobjects.Amount;
+import com.cashly.cashly_api.incomes.domain.valueobjects.Category;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Port for the per-user, per-month, per-category income totals, keyed by each income's business date.
+ * Writers apply their changes in the same transaction as the income rows they touch.
+ */
+public interface IncomeRollupRepository {
+
+    /**
+     * Counts a new income into the rollup of its month and category.
+     * @param income the income that was saved
+     */
+    void add(Income income);
+
+    /**
+     * Counts new incomes into their rollups, one write per distinct month and category.
+     * @param incomes the incomes that were saved
+     */
+    void addAll(List<Income> incomes);
+
+    /**
+     * Takes an income back out of the rollup of its month and category.
+     * @param income the income as it was stored before it was deleted or changed
+     */
+    void remove(Income income);
+
+    /**
+     * Sums a user's incomes over whole months.
+     * @param userId the user ID
+     * @param from the first month (inclusive)
+     * @param to the last month (inclusive)
+     * @return the total income amount
+     */
+    Amount calculateTotal(String userId, YearMonth from, YearMonth to);
+
+    /**
+     * Sums a user's incomes per month in one read.
+     * @param userId the user ID
+     * @param from the first month (inclusive)
+     * @param to the last month (inclusive)
+     * @return a map of months to their total income amounts; months without incomes are absent
+     */
+    Map<YearMonth, Amount> calculateMonthlyTotals(String userId, YearMonth from, YearMonth to);
+
+    /**
+     * Sums a user's incomes per category in one read, taking whole months from the rollups and
+     * partial months at either end of the period from the incomes themselves.
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return a map of categories to their total income amounts
+     */
+    Map<Category, Amount> calculateByCategory(String userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Sums a user's incomes and counts them per month in one read, taking whole months from the
+     * rollups and partial months at either end of the period from the incomes themselves.
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return one entry per month with incomes, keyed by the first day of the month, in no particular order
+     */
+    List<PeriodTotal> calculateMonthlySeries(String userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Lists users with incomes or rollups, in ID order, for the repair job.
+     * @param afterUserId the last user ID already returned, or null to start from the beginning
+     * @param limit the maximum number of user IDs
+     * @return the next user IDs
+     */
+    List<String> findUserIds(String afterUserId, int limit);
+
+    /**
+     * Recomputes a user's rollups from their incomes.
+     * @param userId the user ID
+     */
+    void rebuild(String userId);
+}
@@ -3,11 +3,17 @@ package com.cashly.cashly_api.incomes.application.usecases;
 import com.cashly.cashly_api.incomes.application.dto.CreateIncomeRequest;
 import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse.ItemResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Use case for creating a new Income.
@@ -17,10 +23,14 @@ import java.time.LocalDate;
 @Service
 public class CreateIncomeUseCase {
     
+    static final int MAX_BATCH_SIZE = 1000;
+    
     private final IncomeRepository incomeRepository;
+    private final IncomeRollupRepository rollupRepository;
     
-    public CreateIncomeUseCase(IncomeRepository incomeRepository) {
+    public CreateIncomeUseCase(IncomeRepository incomeRepository, IncomeRollupRepository rollupRepository) {
         this.incomeRepository = incomeRepository;
+        this.rollupRepository = rollupRepository;
     }
     
     /**
@@ -30,7 +40,51 @@ public class CreateIncomeUseCase {
      * @return the created income as an IncomeResponse
      * @throws IllegalArgumentException if any validation fails
      */
+    @Transactional
     public IncomeResponse execute(CreateIncomeRequest request) {
+        Income income = toIncome(request);
+        
+        // Save through repository port
+        Income savedIncome = incomeRepository.save(income);
+        rollupRepository.add(savedIncome);
+        
+        // Convert to response DTO
+        return mapToResponse(savedIncome);
+    }
+    
+    /**
+     * Creates a batch of Incomes. Every request is validated first; the valid ones are
+     * saved together in one batched write and invalid ones are reported as rejected.
+     * 
+     * @param requests the create income requests, at most {@value #MAX_BATCH_SIZE}
+     * @return the outcome of each request, in request order
+     * @throws IllegalArgumentException if the batch is null, empty or too large
+     */
+    @Transactional
+    public BulkCreateResponse<IncomeResponse> executeAll(List<CreateIncomeRequest> requests) {
+        validateBatch(requests);
+        
+        List<ItemResult<IncomeResponse>> items = new ArrayList<>(requests.size());
+        List<Income> incomes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                Income income = toIncome(requests.get(i));
+                incomes.add(income);
+                items.add(ItemResult.created(i, mapToResponse(income)));
+            } catch (IllegalArgumentException e) {
+                items.add(ItemResult.rejected(i, e.getMessage()));
+            }
+        }
+        
+        if (!incomes.isEmpty()) {
+            incomeRepository.saveAll(incomes);
+            rollupRepository.addAll(incomes);
+        }
+        
+        return BulkCreateResponse.of(items);
+    }
+    
+    private Income toIncome(CreateIncomeRequest request) {
         validateRequest(request);
         
         // Create domain value objects (this will validate business rules)
@@ -41,13 +95,16 @@ public class CreateIncomeUseCase {
         LocalDate date = LocalDate.now();
         
         // Create domain entity (this will validate business rules)
-        Income income = new Income(id, amount, description, category, date, request.getUserId());
-        
-        // Save through repository port
-        Income savedIncome = incomeRepository.save(income);
-        
-        // Convert to response DTO
-        return mapToResponse(savedIncome);
+        return new Income(id, amount, description, category, date, request.getUserId());
+    }
+    
+    private void validateBatch(List<CreateIncomeRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Create income requests cannot be null or empty");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot create more than " + MAX_BATCH_SIZE + " incomes at once");
+        }
     }
     
     private void validateRequest(CreateIncomeRequest request) {
@@ -1,8 +1,11 @@
 package com.cashly.cashly_api.incomes.application.usecases;
 
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
+import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.IncomeId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -15,9 +18,11 @@ import java.util.UUID;
 public class DeleteIncomeUseCase {
     
     private final IncomeRepository incomeRepository;
+    private final IncomeRollupRepository rollupRepository;
     
-    public DeleteIncomeUseCase(IncomeRepository incomeRepository) {
+    public DeleteIncomeUseCase(IncomeRepository incomeRepository, IncomeRollupRepository rollupRepository) {
         this.incomeRepository = incomeRepository;
+        this.rollupRepository = rollupRepository;
     }
     
     /**
@@ -27,16 +32,19 @@ public class DeleteIncomeUseCase {
      * @throws IllegalArgumentException if the incomeIdString is null or invalid UUID
      * @throws RuntimeException if the income is not found
      */
+    @Transactional
     public void execute(String incomeIdString) {
         validateIncomeId(incomeIdString);
         
         IncomeId incomeId = parseIncomeId(incomeIdString);
         
-        // Verify income exists before deleting
-        incomeRepository.findById(incomeId)
+        // Verify income exists before deleting; locked so a concurrent delete waits and then
+        // finds nothing, instead of removing the income from its monthly rollup a second time
+        Income income = incomeRepository.findByIdForUpdate(incomeId)
                 .orElseThrow(() -> new RuntimeException("Income not found with ID: " + incomeIdString));
         
         incomeRepository.deleteById(incomeId);
+        rollupRepository.remove(income);
     }
     
     private void validateIncomeId(String incomeIdString) {
@@ -5,6 +5,7 @@ import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.IncomeId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -14,6 +15,7 @@ import java.util.UUID;
  * Follows Clean Architecture principles by using the repository port interface.
  */
 @Service
+@Transactional(readOnly = true)
 public class GetIncomeByIdUseCase {
     
     private final IncomeRepository incomeRepository;
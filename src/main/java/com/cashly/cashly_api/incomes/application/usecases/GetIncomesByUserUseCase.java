@@ -2,18 +2,19 @@ package com.cashly.cashly_api.incomes.application.usecases;
 
 import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
-import com.cashly.cashly_api.incomes.domain.entities.Income;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
+import com.cashly.cashly_api.shared.utils.Uuids;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Use case for retrieving all incomes for a specific user.
- * Orchestrates the retrieval of Income entities and converts them to response DTOs.
+ * Use case for retrieving a user's incomes one page at a time.
+ * Pages are read straight into response DTOs, skipping entity and domain mapping.
  * Follows Clean Architecture principles by using the repository port interface.
  */
 @Service
+@Transactional(readOnly = true)
 public class GetIncomesByUserUseCase {
     
     private final IncomeRepository incomeRepository;
@@ -23,20 +24,17 @@ public class GetIncomesByUserUseCase {
     }
     
     /**
-     * Retrieves all incomes for a specific user.
+     * Retrieves one page of a user's incomes, newest first.
      * 
      * @param userId the ID of the user whose incomes are to be retrieved
-     * @return a list of IncomeResponse objects representing the user's incomes
+     * @param page the cursor to continue after and the page size
+     * @return the page of IncomeResponse objects and the cursor of the next page, if any
      * @throws IllegalArgumentException if the userId is null, empty, or blank
      */
-    public List<IncomeResponse> execute(String userId) {
+    public CursorPage<IncomeResponse> execute(String userId, PageRequest page) {
         validateUserId(userId);
         
-        List<Income> incomes = incomeRepository.findByUserId(userId);
-        
-        return incomes.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return incomeRepository.findResponsesByUserId(userId, page);
     }
     
     private void validateUserId(String userId) {
@@ -46,17 +44,6 @@ public class GetIncomesByUserUseCase {
         if (userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be empty or blank");
         }
+        Uuids.requireValid(userId, "user ID");
     }
-    
-    private IncomeResponse mapToResponse(Income income) {
-        return new IncomeResponse(
-            income.getId().getValue().toString(),
-            income.getAmount().getValue(),
-            income.getDescription().getValue(),
-            income.getCategory().getValue(),
-            income.getUserId(),
-            income.getCreatedAt(),
-            income.getUpdatedAt()
-        );
-    }
-}
\ No newline at end of file
+}
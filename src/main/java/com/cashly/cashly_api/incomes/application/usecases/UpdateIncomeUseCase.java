@@ -3,11 +3,13 @@ package com.cashly.cashly_api.incomes.application.usecases;
 import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.application.dto.UpdateIncomeRequest;
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.Category;
 import com.cashly.cashly_api.incomes.domain.valueobjects.Description;
 import com.cashly.cashly_api.incomes.domain.valueobjects.IncomeId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -20,9 +22,11 @@ import java.util.UUID;
 public class UpdateIncomeUseCase {
     
     private final IncomeRepository incomeRepository;
+    private final IncomeRollupRepository rollupRepository;
     
-    public UpdateIncomeUseCase(IncomeRepository incomeRepository) {
+    public UpdateIncomeUseCase(IncomeRepository incomeRepository, IncomeRollupRepository rollupRepository) {
         this.incomeRepository = incomeRepository;
+        this.rollupRepository = rollupRepository;
     }
     
     /**
@@ -34,14 +38,18 @@ public class UpdateIncomeUseCase {
      * @throws IllegalArgumentException if any validation fails
      * @throws RuntimeException if the income is not found
      */
+    @Transactional
     public IncomeResponse execute(String incomeIdString, UpdateIncomeRequest request) {
         validateInput(incomeIdString, request);
         
         IncomeId incomeId = parseIncomeId(incomeIdString);
         
-        Income income = incomeRepository.findById(incomeId)
+        // Locked so the snapshot below is still current when the rollup delta is applied
+        Income income = incomeRepository.findByIdForUpdate(incomeId)
                 .orElseThrow(() -> new RuntimeException("Income not found with ID: " + incomeIdString));
         
+        Income previous = snapshot(income);
+        
         // Update fields if they are provided (not null)
         if (request.getDescription() != null && !request.getDescription().trim().isEmpty()) {
             Description newDescription = new Description(request.getDescription());
@@ -53,7 +61,12 @@ public class UpdateIncomeUseCase {
             income.updateCategory(newCategory);
         }
         
-        Income updatedIncome = incomeRepository.save(income);
+        Income updatedIncome = incomeRepository.update(income);
+        if (!previous.getAmount().equals(updatedIncome.getAmount())
+                || !previous.getCategory().equals(updatedIncome.getCategory())) {
+            rollupRepository.remove(previous);
+            rollupRepository.add(updatedIncome);
+        }
         
         return mapToResponse(updatedIncome);
     }
@@ -76,6 +89,19 @@ public class UpdateIncomeUseCase {
         }
     }
     
+    private Income snapshot(Income income) {
+        return Income.rehydrate(
+            income.getId(),
+            income.getAmount(),
+            income.getDescription(),
+            income.getCategory(),
+            income.getDate(),
+            income.getUserId(),
+            income.getCreatedAt(),
+            income.getUpdatedAt()
+        );
+    }
+    
     private IncomeResponse mapToResponse(Income income) {
         return new IncomeResponse(
             income.getId().getValue().toString(),
@@ -1,6 +1,7 @@
 package com.cashly.cashly_api.incomes.domain.entities;
 
 import com.cashly.cashly_api.incomes.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.utils.Uuids;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,6 +21,9 @@ public class Income {
     public Income(IncomeId id, Amount amount, Description description, Category category, 
                   LocalDate date, String userId) {
         validateParameters(id, amount, description, category, date, userId);
+        if (date.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Income date cannot be in the future");
+        }
         
         this.id = id;
         this.amount = amount;
@@ -31,6 +35,27 @@ public class Income {
         this.updatedAt = LocalDateTime.now();
     }
 
+    private Income(IncomeId id, Amount amount, Description description,
+                   Category category, LocalDate date, String userId,
+                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        validateParameters(id, amount, description, category, date, userId);
+
+        this.id = id;
+        this.amount = amount;
+        this.description = description;
+        this.category = category;
+        this.date = date;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static Income rehydrate(IncomeId id, Amount amount, Description description,
+                                   Category category, LocalDate date, String userId,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Income(id, amount, description, category, date, userId, createdAt, updatedAt);
+    }
+
     private void validateParameters(IncomeId id, Amount amount, Description description, 
                                   Category category, LocalDate date, String userId) {
         if (id == null) {
@@ -54,9 +79,7 @@ public class Income {
         if (userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be empty");
         }
-        if (date.isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException("Income date cannot be in the future");
-        }
+        Uuids.requireValid(userId.trim(), "user ID");
     }
 
     public void updateAmount(Amount newAmount) {
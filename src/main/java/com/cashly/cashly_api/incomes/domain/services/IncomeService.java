@@ -4,16 +4,25 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
 
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
 import com.cashly.cashly_api.incomes.domain.valueobjects.Amount;
+import com.cashly.cashly_api.shared.analytics.AmountSeries;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import com.cashly.cashly_api.shared.analytics.SeriesGranularity;
+import com.cashly.cashly_api.shared.utils.Uuids;
 
 public class IncomeService {
 
     private final IncomeRepository incomeRepository;
+    private final IncomeRollupRepository rollupRepository;
 
-    public IncomeService(IncomeRepository incomeRepository) {
+    public IncomeService(IncomeRepository incomeRepository, IncomeRollupRepository rollupRepository) {
         this.incomeRepository = incomeRepository;
+        this.rollupRepository = rollupRepository;
     }
 
 
@@ -21,6 +30,7 @@ public class IncomeService {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be null or empty");
         }
+        Uuids.requireValid(userId, "user ID");
         if (months <= 0) {
             throw new IllegalArgumentException("Months must be positive");
         }
@@ -28,10 +38,9 @@ public class IncomeService {
             throw new IllegalArgumentException("Reference date cannot be null");
         }
 
-        LocalDate startDate = referenceDate.minusMonths(months - 1).withDayOfMonth(1);
-        LocalDate endDate = referenceDate.withDayOfMonth(referenceDate.lengthOfMonth());
+        YearMonth lastMonth = YearMonth.from(referenceDate);
 
-        Amount totalIncome = incomeRepository.calculateTotalIncomeForPeriod(userId, startDate, endDate);
+        Amount totalIncome = rollupRepository.calculateTotal(userId, lastMonth.minusMonths(months - 1), lastMonth);
         BigDecimal average = totalIncome.getValue().divide(
             BigDecimal.valueOf(months), 
             2, 
@@ -45,19 +54,17 @@ public class IncomeService {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be null or empty");
         }
+        Uuids.requireValid(userId, "user ID");
         if (currentMonth == null) {
             throw new IllegalArgumentException("Current month cannot be null");
         }
 
         YearMonth previousMonth = currentMonth.minusMonths(1);
 
-        LocalDate currentStart = currentMonth.atDay(1);
-        LocalDate currentEnd = currentMonth.atEndOfMonth();
-        LocalDate previousStart = previousMonth.atDay(1);
-        LocalDate previousEnd = previousMonth.atEndOfMonth();
-
-        Amount currentIncome = incomeRepository.calculateTotalIncomeForPeriod(userId, currentStart, currentEnd);
-        Amount previousIncome = incomeRepository.calculateTotalIncomeForPeriod(userId, previousStart, previousEnd);
+        Map<YearMonth, Amount> monthlyTotals =
+            rollupRepository.calculateMonthlyTotals(userId, previousMonth, currentMonth);
+        Amount currentIncome = monthlyTotals.getOrDefault(currentMonth, new Amount(BigDecimal.ZERO));
+        Amount previousIncome = monthlyTotals.getOrDefault(previousMonth, new Amount(BigDecimal.ZERO));
 
         BigDecimal growthPercentage = calculateGrowthPercentage(
             previousIncome.getValue(), 
@@ -72,6 +79,19 @@ public class IncomeService {
         );
     }
 
+    public AmountSeries analyzeIncomeSeries(String userId, SeriesGranularity granularity,
+                                            LocalDate startDate, LocalDate endDate) {
+        validatePeriodCalculationParams(userId, startDate, endDate);
+        AmountSeries.validateRange(granularity, startDate, endDate);
+
+        // Monthly buckets come from the rollups; days and weeks are folded from daily totals
+        List<PeriodTotal> totals = granularity == SeriesGranularity.MONTH ?
+            rollupRepository.calculateMonthlySeries(userId, startDate, endDate) :
+            incomeRepository.calculateDailyTotals(userId, startDate, endDate);
+
+        return AmountSeries.fill(granularity, startDate, endDate, totals);
+    }
+
     public boolean isSignificantIncome(Amount amount, Amount userAverageIncome, 
                                      BigDecimal significanceThreshold) {
         if (amount == null) {
@@ -94,6 +114,7 @@ public class IncomeService {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be null or empty");
         }
+        Uuids.requireValid(userId, "user ID");
         if (startDate == null) {
             throw new IllegalArgumentException("Start date cannot be null");
         }
@@ -1,5 +1,7 @@
 package com.cashly.cashly_api.incomes.domain.valueobjects;
 
+import com.cashly.cashly_api.shared.utils.UuidV7;
+
 import java.util.Objects;
 import java.util.UUID;
 
@@ -18,7 +20,7 @@ public class IncomeId {
     }
     
     public static IncomeId generate() {
-        return new IncomeId(UUID.randomUUID());
+        return new IncomeId(UuidV7.generate());
     }
     
     @Override
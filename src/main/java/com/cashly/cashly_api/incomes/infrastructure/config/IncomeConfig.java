@@ -4,13 +4,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
 import com.cashly.cashly_api.incomes.domain.services.IncomeService;
 
 @Configuration
 public class IncomeConfig {
 
     @Bean
-    public IncomeService incomeService(IncomeRepository incomeRepository) {
-        return new IncomeService(incomeRepository);
+    public IncomeService incomeService(IncomeRepository incomeRepository, IncomeRollupRepository incomeRollupRepository) {
+        return new IncomeService(incomeRepository, incomeRollupRepository);
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.cashly.cashly_api.incomes.infrastructure.persistence;
+
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
+import com.cashly.cashly_api.incomes.domain.entities.Income;
+import com.cashly.cashly_api.incomes.domain.valueobjects.Amount;
+import com.cashly.cashly_api.incomes.domain.valueobjects.Category;
+import com.cashly.cashly_api.infrastructure.persistence.MonthlyRollupStore;
+import com.cashly.cashly_api.infrastructure.persistence.MonthlyRollupStore.Delta;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class JdbcIncomeRollupRepository implements IncomeRollupRepository {
+
+    private final MonthlyRollupStore store;
+
+    public JdbcIncomeRollupRepository(DataSource dataSource) {
+        this.store = new MonthlyRollupStore(dataSource, "income_monthly_rollups", "incomes");
+    }
+
+    @Override
+    @Transactional
+    public void add(Income income) {
+        if (income == null) {
+            throw new IllegalArgumentException("Income cannot be null");
+        }
+
+        store.applyAll(List.of(delta(income, 1)));
+    }
+
+    @Override
+    @Transactional
+    public void addAll(List<Income> incomes) {
+        if (incomes == null) {
+            throw new IllegalArgumentException("Incomes cannot be null");
+        }
+
+        store.applyAll(incomes.stream().map(income -> delta(income, 1)).toList());
+    }
+
+    @Override
+    @Transactional
+    public void remove(Income income) {
+        if (income == null) {
+            throw new IllegalArgumentException("Income cannot be null");
+        }
+
+        store.applyAll(List.of(delta(income, -1)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Amount calculateTotal(String userId, YearMonth from, YearMonth to) {
+        validateMonths(userId, from, to);
+
+        return new Amount(store.total(userId, from, to));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<YearMonth, Amount> calculateMonthlyTotals(String userId, YearMonth from, YearMonth to) {
+        validateMonths(userId, from, to);
+
+        Map<YearMonth, Amount> totals = new HashMap<>();
+        store.totalsByMonth(userId, from, to).forEach((month, total) -> totals.put(month, new Amount(total)));
+        return totals;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Category, Amount> calculateByCategory(String userId, LocalDate startDate, LocalDate endDate) {
+        validateDates(userId, startDate, endDate);
+
+        Map<Category, Amount> totals = new HashMap<>();
+        for (Map.Entry<String, BigDecimal> entry : store.totalsByCategory(userId, startDate, endDate).entrySet()) {
+            try {
+                totals.put(new Category(entry.getKey()), new Amount(entry.getValue()));
+            } catch (IllegalArgumentException e) {
+                // Skip invalid categories, as the raw aggregations do
+            }
+        }
+        return totals;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PeriodTotal> calculateMonthlySeries(String userId, LocalDate startDate, LocalDate endDate) {
+        validateDates(userId, startDate, endDate);
+
+        return store.monthlySeries(userId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUserIds(String afterUserId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        return store.findUserIds(afterUserId, limit);
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+
+        store.rebuild(userId);
+    }
+
+    private static Delta delta(Income income, int sign) {
+        BigDecimal amount = income.getAmount().getValue();
+        return new Delta(
+            income.getUserId(),
+            YearMonth.from(income.getDate()),
+            income.getCategory().getValue(),
+            sign < 0 ? amount.negate() : amount,
+            sign
+        );
+    }
+
+    private static void validateDates(String userId, LocalDate startDate, LocalDate endDate) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+    }
+
+    private static void validateMonths(String userId, YearMonth from, YearMonth to) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Months cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start month cannot be after end month");
+        }
+    }
+}
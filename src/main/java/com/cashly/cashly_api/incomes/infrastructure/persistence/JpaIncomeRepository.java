@@ -1,11 +1,19 @@
 package com.cashly.cashly_api.incomes.infrastructure.persistence;
 
+import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.Amount;
 import com.cashly.cashly_api.incomes.domain.valueobjects.Category;
 import com.cashly.cashly_api.incomes.domain.valueobjects.IncomeId;
+import com.cashly.cashly_api.infrastructure.persistence.BatchInserter;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageCursor;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -24,9 +32,11 @@ import java.util.stream.Collectors;
 public class JpaIncomeRepository implements IncomeRepository {
 
     private final SpringDataIncomeRepository springDataRepository;
+    private final BatchInserter batchInserter;
 
-    public JpaIncomeRepository(SpringDataIncomeRepository springDataRepository) {
+    public JpaIncomeRepository(SpringDataIncomeRepository springDataRepository, BatchInserter batchInserter) {
         this.springDataRepository = springDataRepository;
+        this.batchInserter = batchInserter;
     }
 
     @Override
@@ -40,6 +50,34 @@ public class JpaIncomeRepository implements IncomeRepository {
         return savedEntity.toDomain();
     }
 
+    @Override
+    @Transactional
+    public List<Income> saveAll(List<Income> incomes) {
+        if (incomes == null) {
+            throw new IllegalArgumentException("Incomes cannot be null");
+        }
+
+        batchInserter.insertAll(incomes.stream().map(IncomeEntity::fromDomain).toList());
+        return incomes;
+    }
+
+    @Override
+    @Transactional
+    public Income update(Income income) {
+        if (income == null) {
+            throw new IllegalArgumentException("Income cannot be null");
+        }
+
+        IncomeEntity entity = IncomeEntity.fromDomain(income);
+        int updated = springDataRepository.updateDetails(
+                entity.getId(), entity.getAmount(), entity.getDescription(), entity.getCategory(), entity.getUpdatedAt());
+        if (updated == 0) {
+            throw new IllegalStateException("Income not found: " + entity.getId());
+        }
+
+        return income;
+    }
+
     @Override
     public Optional<Income> findById(IncomeId id) {
         if (id == null) {
@@ -51,21 +89,62 @@ public class JpaIncomeRepository implements IncomeRepository {
     }
 
     @Override
-    public List<Income> findByUserId(String userId) {
+    public Optional<Income> findByIdForUpdate(IncomeId id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Income ID cannot be null");
+        }
+
+        return springDataRepository.findByIdForUpdate(id.getValue().toString()).map(IncomeEntity::toDomain);
+    }
+
+    @Override
+    public CursorPage<Income> findByUserId(String userId, PageRequest page) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
         }
         if (userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be empty");
         }
+        if (page == null) {
+            throw new IllegalArgumentException("Page request cannot be null");
+        }
 
-        List<IncomeEntity> entities = springDataRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return entities.stream()
+        Limit limit = Limit.of(page.size() + 1);
+        List<IncomeEntity> entities = page.isFirst()
+                ? springDataRepository.findFirstPageByUserId(userId, limit)
+                : springDataRepository.findPageByUserIdAfter(
+                        userId, page.after().position(), page.after().id(), limit);
+        List<Income> incomes = entities.stream()
                 .map(IncomeEntity::toDomain)
                 .collect(Collectors.toList());
+        return CursorPage.fromLookahead(incomes, page.size(),
+                income -> new PageCursor(income.getCreatedAt(), income.getId().getValue().toString()));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<IncomeResponse> findResponsesByUserId(String userId, PageRequest page) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be empty");
+        }
+        if (page == null) {
+            throw new IllegalArgumentException("Page request cannot be null");
+        }
+
+        Limit limit = Limit.of(page.size() + 1);
+        List<IncomeResponse> responses = page.isFirst()
+                ? springDataRepository.findFirstResponsePageByUserId(userId, limit)
+                : springDataRepository.findResponsePageByUserIdAfter(
+                        userId, page.after().position(), page.after().id(), limit);
+        return CursorPage.fromLookahead(responses, page.size(),
+                response -> new PageCursor(response.getCreatedAt(), response.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Income> findByUserIdAndDateRange(String userId, LocalDateTime start, LocalDateTime end) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -85,6 +164,7 @@ public class JpaIncomeRepository implements IncomeRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Income> findByUserIdAndCategory(String userId, Category category) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -119,6 +199,7 @@ public class JpaIncomeRepository implements IncomeRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Amount calculateTotalIncomeForPeriod(String userId, LocalDate startDate, LocalDate endDate) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -133,14 +214,12 @@ public class JpaIncomeRepository implements IncomeRepository {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59, 999999999);
-        
-        BigDecimal total = springDataRepository.calculateTotalIncomeForPeriod(userId, startDateTime, endDateTime);
+        BigDecimal total = springDataRepository.calculateTotalIncomeForPeriod(userId, startDate, endDate);
         return new Amount(total != null ? total : BigDecimal.ZERO);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<Category, Amount> calculateIncomeByCategory(String userId, LocalDate startDate, LocalDate endDate) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -155,10 +234,7 @@ public class JpaIncomeRepository implements IncomeRepository {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59, 999999999);
-        
-        List<Object[]> results = springDataRepository.calculateIncomeByCategory(userId, startDateTime, endDateTime);
+        List<Object[]> results = springDataRepository.calculateIncomeByCategory(userId, startDate, endDate);
         Map<Category, Amount> incomeByCategory = new HashMap<>();
         
         for (Object[] result : results) {
@@ -178,6 +254,7 @@ public class JpaIncomeRepository implements IncomeRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<Category, Double> calculateCategoryPercentages(String userId, LocalDate startDate, LocalDate endDate) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
@@ -192,22 +269,56 @@ public class JpaIncomeRepository implements IncomeRepository {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        Map<Category, Amount> incomeByCategory = calculateIncomeByCategory(userId, startDate, endDate);
-        Amount totalIncome = calculateTotalIncomeForPeriod(userId, startDate, endDate);
+        // One grouped read: the grand total is the sum of every group, invalid categories included
+        List<Object[]> results = springDataRepository.calculateIncomeByCategory(userId, startDate, endDate);
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        for (Object[] result : results) {
+            if (result[1] != null) {
+                totalIncome = totalIncome.add((BigDecimal) result[1]);
+            }
+        }
         
         Map<Category, Double> percentages = new HashMap<>();
         
-        if (totalIncome.getValue().compareTo(BigDecimal.ZERO) == 0) {
+        if (totalIncome.compareTo(BigDecimal.ZERO) == 0) {
             return percentages; // Return empty map if no income
         }
         
-        for (Map.Entry<Category, Amount> entry : incomeByCategory.entrySet()) {
-            BigDecimal percentage = entry.getValue().getValue()
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(totalIncome.getValue(), 2, java.math.RoundingMode.HALF_UP);
-            percentages.put(entry.getKey(), percentage.doubleValue());
+        for (Object[] result : results) {
+            BigDecimal amount = (BigDecimal) result[1];
+            try {
+                Category category = new Category((String) result[0]);
+                BigDecimal percentage = (amount != null ? amount : BigDecimal.ZERO)
+                        .multiply(BigDecimal.valueOf(100))
+                        .divide(totalIncome, 2, java.math.RoundingMode.HALF_UP);
+                percentages.put(category, percentage.doubleValue());
+            } catch (IllegalArgumentException e) {
+                // Skip invalid categories - this maintains data integrity
+                continue;
+            }
         }
         
         return percentages;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PeriodTotal> calculateDailyTotals(String userId, LocalDate startDate, LocalDate endDate) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (startDate == null) {
+            throw new IllegalArgumentException("Start date cannot be null");
+        }
+        if (endDate == null) {
+            throw new IllegalArgumentException("End date cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+
+        return springDataRepository.calculateDailyTotals(userId, startDate, endDate).stream()
+            .map(row -> new PeriodTotal((LocalDate) row[0], (BigDecimal) row[1], ((Number) row[2]).longValue()))
+            .toList();
+    }
 }
\ No newline at end of file
@@ -1,13 +1,20 @@
 package com.cashly.cashly_api.incomes.infrastructure.persistence;
 
+import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA repository interface for IncomeEntity.
@@ -23,6 +30,69 @@ public interface SpringDataIncomeRepository extends JpaRepository<IncomeEntity,
      */
     List<IncomeEntity> findByUserIdOrderByCreatedAtDesc(String userId);
 
+    /**
+     * Finds an income by ID with SELECT ... FOR UPDATE, holding the row lock until commit.
+     * @param id the income ID
+     * @return the income entity if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM IncomeEntity i WHERE i.id = :id")
+    Optional<IncomeEntity> findByIdForUpdate(@Param("id") String id);
+
+    /**
+     * Finds the first keyset page of a user's incomes, newest first.
+     * @param userId the user ID
+     * @param limit the maximum number of rows
+     * @return the income entities ordered by creation date and ID descending
+     */
+    @Query("SELECT i FROM IncomeEntity i WHERE i.userId = :userId ORDER BY i.createdAt DESC, i.id DESC")
+    List<IncomeEntity> findFirstPageByUserId(@Param("userId") String userId, Limit limit);
+
+    /**
+     * Finds the keyset page of a user's incomes that follows the given creation date and ID.
+     * @param userId the user ID
+     * @param createdAt the creation date of the last income already returned
+     * @param id the ID of the last income already returned
+     * @param limit the maximum number of rows
+     * @return the income entities ordered by creation date and ID descending
+     */
+    @Query("SELECT i FROM IncomeEntity i WHERE i.userId = :userId " +
+           "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<IncomeEntity> findPageByUserIdAfter(@Param("userId") String userId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") String id,
+                                             Limit limit);
+
+    /**
+     * Same page as {@link #findFirstPageByUserId}, projected straight into response DTOs.
+     * @param userId the user ID
+     * @param limit the maximum number of rows
+     * @return the income responses ordered by creation date and ID descending
+     */
+    @Query("SELECT new com.cashly.cashly_api.incomes.application.dto.IncomeResponse(" +
+           "i.id, i.amount, i.description, i.category, i.userId, i.createdAt, i.updatedAt) " +
+           "FROM IncomeEntity i WHERE i.userId = :userId ORDER BY i.createdAt DESC, i.id DESC")
+    List<IncomeResponse> findFirstResponsePageByUserId(@Param("userId") String userId, Limit limit);
+
+    /**
+     * Same page as {@link #findPageByUserIdAfter}, projected straight into response DTOs.
+     * @param userId the user ID
+     * @param createdAt the creation date of the last income already returned
+     * @param id the ID of the last income already returned
+     * @param limit the maximum number of rows
+     * @return the income responses ordered by creation date and ID descending
+     */
+    @Query("SELECT new com.cashly.cashly_api.incomes.application.dto.IncomeResponse(" +
+           "i.id, i.amount, i.description, i.category, i.userId, i.createdAt, i.updatedAt) " +
+           "FROM IncomeEntity i WHERE i.userId = :userId " +
+           "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<IncomeResponse> findResponsePageByUserIdAfter(@Param("userId") String userId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") String id,
+                                                       Limit limit);
+
     /**
      * Finds all incomes for a user in a specific category, ordered by creation date descending.
      * @param userId the user ID
@@ -41,21 +111,47 @@ public interface SpringDataIncomeRepository extends JpaRepository<IncomeEntity,
     List<IncomeEntity> findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(String userId, 
                                                                            LocalDateTime startDate, 
                                                                            LocalDateTime endDate);
+
+    /**
+     * Updates the mutable fields of an income in a single statement.
+     * @param id the income ID
+     * @param amount the new amount
+     * @param description the new description
+     * @param category the new category
+     * @param updatedAt the new last-modified timestamp
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE IncomeEntity i SET i.amount = :amount, i.description = :description, " +
+           "i.category = :category, i.updatedAt = :updatedAt WHERE i.id = :id")
+    int updateDetails(@Param("id") String id,
+                      @Param("amount") BigDecimal amount,
+                      @Param("description") String description,
+                      @Param("category") String category,
+                      @Param("updatedAt") LocalDateTime updatedAt);
     
     // Heavy computation queries for database-optimized operations
     
     @Query("SELECT COALESCE(SUM(i.amount), 0) FROM IncomeEntity i " +
            "WHERE i.userId = :userId " +
-           "AND i.createdAt BETWEEN :startDate AND :endDate")
+           "AND i.date BETWEEN :startDate AND :endDate")
     BigDecimal calculateTotalIncomeForPeriod(@Param("userId") String userId,
-                                            @Param("startDate") LocalDateTime startDate,
-                                            @Param("endDate") LocalDateTime endDate);
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
     
     @Query("SELECT i.category, COALESCE(SUM(i.amount), 0) FROM IncomeEntity i " +
            "WHERE i.userId = :userId " +
-           "AND i.createdAt BETWEEN :startDate AND :endDate " +
+           "AND i.date BETWEEN :startDate AND :endDate " +
            "GROUP BY i.category")
     List<Object[]> calculateIncomeByCategory(@Param("userId") String userId,
-                                           @Param("startDate") LocalDateTime startDate,
-                                           @Param("endDate") LocalDateTime endDate);
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT i.date, COALESCE(SUM(i.amount), 0), COUNT(i) FROM IncomeEntity i " +
+           "WHERE i.userId = :userId " +
+           "AND i.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY i.date")
+    List<Object[]> calculateDailyTotals(@Param("userId") String userId,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
 }
\ No newline at end of file
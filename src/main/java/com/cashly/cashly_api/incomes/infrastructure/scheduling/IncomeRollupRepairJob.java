@@ -0,0 +1,55 @@
+package com.cashly.cashly_api.incomes.infrastructure.scheduling;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cashly.cashly_api.incomes.application.usecases.RebuildIncomeRollupsUseCase;
+import com.cashly.cashly_api.infrastructure.scheduling.ClusterJobLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+@ConditionalOnProperty(name = "analytics.rollup-repair.enabled", havingValue = "true", matchIfMissing = true)
+public class IncomeRollupRepairJob {
+
+    static final String LOCK_NAME = "incomes.rollup-repair";
+
+    private final RebuildIncomeRollupsUseCase rebuildIncomeRollupsUseCase;
+    private final ClusterJobLock clusterJobLock;
+    private final Duration lockAtMostFor;
+    private final int chunkSize;
+    private final Timer repairTimer;
+    private final Counter rebuiltCounter;
+
+    public IncomeRollupRepairJob(
+        RebuildIncomeRollupsUseCase rebuildIncomeRollupsUseCase,
+        ClusterJobLock clusterJobLock,
+        MeterRegistry meterRegistry,
+        @Value("${analytics.rollup-repair.lock-at-most-for:3600000}") long lockAtMostForMillis,
+        @Value("${analytics.rollup-repair.chunk-size:500}") int chunkSize
+    ) {
+        this.rebuildIncomeRollupsUseCase = rebuildIncomeRollupsUseCase;
+        this.clusterJobLock = clusterJobLock;
+        this.lockAtMostFor = Duration.ofMillis(lockAtMostForMillis);
+        this.chunkSize = chunkSize;
+        this.repairTimer = Timer.builder("incomes.rollup.repair")
+            .description("Duration of a monthly income rollup rebuild")
+            .register(meterRegistry);
+        this.rebuiltCounter = Counter.builder("incomes.rollup.repair.users")
+            .description("Users whose monthly income rollups were rebuilt")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${analytics.rollup-repair.cron:0 30 3 * * *}")
+    public void repair() {
+        clusterJobLock.runWithLock(LOCK_NAME, lockAtMostFor, () -> repairTimer.record(() ->
+            rebuiltCounter.increment(rebuildIncomeRollupsUseCase.execute(chunkSize))
+        ));
+    }
+}
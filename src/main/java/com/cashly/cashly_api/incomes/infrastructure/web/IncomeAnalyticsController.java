@@ -3,6 +3,8 @@ package com.cashly.cashly_api.incomes.infrastructure.web;
 import com.cashly.cashly_api.incomes.domain.services.IncomeService;
 import com.cashly.cashly_api.incomes.domain.services.IncomeService.IncomeGrowthAnalysis;
 import com.cashly.cashly_api.incomes.domain.valueobjects.Amount;
+import com.cashly.cashly_api.shared.analytics.AmountSeries;
+import com.cashly.cashly_api.shared.analytics.SeriesGranularity;
 import com.cashly.cashly_api.shared.utils.ControllerUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -63,4 +65,30 @@ public class IncomeAnalyticsController {
             incomeService.calculateMonthlyAverageIncome(userId, monthCount, reference)
         );
     }
+
+    @GetMapping("/series")
+    public ResponseEntity<AmountSeries> getSeries(
+            @RequestParam String userId,
+            @RequestParam(defaultValue = "MONTH") String granularity,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        
+        if (!ControllerUtils.isValidUserId(userId) || 
+            !ControllerUtils.isValidParameter(startDate) ||
+            !ControllerUtils.isValidParameter(endDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        SeriesGranularity bucket = SeriesGranularity.parse(granularity);
+        LocalDate start = ControllerUtils.parseLocalDate(startDate);
+        LocalDate end = ControllerUtils.parseLocalDate(endDate);
+        
+        if (bucket == null || start == null || end == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return ControllerUtils.executeServiceCall(() -> 
+            incomeService.analyzeIncomeSeries(userId, bucket, start, end)
+        );
+    }
 }
\ No newline at end of file
@@ -4,6 +4,9 @@ import com.cashly.cashly_api.incomes.application.dto.CreateIncomeRequest;
 import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.application.dto.UpdateIncomeRequest;
 import com.cashly.cashly_api.incomes.application.usecases.*;
+import com.cashly.cashly_api.infrastructure.web.PageRequestFactory;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,17 +22,20 @@ public class IncomeController {
     private final DeleteIncomeUseCase deleteIncomeUseCase;
     private final GetIncomeByIdUseCase getIncomeByIdUseCase;
     private final GetIncomesByUserUseCase getIncomesByUserUseCase;
+    private final PageRequestFactory pageRequestFactory;
 
     public IncomeController(CreateIncomeUseCase createIncomeUseCase,
                            UpdateIncomeUseCase updateIncomeUseCase,
                            DeleteIncomeUseCase deleteIncomeUseCase,
                            GetIncomeByIdUseCase getIncomeByIdUseCase,
-                           GetIncomesByUserUseCase getIncomesByUserUseCase) {
+                           GetIncomesByUserUseCase getIncomesByUserUseCase,
+                           PageRequestFactory pageRequestFactory) {
         this.createIncomeUseCase = createIncomeUseCase;
         this.updateIncomeUseCase = updateIncomeUseCase;
         this.deleteIncomeUseCase = deleteIncomeUseCase;
         this.getIncomeByIdUseCase = getIncomeByIdUseCase;
         this.getIncomesByUserUseCase = getIncomesByUserUseCase;
+        this.pageRequestFactory = pageRequestFactory;
     }
 
     @PostMapping
@@ -38,6 +44,13 @@ public class IncomeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResponse<IncomeResponse>> createIncomes(@RequestBody List<CreateIncomeRequest> requests) {
+        BulkCreateResponse<IncomeResponse> response = createIncomeUseCase.executeAll(requests);
+        HttpStatus status = response.allCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<IncomeResponse> updateIncome(@PathVariable String id,
                                                       @RequestBody UpdateIncomeRequest request) {
@@ -58,8 +71,11 @@ public class IncomeController {
     }
 
     @GetMapping
-    public ResponseEntity<List<IncomeResponse>> getIncomesByUser(@RequestParam String userId) {
-        List<IncomeResponse> responses = getIncomesByUserUseCase.execute(userId);
+    public ResponseEntity<CursorPage<IncomeResponse>> getIncomesByUser(@RequestParam String userId,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer size) {
+        CursorPage<IncomeResponse> responses = getIncomesByUserUseCase.execute(
+            userId, pageRequestFactory.create(cursor, size));
         return ResponseEntity.ok(responses);
     }
 }
@@ -0,0 +1,80 @@
+package com.cashly.cashly_api.infrastructure.config;
+
+import com.cashly.cashly_api.infrastructure.persistence.ReadWriteRoutingDataSource;
+import com.cashly.cashly_api.infrastructure.persistence.RecentWriters;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Replaces the single auto-configured pool with a primary and a replica pool behind a
+ * routing data source when {@code datasource.replica.enabled=true}. Both pools are
+ * registered as beans so Hikari metrics are published per pool ({@code pool=primary|replica}).
+ * Read-your-writes is keyed by the authenticated principal; background work has none and
+ * reads from the replica.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        MeterRegistry meterRegistry,
+        @Value("${datasource.routing.read-your-writes-window:5000}") long readYourWritesWindowMillis,
+        @Value("${datasource.routing.maximum-tracked-writers:100000}") long maximumTrackedWriters
+    ) throws SQLException {
+        RecentWriters recentWriters = new RecentWriters(Duration.ofMillis(readYourWritesWindowMillis), maximumTrackedWriters);
+        return new ReadWriteRoutingDataSource(
+            primaryDataSource,
+            replicaDataSource,
+            recentWriters,
+            ReadReplicaDataSourceConfig::currentPrincipal,
+            meterRegistry
+        ).lazyProxy();
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,47 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Persists new entities in chunks of the configured JDBC batch size, flushing after each
+ * chunk and detaching its entities so Hibernate sends one batched statement per chunk and
+ * large imports do not accumulate managed entities. Other entities the caller's transaction
+ * has loaded stay managed; the inserted ones come back detached.
+ * Entities must carry assigned ids; identity-generated keys disable insert batching.
+ */
+@Component
+public class BatchInserter {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public BatchInserter(
+        EntityManager entityManager,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public void insertAll(List<?> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Entities cannot be null");
+        }
+
+        for (int start = 0; start < entities.size(); start += batchSize) {
+            List<?> chunk = entities.subList(start, Math.min(start + batchSize, entities.size()));
+            chunk.forEach(entityManager::persist);
+            entityManager.flush();
+            chunk.forEach(entityManager::detach);
+        }
+    }
+}
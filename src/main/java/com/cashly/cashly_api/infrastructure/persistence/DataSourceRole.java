@@ -0,0 +1,6 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
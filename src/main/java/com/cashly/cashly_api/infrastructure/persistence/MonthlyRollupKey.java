@@ -0,0 +1,35 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * Primary key of a monthly rollup row: owner, business month as {@code YYYYMM} and category.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class MonthlyRollupKey implements Serializable {
+
+    @Column(name = "user_id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
+    private String userId;
+
+    @Column(name = "month_key", nullable = false)
+    private int monthKey;
+
+    @Column(name = "category", length = 50, nullable = false)
+    private String category;
+}
@@ -0,0 +1,229 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user, per-month, per-category running totals of one raw table, keyed by the month of
+ * the rows' business date as {@code YYYYMM}. Deltas are applied with an update-then-insert,
+ * retrying the update when a concurrent writer inserted the row first, so no increment is lost;
+ * rows whose entry count drops to zero are removed. Callers supply the transaction.
+ */
+public class MonthlyRollupStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String incrementSql;
+    private final String insertSql;
+    private final String deleteEmptySql;
+    private final String totalSql;
+    private final String totalsByMonthSql;
+    private final String totalsByCategorySql;
+    private final String monthlySeriesSql;
+    private final String userIdsSql;
+    private final String deleteUserSql;
+    private final String rebuildUserSql;
+
+    public MonthlyRollupStore(DataSource dataSource, String rollupTable, String sourceTable) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Data source cannot be null");
+        }
+        if (rollupTable == null || rollupTable.isBlank() || sourceTable == null || sourceTable.isBlank()) {
+            throw new IllegalArgumentException("Rollup and source tables must be named");
+        }
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.incrementSql = "UPDATE " + rollupTable + " SET total = total + ?, entry_count = entry_count + ? " +
+            "WHERE user_id = ? AND month_key = ? AND category = ?";
+        this.insertSql = "INSERT INTO " + rollupTable + " (user_id, month_key, category, total, entry_count) " +
+            "VALUES (?, ?, ?, ?, ?)";
+        this.deleteEmptySql = "DELETE FROM " + rollupTable +
+            " WHERE user_id = ? AND month_key = ? AND category = ? AND entry_count <= 0";
+        this.totalSql = "SELECT COALESCE(SUM(total), 0) FROM " + rollupTable +
+            " WHERE user_id = ? AND month_key BETWEEN ? AND ?";
+        this.totalsByMonthSql = "SELECT month_key, SUM(total) FROM " + rollupTable +
+            " WHERE user_id = ? AND month_key BETWEEN ? AND ? GROUP BY month_key";
+        this.totalsByCategorySql = "SELECT b.category, SUM(b.amount) FROM (" +
+            "SELECT category, total AS amount FROM " + rollupTable +
+            " WHERE user_id = ? AND month_key BETWEEN ? AND ?" +
+            " UNION ALL SELECT category, amount FROM " + sourceTable +
+            " WHERE user_id = ? AND (date BETWEEN ? AND ? OR date BETWEEN ? AND ?)) b GROUP BY b.category";
+        this.monthlySeriesSql = "SELECT s.month_key, SUM(s.amount), SUM(s.entries) FROM (" +
+            "SELECT month_key, total AS amount, entry_count AS entries FROM " + rollupTable +
+            " WHERE user_id = ? AND month_key BETWEEN ? AND ?" +
+            " UNION ALL SELECT YEAR(date) * 100 + MONTH(date), amount, 1 FROM " + sourceTable +
+            " WHERE user_id = ? AND (date BETWEEN ? AND ? OR date BETWEEN ? AND ?)) s GROUP BY s.month_key";
+        this.userIdsSql = "SELECT u.user_id FROM (SELECT user_id FROM " + sourceTable +
+            " UNION SELECT user_id FROM " + rollupTable + ") u WHERE u.user_id > ? ORDER BY u.user_id LIMIT ?";
+        this.deleteUserSql = "DELETE FROM " + rollupTable + " WHERE user_id = ?";
+        this.rebuildUserSql = "INSERT INTO " + rollupTable + " (user_id, month_key, category, total, entry_count) " +
+            "SELECT user_id, YEAR(date) * 100 + MONTH(date), category, SUM(amount), COUNT(*) FROM " + sourceTable +
+            " WHERE user_id = ? GROUP BY user_id, YEAR(date) * 100 + MONTH(date), category";
+    }
+
+    public static int monthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    /**
+     * Adds {@code amountDelta} and {@code countDelta} to one rollup row. A negative delta for a
+     * row that does not exist is dropped; the repair job restores such drift from the raw rows.
+     */
+    public void apply(String userId, YearMonth month, String category, BigDecimal amountDelta, long countDelta) {
+        byte[] user = UuidBinaryConverter.toBytes(userId);
+        int key = monthKey(month);
+
+        if (jdbcTemplate.update(incrementSql, amountDelta, countDelta, user, key, category) == 0 && countDelta > 0) {
+            try {
+                jdbcTemplate.update(insertSql, user, key, category, amountDelta, countDelta);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(incrementSql, amountDelta, countDelta, user, key, category);
+            }
+        }
+        if (countDelta < 0) {
+            jdbcTemplate.update(deleteEmptySql, user, key, category);
+        }
+    }
+
+    /**
+     * Applies a batch of deltas, merged first so each rollup row is written once.
+     */
+    public void applyAll(List<Delta> deltas) {
+        Map<Bucket, Delta> merged = new LinkedHashMap<>();
+        for (Delta delta : deltas) {
+            merged.merge(new Bucket(delta.userId(), delta.month(), delta.category()), delta, Delta::plus);
+        }
+        merged.values().forEach(delta ->
+            apply(delta.userId(), delta.month(), delta.category(), delta.amount(), delta.count()));
+    }
+
+    public BigDecimal total(String userId, YearMonth from, YearMonth to) {
+        BigDecimal total = jdbcTemplate.queryForObject(
+            totalSql, BigDecimal.class, UuidBinaryConverter.toBytes(userId), monthKey(from), monthKey(to));
+        return total != null ? total : BigDecimal.ZERO;
+    }
+
+    /**
+     * Totals of each month from {@code from} to {@code to} in one grouped read; months without
+     * rows are absent.
+     */
+    public Map<YearMonth, BigDecimal> totalsByMonth(String userId, YearMonth from, YearMonth to) {
+        Map<YearMonth, BigDecimal> totals = new HashMap<>();
+        jdbcTemplate.query(
+            totalsByMonthSql,
+            resultSet -> {
+                int key = resultSet.getInt(1);
+                totals.put(YearMonth.of(key / 100, key % 100), resultSet.getBigDecimal(2));
+            },
+            UuidBinaryConverter.toBytes(userId), monthKey(from), monthKey(to)
+        );
+        return totals;
+    }
+
+    /**
+     * Per-category totals of an arbitrary date range in one statement: whole months are read from
+     * the rollups and the days before the first and after the last whole month from the raw rows.
+     */
+    public Map<String, BigDecimal> totalsByCategory(String userId, LocalDate startDate, LocalDate endDate) {
+        Map<String, BigDecimal> totals = new HashMap<>();
+        jdbcTemplate.query(
+            totalsByCategorySql,
+            resultSet -> {
+                totals.put(resultSet.getString(1), resultSet.getBigDecimal(2));
+            },
+            Range.of(startDate, endDate).parameters(userId)
+        );
+        return totals;
+    }
+
+    /**
+     * Total and entry count of every month touched by an arbitrary date range in one statement,
+     * split between rollups and raw rows like {@link #totalsByCategory}; months without rows are
+     * absent and partial months only count their days inside the range.
+     */
+    public List<PeriodTotal> monthlySeries(String userId, LocalDate startDate, LocalDate endDate) {
+        List<PeriodTotal> series = new ArrayList<>();
+        jdbcTemplate.query(
+            monthlySeriesSql,
+            resultSet -> {
+                int key = resultSet.getInt(1);
+                series.add(new PeriodTotal(
+                    LocalDate.of(key / 100, key % 100, 1), resultSet.getBigDecimal(2), resultSet.getLong(3)));
+            },
+            Range.of(startDate, endDate).parameters(userId)
+        );
+        return series;
+    }
+
+    /**
+     * Next {@code limit} user IDs, in key order, with raw rows or rollups, after {@code afterUserId}
+     * ({@code null} to start from the beginning).
+     */
+    public List<String> findUserIds(String afterUserId, int limit) {
+        byte[] after = afterUserId == null ? new byte[0] : UuidBinaryConverter.toBytes(afterUserId);
+        return jdbcTemplate.query(
+            userIdsSql, (resultSet, rowNum) -> UuidBinaryConverter.fromBytes(resultSet.getBytes(1)), after, limit);
+    }
+
+    /**
+     * Replaces a user's rollups with totals recomputed from the raw table.
+     */
+    public void rebuild(String userId) {
+        byte[] user = UuidBinaryConverter.toBytes(userId);
+        jdbcTemplate.update(deleteUserSql, user);
+        jdbcTemplate.update(rebuildUserSql, user);
+    }
+
+    /**
+     * Change to one rollup row.
+     */
+    public record Delta(String userId, YearMonth month, String category, BigDecimal amount, long count) {
+
+        Delta plus(Delta other) {
+            return new Delta(userId, month, category, amount.add(other.amount), count + other.count);
+        }
+    }
+
+    private record Bucket(String userId, YearMonth month, String category) {
+    }
+
+    /**
+     * A date range split into the whole months read from the rollups and the partial months
+     * before and after them read from the raw rows.
+     */
+    private record Range(LocalDate startDate, YearMonth firstWholeMonth, YearMonth lastWholeMonth,
+                         LocalDate headEnd, LocalDate tailStart, LocalDate endDate) {
+
+        static Range of(LocalDate startDate, LocalDate endDate) {
+            YearMonth firstWholeMonth = startDate.getDayOfMonth() == 1 ?
+                YearMonth.from(startDate) : YearMonth.from(startDate).plusMonths(1);
+            YearMonth lastWholeMonth = endDate.equals(YearMonth.from(endDate).atEndOfMonth()) ?
+                YearMonth.from(endDate) : YearMonth.from(endDate).minusMonths(1);
+
+            // An inverted BETWEEN matches nothing, which leaves out the rollups or the tail range
+            if (firstWholeMonth.isAfter(lastWholeMonth)) {
+                return new Range(startDate, firstWholeMonth, lastWholeMonth, endDate, endDate.plusDays(1), endDate);
+            }
+            return new Range(startDate, firstWholeMonth, lastWholeMonth,
+                firstWholeMonth.atDay(1).minusDays(1), lastWholeMonth.atEndOfMonth().plusDays(1), endDate);
+        }
+
+        Object[] parameters(String userId) {
+            byte[] user = UuidBinaryConverter.toBytes(userId);
+            return new Object[] {
+                user, monthKey(firstWholeMonth), monthKey(lastWholeMonth),
+                user, startDate, headEnd, tailStart, endDate
+            };
+        }
+    }
+}
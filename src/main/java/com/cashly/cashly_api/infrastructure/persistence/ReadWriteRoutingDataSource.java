@@ -0,0 +1,115 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for {@code readOnly} transactions to the replica and everything else
+ * to the primary. A writer that committed within the {@link RecentWriters} window keeps
+ * reading from the primary so it sees its own changes. Must be used through
+ * {@link #lazyProxy()} so the connection is chosen after the transaction's read-only flag
+ * has been set.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String ROUTING_METRIC = "datasource.routing";
+
+    private final DataSource primary;
+    private final RecentWriters recentWriters;
+    private final Supplier<String> currentWriter;
+    private final Counter writeRoutes;
+    private final Counter stickyReadRoutes;
+    private final Counter replicaReadRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      DataSource replica,
+                                      RecentWriters recentWriters,
+                                      Supplier<String> currentWriter,
+                                      MeterRegistry meterRegistry) {
+        if (primary == null || replica == null) {
+            throw new IllegalArgumentException("Primary and replica data sources cannot be null");
+        }
+        if (recentWriters == null || currentWriter == null || meterRegistry == null) {
+            throw new IllegalArgumentException("Routing collaborators cannot be null");
+        }
+
+        this.primary = primary;
+        this.recentWriters = recentWriters;
+        this.currentWriter = currentWriter;
+        this.writeRoutes = routeCounter(meterRegistry, DataSourceRole.PRIMARY, "write");
+        this.stickyReadRoutes = routeCounter(meterRegistry, DataSourceRole.PRIMARY, "read-your-writes");
+        this.replicaReadRoutes = routeCounter(meterRegistry, DataSourceRole.REPLICA, "read");
+
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Wraps this data source in a {@link LazyConnectionDataSourceProxy} seeded with the primary's
+     * auto-commit and isolation defaults. Otherwise the proxy borrows a routed connection to read
+     * them, which would count as a write route.
+     */
+    public LazyConnectionDataSourceProxy lazyProxy() throws SQLException {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(this);
+        try (Connection connection = primary.getConnection()) {
+            proxy.setDefaultAutoCommit(connection.getAutoCommit());
+            proxy.setDefaultTransactionIsolation(connection.getTransactionIsolation());
+        }
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String writer = currentWriter.get();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (writer != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWrite(writer);
+            }
+            writeRoutes.increment();
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (recentWriters.wroteRecently(writer)) {
+            stickyReadRoutes.increment();
+            return DataSourceRole.PRIMARY;
+        }
+
+        replicaReadRoutes.increment();
+        return DataSourceRole.REPLICA;
+    }
+
+    private void recordWrite(String writer) {
+        recentWriters.recordWrite(writer);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // restart the window at completion so long transactions are still covered
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    recentWriters.recordWrite(writer);
+                }
+            });
+        }
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, DataSourceRole role, String reason) {
+        return Counter.builder(ROUTING_METRIC)
+            .description("Connections handed out by the read/write routing data source")
+            .tag("role", role.name().toLowerCase())
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
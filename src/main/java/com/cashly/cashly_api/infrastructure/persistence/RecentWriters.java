@@ -0,0 +1,46 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+
+/**
+ * Remembers which users wrote within the last {@code window}, so their reads can stay on
+ * the primary until the replica has caught up. Entries expire on their own; the tracker
+ * is bounded by {@code maximumSize} users.
+ */
+public class RecentWriters {
+
+    private final Cache<String, Boolean> writers;
+
+    public RecentWriters(Duration window, long maximumSize) {
+        this(window, maximumSize, Ticker.systemTicker());
+    }
+
+    RecentWriters(Duration window, long maximumSize, Ticker ticker) {
+        if (window == null || window.isNegative()) {
+            throw new IllegalArgumentException("Read-your-writes window cannot be null or negative");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum tracked writers must be positive");
+        }
+
+        this.writers = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .build();
+    }
+
+    public void recordWrite(String writer) {
+        if (writer != null) {
+            writers.put(writer, Boolean.TRUE);
+        }
+    }
+
+    public boolean wroteRecently(String writer) {
+        return writer != null && writers.getIfPresent(writer) != null;
+    }
+}
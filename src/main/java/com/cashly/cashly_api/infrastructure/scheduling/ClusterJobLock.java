@@ -0,0 +1,94 @@
+package com.cashly.cashly_api.infrastructure.scheduling;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Lease lock stored in {@code scheduled_job_locks}. A lock is held until its lease
+ * expires or the owner releases it, so a crashed instance never blocks a job for
+ * longer than {@code lockAtMostFor}.
+ */
+public class ClusterJobLock {
+
+    private final SpringDataJobLockRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final String owner;
+
+    public ClusterJobLock(SpringDataJobLockRepository repository, TransactionTemplate transactionTemplate, Clock clock) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Job lock repository cannot be null");
+        }
+        if (transactionTemplate == null) {
+            throw new IllegalArgumentException("Transaction template cannot be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.owner = hostName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * Runs the task if the named lock could be acquired.
+     *
+     * @return {@code true} if the task ran, {@code false} if another instance holds the lock
+     */
+    public boolean runWithLock(String name, Duration lockAtMostFor, Runnable task) {
+        if (!tryLock(name, lockAtMostFor)) {
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(name);
+        }
+    }
+
+    boolean tryLock(String name, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+
+        Integer acquired = transactionTemplate.execute(status ->
+            repository.acquireExpired(name, now, lockedUntil, owner));
+        if (acquired != null && acquired > 0) {
+            return true;
+        }
+
+        try {
+            Integer inserted = transactionTemplate.execute(status ->
+                repository.insertLock(name, now, lockedUntil, owner));
+            return inserted != null && inserted > 0;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    void release(String name) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        transactionTemplate.executeWithoutResult(status -> repository.release(name, now, owner));
+    }
+
+    String owner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.cashly.cashly_api.infrastructure.scheduling;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ClusterJobLock clusterJobLock(
+        SpringDataJobLockRepository jobLockRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        return new ClusterJobLock(jobLockRepository, new TransactionTemplate(transactionManager), Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,37 @@
+package com.cashly.cashly_api.infrastructure.scheduling;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataJobLockRepository extends JpaRepository<JobLockEntity, String> {
+
+    @Modifying
+    @Query("UPDATE JobLockEntity l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :owner " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquireExpired(
+        @Param("name") String name,
+        @Param("now") LocalDateTime now,
+        @Param("lockedUntil") LocalDateTime lockedUntil,
+        @Param("owner") String owner
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO scheduled_job_locks (name, locked_until, locked_at, locked_by) " +
+                   "VALUES (:name, :lockedUntil, :now, :owner)", nativeQuery = true)
+    int insertLock(
+        @Param("name") String name,
+        @Param("now") LocalDateTime now,
+        @Param("lockedUntil") LocalDateTime lockedUntil,
+        @Param("owner") String owner
+    );
+
+    @Modifying
+    @Query("UPDATE JobLockEntity l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("now") LocalDateTime now, @Param("owner") String owner);
+}
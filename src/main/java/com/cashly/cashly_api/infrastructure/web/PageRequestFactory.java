@@ -0,0 +1,38 @@
+package com.cashly.cashly_api.infrastructure.web;
+
+import com.cashly.cashly_api.shared.pagination.PageCursor;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns the {@code cursor} and {@code size} query parameters of list endpoints into a
+ * {@link PageRequest}, applying the configured default and maximum page size.
+ */
+@Component
+public class PageRequestFactory {
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public PageRequestFactory(
+        @Value("${pagination.default-page-size:50}") int defaultPageSize,
+        @Value("${pagination.max-page-size:200}") int maxPageSize
+    ) {
+        if (defaultPageSize <= 0 || defaultPageSize > maxPageSize) {
+            throw new IllegalArgumentException("Default page size must be between 1 and the maximum page size");
+        }
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public PageRequest create(String cursor, Integer size) {
+        int pageSize = size != null ? size : defaultPageSize;
+        if (pageSize <= 0 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize);
+        }
+
+        PageCursor after = cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor);
+        return new PageRequest(after, pageSize);
+    }
+}
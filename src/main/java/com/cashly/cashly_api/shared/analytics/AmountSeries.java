@@ -0,0 +1,83 @@
+package com.cashly.cashly_api.shared.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Amounts per bucket over a date range, with a point for every bucket including empty ones.
+ */
+public record AmountSeries(
+    SeriesGranularity granularity,
+    LocalDate startDate,
+    LocalDate endDate,
+    List<Point> points
+) {
+    public static final int MAX_BUCKETS = 3660;
+
+    /**
+     * Spreads grouped rows over the buckets of {@code granularity} between {@code startDate} and
+     * {@code endDate}. Rows may be finer than the buckets (daily rows for a weekly series) and are
+     * summed into the bucket holding their period start; sums are kept as cents until the end.
+     *
+     * @throws IllegalArgumentException if the range is invalid or needs more than {@value #MAX_BUCKETS} buckets
+     */
+    public static AmountSeries fill(SeriesGranularity granularity, LocalDate startDate, LocalDate endDate,
+                                    List<PeriodTotal> rows) {
+        LocalDate firstBucket = granularity.bucketStart(startDate);
+        int size = bucketCount(granularity, startDate, endDate);
+        long[] cents = new long[size];
+        long[] counts = new long[size];
+
+        for (PeriodTotal row : rows) {
+            long index = granularity.bucketIndex(firstBucket, row.periodStart());
+            if (index < 0 || index >= size) {
+                continue;
+            }
+            cents[(int) index] += row.total().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            counts[(int) index] += row.count();
+        }
+
+        List<Point> points = new ArrayList<>(size);
+        LocalDate bucket = firstBucket;
+        for (int i = 0; i < size; i++) {
+            points.add(new Point(bucket, BigDecimal.valueOf(cents[i], 2), counts[i]));
+            bucket = granularity.next(bucket);
+        }
+        return new AmountSeries(granularity, startDate, endDate, points);
+    }
+
+    /**
+     * Rejects a range that {@link #fill} could not build, so callers can fail before querying totals.
+     *
+     * @throws IllegalArgumentException if the range is invalid or needs more than {@value #MAX_BUCKETS} buckets
+     */
+    public static void validateRange(SeriesGranularity granularity, LocalDate startDate, LocalDate endDate) {
+        if (granularity == null) {
+            throw new IllegalArgumentException("Granularity cannot be null");
+        }
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start and end dates cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+        if (countBuckets(granularity, startDate, endDate) > MAX_BUCKETS) {
+            throw new IllegalArgumentException("A series cannot have more than " + MAX_BUCKETS + " buckets");
+        }
+    }
+
+    public static int bucketCount(SeriesGranularity granularity, LocalDate startDate, LocalDate endDate) {
+        validateRange(granularity, startDate, endDate);
+        return (int) countBuckets(granularity, startDate, endDate);
+    }
+
+    private static long countBuckets(SeriesGranularity granularity, LocalDate startDate, LocalDate endDate) {
+        return granularity.bucketIndex(granularity.bucketStart(startDate), endDate) + 1;
+    }
+
+    public record Point(LocalDate periodStart, BigDecimal total, long count) {
+    }
+}
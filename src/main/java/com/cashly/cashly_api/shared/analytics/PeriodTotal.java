@@ -0,0 +1,11 @@
+package com.cashly.cashly_api.shared.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sum and number of entries recorded in the period starting on {@code periodStart}, as read
+ * from one row of a grouped query.
+ */
+public record PeriodTotal(LocalDate periodStart, BigDecimal total, long count) {
+}
@@ -0,0 +1,59 @@
+package com.cashly.cashly_api.shared.analytics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Width of one time-series bucket. Weeks are ISO weeks starting on Monday; every bucket is
+ * identified by its first day.
+ */
+public enum SeriesGranularity {
+    DAY,
+    WEEK,
+    MONTH;
+
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+
+    /**
+     * Position of the bucket holding {@code date} counted from the bucket starting at {@code firstBucket}.
+     */
+    public long bucketIndex(LocalDate firstBucket, LocalDate date) {
+        return switch (this) {
+            case DAY -> ChronoUnit.DAYS.between(firstBucket, date);
+            case WEEK -> ChronoUnit.WEEKS.between(firstBucket, bucketStart(date));
+            case MONTH -> ChronoUnit.MONTHS.between(YearMonth.from(firstBucket), YearMonth.from(date));
+        };
+    }
+
+    /**
+     * @return the granularity named by {@code value}, case-insensitively, or null if there is none
+     */
+    public static SeriesGranularity parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
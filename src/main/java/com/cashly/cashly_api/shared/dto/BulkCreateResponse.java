@@ -0,0 +1,36 @@
+package com.cashly.cashly_api.shared.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk create request, reported per item in request order.
+ */
+public record BulkCreateResponse<T>(
+    int created,
+    int rejected,
+    List<ItemResult<T>> items
+) {
+    public static <T> BulkCreateResponse<T> of(List<ItemResult<T>> items) {
+        int created = (int) items.stream().filter(ItemResult::success).count();
+        return new BulkCreateResponse<>(created, items.size() - created, items);
+    }
+
+    public boolean allCreated() {
+        return rejected == 0;
+    }
+
+    public record ItemResult<T>(
+        int index,
+        boolean success,
+        T data,
+        String error
+    ) {
+        public static <T> ItemResult<T> created(int index, T data) {
+            return new ItemResult<>(index, true, data, null);
+        }
+
+        public static <T> ItemResult<T> rejected(int index, String error) {
+            return new ItemResult<>(index, false, null, error);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.cashly.cashly_api.shared.exceptions;
+
+/**
+ * Exception thrown when a bounded resource rejects work because it is saturated.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+
+    public ServiceOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.cashly.cashly_api.shared.exceptions;
+
+/**
+ * Exception thrown when login attempts are throttled after repeated failures.
+ */
+public class TooManyLoginAttemptsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
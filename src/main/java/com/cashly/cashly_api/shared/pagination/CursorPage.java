@@ -0,0 +1,31 @@
+package com.cashly.cashly_api.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the last page.
+ */
+public record CursorPage<T>(List<T> items, PageCursor nextCursor) {
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}: the extra row only
+     * signals that another page exists and is dropped.
+     */
+    public static <T> CursorPage<T> fromLookahead(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(List.copyOf(rows), null);
+        }
+
+        List<T> items = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
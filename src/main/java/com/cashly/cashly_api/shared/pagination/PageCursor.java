@@ -0,0 +1,51 @@
+package com.cashly.cashly_api.shared.pagination;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a page in a {@code (sort key, id)} descending keyset.
+ * Clients see it only as an opaque URL-safe token.
+ */
+public record PageCursor(LocalDateTime position, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public PageCursor {
+        if (position == null) {
+            throw new IllegalArgumentException("Cursor position cannot be null");
+        }
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Cursor ID cannot be null or empty");
+        }
+    }
+
+    @JsonValue
+    public String encode() {
+        String raw = position.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor cannot be null or empty");
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String id = UUID.fromString(raw.substring(separator + 1)).toString();
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
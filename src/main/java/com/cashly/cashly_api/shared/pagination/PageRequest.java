@@ -0,0 +1,22 @@
+package com.cashly.cashly_api.shared.pagination;
+
+/**
+ * Requests up to {@code size} rows strictly after {@code after}, or the first page when
+ * {@code after} is null.
+ */
+public record PageRequest(PageCursor after, int size) {
+
+    public PageRequest {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+    }
+
+    public static PageRequest first(int size) {
+        return new PageRequest(null, size);
+    }
+
+    public boolean isFirst() {
+        return after == null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.cashly.cashly_api.shared.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562) for aggregate ids.
+ * <p>
+ * The 48-bit millisecond timestamp and the 12-bit {@code rand_a} field are used together
+ * as one monotonic counter advanced by compare-and-set, so ids generated by this JVM are
+ * strictly increasing even within the same millisecond and new rows land at the right
+ * edge of the primary key index. The remaining 62 bits are random.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    private UuidV7() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Returns the next UUIDv7, always greater than the previous one returned by this JVM
+     * @return a new version 7 UUID
+     */
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long stamp = LAST_STAMP.updateAndGet(last -> Math.max(now, last + 1));
+
+        long mostSignificantBits = (stamp >>> COUNTER_BITS) << 16 | VERSION | (stamp & COUNTER_MASK);
+        long leastSignificantBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
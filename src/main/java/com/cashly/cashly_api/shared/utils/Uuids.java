@@ -0,0 +1,51 @@
+package com.cashly.cashly_api.shared.utils;
+
+/**
+ * Format checks for ids carried as strings.
+ * <p>
+ * Every id column is {@code BINARY(16)}, so a string id that is not a canonical UUID only
+ * fails once the persistence converter tries to pack it, surfacing as a server error.
+ * Domain entities and use cases check ids with this class first so a malformed id is
+ * rejected as a bad request instead.
+ */
+public final class Uuids {
+
+    private static final int CANONICAL_LENGTH = 36;
+
+    private Uuids() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Tells whether a string is a canonical 8-4-4-4-12 hexadecimal UUID
+     * @param value the string to check
+     * @return true if valid, false otherwise
+     */
+    public static boolean isValid(String value) {
+        if (value == null || value.length() != CANONICAL_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < CANONICAL_LENGTH; i++) {
+            char c = value.charAt(i);
+            boolean valid = (i == 8 || i == 13 || i == 18 || i == 23)
+                ? c == '-'
+                : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rejects a string that is not a canonical UUID
+     * @param value the id to check
+     * @param name the id's name for the error message, e.g. "user ID"
+     * @throws IllegalArgumentException if the id is not a canonical UUID
+     */
+    public static void requireValid(String value, String name) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("Invalid " + name + " format: " + value);
+        }
+    }
+}
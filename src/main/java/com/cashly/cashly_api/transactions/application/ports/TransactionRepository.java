@@ -1,5 +1,8 @@
 package com.cashly.cashly_api.transactions.application.ports;
 
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
+import com.cashly.cashly_api.transactions.application.dto.TransactionResponse;
 import com.cashly.cashly_api.transactions.domain.entities.Transaction;
 import com.cashly.cashly_api.transactions.domain.valueobjects.TransactionId;
 
@@ -8,9 +11,18 @@ import java.util.Optional;
 
 public interface TransactionRepository {
     Transaction save(Transaction transaction);
+    List<Transaction> saveAll(List<Transaction> transactions);
+    Transaction update(Transaction transaction);
     Optional<Transaction> findById(TransactionId id);
-    List<Transaction> findByUserId(String userId);
-    List<Transaction> findByAccountId(String accountId);
+    CursorPage<Transaction> findByUserId(String userId, PageRequest page);
+    CursorPage<Transaction> findByAccountId(String accountId, PageRequest page);
+
+    /**
+     * Read-only listings: the same pages as {@link #findByUserId} and {@link #findByAccountId},
+     * projected straight into response DTOs without loading managed entities.
+     */
+    CursorPage<TransactionResponse> findResponsesByUserId(String userId, PageRequest page);
+    CursorPage<TransactionResponse> findResponsesByAccountId(String accountId, PageRequest page);
     void deleteById(TransactionId id);
     boolean existsById(TransactionId id);
 }
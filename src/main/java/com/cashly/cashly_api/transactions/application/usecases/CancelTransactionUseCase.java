@@ -32,7 +32,7 @@ public class CancelTransactionUseCase {
 
         transaction.cancel();
 
-        Transaction cancelledTransaction = transactionRepository.save(transaction);
+        Transaction cancelledTransaction = transactionRepository.update(transaction);
 
         return mapToResponse(cancelledTransaction);
     }
@@ -1,5 +1,7 @@
 package com.cashly.cashly_api.transactions.application.usecases;
 
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse.ItemResult;
 import com.cashly.cashly_api.transactions.application.dto.CreateTransactionRequest;
 import com.cashly.cashly_api.transactions.application.dto.TransactionResponse;
 import com.cashly.cashly_api.transactions.application.ports.TransactionRepository;
@@ -8,9 +10,14 @@ import com.cashly.cashly_api.transactions.domain.services.TransactionService;
 import com.cashly.cashly_api.transactions.domain.valueobjects.*;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class CreateTransactionUseCase {
 
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final TransactionRepository transactionRepository;
     private final TransactionService transactionService;
 
@@ -21,6 +28,36 @@ public class CreateTransactionUseCase {
     }
 
     public TransactionResponse execute(CreateTransactionRequest request) {
+        Transaction transaction = toTransaction(request);
+
+        Transaction savedTransaction = transactionRepository.save(transaction);
+
+        return mapToResponse(savedTransaction);
+    }
+
+    public BulkCreateResponse<TransactionResponse> executeAll(List<CreateTransactionRequest> requests) {
+        validateBatch(requests);
+
+        List<ItemResult<TransactionResponse>> items = new ArrayList<>(requests.size());
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                Transaction transaction = toTransaction(requests.get(i));
+                transactions.add(transaction);
+                items.add(ItemResult.created(i, mapToResponse(transaction)));
+            } catch (IllegalArgumentException e) {
+                items.add(ItemResult.rejected(i, e.getMessage()));
+            }
+        }
+
+        if (!transactions.isEmpty()) {
+            transactionRepository.saveAll(transactions);
+        }
+
+        return BulkCreateResponse.of(items);
+    }
+
+    private Transaction toTransaction(CreateTransactionRequest request) {
         validateRequest(request);
 
         TransactionId id = TransactionId.generate();
@@ -49,9 +86,16 @@ public class CreateTransactionUseCase {
 
         transactionService.validateTransactionIntegrity(transaction);
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
+        return transaction;
+    }
 
-        return mapToResponse(savedTransaction);
+    private void validateBatch(List<CreateTransactionRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Create transaction requests cannot be null or empty");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot create more than " + MAX_BATCH_SIZE + " transactions at once");
+        }
     }
 
     private void validateRequest(CreateTransactionRequest request) {
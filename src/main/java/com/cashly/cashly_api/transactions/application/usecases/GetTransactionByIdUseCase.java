@@ -5,8 +5,10 @@ import com.cashly.cashly_api.transactions.application.ports.TransactionRepositor
 import com.cashly.cashly_api.transactions.domain.entities.Transaction;
 import com.cashly.cashly_api.transactions.domain.valueobjects.TransactionId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class GetTransactionByIdUseCase {
 
     private final TransactionRepository transactionRepository;
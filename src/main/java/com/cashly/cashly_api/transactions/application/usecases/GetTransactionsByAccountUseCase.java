@@ -1,14 +1,15 @@
 package com.cashly.cashly_api.transactions.application.usecases;
 
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
+import com.cashly.cashly_api.shared.utils.Uuids;
 import com.cashly.cashly_api.transactions.application.dto.TransactionResponse;
 import com.cashly.cashly_api.transactions.application.ports.TransactionRepository;
-import com.cashly.cashly_api.transactions.domain.entities.Transaction;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class GetTransactionsByAccountUseCase {
 
     private final TransactionRepository transactionRepository;
@@ -17,38 +18,16 @@ public class GetTransactionsByAccountUseCase {
         this.transactionRepository = transactionRepository;
     }
 
-    public List<TransactionResponse> execute(String accountId) {
+    public CursorPage<TransactionResponse> execute(String accountId, PageRequest page) {
         validateAccountId(accountId);
 
-        List<Transaction> transactions = transactionRepository.findByAccountId(accountId);
-
-        return transactions.stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        return transactionRepository.findResponsesByAccountId(accountId, page);
     }
 
     private void validateAccountId(String accountId) {
         if (accountId == null || accountId.trim().isEmpty()) {
             throw new IllegalArgumentException("Account ID cannot be null or empty");
         }
-    }
-
-    private TransactionResponse mapToResponse(Transaction transaction) {
-        return new TransactionResponse(
-            transaction.getId().getValue().toString(),
-            transaction.getUserId(),
-            transaction.getType().name(),
-            transaction.getStatus().name(),
-            transaction.getAmount().getValue(),
-            transaction.getCurrency(),
-            transaction.getDescription().getValue(),
-            transaction.getTransactionDate().getValue(),
-            transaction.getSourceAccountId(),
-            transaction.getDestinationAccountId(),
-            transaction.getExpenseId(),
-            transaction.getIncomeId(),
-            transaction.getCreatedAt(),
-            transaction.getUpdatedAt()
-        );
+        Uuids.requireValid(accountId, "account ID");
     }
 }
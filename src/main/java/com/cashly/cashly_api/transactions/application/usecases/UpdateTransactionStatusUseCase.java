@@ -35,7 +35,7 @@ public class UpdateTransactionStatusUseCase {
             transaction.updateDescription(newDescription);
         }
 
-        Transaction updatedTransaction = transactionRepository.save(transaction);
+        Transaction updatedTransaction = transactionRepository.update(transaction);
 
         return mapToResponse(updatedTransaction);
     }
@@ -1,5 +1,6 @@
 package com.cashly.cashly_api.transactions.domain.entities;
 
+import com.cashly.cashly_api.shared.utils.Uuids;
 import com.cashly.cashly_api.transactions.domain.valueobjects.*;
 
 import java.time.LocalDateTime;
@@ -30,6 +31,7 @@ public class Transaction {
         validateAccountRequirements(type, sourceAccountId, destinationAccountId);
         validateSameAccountNotAllowed(sourceAccountId, destinationAccountId);
         validateLinkageRules(type, expenseId, incomeId);
+        validateIdFormats(userId, sourceAccountId, destinationAccountId, expenseId, incomeId);
 
         this.id = id;
         this.userId = userId.trim();
@@ -47,6 +49,43 @@ public class Transaction {
         this.updatedAt = LocalDateTime.now();
     }
 
+    private Transaction(TransactionId id, String userId, TransactionType type,
+                        TransactionStatus status, Amount amount, String currency,
+                        Description description, TransactionDate transactionDate,
+                        String sourceAccountId, String destinationAccountId,
+                        String expenseId, String incomeId, LocalDateTime createdAt,
+                        LocalDateTime updatedAt) {
+        validateParameters(id, userId, type, status, amount, currency, description, transactionDate);
+        validateAccountRequirements(type, sourceAccountId, destinationAccountId);
+        validateSameAccountNotAllowed(sourceAccountId, destinationAccountId);
+        validateLinkageRules(type, expenseId, incomeId);
+        validateIdFormats(userId, sourceAccountId, destinationAccountId, expenseId, incomeId);
+
+        this.id = id;
+        this.userId = userId;
+        this.type = type;
+        this.status = status;
+        this.amount = amount;
+        this.currency = currency;
+        this.description = description;
+        this.transactionDate = transactionDate;
+        this.sourceAccountId = sourceAccountId;
+        this.destinationAccountId = destinationAccountId;
+        this.expenseId = expenseId;
+        this.incomeId = incomeId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static Transaction rehydrate(TransactionId id, String userId, TransactionType type,
+                                        TransactionStatus status, Amount amount, String currency,
+                                        Description description, TransactionDate transactionDate,
+                                        String sourceAccountId, String destinationAccountId,
+                                        String expenseId, String incomeId, LocalDateTime createdAt,
+                                        LocalDateTime updatedAt) {
+        return new Transaction(id, userId, type, status, amount, currency, description, transactionDate, sourceAccountId, destinationAccountId, expenseId, incomeId, createdAt, updatedAt);
+    }
+
     private void validateParameters(TransactionId id, String userId, TransactionType type,
                                    TransactionStatus status, Amount amount, String currency,
                                    Description description, TransactionDate transactionDate) {
@@ -101,6 +140,23 @@ public class Transaction {
         }
     }
 
+    private void validateIdFormats(String userId, String sourceAccountId, String destinationAccountId,
+                                   String expenseId, String incomeId) {
+        Uuids.requireValid(userId.trim(), "user ID");
+        if (sourceAccountId != null) {
+            Uuids.requireValid(sourceAccountId.trim(), "source account ID");
+        }
+        if (destinationAccountId != null) {
+            Uuids.requireValid(destinationAccountId.trim(), "destination account ID");
+        }
+        if (expenseId != null) {
+            Uuids.requireValid(expenseId.trim(), "expense ID");
+        }
+        if (incomeId != null) {
+            Uuids.requireValid(incomeId.trim(), "income ID");
+        }
+    }
+
     public void updateStatus(TransactionStatus newStatus) {
         if (newStatus == null) {
             throw new IllegalArgumentException("Transaction status cannot be null");
@@ -7,10 +7,14 @@ public class TransactionDate {
     private final LocalDate value;
 
     public TransactionDate(LocalDate value) {
+        this(value, true);
+    }
+
+    private TransactionDate(LocalDate value, boolean rejectFuture) {
         if (value == null) {
             throw new IllegalArgumentException("Transaction date cannot be null");
         }
-        if (value.isAfter(LocalDate.now())) {
+        if (rejectFuture && value.isAfter(LocalDate.now())) {
             throw new IllegalArgumentException("Transaction date cannot be in the future");
         }
         this.value = value;
@@ -20,6 +24,10 @@ public class TransactionDate {
         return new TransactionDate(LocalDate.now());
     }
 
+    public static TransactionDate rehydrate(LocalDate value) {
+        return new TransactionDate(value, false);
+    }
+
     public LocalDate getValue() {
         return value;
     }
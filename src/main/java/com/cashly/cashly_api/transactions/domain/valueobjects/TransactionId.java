@@ -1,5 +1,7 @@
 package com.cashly.cashly_api.transactions.domain.valueobjects;
 
+import com.cashly.cashly_api.shared.utils.UuidV7;
+
 import java.util.Objects;
 import java.util.UUID;
 
@@ -14,7 +16,7 @@ public class TransactionId {
     }
 
     public static TransactionId generate() {
-        return new TransactionId(UUID.randomUUID());
+        return new TransactionId(UuidV7.generate());
     }
 
     public static TransactionId from(String value) {
@@ -1,9 +1,17 @@
 package com.cashly.cashly_api.transactions.infrastructure.persistence;
 
+import com.cashly.cashly_api.infrastructure.persistence.BatchInserter;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageCursor;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
+import com.cashly.cashly_api.transactions.application.dto.TransactionResponse;
 import com.cashly.cashly_api.transactions.application.ports.TransactionRepository;
 import com.cashly.cashly_api.transactions.domain.entities.Transaction;
 import com.cashly.cashly_api.transactions.domain.valueobjects.TransactionId;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,9 +21,11 @@ import java.util.stream.Collectors;
 public class JpaTransactionRepository implements TransactionRepository {
 
     private final SpringDataTransactionRepository springDataRepository;
+    private final BatchInserter batchInserter;
 
-    public JpaTransactionRepository(SpringDataTransactionRepository springDataRepository) {
+    public JpaTransactionRepository(SpringDataTransactionRepository springDataRepository, BatchInserter batchInserter) {
         this.springDataRepository = springDataRepository;
+        this.batchInserter = batchInserter;
     }
 
     @Override
@@ -24,19 +34,37 @@ public class JpaTransactionRepository implements TransactionRepository {
             throw new IllegalArgumentException("Transaction cannot be null");
         }
 
-        String idString = transaction.getId().getValue().toString();
-        Optional<TransactionEntity> existingEntity = springDataRepository.findById(idString);
+        TransactionEntity savedEntity = springDataRepository.save(TransactionEntity.fromDomain(transaction));
+        return savedEntity.toDomain();
+    }
 
-        TransactionEntity entity;
-        if (existingEntity.isPresent()) {
-            entity = existingEntity.get();
-            entity.updateFromDomain(transaction);
-        } else {
-            entity = TransactionEntity.fromDomain(transaction);
+    @Override
+    @Transactional
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        if (transactions == null) {
+            throw new IllegalArgumentException("Transactions cannot be null");
         }
 
-        TransactionEntity savedEntity = springDataRepository.save(entity);
-        return savedEntity.toDomain();
+        batchInserter.insertAll(transactions.stream().map(TransactionEntity::fromDomain).toList());
+        return transactions;
+    }
+
+    @Override
+    @Transactional
+    public Transaction update(Transaction transaction) {
+        if (transaction == null) {
+            throw new IllegalArgumentException("Transaction cannot be null");
+        }
+
+        TransactionEntity entity = TransactionEntity.fromDomain(transaction);
+        int updated = springDataRepository.updateDetails(
+            entity.getId(), entity.getTransactionStatus(), entity.getDescription(), entity.getUpdatedAt()
+        );
+        if (updated == 0) {
+            throw new IllegalStateException("Transaction not found: " + entity.getId());
+        }
+
+        return transaction;
     }
 
     @Override
@@ -50,25 +78,68 @@ public class JpaTransactionRepository implements TransactionRepository {
     }
 
     @Override
-    public List<Transaction> findByUserId(String userId) {
+    public CursorPage<Transaction> findByUserId(String userId, PageRequest page) {
         if (userId == null || userId.trim().isEmpty()) {
             throw new IllegalArgumentException("User ID cannot be null or empty");
         }
+        if (page == null) {
+            throw new IllegalArgumentException("Page request cannot be null");
+        }
 
-        return springDataRepository.findByUserId(userId).stream()
-            .map(TransactionEntity::toDomain)
-            .collect(Collectors.toList());
+        Limit limit = Limit.of(page.size() + 1);
+        List<TransactionEntity> entities = page.isFirst()
+            ? springDataRepository.findFirstPageByUserId(userId, limit)
+            : springDataRepository.findPageByUserIdAfter(
+                userId, page.after().position().toLocalDate(), page.after().id(), limit);
+        return toPage(entities, page);
     }
 
     @Override
-    public List<Transaction> findByAccountId(String accountId) {
+    @Transactional(readOnly = true)
+    public CursorPage<Transaction> findByAccountId(String accountId, PageRequest page) {
         if (accountId == null || accountId.trim().isEmpty()) {
             throw new IllegalArgumentException("Account ID cannot be null or empty");
         }
+        if (page == null) {
+            throw new IllegalArgumentException("Page request cannot be null");
+        }
 
-        return springDataRepository.findByAccountId(accountId).stream()
-            .map(TransactionEntity::toDomain)
-            .collect(Collectors.toList());
+        List<String> ids = findAccountPageIds(accountId, page);
+        List<TransactionEntity> entities = ids.isEmpty() ? List.of() : springDataRepository.findAllByIdOrdered(ids);
+        return toPage(entities, page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> findResponsesByUserId(String userId, PageRequest page) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (page == null) {
+            throw new IllegalArgumentException("Page request cannot be null");
+        }
+
+        Limit limit = Limit.of(page.size() + 1);
+        List<TransactionResponse> responses = page.isFirst()
+            ? springDataRepository.findFirstResponsePageByUserId(userId, limit)
+            : springDataRepository.findResponsePageByUserIdAfter(
+                userId, page.after().position().toLocalDate(), page.after().id(), limit);
+        return toResponsePage(responses, page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> findResponsesByAccountId(String accountId, PageRequest page) {
+        if (accountId == null || accountId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Account ID cannot be null or empty");
+        }
+        if (page == null) {
+            throw new IllegalArgumentException("Page request cannot be null");
+        }
+
+        List<String> ids = findAccountPageIds(accountId, page);
+        List<TransactionResponse> responses = ids.isEmpty() ? List.of() : springDataRepository.findResponsesByIdOrdered(ids);
+        return toResponsePage(responses, page);
     }
 
     @Override
@@ -88,4 +159,31 @@ public class JpaTransactionRepository implements TransactionRepository {
 
         return springDataRepository.existsById(id.getValue().toString());
     }
+
+    private List<String> findAccountPageIds(String accountId, PageRequest page) {
+        byte[] account = UuidBinaryConverter.toBytes(accountId);
+        int limit = page.size() + 1;
+        List<byte[]> ids = page.isFirst()
+            ? springDataRepository.findFirstPageIdsByAccountId(account, limit)
+            : springDataRepository.findPageIdsByAccountIdAfter(
+                account, page.after().position().toLocalDate(), UuidBinaryConverter.toBytes(page.after().id()), limit);
+        return ids.stream().map(UuidBinaryConverter::fromBytes).toList();
+    }
+
+    private static CursorPage<Transaction> toPage(List<TransactionEntity> entities, PageRequest page) {
+        List<Transaction> transactions = entities.stream()
+            .map(TransactionEntity::toDomain)
+            .collect(Collectors.toList());
+        return CursorPage.fromLookahead(transactions, page.size(), transaction -> new PageCursor(
+            transaction.getTransactionDate().getValue().atStartOfDay(),
+            transaction.getId().getValue().toString()
+        ));
+    }
+
+    private static CursorPage<TransactionResponse> toResponsePage(List<TransactionResponse> responses, PageRequest page) {
+        return CursorPage.fromLookahead(responses, page.size(), response -> new PageCursor(
+            response.getTransactionDate().atStartOfDay(),
+            response.getId()
+        ));
+    }
 }
@@ -1,17 +1,106 @@
 package com.cashly.cashly_api.transactions.infrastructure.persistence;
 
+import com.cashly.cashly_api.transactions.application.dto.TransactionResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SpringDataTransactionRepository extends JpaRepository<TransactionEntity, String> {
 
-    List<TransactionEntity> findByUserId(String userId);
+    String RESPONSE_COLUMNS = "t.id, t.userId, t.transactionType, t.transactionStatus, t.amount, t.currency, " +
+        "t.description, t.transactionDate, t.sourceAccountId, t.destinationAccountId, t.expenseId, t.incomeId, " +
+        "t.createdAt, t.updatedAt";
 
-    @Query("SELECT t FROM TransactionEntity t WHERE t.sourceAccountId = :accountId OR t.destinationAccountId = :accountId")
-    List<TransactionEntity> findByAccountId(@Param("accountId") String accountId);
+    @Query("SELECT t FROM TransactionEntity t WHERE t.userId = :userId " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionEntity> findFirstPageByUserId(@Param("userId") String userId, Limit limit);
+
+    @Query("SELECT t FROM TransactionEntity t WHERE t.userId = :userId " +
+           "AND (t.transactionDate < :transactionDate OR (t.transactionDate = :transactionDate AND t.id < :id)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionEntity> findPageByUserIdAfter(
+        @Param("userId") String userId,
+        @Param("transactionDate") LocalDate transactionDate,
+        @Param("id") String id,
+        Limit limit
+    );
+
+    @Query("SELECT new com.cashly.cashly_api.transactions.application.dto.TransactionResponse(" + RESPONSE_COLUMNS + ") " +
+           "FROM TransactionEntity t WHERE t.userId = :userId " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findFirstResponsePageByUserId(@Param("userId") String userId, Limit limit);
+
+    @Query("SELECT new com.cashly.cashly_api.transactions.application.dto.TransactionResponse(" + RESPONSE_COLUMNS + ") " +
+           "FROM TransactionEntity t WHERE t.userId = :userId " +
+           "AND (t.transactionDate < :transactionDate OR (t.transactionDate = :transactionDate AND t.id < :id)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findResponsePageByUserIdAfter(
+        @Param("userId") String userId,
+        @Param("transactionDate") LocalDate transactionDate,
+        @Param("id") String id,
+        Limit limit
+    );
+
+    /**
+     * Ids of an account's newest transactions, read as a {@code UNION ALL} of one index-range
+     * scan per side on the {@code (account, transaction_date, id)} indexes, so neither branch
+     * touches the table rows. The domain rejects transfers between the same account, so no id
+     * appears in both branches.
+     */
+    String ACCOUNT_FIRST_PAGE_IDS_SQL = "SELECT p.id FROM (" +
+        "(SELECT id, transaction_date FROM transactions WHERE source_account_id = :accountId " +
+        "ORDER BY transaction_date DESC, id DESC LIMIT :limit) " +
+        "UNION ALL " +
+        "(SELECT id, transaction_date FROM transactions WHERE destination_account_id = :accountId " +
+        "ORDER BY transaction_date DESC, id DESC LIMIT :limit)" +
+        ") p ORDER BY p.transaction_date DESC, p.id DESC LIMIT :limit";
+
+    String ACCOUNT_PAGE_IDS_AFTER_SQL = "SELECT p.id FROM (" +
+        "(SELECT id, transaction_date FROM transactions WHERE source_account_id = :accountId " +
+        "AND (transaction_date < :transactionDate OR (transaction_date = :transactionDate AND id < :id)) " +
+        "ORDER BY transaction_date DESC, id DESC LIMIT :limit) " +
+        "UNION ALL " +
+        "(SELECT id, transaction_date FROM transactions WHERE destination_account_id = :accountId " +
+        "AND (transaction_date < :transactionDate OR (transaction_date = :transactionDate AND id < :id)) " +
+        "ORDER BY transaction_date DESC, id DESC LIMIT :limit)" +
+        ") p ORDER BY p.transaction_date DESC, p.id DESC LIMIT :limit";
+
+    @Query(value = ACCOUNT_FIRST_PAGE_IDS_SQL, nativeQuery = true)
+    List<byte[]> findFirstPageIdsByAccountId(@Param("accountId") byte[] accountId, @Param("limit") int limit);
+
+    @Query(value = ACCOUNT_PAGE_IDS_AFTER_SQL, nativeQuery = true)
+    List<byte[]> findPageIdsByAccountIdAfter(
+        @Param("accountId") byte[] accountId,
+        @Param("transactionDate") LocalDate transactionDate,
+        @Param("id") byte[] id,
+        @Param("limit") int limit
+    );
+
+    @Query("SELECT t FROM TransactionEntity t WHERE t.id IN :ids " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionEntity> findAllByIdOrdered(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT new com.cashly.cashly_api.transactions.application.dto.TransactionResponse(" + RESPONSE_COLUMNS + ") " +
+           "FROM TransactionEntity t WHERE t.id IN :ids " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findResponsesByIdOrdered(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("UPDATE TransactionEntity t SET t.transactionStatus = :status, t.description = :description, " +
+           "t.updatedAt = :updatedAt WHERE t.id = :id")
+    int updateDetails(
+        @Param("id") String id,
+        @Param("status") String status,
+        @Param("description") String description,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
@@ -2,8 +2,12 @@ package com.cashly.cashly_api.transactions.infrastructure.persistence;
 
 import com.cashly.cashly_api.transactions.domain.entities.Transaction;
 import com.cashly.cashly_api.transactions.domain.valueobjects.*;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -12,9 +16,9 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "transactions", indexes = {
-    @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_source_account_id", columnList = "source_account_id"),
-    @Index(name = "idx_destination_account_id", columnList = "destination_account_id"),
+    @Index(name = "idx_transactions_user_date_id", columnList = "user_id, transaction_date, id"),
+    @Index(name = "idx_transactions_source_date_id", columnList = "source_account_id, transaction_date, id"),
+    @Index(name = "idx_transactions_destination_date_id", columnList = "destination_account_id, transaction_date, id"),
     @Index(name = "idx_transaction_status", columnList = "transaction_status"),
     @Index(name = "idx_transaction_date", columnList = "transaction_date")
 })
@@ -23,14 +27,18 @@ import java.util.UUID;
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString
-public class TransactionEntity {
+public class TransactionEntity implements Persistable<String> {
 
     @Id
-    @Column(name = "id", length = 36, nullable = false)
+    @Column(name = "id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Type(UuidBinaryType.class)
     @EqualsAndHashCode.Include
     private String id;
 
-    @Column(name = "user_id", length = 36, nullable = false)
+    @Column(name = "user_id", length = UuidBinaryConverter.BINARY_LENGTH, nullable = false,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
     private String userId;
 
     @Column(name = "transaction_type", length = 20, nullable = false)
@@ -51,16 +59,24 @@ public class TransactionEntity {
     @Column(name = "transaction_date", nullable = false)
     private LocalDate transactionDate;
 
-    @Column(name = "source_account_id", length = 36)
+    @Column(name = "source_account_id", length = UuidBinaryConverter.BINARY_LENGTH,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
     private String sourceAccountId;
 
-    @Column(name = "destination_account_id", length = 36)
+    @Column(name = "destination_account_id", length = UuidBinaryConverter.BINARY_LENGTH,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
     private String destinationAccountId;
 
-    @Column(name = "expense_id", length = 36)
+    @Column(name = "expense_id", length = UuidBinaryConverter.BINARY_LENGTH,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
     private String expenseId;
 
-    @Column(name = "income_id", length = 36)
+    @Column(name = "income_id", length = UuidBinaryConverter.BINARY_LENGTH,
+        columnDefinition = UuidBinaryConverter.COLUMN_DEFINITION)
+    @Convert(converter = UuidBinaryConverter.class)
     private String incomeId;
 
     @Column(name = "created_at", nullable = false)
@@ -69,6 +85,11 @@ public class TransactionEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
     public static TransactionEntity fromDomain(Transaction transaction) {
         if (transaction == null) {
             throw new IllegalArgumentException("Transaction cannot be null");
@@ -89,10 +110,22 @@ public class TransactionEntity {
         entity.incomeId = transaction.getIncomeId();
         entity.createdAt = transaction.getCreatedAt();
         entity.updatedAt = transaction.getUpdatedAt();
+        entity.newEntity = true;
 
         return entity;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.newEntity = false;
+    }
+
     public void updateFromDomain(Transaction transaction) {
         if (transaction == null) {
             throw new IllegalArgumentException("Transaction cannot be null");
@@ -104,42 +137,21 @@ public class TransactionEntity {
     }
 
     public Transaction toDomain() {
-        TransactionId transactionId = new TransactionId(UUID.fromString(this.id));
-        TransactionType type = TransactionType.fromString(this.transactionType);
-        TransactionStatus status = TransactionStatus.fromString(this.transactionStatus);
-        Amount domainAmount = new Amount(this.amount);
-        Description domainDescription = new Description(this.description);
-        TransactionDate domainDate = new TransactionDate(this.transactionDate);
-
-        Transaction transaction = new Transaction(
-            transactionId,
+        return Transaction.rehydrate(
+            new TransactionId(UUID.fromString(this.id)),
             this.userId,
-            type,
-            status,
-            domainAmount,
+            TransactionType.fromString(this.transactionType),
+            TransactionStatus.fromString(this.transactionStatus),
+            new Amount(this.amount),
             this.currency,
-            domainDescription,
-            domainDate,
+            new Description(this.description),
+            TransactionDate.rehydrate(this.transactionDate),
             this.sourceAccountId,
             this.destinationAccountId,
             this.expenseId,
-            this.incomeId
+            this.incomeId,
+            this.createdAt,
+            this.updatedAt
         );
-
-        try {
-            java.lang.reflect.Field createdAtField = Transaction.class.getDeclaredField("createdAt");
-            java.lang.reflect.Field updatedAtField = Transaction.class.getDeclaredField("updatedAt");
-
-            createdAtField.setAccessible(true);
-            updatedAtField.setAccessible(true);
-
-            createdAtField.set(transaction, this.createdAt);
-            updatedAtField.set(transaction, this.updatedAt);
-
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Failed to set timestamps on domain entity", e);
-        }
-
-        return transaction;
     }
 }
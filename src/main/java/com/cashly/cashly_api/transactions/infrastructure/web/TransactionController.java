@@ -4,6 +4,9 @@ import com.cashly.cashly_api.transactions.application.dto.CreateTransactionReque
 import com.cashly.cashly_api.transactions.application.dto.TransactionResponse;
 import com.cashly.cashly_api.transactions.application.dto.UpdateTransactionRequest;
 import com.cashly.cashly_api.transactions.application.usecases.*;
+import com.cashly.cashly_api.infrastructure.web.PageRequestFactory;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,19 +23,22 @@ public class TransactionController {
     private final GetTransactionsByAccountUseCase getTransactionsByAccountUseCase;
     private final UpdateTransactionStatusUseCase updateTransactionStatusUseCase;
     private final CancelTransactionUseCase cancelTransactionUseCase;
+    private final PageRequestFactory pageRequestFactory;
 
     public TransactionController(CreateTransactionUseCase createTransactionUseCase,
                                  GetTransactionByIdUseCase getTransactionByIdUseCase,
                                  GetTransactionsByUserUseCase getTransactionsByUserUseCase,
                                  GetTransactionsByAccountUseCase getTransactionsByAccountUseCase,
                                  UpdateTransactionStatusUseCase updateTransactionStatusUseCase,
-                                 CancelTransactionUseCase cancelTransactionUseCase) {
+                                 CancelTransactionUseCase cancelTransactionUseCase,
+                                 PageRequestFactory pageRequestFactory) {
         this.createTransactionUseCase = createTransactionUseCase;
         this.getTransactionByIdUseCase = getTransactionByIdUseCase;
         this.getTransactionsByUserUseCase = getTransactionsByUserUseCase;
         this.getTransactionsByAccountUseCase = getTransactionsByAccountUseCase;
         this.updateTransactionStatusUseCase = updateTransactionStatusUseCase;
         this.cancelTransactionUseCase = cancelTransactionUseCase;
+        this.pageRequestFactory = pageRequestFactory;
     }
 
     @PostMapping
@@ -41,6 +47,13 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResponse<TransactionResponse>> createTransactions(@RequestBody List<CreateTransactionRequest> requests) {
+        BulkCreateResponse<TransactionResponse> response = createTransactionUseCase.executeAll(requests);
+        HttpStatus status = response.allCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> getTransactionById(@PathVariable String id) {
         TransactionResponse response = getTransactionByIdUseCase.execute(id);
@@ -48,14 +61,22 @@ public class TransactionController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TransactionResponse>> getTransactionsByUser(@RequestParam String userId) {
-        List<TransactionResponse> responses = getTransactionsByUserUseCase.execute(userId);
+    public ResponseEntity<CursorPage<TransactionResponse>> getTransactionsByUser(
+            @RequestParam String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<TransactionResponse> responses = getTransactionsByUserUseCase.execute(
+            userId, pageRequestFactory.create(cursor, size));
         return ResponseEntity.ok(responses);
     }
 
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<TransactionResponse>> getTransactionsByAccount(@PathVariable String accountId) {
-        List<TransactionResponse> responses = getTransactionsByAccountUseCase.execute(accountId);
+    public ResponseEntity<CursorPage<TransactionResponse>> getTransactionsByAccount(
+            @PathVariable String accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<TransactionResponse> responses = getTransactionsByAccountUseCase.execute(
+            accountId, pageRequestFactory.create(cursor, size));
         return ResponseEntity.ok(responses);
     }
 
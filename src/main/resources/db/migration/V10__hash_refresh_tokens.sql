@@ -0,0 +1,12 @@
+-- Store refresh tokens as fixed-width SHA-256 digests instead of raw strings
+ALTER TABLE refresh_tokens ADD COLUMN token_hash BINARY(32) NULL AFTER user_id;
+
+-- Hash existing tokens (UTF-8 bytes, same digest the application computes)
+UPDATE refresh_tokens SET token_hash = UNHEX(SHA2(token, 256));
+
+-- Enforce uniqueness on the digest and drop the raw token with its indexes
+ALTER TABLE refresh_tokens
+    MODIFY COLUMN token_hash BINARY(32) NOT NULL,
+    ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    DROP INDEX idx_token,
+    DROP COLUMN token;
@@ -0,0 +1,11 @@
+-- Create revoked_access_tokens table for the access token denylist (keyed by JWT jti)
+CREATE TABLE revoked_access_tokens (
+    token_id VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL,
+    INDEX idx_revoked_access_tokens_revoked_at (revoked_at),
+    INDEX idx_revoked_access_tokens_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Add comments for documentation
+ALTER TABLE revoked_access_tokens COMMENT = 'Access tokens revoked before expiry; rows are purged once expired';
@@ -0,0 +1,83 @@
+-- Store UUID primary and foreign keys as BINARY(16) instead of VARCHAR(36)
+-- Each column is widened to VARBINARY first so its indexes stay in place, rewritten
+-- in place with the 16 raw UUID bytes, then narrowed to BINARY(16).
+
+-- Constraints that cannot survive the type change
+ALTER TABLE refresh_tokens DROP FOREIGN KEY fk_refresh_token_user;
+ALTER TABLE incomes DROP CHECK chk_incomes_user_id_not_empty;
+ALTER TABLE expenses DROP CHECK chk_expenses_user_id_not_empty;
+
+-- users
+ALTER TABLE users MODIFY COLUMN id VARBINARY(36) NOT NULL;
+UPDATE users SET id = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE users MODIFY COLUMN id BINARY(16) NOT NULL;
+
+-- refresh_tokens
+ALTER TABLE refresh_tokens
+    MODIFY COLUMN id VARBINARY(36) NOT NULL,
+    MODIFY COLUMN user_id VARBINARY(36) NOT NULL;
+UPDATE refresh_tokens SET
+    id = UNHEX(REPLACE(id, '-', '')),
+    user_id = UNHEX(REPLACE(user_id, '-', ''));
+ALTER TABLE refresh_tokens
+    MODIFY COLUMN id BINARY(16) NOT NULL,
+    MODIFY COLUMN user_id BINARY(16) NOT NULL,
+    ADD CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+-- accounts
+ALTER TABLE accounts
+    MODIFY COLUMN id VARBINARY(36) NOT NULL,
+    MODIFY COLUMN user_id VARBINARY(36) NOT NULL;
+UPDATE accounts SET
+    id = UNHEX(REPLACE(id, '-', '')),
+    user_id = UNHEX(REPLACE(user_id, '-', ''));
+ALTER TABLE accounts
+    MODIFY COLUMN id BINARY(16) NOT NULL,
+    MODIFY COLUMN user_id BINARY(16) NOT NULL;
+
+-- incomes (updated_at is re-assigned so ON UPDATE CURRENT_TIMESTAMP does not fire)
+ALTER TABLE incomes
+    MODIFY COLUMN id VARBINARY(36) NOT NULL,
+    MODIFY COLUMN user_id VARBINARY(36) NOT NULL;
+UPDATE incomes SET
+    id = UNHEX(REPLACE(id, '-', '')),
+    user_id = UNHEX(REPLACE(user_id, '-', '')),
+    updated_at = updated_at;
+ALTER TABLE incomes
+    MODIFY COLUMN id BINARY(16) NOT NULL COMMENT 'UUID of the income record',
+    MODIFY COLUMN user_id BINARY(16) NOT NULL COMMENT 'UUID of the user who owns this income';
+
+-- expenses
+ALTER TABLE expenses
+    MODIFY COLUMN id VARBINARY(36) NOT NULL,
+    MODIFY COLUMN user_id VARBINARY(36) NOT NULL;
+UPDATE expenses SET
+    id = UNHEX(REPLACE(id, '-', '')),
+    user_id = UNHEX(REPLACE(user_id, '-', '')),
+    updated_at = updated_at;
+ALTER TABLE expenses
+    MODIFY COLUMN id BINARY(16) NOT NULL COMMENT 'UUID of the expense record',
+    MODIFY COLUMN user_id BINARY(16) NOT NULL COMMENT 'UUID of the user who owns this expense';
+
+-- transactions
+ALTER TABLE transactions
+    MODIFY COLUMN id VARBINARY(36) NOT NULL,
+    MODIFY COLUMN user_id VARBINARY(36) NOT NULL,
+    MODIFY COLUMN source_account_id VARBINARY(36) NULL,
+    MODIFY COLUMN destination_account_id VARBINARY(36) NULL,
+    MODIFY COLUMN expense_id VARBINARY(36) NULL,
+    MODIFY COLUMN income_id VARBINARY(36) NULL;
+UPDATE transactions SET
+    id = UNHEX(REPLACE(id, '-', '')),
+    user_id = UNHEX(REPLACE(user_id, '-', '')),
+    source_account_id = UNHEX(REPLACE(source_account_id, '-', '')),
+    destination_account_id = UNHEX(REPLACE(destination_account_id, '-', '')),
+    expense_id = UNHEX(REPLACE(expense_id, '-', '')),
+    income_id = UNHEX(REPLACE(income_id, '-', ''));
+ALTER TABLE transactions
+    MODIFY COLUMN id BINARY(16) NOT NULL,
+    MODIFY COLUMN user_id BINARY(16) NOT NULL,
+    MODIFY COLUMN source_account_id BINARY(16) NULL,
+    MODIFY COLUMN destination_account_id BINARY(16) NULL,
+    MODIFY COLUMN expense_id BINARY(16) NULL,
+    MODIFY COLUMN income_id BINARY(16) NULL;
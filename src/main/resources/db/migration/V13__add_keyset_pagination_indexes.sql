@@ -0,0 +1,16 @@
+-- Composite indexes backing keyset pagination of the list endpoints.
+-- Each ends with the primary key so the (sort key, id) seek and the ORDER BY ... DESC are
+-- served straight from the index; the narrower indexes they extend are dropped.
+
+CREATE INDEX idx_expenses_user_created_id ON expenses (user_id, created_at, id);
+DROP INDEX idx_user_created ON expenses;
+
+CREATE INDEX idx_incomes_user_created_id ON incomes (user_id, created_at, id);
+DROP INDEX idx_user_created ON incomes;
+
+CREATE INDEX idx_transactions_user_date_id ON transactions (user_id, transaction_date, id);
+CREATE INDEX idx_transactions_source_date_id ON transactions (source_account_id, transaction_date, id);
+CREATE INDEX idx_transactions_destination_date_id ON transactions (destination_account_id, transaction_date, id);
+DROP INDEX idx_user_id ON transactions;
+DROP INDEX idx_source_account_id ON transactions;
+DROP INDEX idx_destination_account_id ON transactions;
@@ -0,0 +1,28 @@
+-- Create import_jobs table tracking asynchronous bank statement imports and their progress
+CREATE TABLE import_jobs (
+    id BINARY(16) PRIMARY KEY,
+    user_id BINARY(16) NOT NULL,
+    account_id BINARY(16) NOT NULL,
+    format VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    lines_read BIGINT NOT NULL DEFAULT 0,
+    imported BIGINT NOT NULL DEFAULT 0,
+    duplicates BIGINT NOT NULL DEFAULT 0,
+    rejected BIGINT NOT NULL DEFAULT 0,
+    error_message VARCHAR(500) NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    INDEX idx_import_jobs_user_created (user_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Create import_fingerprints table so re-imported statement lines are recognised as duplicates.
+-- The fingerprint is a SHA-256 hex digest that already includes the account id.
+CREATE TABLE import_fingerprints (
+    fingerprint CHAR(64) CHARACTER SET ascii PRIMARY KEY,
+    import_job_id BINARY(16) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Add comments for documentation
+ALTER TABLE import_jobs COMMENT = 'Bank statement import jobs; counters are updated after every committed batch';
+ALTER TABLE import_fingerprints COMMENT = 'Dedupe keys of imported statement lines, one per account and line';
@@ -0,0 +1,7 @@
+-- Covering indexes for the per-period expense and income aggregations.
+-- The totals and per-category sums filter on the business date and read only category and
+-- amount, so a (user_id, date) range over these indexes answers them without touching the rows.
+
+CREATE INDEX idx_expenses_user_date_category_amount ON expenses (user_id, date, category, amount);
+
+CREATE INDEX idx_incomes_user_date_category_amount ON incomes (user_id, date, category, amount);
@@ -0,0 +1,31 @@
+-- Monthly rollups of expenses and incomes per user, business month (YYYYMM) and category.
+-- Create, update and delete keep them current in the same transaction as the raw rows;
+-- the repair job rebuilds them from the raw tables. Both are backfilled here.
+
+CREATE TABLE expense_monthly_rollups (
+    user_id BINARY(16) NOT NULL COMMENT 'UUID of the user who owns the expenses',
+    month_key INT NOT NULL COMMENT 'Business month of the expenses as YYYYMM',
+    category VARCHAR(50) NOT NULL COMMENT 'Category of the expenses',
+    total DECIMAL(19,2) NOT NULL COMMENT 'Sum of the expense amounts',
+    entry_count BIGINT NOT NULL COMMENT 'Number of expenses',
+    PRIMARY KEY (user_id, month_key, category)
+);
+
+CREATE TABLE income_monthly_rollups (
+    user_id BINARY(16) NOT NULL COMMENT 'UUID of the user who owns the incomes',
+    month_key INT NOT NULL COMMENT 'Business month of the incomes as YYYYMM',
+    category VARCHAR(50) NOT NULL COMMENT 'Category of the incomes',
+    total DECIMAL(19,2) NOT NULL COMMENT 'Sum of the income amounts',
+    entry_count BIGINT NOT NULL COMMENT 'Number of incomes',
+    PRIMARY KEY (user_id, month_key, category)
+);
+
+INSERT INTO expense_monthly_rollups (user_id, month_key, category, total, entry_count)
+SELECT user_id, YEAR(date) * 100 + MONTH(date), category, SUM(amount), COUNT(*)
+FROM expenses
+GROUP BY user_id, YEAR(date) * 100 + MONTH(date), category;
+
+INSERT INTO income_monthly_rollups (user_id, month_key, category, total, entry_count)
+SELECT user_id, YEAR(date) * 100 + MONTH(date), category, SUM(amount), COUNT(*)
+FROM incomes
+GROUP BY user_id, YEAR(date) * 100 + MONTH(date), category;
@@ -0,0 +1,10 @@
+-- Create scheduled_job_locks table so background jobs run on one instance at a time
+CREATE TABLE scheduled_job_locks (
+    name VARCHAR(64) PRIMARY KEY,
+    locked_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Add comments for documentation
+ALTER TABLE scheduled_job_locks COMMENT = 'Lease-based locks for scheduled jobs shared across instances';
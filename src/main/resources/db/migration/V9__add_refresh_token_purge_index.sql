@@ -0,0 +1,2 @@
+-- Support chunked purging of revoked refresh tokens ordered by creation time
+CREATE INDEX idx_revoked_created_at ON refresh_tokens (revoked, created_at);
@@ -0,0 +1,187 @@
+package com.cashly.cashly_api;
+
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import com.cashly.cashly_api.transactions.infrastructure.persistence.SpringDataTransactionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations and the account page plans against a MySQL 8 container; the
+ * H2 test profile builds its schema from the entities and cannot run the MySQL-only
+ * migrations (V12's in-place UNHEX rewrite, V16's backfill). Needs Docker.
+ * Opt-in: {@code mvn test -Dtest=MySqlMigrationIntegrationTest -DmysqlTests=true}.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("testcontainers")
+@EnabledIfSystemProperty(named = "mysqlTests", matches = "true")
+@DisplayName("MySQL migration and plan tests")
+class MySqlMigrationIntegrationTest {
+
+    private static final String USER_ID = "6f1c2a9e-3b7d-4e5f-8a90-1b2c3d4e5f60";
+    private static final String EXPENSE_ID = "0b8e7d6c-5a4f-4e3d-9c2b-1a0f9e8d7c6b";
+    private static final String INCOME_ID = "9a8b7c6d-5e4f-4a3b-8c2d-1e0f9a8b7c6d";
+    private static final String TRANSACTION_ID = "1d2e3f4a-5b6c-4d7e-8f90-a1b2c3d4e5f6";
+    private static final String ACCOUNT_ID = "2c3d4e5f-6a7b-4c8d-9e0f-a1b2c3d4e5f7";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("should_ConvertKeysAndBackfillRollups_When_MigratingExistingRows")
+    void should_ConvertKeysAndBackfillRollups_When_MigratingExistingRows() {
+        Flyway steps = Flyway.configure()
+            .configuration(flyway.getConfiguration())
+            .cleanDisabled(false)
+            .target("11")
+            .load();
+        steps.clean();
+        steps.migrate();
+
+        jdbcTemplate.update(
+            "INSERT INTO users (id, email, password_hash, first_name, last_name, created_at, updated_at) " +
+                "VALUES (?, 'migrate@example.com', 'hash', 'Migrate', 'Test', NOW(), NOW())", USER_ID);
+        jdbcTemplate.update(
+            "INSERT INTO expenses (id, amount, description, category, date, user_id) " +
+                "VALUES (?, 40.00, 'Groceries', 'FOOD_DINING', '2024-03-15', ?)", EXPENSE_ID, USER_ID);
+        jdbcTemplate.update(
+            "INSERT INTO expenses (id, amount, description, category, date, user_id) " +
+                "VALUES (?, 2.50, 'Snack', 'FOOD_DINING', '2024-03-20', ?)", UUID.randomUUID().toString(), USER_ID);
+        jdbcTemplate.update(
+            "INSERT INTO incomes (id, amount, description, category, date, user_id) " +
+                "VALUES (?, 1000.00, 'Salary', 'SALARY', '2024-03-01', ?)", INCOME_ID, USER_ID);
+        jdbcTemplate.update(
+            "INSERT INTO transactions (id, user_id, transaction_type, transaction_status, amount, currency, " +
+                "description, transaction_date, destination_account_id, income_id, created_at, updated_at) " +
+                "VALUES (?, ?, 'DEPOSIT', 'COMPLETED', 1000.00, 'USD', 'Salary', '2024-03-01', ?, ?, NOW(), NOW())",
+            TRANSACTION_ID, USER_ID, ACCOUNT_ID, INCOME_ID);
+
+        flyway.migrate();
+
+        assertEquals("16", flyway.info().current().getVersion().getVersion());
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals(hex(EXPENSE_ID), jdbcTemplate.queryForObject(
+            "SELECT HEX(id) FROM expenses WHERE id = ?", String.class, UuidBinaryConverter.toBytes(EXPENSE_ID)));
+        assertEquals(hex(USER_ID), jdbcTemplate.queryForObject(
+            "SELECT HEX(user_id) FROM incomes WHERE id = ?", String.class, UuidBinaryConverter.toBytes(INCOME_ID)));
+        assertEquals(hex(ACCOUNT_ID), jdbcTemplate.queryForObject(
+            "SELECT HEX(destination_account_id) FROM transactions WHERE id = ?", String.class,
+            UuidBinaryConverter.toBytes(TRANSACTION_ID)));
+        assertNull(jdbcTemplate.queryForObject(
+            "SELECT source_account_id FROM transactions WHERE id = ?", byte[].class,
+            UuidBinaryConverter.toBytes(TRANSACTION_ID)));
+
+        assertEquals(0, new BigDecimal("42.50").compareTo(jdbcTemplate.queryForObject(
+            "SELECT total FROM expense_monthly_rollups WHERE user_id = ? AND month_key = 202403 " +
+                "AND category = 'FOOD_DINING'", BigDecimal.class, UuidBinaryConverter.toBytes(USER_ID))));
+        assertEquals(2L, jdbcTemplate.queryForObject(
+            "SELECT entry_count FROM expense_monthly_rollups WHERE user_id = ? AND month_key = 202403 " +
+                "AND category = 'FOOD_DINING'", Long.class, UuidBinaryConverter.toBytes(USER_ID)));
+        assertEquals(0, new BigDecimal("1000.00").compareTo(jdbcTemplate.queryForObject(
+            "SELECT total FROM income_monthly_rollups WHERE user_id = ? AND month_key = 202403 " +
+                "AND category = 'SALARY'", BigDecimal.class, UuidBinaryConverter.toBytes(USER_ID))));
+    }
+
+    @Test
+    @DisplayName("should_RangeScanBothAccountIndexes_When_PlanningAccountPageLookup")
+    void should_RangeScanBothAccountIndexes_When_PlanningAccountPageLookup() throws Exception {
+        byte[] accountId = seedTransactionsAcrossAccounts();
+
+        JsonNode firstPagePlan = explain(SpringDataTransactionRepository.ACCOUNT_FIRST_PAGE_IDS_SQL,
+            new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("limit", 21));
+        JsonNode pageAfterPlan = explain(SpringDataTransactionRepository.ACCOUNT_PAGE_IDS_AFTER_SQL,
+            new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("transactionDate", Date.valueOf(LocalDate.now().minusDays(10)))
+                .addValue("id", UuidBinaryConverter.toBytes(UUID.randomUUID().toString()))
+                .addValue("limit", 21));
+
+        // The first page is an equality lookup on the index prefix, which MySQL reports as ref
+        assertBranchesUseAccountIndexes(firstPagePlan, Set.of("ref", "range"));
+        assertBranchesUseAccountIndexes(pageAfterPlan, Set.of("range"));
+    }
+
+    private byte[] seedTransactionsAcrossAccounts() {
+        List<byte[]> accounts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            accounts.add(UuidBinaryConverter.toBytes(UUID.randomUUID().toString()));
+        }
+        byte[] userId = UuidBinaryConverter.toBytes(USER_ID);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            rows.add(new Object[] {
+                UuidBinaryConverter.toBytes(UUID.randomUUID().toString()),
+                userId,
+                Date.valueOf(LocalDate.now().minusDays(i % 90)),
+                accounts.get(i % accounts.size()),
+                accounts.get((i + 1) % accounts.size())
+            });
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO transactions (id, user_id, transaction_type, transaction_status, amount, currency, " +
+                "description, transaction_date, source_account_id, destination_account_id, created_at, updated_at) " +
+                "VALUES (?, ?, 'TRANSFER', 'COMPLETED', 10.00, 'USD', 'Transfer', ?, ?, ?, NOW(), NOW())",
+            rows);
+        jdbcTemplate.execute("ANALYZE TABLE transactions");
+        return accounts.get(0);
+    }
+
+    private JsonNode explain(String sql, MapSqlParameterSource parameters) throws Exception {
+        return objectMapper.readTree(namedParameterJdbcTemplate.queryForObject(
+            "EXPLAIN FORMAT=JSON " + sql, parameters, String.class));
+    }
+
+    private void assertBranchesUseAccountIndexes(JsonNode plan, Set<String> accessTypes) {
+        List<JsonNode> branches = plan.findParents("table_name").stream()
+            .filter(table -> "transactions".equals(table.path("table_name").asText()))
+            .toList();
+
+        assertEquals(2, branches.size(), plan.toPrettyString());
+        assertEquals(
+            Set.of("idx_transactions_source_date_id", "idx_transactions_destination_date_id"),
+            Set.of(
+                branches.get(0).path("key").asText().toLowerCase(Locale.ROOT),
+                branches.get(1).path("key").asText().toLowerCase(Locale.ROOT)
+            ),
+            plan.toPrettyString());
+        for (JsonNode branch : branches) {
+            assertTrue(accessTypes.contains(branch.path("access_type").asText()), plan.toPrettyString());
+        }
+    }
+
+    private static String hex(String uuid) {
+        return uuid.replace("-", "").toUpperCase(Locale.ROOT);
+    }
+}
@@ -33,7 +33,7 @@ class CreateAccountUseCaseUnitTest {
             "CHECKING",
             new BigDecimal("1000.00"),
             "USD",
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         when(accountRepository.save(any(Account.class)))
@@ -48,7 +48,7 @@ class CreateAccountUseCaseUnitTest {
         assertEquals("CHECKING", response.getType());
         assertEquals(0, new BigDecimal("1000.00").compareTo(response.getBalance()));
         assertEquals("USD", response.getCurrency());
-        assertEquals("user123", response.getUserId());
+        assertEquals("00000000-0000-0000-0000-000000000123", response.getUserId());
         assertTrue(response.isActive());
 
         ArgumentCaptor<Account> accountCaptor = ArgumentCaptor.forClass(Account.class);
@@ -76,7 +76,7 @@ class CreateAccountUseCaseUnitTest {
             "CHECKING",
             new BigDecimal("1000.00"),
             "USD",
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         // Act & Assert
@@ -95,7 +95,7 @@ class CreateAccountUseCaseUnitTest {
             null,
             new BigDecimal("1000.00"),
             "USD",
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         // Act & Assert
@@ -114,7 +114,7 @@ class CreateAccountUseCaseUnitTest {
             "CHECKING",
             null,
             "USD",
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         // Act & Assert
@@ -133,7 +133,7 @@ class CreateAccountUseCaseUnitTest {
             "CHECKING",
             new BigDecimal("1000.00"),
             null,
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         // Act & Assert
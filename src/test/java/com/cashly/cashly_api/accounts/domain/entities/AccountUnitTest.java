@@ -17,7 +17,7 @@ class AccountUnitTest {
         AccountType type = new AccountType("CHECKING");
         Balance balance = new Balance(new BigDecimal("1000.00"));
         Currency currency = new Currency("USD");
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
 
         // Act
         Account account = new Account(id, name, type, balance, currency, userId);
@@ -45,10 +45,10 @@ class AccountUnitTest {
         Currency currency = new Currency("EUR");
 
         // Act
-        Account account = new Account(id, name, type, balance, currency, "  user123  ");
+        Account account = new Account(id, name, type, balance, currency, "  00000000-0000-0000-0000-000000000123  ");
 
         // Assert
-        assertEquals("user123", account.getUserId());
+        assertEquals("00000000-0000-0000-0000-000000000123", account.getUserId());
     }
 
     @Test
@@ -57,7 +57,7 @@ class AccountUnitTest {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
             () -> new Account(null, new AccountName("Test"), new AccountType("CHECKING"),
-                new Balance(BigDecimal.ZERO), new Currency("USD"), "user123")
+                new Balance(BigDecimal.ZERO), new Currency("USD"), "00000000-0000-0000-0000-000000000123")
         );
         assertEquals("Account ID cannot be null", exception.getMessage());
     }
@@ -68,7 +68,7 @@ class AccountUnitTest {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
             () -> new Account(AccountId.generate(), null, new AccountType("CHECKING"),
-                new Balance(BigDecimal.ZERO), new Currency("USD"), "user123")
+                new Balance(BigDecimal.ZERO), new Currency("USD"), "00000000-0000-0000-0000-000000000123")
         );
         assertEquals("Account name cannot be null", exception.getMessage());
     }
@@ -79,7 +79,7 @@ class AccountUnitTest {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
             () -> new Account(AccountId.generate(), new AccountName("Test"), null,
-                new Balance(BigDecimal.ZERO), new Currency("USD"), "user123")
+                new Balance(BigDecimal.ZERO), new Currency("USD"), "00000000-0000-0000-0000-000000000123")
         );
         assertEquals("Account type cannot be null", exception.getMessage());
     }
@@ -90,7 +90,7 @@ class AccountUnitTest {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
             () -> new Account(AccountId.generate(), new AccountName("Test"),
-                new AccountType("CHECKING"), null, new Currency("USD"), "user123")
+                new AccountType("CHECKING"), null, new Currency("USD"), "00000000-0000-0000-0000-000000000123")
         );
         assertEquals("Balance cannot be null", exception.getMessage());
     }
@@ -101,7 +101,7 @@ class AccountUnitTest {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
             () -> new Account(AccountId.generate(), new AccountName("Test"),
-                new AccountType("CHECKING"), new Balance(BigDecimal.ZERO), null, "user123")
+                new AccountType("CHECKING"), new Balance(BigDecimal.ZERO), null, "00000000-0000-0000-0000-000000000123")
         );
         assertEquals("Currency cannot be null", exception.getMessage());
     }
@@ -214,7 +214,7 @@ class AccountUnitTest {
     @Test
     void should_ReturnTrue_When_AccountBelongsToUser() {
         // Arrange
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         Account account = createTestAccount(userId);
 
         // Act & Assert
@@ -224,16 +224,16 @@ class AccountUnitTest {
     @Test
     void should_ReturnFalse_When_AccountDoesNotBelongToUser() {
         // Arrange
-        Account account = createTestAccount("user123");
+        Account account = createTestAccount("00000000-0000-0000-0000-000000000123");
 
         // Act & Assert
-        assertFalse(account.belongsToUser("user456"));
+        assertFalse(account.belongsToUser("00000000-0000-0000-0000-000000000456"));
     }
 
     @Test
     void should_ReturnFalse_When_CheckingOwnershipWithNullUserId() {
         // Arrange
-        Account account = createTestAccount("user123");
+        Account account = createTestAccount("00000000-0000-0000-0000-000000000123");
 
         // Act & Assert
         assertFalse(account.belongsToUser(null));
@@ -267,7 +267,7 @@ class AccountUnitTest {
             new AccountType("CHECKING"),
             new Balance(BigDecimal.ZERO),
             new Currency("USD"),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         // Act & Assert
@@ -284,7 +284,7 @@ class AccountUnitTest {
             new AccountType("CREDIT_CARD"),
             new Balance(new BigDecimal("-500.00")),
             new Currency("USD"),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         // Act & Assert
@@ -298,10 +298,10 @@ class AccountUnitTest {
         AccountId id = AccountId.generate();
         Account account1 = new Account(id, new AccountName("Account 1"),
             new AccountType("CHECKING"), new Balance(BigDecimal.ZERO),
-            new Currency("USD"), "user123");
+            new Currency("USD"), "00000000-0000-0000-0000-000000000123");
         Account account2 = new Account(id, new AccountName("Account 2"),
             new AccountType("SAVINGS"), new Balance(new BigDecimal("100.00")),
-            new Currency("EUR"), "user456");
+            new Currency("EUR"), "00000000-0000-0000-0000-000000000456");
 
         // Act & Assert
         assertEquals(account1, account2);
@@ -328,11 +328,11 @@ class AccountUnitTest {
 
         // Assert
         assertTrue(result.contains("Account"));
-        assertTrue(result.contains("user123"));
+        assertTrue(result.contains("00000000-0000-0000-0000-000000000123"));
     }
 
     private Account createTestAccount() {
-        return createTestAccount("user123");
+        return createTestAccount("00000000-0000-0000-0000-000000000123");
     }
 
     private Account createTestAccount(String userId) {
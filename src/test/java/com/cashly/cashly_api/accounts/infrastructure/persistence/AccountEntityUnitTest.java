@@ -97,7 +97,7 @@ class AccountEntityUnitTest {
             new AccountType("CHECKING"),
             new Balance(new BigDecimal("1000.00")),
             new Currency("USD"),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
     }
 }
@@ -0,0 +1,121 @@
+package com.cashly.cashly_api.accounts.infrastructure.persistence;
+
+import com.cashly.cashly_api.accounts.application.dto.AccountResponse;
+import com.cashly.cashly_api.accounts.domain.entities.Account;
+import com.cashly.cashly_api.accounts.domain.valueobjects.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaAccountRepository.class)
+@DisplayName("JpaAccountRepository Integration Tests")
+class JpaAccountRepositoryIntegrationTest {
+
+    @Autowired
+    private JpaAccountRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        account = new Account(
+            AccountId.generate(),
+            new AccountName("Checking"),
+            new AccountType("CHECKING"),
+            new Balance(new BigDecimal("1000.00")),
+            new Currency("USD"),
+            UUID.randomUUID().toString()
+        );
+    }
+
+    @Test
+    @DisplayName("should_IssueSingleInsert_When_NewAccountSaved")
+    void should_IssueSingleInsert_When_NewAccountSaved() {
+        statistics.clear();
+
+        repository.save(account);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("should_IssueSingleUpdate_When_ExistingAccountUpdated")
+    void should_IssueSingleUpdate_When_ExistingAccountUpdated() {
+        repository.save(account);
+        entityManager.flush();
+        entityManager.clear();
+
+        account.updateName(new AccountName("Main checking"));
+        account.updateBalance(new Balance(new BigDecimal("250.00")));
+        statistics.clear();
+
+        repository.update(account);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        AccountEntity stored = entityManager.find(AccountEntity.class, account.getId().getValue().toString());
+        assertEquals("Main checking", stored.getName());
+        assertEquals(0, new BigDecimal("250.00").compareTo(stored.getBalance()));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_UpdatedAccountDoesNotExist")
+    void should_ThrowException_When_UpdatedAccountDoesNotExist() {
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> repository.update(account)
+        );
+
+        assertEquals("Account not found: " + account.getId().getValue(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("should_ProjectResponsesWithoutLoadingEntities_When_ListingUserAccounts")
+    void should_ProjectResponsesWithoutLoadingEntities_When_ListingUserAccounts() {
+        repository.save(account);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<AccountResponse> responses = repository.findResponsesByUserId(account.getUserId());
+
+        assertEquals(1, responses.size());
+        AccountResponse response = responses.get(0);
+        assertEquals(account.getId().getValue().toString(), response.getId());
+        assertEquals("Checking", response.getName());
+        assertEquals("CHECKING", response.getType());
+        assertEquals(0, new BigDecimal("1000.00").compareTo(response.getBalance()));
+        assertEquals("USD", response.getCurrency());
+        assertTrue(response.isActive());
+        assertEquals(account.getUserId(), response.getUserId());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
@@ -2,6 +2,7 @@ package com.cashly.cashly_api.auth.application.usecases;
 
 import com.cashly.cashly_api.auth.application.dto.AuthenticationResponse;
 import com.cashly.cashly_api.auth.application.dto.LoginRequest;
+import com.cashly.cashly_api.auth.application.ports.LoginThrottle;
 import com.cashly.cashly_api.auth.application.ports.PasswordEncoder;
 import com.cashly.cashly_api.auth.application.ports.RefreshTokenRepository;
 import com.cashly.cashly_api.auth.application.ports.TokenService;
@@ -11,6 +12,7 @@ import com.cashly.cashly_api.auth.domain.entities.User;
 import com.cashly.cashly_api.auth.domain.services.AuthenticationDomainService;
 import com.cashly.cashly_api.auth.domain.valueobjects.*;
 import com.cashly.cashly_api.shared.exceptions.InvalidCredentialsException;
+import com.cashly.cashly_api.shared.exceptions.TooManyLoginAttemptsException;
 import com.cashly.cashly_api.shared.exceptions.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,12 +29,15 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("LoginUserUseCase Unit Tests")
 class LoginUserUseCaseUnitTest {
 
+    private static final String CLIENT_ADDRESS = "203.0.113.10";
+
     @Mock
     private UserRepository userRepository;
 
@@ -48,6 +53,9 @@ class LoginUserUseCaseUnitTest {
     @Mock
     private AuthenticationDomainService authenticationDomainService;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @InjectMocks
     private LoginUserUseCase loginUserUseCase;
 
@@ -85,7 +93,7 @@ class LoginUserUseCaseUnitTest {
         when(tokenService.getAccessTokenExpiration()).thenReturn(900000L);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
 
-        AuthenticationResponse response = loginUserUseCase.execute(validLoginRequest);
+        AuthenticationResponse response = loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS);
 
         assertNotNull(response);
         assertEquals("access-token", response.accessToken());
@@ -109,7 +117,7 @@ class LoginUserUseCaseUnitTest {
 
         UserNotFoundException exception = assertThrows(
             UserNotFoundException.class,
-            () -> loginUserUseCase.execute(validLoginRequest)
+            () -> loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS)
         );
 
         assertEquals("User not found with email: test@example.com", exception.getMessage());
@@ -127,7 +135,7 @@ class LoginUserUseCaseUnitTest {
 
         InvalidCredentialsException exception = assertThrows(
             InvalidCredentialsException.class,
-            () -> loginUserUseCase.execute(validLoginRequest)
+            () -> loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS)
         );
 
         assertEquals("User account is not active", exception.getMessage());
@@ -146,7 +154,7 @@ class LoginUserUseCaseUnitTest {
 
         InvalidCredentialsException exception = assertThrows(
             InvalidCredentialsException.class,
-            () -> loginUserUseCase.execute(validLoginRequest)
+            () -> loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS)
         );
 
         assertEquals("Invalid email or password", exception.getMessage());
@@ -154,6 +162,7 @@ class LoginUserUseCaseUnitTest {
         verify(authenticationDomainService, times(1)).canUserAuthenticate(testUser);
         verify(passwordEncoder, times(1)).matches(anyString(), anyString());
         verify(tokenService, never()).generateAccessToken(any());
+        verify(loginThrottle, times(1)).recordFailure(any(Email.class), eq(CLIENT_ADDRESS));
     }
 
     @Test
@@ -167,7 +176,7 @@ class LoginUserUseCaseUnitTest {
         when(tokenService.getAccessTokenExpiration()).thenReturn(900000L);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
 
-        AuthenticationResponse response = loginUserUseCase.execute(validLoginRequest);
+        AuthenticationResponse response = loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS);
 
         assertEquals("access-token", response.accessToken());
         verify(tokenService, times(1)).generateAccessToken(testUser);
@@ -184,7 +193,7 @@ class LoginUserUseCaseUnitTest {
         when(tokenService.getAccessTokenExpiration()).thenReturn(900000L);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
 
-        AuthenticationResponse response = loginUserUseCase.execute(validLoginRequest);
+        AuthenticationResponse response = loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS);
 
         assertEquals(testRefreshToken.getToken(), response.refreshToken());
         verify(tokenService, times(1)).generateRefreshToken(testUser);
@@ -202,7 +211,7 @@ class LoginUserUseCaseUnitTest {
         when(tokenService.getAccessTokenExpiration()).thenReturn(900000L);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
 
-        loginUserUseCase.execute(validLoginRequest);
+        loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS);
 
         verify(refreshTokenRepository, times(1)).save(testRefreshToken);
     }
@@ -218,7 +227,7 @@ class LoginUserUseCaseUnitTest {
         when(tokenService.getAccessTokenExpiration()).thenReturn(900000L);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
 
-        AuthenticationResponse response = loginUserUseCase.execute(validLoginRequest);
+        AuthenticationResponse response = loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS);
 
         assertNotNull(response.user());
         assertEquals("test@example.com", response.user().email());
@@ -239,9 +248,40 @@ class LoginUserUseCaseUnitTest {
         when(tokenService.getAccessTokenExpiration()).thenReturn(900000L);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
 
-        AuthenticationResponse response = loginUserUseCase.execute(upperCaseRequest);
+        AuthenticationResponse response = loginUserUseCase.execute(upperCaseRequest, CLIENT_ADDRESS);
 
         assertNotNull(response);
         assertEquals("test@example.com", response.user().email());
     }
+
+    @Test
+    @DisplayName("should_RejectBeforeLookup_When_LoginThrottled")
+    void should_RejectBeforeLookup_When_LoginThrottled() {
+        when(loginThrottle.isBlocked(any(Email.class), eq(CLIENT_ADDRESS))).thenReturn(true);
+        when(loginThrottle.retryAfterSeconds()).thenReturn(900L);
+
+        TooManyLoginAttemptsException exception = assertThrows(
+            TooManyLoginAttemptsException.class,
+            () -> loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS)
+        );
+
+        assertEquals(900L, exception.getRetryAfterSeconds());
+        verify(userRepository, never()).findByEmail(any());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("should_ResetThrottle_When_LoginSuccessful")
+    void should_ResetThrottle_When_LoginSuccessful() {
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(testUser));
+        when(authenticationDomainService.canUserAuthenticate(testUser)).thenReturn(true);
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(tokenService.generateAccessToken(testUser)).thenReturn("access-token");
+        when(tokenService.generateRefreshToken(testUser)).thenReturn(testRefreshToken);
+
+        loginUserUseCase.execute(validLoginRequest, CLIENT_ADDRESS);
+
+        verify(loginThrottle, times(1)).recordSuccess(any(Email.class), eq(CLIENT_ADDRESS));
+        verify(loginThrottle, never()).recordFailure(any(), any());
+    }
 }
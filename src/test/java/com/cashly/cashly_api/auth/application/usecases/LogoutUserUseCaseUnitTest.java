@@ -1,7 +1,9 @@
 package com.cashly.cashly_api.auth.application.usecases;
 
 import com.cashly.cashly_api.auth.application.dto.LogoutRequest;
+import com.cashly.cashly_api.auth.application.ports.AccessTokenDenylist;
 import com.cashly.cashly_api.auth.application.ports.RefreshTokenRepository;
+import com.cashly.cashly_api.auth.application.ports.TokenService;
 import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
 import com.cashly.cashly_api.auth.domain.valueobjects.RefreshTokenId;
 import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
@@ -29,6 +31,12 @@ class LogoutUserUseCaseUnitTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
+
     @InjectMocks
     private LogoutUserUseCase logoutUserUseCase;
 
@@ -53,13 +61,13 @@ class LogoutUserUseCaseUnitTest {
     void should_RevokeRefreshToken_When_ValidTokenProvided() {
         when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
             .thenReturn(Optional.of(validRefreshToken));
-        when(refreshTokenRepository.save(any(RefreshToken.class)))
+        when(refreshTokenRepository.update(any(RefreshToken.class)))
             .thenAnswer(invocation -> invocation.getArgument(0));
 
         logoutUserUseCase.execute(validRequest);
 
         verify(refreshTokenRepository, times(1)).findByToken(validRequest.refreshToken());
-        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+        verify(refreshTokenRepository, times(1)).update(any(RefreshToken.class));
     }
 
     @Test
@@ -75,7 +83,7 @@ class LogoutUserUseCaseUnitTest {
 
         assertEquals("Invalid refresh token", exception.getMessage());
         verify(refreshTokenRepository, times(1)).findByToken(validRequest.refreshToken());
-        verify(refreshTokenRepository, never()).save(any());
+        verify(refreshTokenRepository, never()).update(any());
     }
 
     @Test
@@ -83,7 +91,7 @@ class LogoutUserUseCaseUnitTest {
     void should_MarkTokenAsRevoked_When_LoggingOut() {
         when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
             .thenReturn(Optional.of(validRefreshToken));
-        when(refreshTokenRepository.save(any(RefreshToken.class)))
+        when(refreshTokenRepository.update(any(RefreshToken.class)))
             .thenAnswer(invocation -> {
                 RefreshToken token = invocation.getArgument(0);
                 assertTrue(token.isRevoked());
@@ -92,7 +100,7 @@ class LogoutUserUseCaseUnitTest {
 
         logoutUserUseCase.execute(validRequest);
 
-        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+        verify(refreshTokenRepository, times(1)).update(any(RefreshToken.class));
     }
 
     @Test
@@ -101,13 +109,13 @@ class LogoutUserUseCaseUnitTest {
         validRefreshToken.revoke();
         when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
             .thenReturn(Optional.of(validRefreshToken));
-        when(refreshTokenRepository.save(any(RefreshToken.class)))
+        when(refreshTokenRepository.update(any(RefreshToken.class)))
             .thenAnswer(invocation -> invocation.getArgument(0));
 
         logoutUserUseCase.execute(validRequest);
 
         verify(refreshTokenRepository, times(1)).findByToken(validRequest.refreshToken());
-        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+        verify(refreshTokenRepository, times(1)).update(any(RefreshToken.class));
     }
 
     @Test
@@ -130,12 +138,51 @@ class LogoutUserUseCaseUnitTest {
 
         when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
             .thenReturn(Optional.of(token));
-        when(refreshTokenRepository.save(any(RefreshToken.class)))
+        when(refreshTokenRepository.update(any(RefreshToken.class)))
             .thenAnswer(invocation -> invocation.getArgument(0));
 
         logoutUserUseCase.execute(validRequest);
 
         verify(refreshTokenRepository, times(1)).findByToken(validRequest.refreshToken());
-        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+        verify(refreshTokenRepository, times(1)).update(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("should_DenylistAccessToken_When_AccessTokenProvided")
+    void should_DenylistAccessToken_When_AccessTokenProvided() {
+        LocalDateTime accessTokenExpiry = LocalDateTime.now().plusMinutes(15);
+        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(validRefreshToken));
+        when(tokenService.validateToken("access-token")).thenReturn(true);
+        when(tokenService.extractTokenId("access-token")).thenReturn("token-id");
+        when(tokenService.getExpirationDate("access-token")).thenReturn(accessTokenExpiry);
+
+        logoutUserUseCase.execute(validRequest, "access-token");
+
+        verify(accessTokenDenylist, times(1)).revoke("token-id", accessTokenExpiry);
+    }
+
+    @Test
+    @DisplayName("should_SkipDenylist_When_AccessTokenIsInvalid")
+    void should_SkipDenylist_When_AccessTokenIsInvalid() {
+        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(validRefreshToken));
+        when(tokenService.validateToken("expired-token")).thenReturn(false);
+
+        logoutUserUseCase.execute(validRequest, "expired-token");
+
+        verify(refreshTokenRepository, times(1)).update(any(RefreshToken.class));
+        verify(accessTokenDenylist, never()).revoke(any(), any());
+    }
+
+    @Test
+    @DisplayName("should_SkipDenylist_When_NoAccessTokenProvided")
+    void should_SkipDenylist_When_NoAccessTokenProvided() {
+        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(validRefreshToken));
+
+        logoutUserUseCase.execute(validRequest);
+
+        verifyNoInteractions(tokenService, accessTokenDenylist);
     }
 }
@@ -0,0 +1,105 @@
+package com.cashly.cashly_api.auth.application.usecases;
+
+import com.cashly.cashly_api.auth.application.dto.RefreshTokenPurgeResult;
+import com.cashly.cashly_api.auth.application.ports.RefreshTokenRepository;
+import com.cashly.cashly_api.auth.domain.valueobjects.RefreshTokenId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PurgeRefreshTokensUseCase Unit Tests")
+class PurgeRefreshTokensUseCaseUnitTest {
+
+    private static final Duration REVOKED_RETENTION = Duration.ofDays(1);
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private PurgeRefreshTokensUseCase purgeRefreshTokensUseCase;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    private List<RefreshTokenId> ids(int count) {
+        return Stream.generate(RefreshTokenId::generate).limit(count).toList();
+    }
+
+    @Test
+    @DisplayName("should_DeleteExpiredThenRevokedChunks_When_TokensArePurgeable")
+    void should_DeleteExpiredThenRevokedChunks_When_TokensArePurgeable() {
+        List<RefreshTokenId> expiredFull = ids(2);
+        List<RefreshTokenId> expiredTail = ids(1);
+        List<RefreshTokenId> revokedTail = ids(1);
+        when(refreshTokenRepository.findExpiredTokenIds(now, 2)).thenReturn(expiredFull).thenReturn(expiredTail);
+        when(refreshTokenRepository.findRevokedTokenIds(now.minus(REVOKED_RETENTION), 2)).thenReturn(revokedTail);
+        when(refreshTokenRepository.deleteAllByIds(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        when(refreshTokenRepository.countPurgeable(now, now.minus(REVOKED_RETENTION))).thenReturn(0L);
+
+        RefreshTokenPurgeResult result = purgeRefreshTokensUseCase.execute(now, REVOKED_RETENTION, 2, 10);
+
+        assertEquals(4, result.deleted());
+        assertEquals(0, result.backlog());
+        verify(refreshTokenRepository).deleteAllByIds(expiredFull);
+        verify(refreshTokenRepository).deleteAllByIds(expiredTail);
+        verify(refreshTokenRepository).deleteAllByIds(revokedTail);
+    }
+
+    @Test
+    @DisplayName("should_StopAndReportBacklog_When_MaxChunksReached")
+    void should_StopAndReportBacklog_When_MaxChunksReached() {
+        when(refreshTokenRepository.findExpiredTokenIds(now, 2)).thenReturn(ids(2)).thenReturn(ids(2));
+        when(refreshTokenRepository.deleteAllByIds(any())).thenReturn(2);
+        when(refreshTokenRepository.countPurgeable(now, now.minus(REVOKED_RETENTION))).thenReturn(40L);
+
+        RefreshTokenPurgeResult result = purgeRefreshTokensUseCase.execute(now, REVOKED_RETENTION, 2, 2);
+
+        assertEquals(4, result.deleted());
+        assertEquals(40, result.backlog());
+        verify(refreshTokenRepository, times(2)).findExpiredTokenIds(now, 2);
+        verify(refreshTokenRepository, never()).findRevokedTokenIds(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should_DeleteNothing_When_NoTokensArePurgeable")
+    void should_DeleteNothing_When_NoTokensArePurgeable() {
+        when(refreshTokenRepository.findExpiredTokenIds(now, 500)).thenReturn(List.of());
+        when(refreshTokenRepository.findRevokedTokenIds(now.minus(REVOKED_RETENTION), 500)).thenReturn(List.of());
+
+        RefreshTokenPurgeResult result = purgeRefreshTokensUseCase.execute(now, REVOKED_RETENTION, 500, 10);
+
+        assertEquals(0, result.deleted());
+        verify(refreshTokenRepository, never()).deleteAllByIds(any());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_ChunkSizeIsNotPositive")
+    void should_ThrowException_When_ChunkSizeIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> purgeRefreshTokensUseCase.execute(now, REVOKED_RETENTION, 0, 10)
+        );
+
+        assertEquals("Chunk size must be positive", exception.getMessage());
+        verifyNoInteractions(refreshTokenRepository);
+    }
+}
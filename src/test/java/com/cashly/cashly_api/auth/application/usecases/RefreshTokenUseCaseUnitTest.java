@@ -1,16 +1,15 @@
 package com.cashly.cashly_api.auth.application.usecases;
 
 import com.cashly.cashly_api.auth.application.dto.AuthenticationResponse;
+import com.cashly.cashly_api.auth.application.dto.RefreshTokenGrant;
 import com.cashly.cashly_api.auth.application.dto.RefreshTokenRequest;
 import com.cashly.cashly_api.auth.application.ports.RefreshTokenRepository;
 import com.cashly.cashly_api.auth.application.ports.TokenService;
-import com.cashly.cashly_api.auth.application.ports.UserRepository;
 import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
 import com.cashly.cashly_api.auth.domain.entities.User;
 import com.cashly.cashly_api.auth.domain.valueobjects.*;
 import com.cashly.cashly_api.shared.exceptions.InvalidTokenException;
 import com.cashly.cashly_api.shared.exceptions.TokenExpiredException;
-import com.cashly.cashly_api.shared.exceptions.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,9 +33,6 @@ class RefreshTokenUseCaseUnitTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private TokenService tokenService;
 
@@ -69,30 +65,29 @@ class RefreshTokenUseCaseUnitTest {
     @Test
     @DisplayName("should_RefreshTokens_When_ValidRefreshTokenProvided")
     void should_RefreshTokens_When_ValidRefreshTokenProvided() {
-        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
-            .thenReturn(Optional.of(validRefreshToken));
-        when(userRepository.findById(any(UserId.class))).thenReturn(Optional.of(testUser));
+        when(refreshTokenRepository.findGrantByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(new RefreshTokenGrant(validRefreshToken, testUser)));
         when(tokenService.generateAccessToken(testUser)).thenReturn("new-access-token");
         when(tokenService.generateRefreshToken(testUser)).thenReturn(validRefreshToken);
         when(tokenService.getAccessTokenExpiration()).thenReturn(900000L);
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(validRefreshToken);
+        when(refreshTokenRepository.rotate(validRefreshToken, validRefreshToken)).thenReturn(true);
 
         AuthenticationResponse response = refreshTokenUseCase.execute(validRequest);
 
         assertNotNull(response);
         assertEquals("new-access-token", response.accessToken());
         assertEquals(validRefreshToken.getToken(), response.refreshToken());
-        verify(refreshTokenRepository, times(1)).findByToken(validRequest.refreshToken());
-        verify(userRepository, times(1)).findById(any(UserId.class));
+        verify(refreshTokenRepository, times(1)).findGrantByToken(validRequest.refreshToken());
         verify(tokenService, times(1)).generateAccessToken(testUser);
         verify(tokenService, times(1)).generateRefreshToken(testUser);
-        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class)); 
+        verify(refreshTokenRepository, times(1)).rotate(validRefreshToken, validRefreshToken);
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
     }
 
     @Test
     @DisplayName("should_ThrowException_When_RefreshTokenNotFound")
     void should_ThrowException_When_RefreshTokenNotFound() {
-        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
+        when(refreshTokenRepository.findGrantByToken(validRequest.refreshToken()))
             .thenReturn(Optional.empty());
 
         InvalidTokenException exception = assertThrows(
@@ -101,8 +96,8 @@ class RefreshTokenUseCaseUnitTest {
         );
 
         assertEquals("Invalid refresh token", exception.getMessage());
-        verify(refreshTokenRepository, times(1)).findByToken(validRequest.refreshToken());
-        verify(userRepository, never()).findById(any());
+        verify(refreshTokenRepository, times(1)).findGrantByToken(validRequest.refreshToken());
+        verify(tokenService, never()).generateRefreshToken(any());
         verify(tokenService, never()).generateAccessToken(any());
     }
 
@@ -124,8 +119,8 @@ class RefreshTokenUseCaseUnitTest {
             throw new RuntimeException(e);
         }
 
-        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
-            .thenReturn(Optional.of(token));
+        when(refreshTokenRepository.findGrantByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(new RefreshTokenGrant(token, testUser)));
 
         InvalidTokenException exception = assertThrows(
             InvalidTokenException.class,
@@ -133,16 +128,16 @@ class RefreshTokenUseCaseUnitTest {
         );
 
         assertEquals("Refresh token is expired or revoked", exception.getMessage());
-        verify(refreshTokenRepository, times(1)).findByToken(validRequest.refreshToken());
-        verify(userRepository, never()).findById(any());
+        verify(refreshTokenRepository, times(1)).findGrantByToken(validRequest.refreshToken());
+        verify(tokenService, never()).generateRefreshToken(any());
     }
 
     @Test
     @DisplayName("should_ThrowException_When_RefreshTokenRevoked")
     void should_ThrowException_When_RefreshTokenRevoked() {
         validRefreshToken.revoke();
-        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
-            .thenReturn(Optional.of(validRefreshToken));
+        when(refreshTokenRepository.findGrantByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(new RefreshTokenGrant(validRefreshToken, testUser)));
 
         InvalidTokenException exception = assertThrows(
             InvalidTokenException.class,
@@ -150,38 +145,37 @@ class RefreshTokenUseCaseUnitTest {
         );
 
         assertEquals("Refresh token is expired or revoked", exception.getMessage());
-        verify(refreshTokenRepository, times(1)).findByToken(validRequest.refreshToken());
-        verify(userRepository, never()).findById(any());
+        verify(refreshTokenRepository, times(1)).findGrantByToken(validRequest.refreshToken());
+        verify(tokenService, never()).generateRefreshToken(any());
     }
 
     @Test
-    @DisplayName("should_ThrowException_When_UserNotFound")
-    void should_ThrowException_When_UserNotFound() {
-        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
-            .thenReturn(Optional.of(validRefreshToken));
-        when(userRepository.findById(any(UserId.class))).thenReturn(Optional.empty());
-
-        UserNotFoundException exception = assertThrows(
-            UserNotFoundException.class,
+    @DisplayName("should_ThrowException_When_UserNotActive")
+    void should_ThrowException_When_UserNotActive() {
+        testUser.deactivate();
+        when(refreshTokenRepository.findGrantByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(new RefreshTokenGrant(validRefreshToken, testUser)));
+
+        InvalidTokenException exception = assertThrows(
+            InvalidTokenException.class,
             () -> refreshTokenUseCase.execute(validRequest)
         );
 
-        assertEquals("User not found", exception.getMessage());
-        verify(refreshTokenRepository, times(1)).findByToken(validRequest.refreshToken());
-        verify(userRepository, times(1)).findById(any(UserId.class));
+        assertEquals("User account is not active", exception.getMessage());
+        verify(refreshTokenRepository, times(1)).findGrantByToken(validRequest.refreshToken());
+        verify(refreshTokenRepository, never()).rotate(any(), any());
         verify(tokenService, never()).generateAccessToken(any());
     }
 
     @Test
     @DisplayName("should_GenerateNewAccessToken_When_RefreshSuccessful")
     void should_GenerateNewAccessToken_When_RefreshSuccessful() {
-        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
-            .thenReturn(Optional.of(validRefreshToken));
-        when(userRepository.findById(any(UserId.class))).thenReturn(Optional.of(testUser));
+        when(refreshTokenRepository.findGrantByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(new RefreshTokenGrant(validRefreshToken, testUser)));
         when(tokenService.generateAccessToken(testUser)).thenReturn("new-access-token");
         when(tokenService.generateRefreshToken(testUser)).thenReturn(validRefreshToken);
         when(tokenService.getAccessTokenExpiration()).thenReturn(900000L);
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(validRefreshToken);
+        when(refreshTokenRepository.rotate(validRefreshToken, validRefreshToken)).thenReturn(true);
 
         AuthenticationResponse response = refreshTokenUseCase.execute(validRequest);
 
@@ -199,18 +193,41 @@ class RefreshTokenUseCaseUnitTest {
             LocalDateTime.now().plusDays(7)
         );
 
-        when(refreshTokenRepository.findByToken(validRequest.refreshToken()))
-            .thenReturn(Optional.of(validRefreshToken));
-        when(userRepository.findById(any(UserId.class))).thenReturn(Optional.of(testUser));
+        when(refreshTokenRepository.findGrantByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(new RefreshTokenGrant(validRefreshToken, testUser)));
         when(tokenService.generateAccessToken(testUser)).thenReturn("new-access-token");
         when(tokenService.generateRefreshToken(testUser)).thenReturn(newRefreshToken);
         when(tokenService.getAccessTokenExpiration()).thenReturn(900000L);
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(newRefreshToken);
+        when(refreshTokenRepository.rotate(validRefreshToken, newRefreshToken)).thenReturn(true);
 
         AuthenticationResponse response = refreshTokenUseCase.execute(validRequest);
 
         assertEquals(newRefreshToken.getToken(), response.refreshToken());
         verify(tokenService, times(1)).generateRefreshToken(testUser);
-        verify(refreshTokenRepository, times(1)).save(newRefreshToken);
+        verify(refreshTokenRepository, times(1)).rotate(validRefreshToken, newRefreshToken);
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_RefreshTokenRotatedConcurrently")
+    void should_ThrowException_When_RefreshTokenRotatedConcurrently() {
+        RefreshToken newRefreshToken = new RefreshToken(
+            RefreshTokenId.generate(),
+            testUser.getId(),
+            UUID.randomUUID().toString(),
+            LocalDateTime.now().plusDays(7)
+        );
+
+        when(refreshTokenRepository.findGrantByToken(validRequest.refreshToken()))
+            .thenReturn(Optional.of(new RefreshTokenGrant(validRefreshToken, testUser)));
+        when(tokenService.generateRefreshToken(testUser)).thenReturn(newRefreshToken);
+        when(refreshTokenRepository.rotate(validRefreshToken, newRefreshToken)).thenReturn(false);
+
+        InvalidTokenException exception = assertThrows(
+            InvalidTokenException.class,
+            () -> refreshTokenUseCase.execute(validRequest)
+        );
+
+        assertEquals("Refresh token is expired or revoked", exception.getMessage());
+        verify(tokenService, never()).generateAccessToken(any());
     }
 }
@@ -4,6 +4,7 @@ import com.cashly.cashly_api.auth.application.dto.RegisterUserRequest;
 import com.cashly.cashly_api.auth.application.dto.UserResponse;
 import com.cashly.cashly_api.auth.application.ports.PasswordEncoder;
 import com.cashly.cashly_api.auth.application.ports.UserRepository;
+import com.cashly.cashly_api.auth.application.ports.UserStatusCache;
 import com.cashly.cashly_api.auth.domain.entities.User;
 import com.cashly.cashly_api.auth.domain.valueobjects.Email;
 import com.cashly.cashly_api.shared.exceptions.DuplicateEmailException;
@@ -30,6 +31,9 @@ class RegisterUserUseCaseUnitTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserStatusCache userStatusCache;
+
     @InjectMocks
     private RegisterUserUseCase registerUserUseCase;
 
@@ -64,6 +68,7 @@ class RegisterUserUseCaseUnitTest {
         verify(userRepository, times(1)).existsByEmail(any(Email.class));
         verify(passwordEncoder, times(1)).encode("SecurePass123!");
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userStatusCache, times(1)).invalidate(any());
     }
 
     @Test
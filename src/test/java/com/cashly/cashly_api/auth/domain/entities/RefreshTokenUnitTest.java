@@ -201,4 +201,25 @@ class RefreshTokenUnitTest {
         assertTrue(result.contains("token='***'"));
         assertFalse(result.contains("sample-refresh-token-value"));
     }
+
+    @Test
+    void should_KeepExpiredState_When_Rehydrated() {
+        LocalDateTime pastExpiration = LocalDateTime.now().minusDays(1);
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(8);
+
+        RefreshToken refreshToken = RefreshToken.rehydrate(tokenId, userId, token, pastExpiration, true, createdAt);
+
+        assertEquals(pastExpiration, refreshToken.getExpiresAt());
+        assertEquals(createdAt, refreshToken.getCreatedAt());
+        assertTrue(refreshToken.isRevoked());
+        assertTrue(refreshToken.isExpired());
+    }
+
+    @Test
+    void should_ThrowException_When_RehydratedWithEmptyToken() {
+        LocalDateTime pastExpiration = LocalDateTime.now().minusDays(1);
+
+        assertThrows(IllegalArgumentException.class, () ->
+            RefreshToken.rehydrate(tokenId, userId, " ", pastExpiration, false, pastExpiration.minusDays(7)));
+    }
 }
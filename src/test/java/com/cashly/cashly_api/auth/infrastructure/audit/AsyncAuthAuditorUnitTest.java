@@ -0,0 +1,89 @@
+package com.cashly.cashly_api.auth.infrastructure.audit;
+
+import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncAuthAuditor Unit Tests")
+class AsyncAuthAuditorUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncAuthAuditor auditor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (auditor != null) {
+            auditor.shutdown();
+        }
+    }
+
+    private double outcomeCount(AuthOutcome outcome) {
+        return meterRegistry.get(AsyncAuthAuditor.EVENTS_METRIC)
+            .tag("outcome", outcome.name().toLowerCase())
+            .counter()
+            .count();
+    }
+
+    @Test
+    @DisplayName("should_CountEveryOutcome_When_SuccessesAreNotSampled")
+    void should_CountEveryOutcome_When_SuccessesAreNotSampled() {
+        auditor = new AsyncAuthAuditor(meterRegistry, 16, 0.0);
+
+        for (int i = 0; i < 100; i++) {
+            auditor.record(AuthOutcome.AUTHENTICATED, "/api/expenses", UserId.generate());
+        }
+        auditor.record(AuthOutcome.INVALID_TOKEN, "/api/expenses", null);
+
+        assertEquals(100, outcomeCount(AuthOutcome.AUTHENTICATED));
+        assertEquals(1, outcomeCount(AuthOutcome.INVALID_TOKEN));
+        assertEquals(0, meterRegistry.get(AsyncAuthAuditor.DROPPED_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("should_CountDroppedEvents_When_QueueIsFull")
+    void should_CountDroppedEvents_When_QueueIsFull() {
+        auditor = new AsyncAuthAuditor(meterRegistry, 1, 1.0);
+        auditor.shutdown();
+
+        auditor.record(AuthOutcome.USER_NOT_FOUND, "/api/expenses", null);
+        auditor.record(AuthOutcome.USER_NOT_FOUND, "/api/expenses", null);
+        auditor.record(AuthOutcome.USER_NOT_FOUND, "/api/expenses", null);
+
+        assertEquals(3, outcomeCount(AuthOutcome.USER_NOT_FOUND));
+        assertEquals(2, meterRegistry.get(AsyncAuthAuditor.DROPPED_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("should_DrainQueue_When_ShutDown")
+    void should_DrainQueue_When_ShutDown() {
+        auditor = new AsyncAuthAuditor(meterRegistry, 64, 1.0);
+
+        auditor.recordError("/api/expenses", new IllegalStateException("boom"));
+        auditor.record(AuthOutcome.REVOKED_TOKEN, "/api/expenses", null);
+        auditor.shutdown();
+
+        assertEquals(0, auditor.pendingEvents());
+        assertEquals(1, outcomeCount(AuthOutcome.ERROR));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_SampleRateOutOfRange")
+    void should_ThrowException_When_SampleRateOutOfRange() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new AsyncAuthAuditor(meterRegistry, 16, 1.5)
+        );
+
+        assertEquals("Sample rate must be between 0 and 1", exception.getMessage());
+    }
+}
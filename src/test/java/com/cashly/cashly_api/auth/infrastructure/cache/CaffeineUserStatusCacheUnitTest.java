@@ -0,0 +1,110 @@
+package com.cashly.cashly_api.auth.infrastructure.cache;
+
+import com.cashly.cashly_api.auth.application.dto.UserAuthenticationStatus;
+import com.cashly.cashly_api.auth.application.ports.UserRepository;
+import com.cashly.cashly_api.auth.domain.entities.User;
+import com.cashly.cashly_api.auth.domain.valueobjects.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CaffeineUserStatusCache Unit Tests")
+class CaffeineUserStatusCacheUnitTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineUserStatusCache cache;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CaffeineUserStatusCache(userRepository, meterRegistry, 100, 30000);
+
+        testUser = new User(
+            UserId.generate(),
+            new Email("test@example.com"),
+            Password.fromHash("$2a$10$hashedPassword"),
+            new UserProfile("John", "Doe")
+        );
+    }
+
+    @Test
+    @DisplayName("should_LoadStatusOnce_When_SameUserRequestedTwice")
+    void should_LoadStatusOnce_When_SameUserRequestedTwice() {
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+
+        UserAuthenticationStatus first = cache.get(testUser.getId());
+        UserAuthenticationStatus second = cache.get(testUser.getId());
+
+        assertTrue(first.canAuthenticate());
+        assertEquals(first, second);
+        verify(userRepository, times(1)).findById(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("should_CacheNotFound_When_UserDoesNotExist")
+    void should_CacheNotFound_When_UserDoesNotExist() {
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.empty());
+
+        UserAuthenticationStatus status = cache.get(testUser.getId());
+        cache.get(testUser.getId());
+
+        assertFalse(status.exists());
+        assertFalse(status.canAuthenticate());
+        verify(userRepository, times(1)).findById(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("should_ReloadStatus_When_UserInvalidated")
+    void should_ReloadStatus_When_UserInvalidated() {
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+        cache.get(testUser.getId());
+
+        testUser.deactivate();
+        cache.invalidate(testUser.getId());
+        UserAuthenticationStatus status = cache.get(testUser.getId());
+
+        assertFalse(status.canAuthenticate());
+        verify(userRepository, times(2)).findById(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("should_RecordHitsAndMisses_When_StatusRequested")
+    void should_RecordHitsAndMisses_When_StatusRequested() {
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+
+        cache.get(testUser.getId());
+        cache.get(testUser.getId());
+
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+            .tags("cache", CaffeineUserStatusCache.CACHE_NAME, "result", "hit")
+            .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+            .tags("cache", CaffeineUserStatusCache.CACHE_NAME, "result", "miss")
+            .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_UserIdIsNull")
+    void should_ThrowException_When_UserIdIsNull() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> cache.get(null)
+        );
+
+        assertEquals("User ID cannot be null", exception.getMessage());
+    }
+}
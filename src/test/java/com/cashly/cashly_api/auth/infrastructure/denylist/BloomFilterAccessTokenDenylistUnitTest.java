@@ -0,0 +1,154 @@
+package com.cashly.cashly_api.auth.infrastructure.denylist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BloomFilterAccessTokenDenylist Unit Tests")
+class BloomFilterAccessTokenDenylistUnitTest {
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofMinutes(15);
+
+    @Mock
+    private SpringDataRevokedAccessTokenRepository repository;
+
+    private MutableClock clock;
+    private BloomFilterAccessTokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+        denylist = new BloomFilterAccessTokenDenylist(
+            repository,
+            clock,
+            TOKEN_LIFETIME,
+            Duration.ofSeconds(10),
+            1_000,
+            0.01
+        );
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    @Test
+    @DisplayName("should_SkipStore_When_TokenIdNotInFilter")
+    void should_SkipStore_When_TokenIdNotInFilter() {
+        assertFalse(denylist.isRevoked("never-revoked"));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("should_PersistAndReportRevoked_When_TokenRevoked")
+    void should_PersistAndReportRevoked_When_TokenRevoked() {
+        LocalDateTime expiresAt = now().plusMinutes(10);
+        when(repository.existsByTokenIdAndExpiresAtAfter("token-1", now())).thenReturn(true);
+
+        denylist.revoke("token-1", expiresAt);
+
+        assertTrue(denylist.isRevoked("token-1"));
+        verify(repository).save(any(RevokedAccessTokenEntity.class));
+    }
+
+    @Test
+    @DisplayName("should_IgnoreRevocation_When_TokenAlreadyExpired")
+    void should_IgnoreRevocation_When_TokenAlreadyExpired() {
+        denylist.revoke("token-1", now().minusSeconds(1));
+
+        assertFalse(denylist.isRevoked("token-1"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("should_LearnRemoteRevocations_When_Synchronized")
+    void should_LearnRemoteRevocations_When_Synchronized() {
+        when(repository.findActiveTokenIdsRevokedSince(any(), any())).thenReturn(List.of("remote-token"));
+        when(repository.existsByTokenIdAndExpiresAtAfter("remote-token", now())).thenReturn(true);
+
+        denylist.synchronize();
+
+        assertTrue(denylist.isRevoked("remote-token"));
+    }
+
+    @Test
+    @DisplayName("should_QueryFromWatermarkMinusOverlap_When_SynchronizedAgain")
+    void should_QueryFromWatermarkMinusOverlap_When_SynchronizedAgain() {
+        when(repository.findActiveTokenIdsRevokedSince(any(), any())).thenReturn(List.of());
+        denylist.synchronize();
+        LocalDateTime firstSync = now();
+
+        clock.advance(Duration.ofSeconds(5));
+        denylist.synchronize();
+
+        verify(repository).findActiveTokenIdsRevokedSince(firstSync.minusSeconds(10), now());
+    }
+
+    @Test
+    @DisplayName("should_AgeOutEntries_When_TwoTokenLifetimesHavePassed")
+    void should_AgeOutEntries_When_TwoTokenLifetimesHavePassed() {
+        when(repository.findActiveTokenIdsRevokedSince(any(), any())).thenReturn(List.of());
+        lenient().when(repository.existsByTokenIdAndExpiresAtAfter(anyString(), any())).thenReturn(true);
+        denylist.revoke("token-1", now().plus(TOKEN_LIFETIME));
+
+        clock.advance(TOKEN_LIFETIME);
+        denylist.synchronize();
+        assertTrue(denylist.isRevoked("token-1"));
+
+        clock.advance(TOKEN_LIFETIME);
+        denylist.synchronize();
+        assertFalse(denylist.isRevoked("token-1"));
+    }
+
+    @Test
+    @DisplayName("should_ReturnFalse_When_TokenIdIsNull")
+    void should_ReturnFalse_When_TokenIdIsNull() {
+        assertFalse(denylist.isRevoked(null));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
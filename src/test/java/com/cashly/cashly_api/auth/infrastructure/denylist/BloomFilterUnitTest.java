@@ -0,0 +1,72 @@
+package com.cashly.cashly_api.auth.infrastructure.denylist;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BloomFilter Unit Tests")
+class BloomFilterUnitTest {
+
+    @Test
+    @DisplayName("should_ContainValue_When_ValueWasPut")
+    void should_ContainValue_When_ValueWasPut() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("token-" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain("token-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("should_KeepFalsePositivesNearTarget_When_FilledToCapacity")
+    void should_KeepFalsePositivesNearTarget_When_FilledToCapacity() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("should_NotContainValue_When_FilterIsEmpty")
+    void should_NotContainValue_When_FilterIsEmpty() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain("token"));
+    }
+
+    @Test
+    @DisplayName("should_SizeFilter_When_ExpectedInsertionsGiven")
+    void should_SizeFilter_When_ExpectedInsertionsGiven() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertTrue(filter.bitCount() >= 9_585);
+        assertEquals(7, filter.hashFunctions());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_FalsePositiveRateOutOfRange")
+    void should_ThrowException_When_FalsePositiveRateOutOfRange() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new BloomFilter(100, 1.0)
+        );
+
+        assertEquals("False positive rate must be between 0 and 1", exception.getMessage());
+    }
+}
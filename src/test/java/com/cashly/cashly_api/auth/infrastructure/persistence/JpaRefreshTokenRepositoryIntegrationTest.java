@@ -0,0 +1,119 @@
+package com.cashly.cashly_api.auth.infrastructure.persistence;
+
+import com.cashly.cashly_api.auth.application.dto.RefreshTokenGrant;
+import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
+import com.cashly.cashly_api.auth.domain.entities.User;
+import com.cashly.cashly_api.auth.domain.valueobjects.Email;
+import com.cashly.cashly_api.auth.domain.valueobjects.Password;
+import com.cashly.cashly_api.auth.domain.valueobjects.RefreshTokenId;
+import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+import com.cashly.cashly_api.auth.domain.valueobjects.UserProfile;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaRefreshTokenRepository.class)
+@DisplayName("JpaRefreshTokenRepository Integration Tests")
+class JpaRefreshTokenRepositoryIntegrationTest {
+
+    @Autowired
+    private JpaRefreshTokenRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private RefreshToken refreshToken;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        refreshToken = new RefreshToken(
+            RefreshTokenId.generate(),
+            UserId.generate(),
+            UUID.randomUUID().toString(),
+            LocalDateTime.now().plusDays(7)
+        );
+    }
+
+    @Test
+    @DisplayName("should_IssueSingleInsert_When_NewRefreshTokenSaved")
+    void should_IssueSingleInsert_When_NewRefreshTokenSaved() {
+        statistics.clear();
+
+        repository.save(refreshToken);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("should_IssueSingleUpdate_When_RevokedRefreshTokenUpdated")
+    void should_IssueSingleUpdate_When_RevokedRefreshTokenUpdated() {
+        repository.save(refreshToken);
+        entityManager.flush();
+        entityManager.clear();
+
+        refreshToken.revoke();
+        statistics.clear();
+
+        repository.update(refreshToken);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        RefreshTokenEntity stored = entityManager.find(
+            RefreshTokenEntity.class, refreshToken.getId().getValue().toString()
+        );
+        assertTrue(stored.isRevoked());
+    }
+
+    @Test
+    @DisplayName("should_LoadTokenAndOwnerInOneQuery_When_FindingGrant")
+    void should_LoadTokenAndOwnerInOneQuery_When_FindingGrant() {
+        User user = new User(
+            UserId.generate(),
+            new Email("grant@example.com"),
+            Password.fromHash("$2a$10$hashedPassword"),
+            new UserProfile("John", "Doe")
+        );
+        entityManager.persist(UserEntity.fromDomain(user));
+        RefreshToken owned = new RefreshToken(
+            RefreshTokenId.generate(),
+            user.getId(),
+            UUID.randomUUID().toString(),
+            LocalDateTime.now().plusDays(7)
+        );
+        repository.save(owned);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        RefreshTokenGrant grant = repository.findGrantByToken(owned.getToken()).orElseThrow();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(owned.getId(), grant.refreshToken().getId());
+        assertEquals(user.getId(), grant.user().getId());
+        assertEquals("grant@example.com", grant.user().getEmail().getValue());
+    }
+}
@@ -3,6 +3,7 @@ package com.cashly.cashly_api.auth.infrastructure.persistence;
 import com.cashly.cashly_api.auth.domain.entities.RefreshToken;
 import com.cashly.cashly_api.auth.domain.valueobjects.RefreshTokenId;
 import com.cashly.cashly_api.auth.domain.valueobjects.UserId;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -19,7 +21,11 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,7 +58,6 @@ class JpaRefreshTokenRepositoryUnitTest {
     @Test
     @DisplayName("should_SaveRefreshToken_When_NewTokenProvided")
     void should_SaveRefreshToken_When_NewTokenProvided() {
-        when(springDataRefreshTokenRepository.findById(anyString())).thenReturn(Optional.empty());
         when(springDataRefreshTokenRepository.save(any(RefreshTokenEntity.class)))
             .thenReturn(testRefreshTokenEntity);
 
@@ -61,23 +66,35 @@ class JpaRefreshTokenRepositoryUnitTest {
         assertNotNull(savedToken);
         assertEquals(testRefreshToken.getId(), savedToken.getId());
         assertEquals(testRefreshToken.getToken(), savedToken.getToken());
-        verify(springDataRefreshTokenRepository, times(1)).findById(anyString());
-        verify(springDataRefreshTokenRepository, times(1)).save(any(RefreshTokenEntity.class));
+        verify(springDataRefreshTokenRepository, never()).findById(anyString());
+        verify(springDataRefreshTokenRepository, times(1)).save(argThat(RefreshTokenEntity::isNew));
     }
 
     @Test
     @DisplayName("should_UpdateRefreshToken_When_ExistingTokenProvided")
     void should_UpdateRefreshToken_When_ExistingTokenProvided() {
-        when(springDataRefreshTokenRepository.findById(anyString()))
-            .thenReturn(Optional.of(testRefreshTokenEntity));
-        when(springDataRefreshTokenRepository.save(any(RefreshTokenEntity.class)))
-            .thenReturn(testRefreshTokenEntity);
+        testRefreshToken.revoke();
+        when(springDataRefreshTokenRepository.updateRevoked(testRefreshToken.getId().getValue().toString(), true))
+            .thenReturn(1);
 
-        RefreshToken savedToken = jpaRefreshTokenRepository.save(testRefreshToken);
+        RefreshToken updatedToken = jpaRefreshTokenRepository.update(testRefreshToken);
 
-        assertNotNull(savedToken);
-        verify(springDataRefreshTokenRepository, times(1)).findById(anyString());
-        verify(springDataRefreshTokenRepository, times(1)).save(any(RefreshTokenEntity.class));
+        assertSame(testRefreshToken, updatedToken);
+        verify(springDataRefreshTokenRepository, never()).findById(anyString());
+        verify(springDataRefreshTokenRepository, never()).save(any(RefreshTokenEntity.class));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_UpdatedRefreshTokenDoesNotExist")
+    void should_ThrowException_When_UpdatedRefreshTokenDoesNotExist() {
+        when(springDataRefreshTokenRepository.updateRevoked(anyString(), anyBoolean())).thenReturn(0);
+
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> jpaRefreshTokenRepository.update(testRefreshToken)
+        );
+
+        assertEquals("RefreshToken not found: " + testRefreshToken.getId().getValue(), exception.getMessage());
     }
 
     @Test
@@ -96,27 +113,27 @@ class JpaRefreshTokenRepositoryUnitTest {
     @DisplayName("should_FindTokenByString_When_TokenExists")
     void should_FindTokenByString_When_TokenExists() {
         String tokenString = testRefreshToken.getToken();
-        when(springDataRefreshTokenRepository.findByToken(tokenString))
+        when(springDataRefreshTokenRepository.findByTokenHash(RefreshTokenHasher.hash(tokenString)))
             .thenReturn(Optional.of(testRefreshTokenEntity));
 
         Optional<RefreshToken> foundToken = jpaRefreshTokenRepository.findByToken(tokenString);
 
         assertTrue(foundToken.isPresent());
         assertEquals(testRefreshToken.getToken(), foundToken.get().getToken());
-        verify(springDataRefreshTokenRepository, times(1)).findByToken(anyString());
+        verify(springDataRefreshTokenRepository, times(1)).findByTokenHash(any(byte[].class));
     }
 
     @Test
     @DisplayName("should_ReturnEmpty_When_TokenNotFound")
     void should_ReturnEmpty_When_TokenNotFound() {
         String tokenString = "nonexistent-token";
-        when(springDataRefreshTokenRepository.findByToken(tokenString))
+        when(springDataRefreshTokenRepository.findByTokenHash(RefreshTokenHasher.hash(tokenString)))
             .thenReturn(Optional.empty());
 
         Optional<RefreshToken> foundToken = jpaRefreshTokenRepository.findByToken(tokenString);
 
         assertFalse(foundToken.isPresent());
-        verify(springDataRefreshTokenRepository, times(1)).findByToken(anyString());
+        verify(springDataRefreshTokenRepository, times(1)).findByTokenHash(any(byte[].class));
     }
 
     @Test
@@ -128,7 +145,7 @@ class JpaRefreshTokenRepositoryUnitTest {
         );
 
         assertEquals("Token cannot be null or empty", exception.getMessage());
-        verify(springDataRefreshTokenRepository, never()).findByToken(anyString());
+        verify(springDataRefreshTokenRepository, never()).findByTokenHash(any(byte[].class));
     }
 
     @Test
@@ -140,7 +157,19 @@ class JpaRefreshTokenRepositoryUnitTest {
         );
 
         assertEquals("Token cannot be null or empty", exception.getMessage());
-        verify(springDataRefreshTokenRepository, never()).findByToken(anyString());
+        verify(springDataRefreshTokenRepository, never()).findByTokenHash(any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_FindingGrantByNullToken")
+    void should_ThrowException_When_FindingGrantByNullToken() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> jpaRefreshTokenRepository.findGrantByToken(null)
+        );
+
+        assertEquals("Token cannot be null or empty", exception.getMessage());
+        verify(springDataRefreshTokenRepository, never()).findGrantByTokenHash(any(byte[].class));
     }
 
     @Test
@@ -225,4 +254,114 @@ class JpaRefreshTokenRepositoryUnitTest {
         verify(springDataRefreshTokenRepository, times(1))
             .deleteExpiredTokens(any(LocalDateTime.class));
     }
+
+    @Test
+    @DisplayName("should_ReturnExpiredTokenIds_When_ExpiredTokensExist")
+    void should_ReturnExpiredTokenIds_When_ExpiredTokensExist() {
+        LocalDateTime now = LocalDateTime.now();
+        String expiredId = UUID.randomUUID().toString();
+        when(springDataRefreshTokenRepository.findExpiredIds(eq(now), any(Limit.class)))
+            .thenReturn(List.of(expiredId));
+
+        List<RefreshTokenId> ids = jpaRefreshTokenRepository.findExpiredTokenIds(now, 100);
+
+        assertEquals(List.of(RefreshTokenId.from(expiredId)), ids);
+        verify(springDataRefreshTokenRepository).findExpiredIds(now, Limit.of(100));
+    }
+
+    @Test
+    @DisplayName("should_ReturnRevokedTokenIds_When_RevokedTokensExist")
+    void should_ReturnRevokedTokenIds_When_RevokedTokensExist() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+        String revokedId = UUID.randomUUID().toString();
+        when(springDataRefreshTokenRepository.findRevokedIds(eq(cutoff), any(Limit.class)))
+            .thenReturn(List.of(revokedId));
+
+        List<RefreshTokenId> ids = jpaRefreshTokenRepository.findRevokedTokenIds(cutoff, 50);
+
+        assertEquals(List.of(RefreshTokenId.from(revokedId)), ids);
+        verify(springDataRefreshTokenRepository).findRevokedIds(cutoff, Limit.of(50));
+    }
+
+    @Test
+    @DisplayName("should_DeleteTokensById_When_IdsProvided")
+    void should_DeleteTokensById_When_IdsProvided() {
+        RefreshTokenId first = RefreshTokenId.generate();
+        RefreshTokenId second = RefreshTokenId.generate();
+        when(springDataRefreshTokenRepository.deleteAllByIdIn(anyList())).thenReturn(2);
+
+        int deleted = jpaRefreshTokenRepository.deleteAllByIds(List.of(first, second));
+
+        assertEquals(2, deleted);
+        verify(springDataRefreshTokenRepository).deleteAllByIdIn(
+            List.of(first.getValue().toString(), second.getValue().toString())
+        );
+    }
+
+    @Test
+    @DisplayName("should_SkipDelete_When_NoIdsProvided")
+    void should_SkipDelete_When_NoIdsProvided() {
+        int deleted = jpaRefreshTokenRepository.deleteAllByIds(List.of());
+
+        assertEquals(0, deleted);
+        verify(springDataRefreshTokenRepository, never()).deleteAllByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_FindingExpiredTokenIdsWithNullTime")
+    void should_ThrowException_When_FindingExpiredTokenIdsWithNullTime() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> jpaRefreshTokenRepository.findExpiredTokenIds(null, 100)
+        );
+
+        assertEquals("Current time cannot be null", exception.getMessage());
+        verify(springDataRefreshTokenRepository, never()).findExpiredIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("should_RevokeAndInsert_When_RotatingActiveToken")
+    void should_RevokeAndInsert_When_RotatingActiveToken() {
+        RefreshToken replacement = new RefreshToken(
+            RefreshTokenId.generate(),
+            testUserId,
+            UUID.randomUUID().toString(),
+            LocalDateTime.now().plusDays(7)
+        );
+        when(springDataRefreshTokenRepository.revokeIfActive(
+            eq(testRefreshToken.getId().getValue().toString()), any(LocalDateTime.class)
+        )).thenReturn(1);
+
+        boolean rotated = jpaRefreshTokenRepository.rotate(testRefreshToken, replacement);
+
+        assertTrue(rotated);
+        verify(springDataRefreshTokenRepository).insertToken(
+            UuidBinaryConverter.toBytes(replacement.getId().getValue().toString()),
+            UuidBinaryConverter.toBytes(testUserId.getValue().toString()),
+            RefreshTokenHasher.hash(replacement.getToken()),
+            replacement.getExpiresAt(),
+            false,
+            replacement.getCreatedAt()
+        );
+        verify(springDataRefreshTokenRepository, never()).findById(anyString());
+        verify(springDataRefreshTokenRepository, never()).save(any(RefreshTokenEntity.class));
+    }
+
+    @Test
+    @DisplayName("should_NotInsertReplacement_When_TokenAlreadyRotated")
+    void should_NotInsertReplacement_When_TokenAlreadyRotated() {
+        RefreshToken replacement = new RefreshToken(
+            RefreshTokenId.generate(),
+            testUserId,
+            UUID.randomUUID().toString(),
+            LocalDateTime.now().plusDays(7)
+        );
+        when(springDataRefreshTokenRepository.revokeIfActive(anyString(), any(LocalDateTime.class))).thenReturn(0);
+
+        boolean rotated = jpaRefreshTokenRepository.rotate(testRefreshToken, replacement);
+
+        assertFalse(rotated);
+        verify(springDataRefreshTokenRepository, never())
+            .insertToken(any(byte[].class), any(byte[].class), any(byte[].class), any(), anyBoolean(), any());
+    }
 }
@@ -0,0 +1,79 @@
+package com.cashly.cashly_api.auth.infrastructure.persistence;
+
+import com.cashly.cashly_api.auth.domain.entities.User;
+import com.cashly.cashly_api.auth.domain.valueobjects.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaUserRepository.class)
+@DisplayName("JpaUserRepository Integration Tests")
+class JpaUserRepositoryIntegrationTest {
+
+    @Autowired
+    private JpaUserRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        user = new User(
+            UserId.generate(),
+            new Email("test@example.com"),
+            Password.fromHash("$2a$10$hashedPassword"),
+            new UserProfile("John", "Doe")
+        );
+    }
+
+    @Test
+    @DisplayName("should_IssueSingleInsert_When_NewUserSaved")
+    void should_IssueSingleInsert_When_NewUserSaved() {
+        statistics.clear();
+
+        repository.save(user);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("should_IssueSingleUpdate_When_ExistingUserUpdated")
+    void should_IssueSingleUpdate_When_ExistingUserUpdated() {
+        repository.save(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        user.verifyEmail();
+        statistics.clear();
+
+        repository.update(user);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        UserEntity stored = entityManager.find(UserEntity.class, user.getId().getValue().toString());
+        assertTrue(stored.isEmailVerified());
+    }
+}
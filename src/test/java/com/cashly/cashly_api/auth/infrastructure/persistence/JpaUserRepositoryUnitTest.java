@@ -14,7 +14,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,7 +47,6 @@ class JpaUserRepositoryUnitTest {
     @Test
     @DisplayName("should_SaveUser_When_NewUserProvided")
     void should_SaveUser_When_NewUserProvided() {
-        when(springDataUserRepository.findById(anyString())).thenReturn(Optional.empty());
         when(springDataUserRepository.save(any(UserEntity.class))).thenReturn(testUserEntity);
 
         User savedUser = jpaUserRepository.save(testUser);
@@ -53,21 +54,54 @@ class JpaUserRepositoryUnitTest {
         assertNotNull(savedUser);
         assertEquals(testUser.getId(), savedUser.getId());
         assertEquals(testUser.getEmail(), savedUser.getEmail());
-        verify(springDataUserRepository, times(1)).findById(anyString());
-        verify(springDataUserRepository, times(1)).save(any(UserEntity.class));
+        verify(springDataUserRepository, never()).findById(anyString());
+        verify(springDataUserRepository, times(1)).save(argThat(UserEntity::isNew));
     }
 
     @Test
     @DisplayName("should_UpdateUser_When_ExistingUserProvided")
     void should_UpdateUser_When_ExistingUserProvided() {
-        when(springDataUserRepository.findById(anyString())).thenReturn(Optional.of(testUserEntity));
-        when(springDataUserRepository.save(any(UserEntity.class))).thenReturn(testUserEntity);
+        when(springDataUserRepository.updateDetails(
+            testUser.getId().getValue().toString(),
+            testUser.getPassword().getHashedValue(),
+            "John",
+            "Doe",
+            testUser.isActive(),
+            testUser.isEmailVerified(),
+            testUser.getUpdatedAt()
+        )).thenReturn(1);
+
+        User updatedUser = jpaUserRepository.update(testUser);
+
+        assertSame(testUser, updatedUser);
+        verify(springDataUserRepository, never()).findById(anyString());
+        verify(springDataUserRepository, never()).save(any());
+    }
 
-        User savedUser = jpaUserRepository.save(testUser);
+    @Test
+    @DisplayName("should_ThrowException_When_UpdatedUserDoesNotExist")
+    void should_ThrowException_When_UpdatedUserDoesNotExist() {
+        when(springDataUserRepository.updateDetails(
+            anyString(), anyString(), anyString(), anyString(), anyBoolean(), anyBoolean(), any()
+        )).thenReturn(0);
+
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> jpaUserRepository.update(testUser)
+        );
 
-        assertNotNull(savedUser);
-        verify(springDataUserRepository, times(1)).findById(anyString());
-        verify(springDataUserRepository, times(1)).save(any(UserEntity.class));
+        assertEquals("User not found: " + testUser.getId().getValue(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_UpdatingNullUser")
+    void should_ThrowException_When_UpdatingNullUser() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> jpaUserRepository.update(null)
+        );
+
+        assertEquals("User cannot be null", exception.getMessage());
     }
 
     @Test
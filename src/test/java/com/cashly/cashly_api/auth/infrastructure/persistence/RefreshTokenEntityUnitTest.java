@@ -35,7 +35,7 @@ class RefreshTokenEntityUnitTest {
         assertNotNull(entity);
         assertEquals(testRefreshToken.getId().getValue().toString(), entity.getId());
         assertEquals(testRefreshToken.getUserId().getValue().toString(), entity.getUserId());
-        assertEquals(testRefreshToken.getToken(), entity.getToken());
+        assertArrayEquals(RefreshTokenHasher.hash(testRefreshToken.getToken()), entity.getTokenHash());
         assertEquals(testRefreshToken.getExpiresAt(), entity.getExpiresAt());
         assertEquals(testRefreshToken.isRevoked(), entity.isRevoked());
         assertNotNull(entity.getCreatedAt());
@@ -57,7 +57,7 @@ class RefreshTokenEntityUnitTest {
     void should_ConvertToDomain_When_ValidEntityProvided() {
         RefreshTokenEntity entity = RefreshTokenEntity.fromDomain(testRefreshToken);
 
-        RefreshToken domainToken = entity.toDomain();
+        RefreshToken domainToken = entity.toDomain(testRefreshToken.getToken());
 
         assertNotNull(domainToken);
         assertEquals(testRefreshToken.getId(), domainToken.getId());
@@ -98,7 +98,7 @@ class RefreshTokenEntityUnitTest {
         RefreshTokenEntity entity = RefreshTokenEntity.fromDomain(testRefreshToken);
         String originalId = entity.getId();
         String originalUserId = entity.getUserId();
-        String originalToken = entity.getToken();
+        byte[] originalTokenHash = entity.getTokenHash();
         LocalDateTime originalExpiresAt = entity.getExpiresAt();
 
         RefreshToken differentToken = new RefreshToken(
@@ -113,7 +113,7 @@ class RefreshTokenEntityUnitTest {
 
         assertEquals(originalId, entity.getId());
         assertEquals(originalUserId, entity.getUserId());
-        assertEquals(originalToken, entity.getToken());
+        assertArrayEquals(originalTokenHash, entity.getTokenHash());
         assertEquals(originalExpiresAt, entity.getExpiresAt());
         assertTrue(entity.isRevoked());
     }
@@ -135,7 +135,7 @@ class RefreshTokenEntityUnitTest {
         RefreshTokenEntity entity = new RefreshTokenEntity();
         entity.setId(UUID.randomUUID().toString());
         entity.setUserId(UUID.randomUUID().toString());
-        entity.setToken(UUID.randomUUID().toString());
+        entity.setTokenHash(RefreshTokenHasher.hash(UUID.randomUUID().toString()));
         entity.setExpiresAt(LocalDateTime.now().minusDays(1)); 
         entity.setRevoked(false);
         entity.setCreatedAt(LocalDateTime.now().minusDays(2));
@@ -151,12 +151,12 @@ class RefreshTokenEntityUnitTest {
     void should_RoundTripConversion_When_ConvertingBothWays() {
         RefreshTokenEntity entity = RefreshTokenEntity.fromDomain(testRefreshToken);
 
-        RefreshToken domainToken = entity.toDomain();
+        RefreshToken domainToken = entity.toDomain(testRefreshToken.getToken());
         RefreshTokenEntity newEntity = RefreshTokenEntity.fromDomain(domainToken);
 
         assertEquals(entity.getId(), newEntity.getId());
         assertEquals(entity.getUserId(), newEntity.getUserId());
-        assertEquals(entity.getToken(), newEntity.getToken());
+        assertArrayEquals(entity.getTokenHash(), newEntity.getTokenHash());
         assertEquals(entity.getExpiresAt(), newEntity.getExpiresAt());
         assertEquals(entity.isRevoked(), newEntity.isRevoked());
     }
@@ -171,4 +171,15 @@ class RefreshTokenEntityUnitTest {
         assertFalse(domainToken.isRevoked());
         assertFalse(domainToken.isExpired());
     }
+
+    @Test
+    @DisplayName("should_UseHexDigestAsToken_When_RawTokenNotProvided")
+    void should_UseHexDigestAsToken_When_RawTokenNotProvided() {
+        RefreshTokenEntity entity = RefreshTokenEntity.fromDomain(testRefreshToken);
+
+        RefreshToken domainToken = entity.toDomain();
+
+        assertEquals(64, domainToken.getToken().length());
+        assertNotEquals(testRefreshToken.getToken(), domainToken.getToken());
+    }
 }
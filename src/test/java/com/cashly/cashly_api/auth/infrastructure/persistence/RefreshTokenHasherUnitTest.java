@@ -0,0 +1,46 @@
+package com.cashly.cashly_api.auth.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RefreshTokenHasher Unit Tests")
+class RefreshTokenHasherUnitTest {
+
+    @Test
+    @DisplayName("should_ProduceFixedWidthDigest_When_TokenHashed")
+    void should_ProduceFixedWidthDigest_When_TokenHashed() {
+        byte[] hash = RefreshTokenHasher.hash("a-refresh-token");
+
+        assertEquals(RefreshTokenHasher.HASH_LENGTH, hash.length);
+    }
+
+    @Test
+    @DisplayName("should_MatchSha256_When_TokenHashed")
+    void should_MatchSha256_When_TokenHashed() {
+        String hex = RefreshTokenHasher.toHex(RefreshTokenHasher.hash("abc"));
+
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", hex);
+    }
+
+    @Test
+    @DisplayName("should_ProduceSameDigest_When_SameTokenHashedTwice")
+    void should_ProduceSameDigest_When_SameTokenHashedTwice() {
+        assertArrayEquals(RefreshTokenHasher.hash("token"), RefreshTokenHasher.hash("token"));
+        assertFalse(Arrays.equals(RefreshTokenHasher.hash("token"), RefreshTokenHasher.hash("other")));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_TokenIsEmpty")
+    void should_ThrowException_When_TokenIsEmpty() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> RefreshTokenHasher.hash("")
+        );
+
+        assertEquals("Token cannot be null or empty", exception.getMessage());
+    }
+}
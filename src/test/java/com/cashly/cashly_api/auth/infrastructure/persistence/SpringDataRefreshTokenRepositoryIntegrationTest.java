@@ -1,11 +1,13 @@
 package com.cashly.cashly_api.auth.infrastructure.persistence;
 
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,7 +39,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
         testToken = new RefreshTokenEntity();
         testToken.setId(UUID.randomUUID().toString());
         testToken.setUserId(testUserId);
-        testToken.setToken(UUID.randomUUID().toString());
+        testToken.setTokenHash(RefreshTokenHasher.hash(UUID.randomUUID().toString()));
         testToken.setExpiresAt(LocalDateTime.now().plusDays(7));
         testToken.setRevoked(false);
         testToken.setCreatedAt(LocalDateTime.now());
@@ -50,7 +52,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
 
         assertNotNull(savedToken);
         assertNotNull(savedToken.getId());
-        assertEquals(testToken.getToken(), savedToken.getToken());
+        assertArrayEquals(testToken.getTokenHash(), savedToken.getTokenHash());
         assertEquals(testToken.getUserId(), savedToken.getUserId());
     }
 
@@ -62,7 +64,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
         Optional<RefreshTokenEntity> foundToken = repository.findById(testToken.getId());
 
         assertTrue(foundToken.isPresent());
-        assertEquals(testToken.getToken(), foundToken.get().getToken());
+        assertArrayEquals(testToken.getTokenHash(), foundToken.get().getTokenHash());
     }
 
     @Test
@@ -78,7 +80,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
     void should_FindTokenByToken_When_TokenExists() {
         entityManager.persistAndFlush(testToken);
 
-        Optional<RefreshTokenEntity> foundToken = repository.findByToken(testToken.getToken());
+        Optional<RefreshTokenEntity> foundToken = repository.findByTokenHash(testToken.getTokenHash());
 
         assertTrue(foundToken.isPresent());
         assertEquals(testToken.getId(), foundToken.get().getId());
@@ -87,7 +89,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
     @Test
     @DisplayName("should_ReturnEmpty_When_TokenStringNotExists")
     void should_ReturnEmpty_When_TokenStringNotExists() {
-        Optional<RefreshTokenEntity> foundToken = repository.findByToken("nonexistent-token");
+        Optional<RefreshTokenEntity> foundToken = repository.findByTokenHash(RefreshTokenHasher.hash("nonexistent-token"));
 
         assertFalse(foundToken.isPresent());
     }
@@ -98,7 +100,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
         RefreshTokenEntity token2 = new RefreshTokenEntity();
         token2.setId(UUID.randomUUID().toString());
         token2.setUserId(testUserId);
-        token2.setToken(UUID.randomUUID().toString());
+        token2.setTokenHash(RefreshTokenHasher.hash(UUID.randomUUID().toString()));
         token2.setExpiresAt(LocalDateTime.now().plusDays(7));
         token2.setRevoked(false);
         token2.setCreatedAt(LocalDateTime.now());
@@ -125,7 +127,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
         RefreshTokenEntity revokedToken = new RefreshTokenEntity();
         revokedToken.setId(UUID.randomUUID().toString());
         revokedToken.setUserId(testUserId);
-        revokedToken.setToken(UUID.randomUUID().toString());
+        revokedToken.setTokenHash(RefreshTokenHasher.hash(UUID.randomUUID().toString()));
         revokedToken.setExpiresAt(LocalDateTime.now().plusDays(7));
         revokedToken.setRevoked(true);
         revokedToken.setCreatedAt(LocalDateTime.now());
@@ -149,7 +151,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
         RefreshTokenEntity expiredToken = new RefreshTokenEntity();
         expiredToken.setId(UUID.randomUUID().toString());
         expiredToken.setUserId(testUserId);
-        expiredToken.setToken(UUID.randomUUID().toString());
+        expiredToken.setTokenHash(RefreshTokenHasher.hash(UUID.randomUUID().toString()));
         expiredToken.setExpiresAt(LocalDateTime.now().minusDays(1));
         expiredToken.setRevoked(false);
         expiredToken.setCreatedAt(LocalDateTime.now().minusDays(8));
@@ -174,7 +176,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
         RefreshTokenEntity token2 = new RefreshTokenEntity();
         token2.setId(UUID.randomUUID().toString());
         token2.setUserId(testUserId);
-        token2.setToken(UUID.randomUUID().toString());
+        token2.setTokenHash(RefreshTokenHasher.hash(UUID.randomUUID().toString()));
         token2.setExpiresAt(LocalDateTime.now().plusDays(7));
         token2.setRevoked(false);
         token2.setCreatedAt(LocalDateTime.now());
@@ -223,7 +225,7 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
         RefreshTokenEntity duplicateToken = new RefreshTokenEntity();
         duplicateToken.setId(UUID.randomUUID().toString());
         duplicateToken.setUserId(UUID.randomUUID().toString());
-        duplicateToken.setToken(testToken.getToken());
+        duplicateToken.setTokenHash(testToken.getTokenHash().clone());
         duplicateToken.setExpiresAt(LocalDateTime.now().plusDays(7));
         duplicateToken.setRevoked(false);
         duplicateToken.setCreatedAt(LocalDateTime.now());
@@ -257,4 +259,133 @@ class SpringDataRefreshTokenRepositoryIntegrationTest {
 
         assertEquals(0, revokedCount);
     }
+
+    @Test
+    @Transactional
+    @DisplayName("should_ReturnExpiredIdsInExpiryOrder_When_LimitApplied")
+    void should_ReturnExpiredIdsInExpiryOrder_When_LimitApplied() {
+        RefreshTokenEntity oldest = tokenExpiringAt(LocalDateTime.now().minusDays(3));
+        RefreshTokenEntity older = tokenExpiringAt(LocalDateTime.now().minusDays(2));
+        RefreshTokenEntity old = tokenExpiringAt(LocalDateTime.now().minusDays(1));
+        entityManager.persistAndFlush(old);
+        entityManager.persistAndFlush(oldest);
+        entityManager.persistAndFlush(older);
+        entityManager.persistAndFlush(testToken);
+
+        List<String> ids = repository.findExpiredIds(LocalDateTime.now(), Limit.of(2));
+
+        assertEquals(List.of(oldest.getId(), older.getId()), ids);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should_ReturnOnlyRevokedIdsOlderThanCutoff_When_FindingRevokedIds")
+    void should_ReturnOnlyRevokedIdsOlderThanCutoff_When_FindingRevokedIds() {
+        RefreshTokenEntity oldRevoked = tokenExpiringAt(LocalDateTime.now().plusDays(7));
+        oldRevoked.setRevoked(true);
+        oldRevoked.setCreatedAt(LocalDateTime.now().minusDays(2));
+        RefreshTokenEntity recentRevoked = tokenExpiringAt(LocalDateTime.now().plusDays(7));
+        recentRevoked.setRevoked(true);
+        entityManager.persistAndFlush(oldRevoked);
+        entityManager.persistAndFlush(recentRevoked);
+        entityManager.persistAndFlush(testToken);
+
+        List<String> ids = repository.findRevokedIds(LocalDateTime.now().minusDays(1), Limit.of(10));
+
+        assertEquals(List.of(oldRevoked.getId()), ids);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should_DeleteOnlyGivenIds_When_DeletingById")
+    void should_DeleteOnlyGivenIds_When_DeletingById() {
+        RefreshTokenEntity expiredToken = tokenExpiringAt(LocalDateTime.now().minusDays(1));
+        entityManager.persistAndFlush(expiredToken);
+        entityManager.persistAndFlush(testToken);
+        entityManager.clear();
+
+        int deletedCount = repository.deleteAllByIdIn(List.of(expiredToken.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, deletedCount);
+        assertFalse(repository.findById(expiredToken.getId()).isPresent());
+        assertTrue(repository.findById(testToken.getId()).isPresent());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should_CountExpiredAndOldRevokedTokens_When_CountingPurgeable")
+    void should_CountExpiredAndOldRevokedTokens_When_CountingPurgeable() {
+        RefreshTokenEntity expiredToken = tokenExpiringAt(LocalDateTime.now().minusDays(1));
+        RefreshTokenEntity oldRevoked = tokenExpiringAt(LocalDateTime.now().plusDays(7));
+        oldRevoked.setRevoked(true);
+        oldRevoked.setCreatedAt(LocalDateTime.now().minusDays(2));
+        entityManager.persistAndFlush(expiredToken);
+        entityManager.persistAndFlush(oldRevoked);
+        entityManager.persistAndFlush(testToken);
+
+        long purgeable = repository.countPurgeable(LocalDateTime.now(), LocalDateTime.now().minusDays(1));
+
+        assertEquals(2, purgeable);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should_RevokeOnlyOnce_When_SameTokenRevokedTwice")
+    void should_RevokeOnlyOnce_When_SameTokenRevokedTwice() {
+        entityManager.persistAndFlush(testToken);
+        entityManager.clear();
+
+        int first = repository.revokeIfActive(testToken.getId(), LocalDateTime.now());
+        int second = repository.revokeIfActive(testToken.getId(), LocalDateTime.now());
+        entityManager.clear();
+
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertTrue(repository.findById(testToken.getId()).orElseThrow().isRevoked());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should_NotRevoke_When_TokenIsExpired")
+    void should_NotRevoke_When_TokenIsExpired() {
+        RefreshTokenEntity expiredToken = tokenExpiringAt(LocalDateTime.now().minusMinutes(1));
+        entityManager.persistAndFlush(expiredToken);
+
+        int revoked = repository.revokeIfActive(expiredToken.getId(), LocalDateTime.now());
+
+        assertEquals(0, revoked);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should_InsertToken_When_InsertingReplacement")
+    void should_InsertToken_When_InsertingReplacement() {
+        int inserted = repository.insertToken(
+            UuidBinaryConverter.toBytes(testToken.getId()),
+            UuidBinaryConverter.toBytes(testToken.getUserId()),
+            testToken.getTokenHash(),
+            testToken.getExpiresAt(),
+            false,
+            testToken.getCreatedAt()
+        );
+        entityManager.clear();
+
+        assertEquals(1, inserted);
+        Optional<RefreshTokenEntity> foundToken = repository.findByTokenHash(testToken.getTokenHash());
+        assertTrue(foundToken.isPresent());
+        assertEquals(testToken.getId(), foundToken.get().getId());
+    }
+
+    private RefreshTokenEntity tokenExpiringAt(LocalDateTime expiresAt) {
+        RefreshTokenEntity token = new RefreshTokenEntity();
+        token.setId(UUID.randomUUID().toString());
+        token.setUserId(testUserId);
+        token.setTokenHash(RefreshTokenHasher.hash(UUID.randomUUID().toString()));
+        token.setExpiresAt(expiresAt);
+        token.setRevoked(false);
+        token.setCreatedAt(LocalDateTime.now());
+        return token;
+    }
 }
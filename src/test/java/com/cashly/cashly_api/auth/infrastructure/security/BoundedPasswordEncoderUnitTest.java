@@ -0,0 +1,114 @@
+package com.cashly.cashly_api.auth.infrastructure.security;
+
+import com.cashly.cashly_api.auth.application.ports.PasswordEncoder;
+import com.cashly.cashly_api.shared.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder Unit Tests")
+class BoundedPasswordEncoderUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolExecutor executor;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should_DelegateEncodeAndMatches_When_CapacityAvailable")
+    void should_DelegateEncodeAndMatches_When_CapacityAvailable() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BcryptPasswordEncoder(), executor, meterRegistry);
+
+        String encoded = encoder.encode("MySecurePassword123!");
+
+        assertTrue(encoder.matches("MySecurePassword123!", encoded));
+        assertFalse(encoder.matches("WrongPassword123!", encoded));
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.HASHING_METRIC).tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get(BoundedPasswordEncoder.HASHING_METRIC).tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("should_PropagateDelegateException_When_DelegateRejectsInput")
+    void should_PropagateDelegateException_When_DelegateRejectsInput() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BcryptPasswordEncoder(), executor, meterRegistry);
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> encoder.encode(null)
+        );
+
+        assertEquals("Raw password cannot be null or empty", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("should_RejectImmediately_When_WorkerAndQueueAreFull")
+    void should_RejectImmediately_When_WorkerAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+            new BlockingPasswordEncoder(started, release), executor, meterRegistry
+        );
+
+        Future<String> running = callers.submit(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> queued = callers.submit(() -> encoder.encode("second"));
+        while (executor.getQueue().isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(ServiceOverloadedException.class, () -> encoder.encode("third"));
+        assertEquals(1.0, meterRegistry.get(BoundedPasswordEncoder.REJECTED_METRIC).counter().count());
+
+        release.countDown();
+        assertEquals("hashed-first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed-second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_DelegateIsNull")
+    void should_ThrowException_When_DelegateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new BoundedPasswordEncoder(null, executor, meterRegistry)
+        );
+
+        assertEquals("Delegate password encoder cannot be null", exception.getMessage());
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(String rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
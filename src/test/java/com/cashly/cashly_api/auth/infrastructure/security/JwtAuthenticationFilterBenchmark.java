@@ -0,0 +1,155 @@
+package com.cashly.cashly_api.auth.infrastructure.security;
+
+import com.cashly.cashly_api.auth.application.dto.UserAuthenticationStatus;
+import com.cashly.cashly_api.auth.application.ports.AccessTokenDenylist;
+import com.cashly.cashly_api.auth.application.ports.UserStatusCache;
+import com.cashly.cashly_api.auth.domain.entities.User;
+import com.cashly.cashly_api.auth.domain.valueobjects.*;
+import com.cashly.cashly_api.auth.infrastructure.audit.AuthAuditor;
+import com.cashly.cashly_api.auth.infrastructure.audit.AuthOutcome;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter path cost per authenticated request: the former parser-per-call token
+ * validation against the shared parser with the verified-claims cache.
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatIsAtLeast256BitsLongForHS256AlgorithmSecurity";
+
+    private JwtAuthenticationFilter parserPerCallFilter;
+    private JwtAuthenticationFilter cachedClaimsFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        User user = new User(
+            UserId.generate(),
+            new Email("bench@example.com"),
+            Password.fromHash("$2a$10$hashedPassword"),
+            new UserProfile("Bench", "Mark")
+        );
+        UserStatusCache userStatusCache = new FixedStatusCache(UserAuthenticationStatus.from(user));
+
+        JwtTokenService cachedTokenService = new JwtTokenService(SECRET, 900000, 604800000, 10000);
+        AccessTokenDenylist accessTokenDenylist = new EmptyDenylist();
+        AuthAuditor authAuditor = new DiscardingAuditor();
+        parserPerCallFilter = new JwtAuthenticationFilter(
+            new ParserPerCallTokenService(), userStatusCache, accessTokenDenylist, authAuditor
+        );
+        cachedClaimsFilter = new JwtAuthenticationFilter(
+            cachedTokenService, userStatusCache, accessTokenDenylist, authAuditor
+        );
+
+        request = new MockHttpServletRequest("GET", "/api/expenses");
+        request.addHeader("Authorization", "Bearer " + cachedTokenService.generateAccessToken(user));
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> { };
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void parserPerCall() throws Exception {
+        parserPerCallFilter.doFilterInternal(request, response, filterChain);
+    }
+
+    @Benchmark
+    public void cachedClaims() throws Exception {
+        cachedClaimsFilter.doFilterInternal(request, response, filterChain);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    private static final class ParserPerCallTokenService extends JwtTokenService {
+
+        private final SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        ParserPerCallTokenService() {
+            super(SECRET, 900000, 604800000, 0);
+        }
+
+        @Override
+        public boolean validateToken(String token) {
+            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+            return true;
+        }
+
+        @Override
+        public UserId extractUserId(String token) {
+            String subject = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+            return new UserId(UUID.fromString(subject));
+        }
+
+        @Override
+        public String extractTokenId(String token) {
+            return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getId();
+        }
+    }
+
+    private record FixedStatusCache(UserAuthenticationStatus status) implements UserStatusCache {
+
+        @Override
+        public UserAuthenticationStatus get(UserId userId) {
+            return status;
+        }
+
+        @Override
+        public void invalidate(UserId userId) {
+        }
+    }
+
+    private static final class EmptyDenylist implements AccessTokenDenylist {
+
+        @Override
+        public void revoke(String tokenId, LocalDateTime expiresAt) {
+        }
+
+        @Override
+        public boolean isRevoked(String tokenId) {
+            return false;
+        }
+    }
+
+    private static final class DiscardingAuditor implements AuthAuditor {
+
+        @Override
+        public void record(AuthOutcome outcome, String path, UserId userId) {
+        }
+
+        @Override
+        public void recordError(String path, Throwable error) {
+        }
+    }
+}
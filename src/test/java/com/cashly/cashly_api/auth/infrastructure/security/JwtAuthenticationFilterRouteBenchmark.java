@@ -0,0 +1,128 @@
+package com.cashly.cashly_api.auth.infrastructure.security;
+
+import com.cashly.cashly_api.auth.application.dto.UserAuthenticationStatus;
+import com.cashly.cashly_api.auth.application.ports.AccessTokenDenylist;
+import com.cashly.cashly_api.auth.application.ports.UserStatusCache;
+import com.cashly.cashly_api.auth.domain.entities.User;
+import com.cashly.cashly_api.auth.domain.valueobjects.*;
+import com.cashly.cashly_api.auth.infrastructure.audit.AuthAuditor;
+import com.cashly.cashly_api.auth.infrastructure.audit.AuthOutcome;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@code doFilter} cost of the JWT filter per route class: a public route that is
+ * skipped, a protected route without credentials, and a protected route with a valid
+ * bearer token. Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterRouteBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatIsAtLeast256BitsLongForHS256AlgorithmSecurity";
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest healthRequest;
+    private MockHttpServletRequest loginRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        User user = new User(
+            UserId.generate(),
+            new Email("bench@example.com"),
+            Password.fromHash("$2a$10$hashedPassword"),
+            new UserProfile("Bench", "Mark")
+        );
+        JwtTokenService tokenService = new JwtTokenService(SECRET, 900000, 604800000, 10000);
+        UserAuthenticationStatus status = UserAuthenticationStatus.from(user);
+
+        filter = new JwtAuthenticationFilter(
+            tokenService,
+            new UserStatusCache() {
+                @Override
+                public UserAuthenticationStatus get(UserId userId) {
+                    return status;
+                }
+
+                @Override
+                public void invalidate(UserId userId) {
+                }
+            },
+            new AccessTokenDenylist() {
+                @Override
+                public void revoke(String tokenId, LocalDateTime expiresAt) {
+                }
+
+                @Override
+                public boolean isRevoked(String tokenId) {
+                    return false;
+                }
+            },
+            new AuthAuditor() {
+                @Override
+                public void record(AuthOutcome outcome, String path, UserId userId) {
+                }
+
+                @Override
+                public void recordError(String path, Throwable error) {
+                }
+            }
+        );
+
+        healthRequest = new MockHttpServletRequest("GET", "/actuator/health");
+        loginRequest = new MockHttpServletRequest("POST", "/api/auth/login");
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/expenses");
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/expenses");
+        authenticatedRequest.addHeader("Authorization", "Bearer " + tokenService.generateAccessToken(user));
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> { };
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void publicHealthProbe() throws Exception {
+        filter.doFilter(healthRequest, response, filterChain);
+    }
+
+    @Benchmark
+    public void publicLogin() throws Exception {
+        filter.doFilter(loginRequest, response, filterChain);
+    }
+
+    @Benchmark
+    public void protectedWithoutAuthorization() throws Exception {
+        filter.doFilter(anonymousRequest, response, filterChain);
+    }
+
+    @Benchmark
+    public void protectedWithBearerToken() throws Exception {
+        filter.doFilter(authenticatedRequest, response, filterChain);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtAuthenticationFilterRouteBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
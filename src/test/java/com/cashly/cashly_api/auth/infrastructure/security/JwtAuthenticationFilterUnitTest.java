@@ -1,9 +1,13 @@
 package com.cashly.cashly_api.auth.infrastructure.security;
 
+import com.cashly.cashly_api.auth.application.dto.UserAuthenticationStatus;
+import com.cashly.cashly_api.auth.application.ports.AccessTokenDenylist;
 import com.cashly.cashly_api.auth.application.ports.TokenService;
-import com.cashly.cashly_api.auth.application.ports.UserRepository;
+import com.cashly.cashly_api.auth.application.ports.UserStatusCache;
 import com.cashly.cashly_api.auth.domain.entities.User;
 import com.cashly.cashly_api.auth.domain.valueobjects.*;
+import com.cashly.cashly_api.auth.infrastructure.audit.AuthAuditor;
+import com.cashly.cashly_api.auth.infrastructure.audit.AuthOutcome;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,8 +20,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -31,7 +33,13 @@ class JwtAuthenticationFilterUnitTest {
     private TokenService tokenService;
 
     @Mock
-    private UserRepository userRepository;
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @Mock
+    private AuthAuditor authAuditor;
 
     @Mock
     private HttpServletRequest request;
@@ -68,7 +76,7 @@ class JwtAuthenticationFilterUnitTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
         when(tokenService.validateToken(validToken)).thenReturn(true);
         when(tokenService.extractUserId(validToken)).thenReturn(testUserId);
-        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userStatusCache.get(testUserId)).thenReturn(UserAuthenticationStatus.from(testUser));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -111,7 +119,7 @@ class JwtAuthenticationFilterUnitTest {
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(tokenService, times(1)).validateToken(validToken);
-        verify(userRepository, never()).findById(any());
+        verify(userStatusCache, never()).get(any());
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -121,7 +129,7 @@ class JwtAuthenticationFilterUnitTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
         when(tokenService.validateToken(validToken)).thenReturn(true);
         when(tokenService.extractUserId(validToken)).thenReturn(testUserId);
-        when(userRepository.findById(testUserId)).thenReturn(Optional.empty());
+        when(userStatusCache.get(testUserId)).thenReturn(UserAuthenticationStatus.notFound());
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -137,7 +145,7 @@ class JwtAuthenticationFilterUnitTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
         when(tokenService.validateToken(validToken)).thenReturn(true);
         when(tokenService.extractUserId(validToken)).thenReturn(testUserId);
-        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userStatusCache.get(testUserId)).thenReturn(UserAuthenticationStatus.from(testUser));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -163,7 +171,7 @@ class JwtAuthenticationFilterUnitTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
         when(tokenService.validateToken(validToken)).thenReturn(true);
         when(tokenService.extractUserId(validToken)).thenReturn(testUserId);
-        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userStatusCache.get(testUserId)).thenReturn(UserAuthenticationStatus.from(testUser));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -176,7 +184,7 @@ class JwtAuthenticationFilterUnitTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
         when(tokenService.validateToken(validToken)).thenReturn(true);
         when(tokenService.extractUserId(validToken)).thenReturn(testUserId);
-        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userStatusCache.get(testUserId)).thenReturn(UserAuthenticationStatus.from(testUser));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -191,7 +199,7 @@ class JwtAuthenticationFilterUnitTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
         when(tokenService.validateToken(validToken)).thenReturn(true);
         when(tokenService.extractUserId(validToken)).thenReturn(testUserId);
-        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userStatusCache.get(testUserId)).thenReturn(UserAuthenticationStatus.from(testUser));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -220,4 +228,106 @@ class JwtAuthenticationFilterUnitTest {
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain, times(1)).doFilter(request, response);
     }
+
+    @Test
+    @DisplayName("should_NotAuthenticate_When_TokenIsRevoked")
+    void should_NotAuthenticate_When_TokenIsRevoked() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+        when(tokenService.validateToken(validToken)).thenReturn(true);
+        when(tokenService.extractTokenId(validToken)).thenReturn("revoked-token-id");
+        when(accessTokenDenylist.isRevoked("revoked-token-id")).thenReturn(true);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userStatusCache, never()).get(any());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("should_RecordAuthenticatedOutcome_When_UserAuthenticated")
+    void should_RecordAuthenticatedOutcome_When_UserAuthenticated() throws Exception {
+        when(request.getRequestURI()).thenReturn("/api/expenses");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+        when(tokenService.validateToken(validToken)).thenReturn(true);
+        when(tokenService.extractUserId(validToken)).thenReturn(testUserId);
+        when(userStatusCache.get(testUserId)).thenReturn(UserAuthenticationStatus.from(testUser));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(authAuditor, times(1)).record(AuthOutcome.AUTHENTICATED, "/api/expenses", testUserId);
+        verifyNoMoreInteractions(authAuditor);
+    }
+
+    @Test
+    @DisplayName("should_RecordInvalidTokenOutcome_When_TokenValidationFails")
+    void should_RecordInvalidTokenOutcome_When_TokenValidationFails() throws Exception {
+        when(request.getRequestURI()).thenReturn("/api/expenses");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+        when(tokenService.validateToken(validToken)).thenReturn(false);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(authAuditor, times(1)).record(AuthOutcome.INVALID_TOKEN, "/api/expenses", null);
+    }
+
+    @Test
+    @DisplayName("should_RecordUserInactiveOutcome_When_UserInactive")
+    void should_RecordUserInactiveOutcome_When_UserInactive() throws Exception {
+        testUser.deactivate();
+        when(request.getRequestURI()).thenReturn("/api/expenses");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+        when(tokenService.validateToken(validToken)).thenReturn(true);
+        when(tokenService.extractUserId(validToken)).thenReturn(testUserId);
+        when(userStatusCache.get(testUserId)).thenReturn(UserAuthenticationStatus.from(testUser));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(authAuditor, times(1)).record(AuthOutcome.USER_INACTIVE, "/api/expenses", testUserId);
+    }
+
+    @Test
+    @DisplayName("should_RecordError_When_ExceptionOccurs")
+    void should_RecordError_When_ExceptionOccurs() throws Exception {
+        RuntimeException failure = new RuntimeException("Token validation error");
+        when(request.getRequestURI()).thenReturn("/api/expenses");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+        when(tokenService.validateToken(validToken)).thenThrow(failure);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(authAuditor, times(1)).recordError("/api/expenses", failure);
+    }
+
+    @Test
+    @DisplayName("should_SkipFilter_When_RouteIsPublic")
+    void should_SkipFilter_When_RouteIsPublic() {
+        when(request.getRequestURI()).thenReturn("/api/auth/login");
+        when(request.getContextPath()).thenReturn("");
+        when(request.getMethod()).thenReturn("POST");
+
+        assertTrue(jwtAuthenticationFilter.shouldNotFilter(request));
+    }
+
+    @Test
+    @DisplayName("should_ApplyFilter_When_RouteIsProtected")
+    void should_ApplyFilter_When_RouteIsProtected() {
+        when(request.getRequestURI()).thenReturn("/app/api/expenses");
+        when(request.getContextPath()).thenReturn("/app");
+        when(request.getMethod()).thenReturn("GET");
+
+        assertFalse(jwtAuthenticationFilter.shouldNotFilter(request));
+    }
+
+    @Test
+    @DisplayName("should_SkipTokenWork_When_NoAuthorizationHeader")
+    void should_SkipTokenWork_When_NoAuthorizationHeader() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn(null);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verifyNoInteractions(tokenService, userStatusCache, accessTokenDenylist);
+        verify(authAuditor, times(1)).record(AuthOutcome.NO_TOKEN, null, null);
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
 }
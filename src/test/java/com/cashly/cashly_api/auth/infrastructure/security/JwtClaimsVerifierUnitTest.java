@@ -0,0 +1,105 @@
+package com.cashly.cashly_api.auth.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtClaimsVerifier Unit Tests")
+class JwtClaimsVerifierUnitTest {
+
+    private SecretKey secretKey;
+    private JwtClaimsVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        secretKey = Keys.hmacShaKeyFor(
+            "testSecretKeyThatIsAtLeast256BitsLongForHS256AlgorithmSecurityPurposes".getBytes(StandardCharsets.UTF_8)
+        );
+        verifier = new JwtClaimsVerifier(secretKey, 2);
+    }
+
+    private String tokenFor(String subject, long expiresInMillis, SecretKey key) {
+        Date now = new Date();
+        return Jwts.builder()
+            .subject(subject)
+            .issuedAt(now)
+            .expiration(new Date(now.getTime() + expiresInMillis))
+            .signWith(key)
+            .compact();
+    }
+
+    @Test
+    @DisplayName("should_ReturnClaims_When_TokenIsValid")
+    void should_ReturnClaims_When_TokenIsValid() {
+        String token = tokenFor("user-1", 60_000, secretKey);
+
+        Claims claims = verifier.verify(token);
+
+        assertEquals("user-1", claims.getSubject());
+    }
+
+    @Test
+    @DisplayName("should_ReuseVerifiedClaims_When_SameTokenVerifiedTwice")
+    void should_ReuseVerifiedClaims_When_SameTokenVerifiedTwice() {
+        String token = tokenFor("user-1", 60_000, secretKey);
+
+        Claims first = verifier.verify(token);
+        Claims second = verifier.verify(token);
+
+        assertSame(first, second);
+        assertEquals(1, verifier.cachedEntries());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_SignatureDoesNotMatch")
+    void should_ThrowException_When_SignatureDoesNotMatch() {
+        SecretKey otherKey = Keys.hmacShaKeyFor(
+            "anotherSecretKeyThatIsAtLeast256BitsLongForHS256AlgorithmSecurityPurposes".getBytes(StandardCharsets.UTF_8)
+        );
+        String token = tokenFor("user-1", 60_000, otherKey);
+
+        assertThrows(SignatureException.class, () -> verifier.verify(token));
+        assertEquals(0, verifier.cachedEntries());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_TokenIsExpired")
+    void should_ThrowException_When_TokenIsExpired() {
+        String token = tokenFor("user-1", -1_000, secretKey);
+
+        assertThrows(ExpiredJwtException.class, () -> verifier.verify(token));
+        assertEquals(0, verifier.cachedEntries());
+    }
+
+    @Test
+    @DisplayName("should_StayBounded_When_MoreTokensThanMaximumSizeAreVerified")
+    void should_StayBounded_When_MoreTokensThanMaximumSizeAreVerified() {
+        for (int i = 0; i < 10; i++) {
+            verifier.verify(tokenFor("user-" + i, 60_000, secretKey));
+        }
+
+        assertTrue(verifier.cachedEntries() <= 2);
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_MaximumSizeIsNegative")
+    void should_ThrowException_When_MaximumSizeIsNegative() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new JwtClaimsVerifier(secretKey, -1)
+        );
+
+        assertEquals("Maximum cache size cannot be negative", exception.getMessage());
+    }
+}
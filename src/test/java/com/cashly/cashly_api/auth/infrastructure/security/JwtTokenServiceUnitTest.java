@@ -22,8 +22,9 @@ class JwtTokenServiceUnitTest {
         String secret = "testSecretKeyThatIsAtLeast256BitsLongForHS256AlgorithmSecurityPurposes";
         long accessTokenExpiration = 900000; 
         long refreshTokenExpiration = 604800000; 
+        long claimsCacheMaximumSize = 100;
 
-        tokenService = new JwtTokenService(secret, accessTokenExpiration, refreshTokenExpiration);
+        tokenService = new JwtTokenService(secret, accessTokenExpiration, refreshTokenExpiration, claimsCacheMaximumSize);
 
         UserId userId = UserId.generate();
         Email email = new Email("test@example.com");
@@ -228,4 +229,43 @@ class JwtTokenServiceUnitTest {
         assertEquals(testUser.getId(), userId);
         assertEquals(testUser.getEmail(), email);
     }
+
+    @Test
+    @DisplayName("should_ReturnSameUserId_When_TokenValidatedThenExtracted")
+    void should_ReturnSameUserId_When_TokenValidatedThenExtracted() {
+        String token = tokenService.generateAccessToken(testUser);
+
+        assertTrue(tokenService.validateToken(token));
+        UserId first = tokenService.extractUserId(token);
+        UserId second = tokenService.extractUserId(token);
+
+        assertEquals(testUser.getId(), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("should_ReturnFalse_When_TokenSignedWithDifferentSecret")
+    void should_ReturnFalse_When_TokenSignedWithDifferentSecret() {
+        JwtTokenService otherService = new JwtTokenService(
+            "anotherSecretKeyThatIsAtLeast256BitsLongForHS256AlgorithmSecurityPurposes",
+            900000,
+            604800000,
+            100
+        );
+        String foreignToken = otherService.generateAccessToken(testUser);
+
+        assertFalse(tokenService.validateToken(foreignToken));
+    }
+
+    @Test
+    @DisplayName("should_AssignUniqueTokenId_When_AccessTokenGenerated")
+    void should_AssignUniqueTokenId_When_AccessTokenGenerated() {
+        String first = tokenService.generateAccessToken(testUser);
+        String second = tokenService.generateAccessToken(testUser);
+
+        String firstId = tokenService.extractTokenId(first);
+
+        assertNotNull(firstId);
+        assertNotEquals(firstId, tokenService.extractTokenId(second));
+    }
 }
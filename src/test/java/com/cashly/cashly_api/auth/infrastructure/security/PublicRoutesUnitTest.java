@@ -0,0 +1,64 @@
+package com.cashly.cashly_api.auth.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PublicRoutes Unit Tests")
+class PublicRoutesUnitTest {
+
+    private final PublicRoutes publicRoutes = PublicRoutes.DEFAULT;
+
+    @Test
+    @DisplayName("should_ClassifyAsPublic_When_PostToLogin")
+    void should_ClassifyAsPublic_When_PostToLogin() {
+        assertTrue(publicRoutes.isPublic("POST", "/api/auth/login"));
+        assertTrue(publicRoutes.isPublic("POST", "/api/auth/register"));
+        assertTrue(publicRoutes.isPublic("POST", "/api/auth/refresh"));
+    }
+
+    @Test
+    @DisplayName("should_ClassifyAsProtected_When_MethodDoesNotMatch")
+    void should_ClassifyAsProtected_When_MethodDoesNotMatch() {
+        assertFalse(publicRoutes.isPublic("GET", "/api/auth/login"));
+    }
+
+    @Test
+    @DisplayName("should_ClassifyAsPublic_When_PathUnderWildcardPrefix")
+    void should_ClassifyAsPublic_When_PathUnderWildcardPrefix() {
+        assertTrue(publicRoutes.isPublic("GET", "/swagger-ui/index.html"));
+        assertTrue(publicRoutes.isPublic("GET", "/api-docs"));
+        assertTrue(publicRoutes.isPublic("GET", "/api-docs/swagger-config"));
+        assertTrue(publicRoutes.isPublic("GET", "/actuator/health"));
+    }
+
+    @Test
+    @DisplayName("should_ClassifyAsProtected_When_PathOnlySharesPrefixText")
+    void should_ClassifyAsProtected_When_PathOnlySharesPrefixText() {
+        assertFalse(publicRoutes.isPublic("GET", "/api-docsecret"));
+        assertFalse(publicRoutes.isPublic("GET", "/actuator/health/details"));
+    }
+
+    @Test
+    @DisplayName("should_ClassifyAsProtected_When_ApplicationRouteRequested")
+    void should_ClassifyAsProtected_When_ApplicationRouteRequested() {
+        assertFalse(publicRoutes.isPublic("GET", "/api/expenses"));
+        assertFalse(publicRoutes.isPublic("POST", "/api/auth/logout"));
+        assertFalse(publicRoutes.isPublic("GET", null));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_PatternIsNotAbsolute")
+    void should_ThrowException_When_PatternIsNotAbsolute() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new PublicRoutes(List.of(new PublicRoutes.Route(HttpMethod.GET, "health")))
+        );
+
+        assertEquals("Route pattern must start with /", exception.getMessage());
+    }
+}
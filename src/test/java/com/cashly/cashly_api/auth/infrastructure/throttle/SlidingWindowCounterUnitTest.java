@@ -0,0 +1,92 @@
+package com.cashly.cashly_api.auth.infrastructure.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SlidingWindowCounter Unit Tests")
+class SlidingWindowCounterUnitTest {
+
+    @Test
+    @DisplayName("should_CountEvents_When_WithinWindow")
+    void should_CountEvents_When_WithinWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 1_000);
+
+        counter.incrementAndGet(10_000);
+        counter.incrementAndGet(11_500);
+        long count = counter.incrementAndGet(13_900);
+
+        assertEquals(3, count);
+    }
+
+    @Test
+    @DisplayName("should_DropOldBuckets_When_WindowSlides")
+    void should_DropOldBuckets_When_WindowSlides() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 1_000);
+
+        counter.incrementAndGet(10_000);
+        counter.incrementAndGet(11_000);
+
+        assertEquals(2, counter.count(13_999));
+        assertEquals(1, counter.count(14_000));
+        assertEquals(0, counter.count(15_000));
+    }
+
+    @Test
+    @DisplayName("should_ReuseSlot_When_RingWrapsAround")
+    void should_ReuseSlot_When_RingWrapsAround() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(2, 1_000);
+
+        counter.incrementAndGet(10_000);
+        counter.incrementAndGet(10_100);
+        long count = counter.incrementAndGet(12_000);
+
+        assertEquals(1, count);
+    }
+
+    @Test
+    @DisplayName("should_NotLoseIncrements_When_UpdatedConcurrently")
+    void should_NotLoseIncrements_When_UpdatedConcurrently() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    counter.incrementAndGet(120_000);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(80_000, counter.count(120_000));
+    }
+
+    @Test
+    @DisplayName("should_ClearCounts_When_Reset")
+    void should_ClearCounts_When_Reset() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 1_000);
+        counter.incrementAndGet(10_000);
+
+        counter.reset();
+
+        assertEquals(0, counter.count(10_000));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_BucketCountIsNotPositive")
+    void should_ThrowException_When_BucketCountIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new SlidingWindowCounter(0, 1_000)
+        );
+
+        assertEquals("Bucket count must be positive", exception.getMessage());
+    }
+}
@@ -0,0 +1,97 @@
+package com.cashly.cashly_api.auth.infrastructure.throttle;
+
+import com.cashly.cashly_api.auth.domain.valueobjects.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SlidingWindowLoginThrottle Unit Tests")
+class SlidingWindowLoginThrottleUnitTest {
+
+    private static final long WINDOW_MILLIS = 60_000;
+
+    private InMemoryAttemptCounterStore store;
+    private Email email;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryAttemptCounterStore(1_000, 6, WINDOW_MILLIS / 6);
+        email = new Email("test@example.com");
+    }
+
+    private SlidingWindowLoginThrottle throttleAt(long epochMillis) {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+        return new SlidingWindowLoginThrottle(store, clock, 3, 5, WINDOW_MILLIS);
+    }
+
+    @Test
+    @DisplayName("should_BlockEmail_When_FailuresReachLimit")
+    void should_BlockEmail_When_FailuresReachLimit() {
+        SlidingWindowLoginThrottle throttle = throttleAt(1_000_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(throttle.isBlocked(email, "198.51.100.1"));
+            throttle.recordFailure(email, "198.51.100.1");
+        }
+
+        assertTrue(throttle.isBlocked(email, "198.51.100.2"));
+        assertTrue(throttle.isBlocked(new Email("TEST@example.com"), null));
+    }
+
+    @Test
+    @DisplayName("should_BlockAddress_When_FailuresAcrossEmailsReachLimit")
+    void should_BlockAddress_When_FailuresAcrossEmailsReachLimit() {
+        SlidingWindowLoginThrottle throttle = throttleAt(1_000_000);
+
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure(new Email("user" + i + "@example.com"), "198.51.100.1");
+        }
+
+        assertTrue(throttle.isBlocked(new Email("fresh@example.com"), "198.51.100.1"));
+        assertFalse(throttle.isBlocked(new Email("fresh@example.com"), "198.51.100.2"));
+    }
+
+    @Test
+    @DisplayName("should_Unblock_When_WindowHasPassed")
+    void should_Unblock_When_WindowHasPassed() {
+        SlidingWindowLoginThrottle throttle = throttleAt(1_000_000);
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure(email, "198.51.100.1");
+        }
+
+        SlidingWindowLoginThrottle later = throttleAt(1_000_000 + WINDOW_MILLIS);
+
+        assertFalse(later.isBlocked(email, "198.51.100.1"));
+    }
+
+    @Test
+    @DisplayName("should_ResetEmailCounter_When_LoginSucceeds")
+    void should_ResetEmailCounter_When_LoginSucceeds() {
+        SlidingWindowLoginThrottle throttle = throttleAt(1_000_000);
+        throttle.recordFailure(email, "198.51.100.1");
+        throttle.recordFailure(email, "198.51.100.1");
+
+        throttle.recordSuccess(email, "198.51.100.1");
+        throttle.recordFailure(email, "198.51.100.1");
+
+        assertFalse(throttle.isBlocked(email, null));
+    }
+
+    @Test
+    @DisplayName("should_BoundTrackedKeys_When_ManyDistinctKeysFail")
+    void should_BoundTrackedKeys_When_ManyDistinctKeysFail() {
+        SlidingWindowLoginThrottle throttle = throttleAt(1_000_000);
+
+        for (int i = 0; i < 5_000; i++) {
+            throttle.recordFailure(new Email("user" + i + "@example.com"), null);
+        }
+
+        assertTrue(store.trackedKeys() <= 1_000);
+    }
+}
@@ -11,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,9 +42,12 @@ class AuthControllerUnitTest {
     private LogoutRequest logoutRequest;
     private UserResponse userResponse;
     private AuthenticationResponse authenticationResponse;
+    private MockHttpServletRequest httpRequest;
 
     @BeforeEach
     void setUp() {
+        httpRequest = new MockHttpServletRequest();
+
         registerRequest = new RegisterUserRequest(
             "test@example.com",
             "SecurePassword123!",
@@ -106,24 +110,24 @@ class AuthControllerUnitTest {
     @Test
     @DisplayName("should_LoginUser_When_ValidCredentialsProvided")
     void should_LoginUser_When_ValidCredentialsProvided() {
-        when(loginUserUseCase.execute(any(LoginRequest.class)))
+        when(loginUserUseCase.execute(any(LoginRequest.class), any()))
             .thenReturn(authenticationResponse);
 
-        ResponseEntity<AuthenticationResponse> response = authController.login(loginRequest);
+        ResponseEntity<AuthenticationResponse> response = authController.login(loginRequest, httpRequest);
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(authenticationResponse, response.getBody());
-        verify(loginUserUseCase, times(1)).execute(loginRequest);
+        verify(loginUserUseCase, times(1)).execute(loginRequest, "127.0.0.1");
     }
 
     @Test
     @DisplayName("should_ReturnOkStatus_When_LoginSuccessful")
     void should_ReturnOkStatus_When_LoginSuccessful() {
-        when(loginUserUseCase.execute(any(LoginRequest.class)))
+        when(loginUserUseCase.execute(any(LoginRequest.class), any()))
             .thenReturn(authenticationResponse);
 
-        ResponseEntity<AuthenticationResponse> response = authController.login(loginRequest);
+        ResponseEntity<AuthenticationResponse> response = authController.login(loginRequest, httpRequest);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
@@ -156,22 +160,22 @@ class AuthControllerUnitTest {
     @Test
     @DisplayName("should_LogoutUser_When_ValidRefreshTokenProvided")
     void should_LogoutUser_When_ValidRefreshTokenProvided() {
-        doNothing().when(logoutUserUseCase).execute(any(LogoutRequest.class));
+        doNothing().when(logoutUserUseCase).execute(any(LogoutRequest.class), any());
 
-        ResponseEntity<Void> response = authController.logout(logoutRequest);
+        ResponseEntity<Void> response = authController.logout(logoutRequest, null);
 
         assertNotNull(response);
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         assertNull(response.getBody());
-        verify(logoutUserUseCase, times(1)).execute(logoutRequest);
+        verify(logoutUserUseCase, times(1)).execute(logoutRequest, null);
     }
 
     @Test
     @DisplayName("should_ReturnNoContentStatus_When_LogoutSuccessful")
     void should_ReturnNoContentStatus_When_LogoutSuccessful() {
-        doNothing().when(logoutUserUseCase).execute(any(LogoutRequest.class));
+        doNothing().when(logoutUserUseCase).execute(any(LogoutRequest.class), any());
 
-        ResponseEntity<Void> response = authController.logout(logoutRequest);
+        ResponseEntity<Void> response = authController.logout(logoutRequest, null);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
@@ -190,12 +194,12 @@ class AuthControllerUnitTest {
     @Test
     @DisplayName("should_CallLoginUseCase_When_LoginEndpointInvoked")
     void should_CallLoginUseCase_When_LoginEndpointInvoked() {
-        when(loginUserUseCase.execute(any(LoginRequest.class)))
+        when(loginUserUseCase.execute(any(LoginRequest.class), any()))
             .thenReturn(authenticationResponse);
 
-        authController.login(loginRequest);
+        authController.login(loginRequest, httpRequest);
 
-        verify(loginUserUseCase, times(1)).execute(loginRequest);
+        verify(loginUserUseCase, times(1)).execute(loginRequest, "127.0.0.1");
     }
 
     @Test
@@ -212,10 +216,20 @@ class AuthControllerUnitTest {
     @Test
     @DisplayName("should_CallLogoutUseCase_When_LogoutEndpointInvoked")
     void should_CallLogoutUseCase_When_LogoutEndpointInvoked() {
-        doNothing().when(logoutUserUseCase).execute(any(LogoutRequest.class));
+        doNothing().when(logoutUserUseCase).execute(any(LogoutRequest.class), any());
+
+        authController.logout(logoutRequest, null);
+
+        verify(logoutUserUseCase, times(1)).execute(logoutRequest, null);
+    }
+
+    @Test
+    @DisplayName("should_PassAccessToken_When_LogoutCarriesBearerHeader")
+    void should_PassAccessToken_When_LogoutCarriesBearerHeader() {
+        doNothing().when(logoutUserUseCase).execute(any(LogoutRequest.class), any());
 
-        authController.logout(logoutRequest);
+        authController.logout(logoutRequest, "Bearer access-token");
 
-        verify(logoutUserUseCase, times(1)).execute(logoutRequest);
+        verify(logoutUserUseCase, times(1)).execute(logoutRequest, "access-token");
     }
 }
@@ -22,6 +22,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import com.cashly.cashly_api.shared.exceptions.DuplicateEmailException;
 import com.cashly.cashly_api.shared.exceptions.InvalidCredentialsException;
 import com.cashly.cashly_api.shared.exceptions.InvalidTokenException;
+import com.cashly.cashly_api.shared.exceptions.ServiceOverloadedException;
 import com.cashly.cashly_api.shared.exceptions.TokenExpiredException;
 import com.cashly.cashly_api.shared.exceptions.UserNotFoundException;
 
@@ -113,6 +114,20 @@ class AuthExceptionHandlerUnitTest {
         assertTrue(response.getBody().containsKey("message"));
     }
 
+    @Test
+    @DisplayName("should_HandleServiceOverloadedException_When_HashingCapacityExhausted")
+    void should_HandleServiceOverloadedException_When_HashingCapacityExhausted() {
+        ServiceOverloadedException exception = new ServiceOverloadedException("Too many concurrent authentication requests");
+
+        ResponseEntity<Map<String, Object>> response = authExceptionHandler.handleServiceOverloaded(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(503, response.getBody().get("status"));
+        assertEquals("Service overloaded", response.getBody().get("error"));
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+    }
+
     @Test
     @DisplayName("should_HandleIllegalArgumentException_When_ArgumentInvalid")
     void should_HandleIllegalArgumentException_When_ArgumentInvalid() {
@@ -0,0 +1,108 @@
+package com.cashly.cashly_api.auth.infrastructure.web;
+
+import com.cashly.cashly_api.auth.application.dto.AuthenticationResponse;
+import com.cashly.cashly_api.auth.application.dto.LoginRequest;
+import com.cashly.cashly_api.auth.application.dto.RegisterUserRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Saturates /api/auth/login and checks that an authenticated CRUD endpoint keeps
+ * its latency. Opt-in: {@code mvn test -Dtest=PasswordHashingLoadTest -DloadTests=true}.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "auth.password-hashing.threads=2",
+        "auth.password-hashing.queue-capacity=4"
+    }
+)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadTests", matches = "true")
+@DisplayName("Password hashing load test")
+class PasswordHashingLoadTest {
+
+    private static final int LOGIN_CLIENTS = 64;
+    private static final int CRUD_SAMPLES = 200;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("should_KeepCrudLatencyFlat_When_LoginsAreSaturated")
+    void should_KeepCrudLatencyFlat_When_LoginsAreSaturated() throws Exception {
+        RegisterUserRequest register = new RegisterUserRequest("load@example.com", "SecurePass123!", "Load", "Test");
+        restTemplate.postForEntity("/api/auth/register", register, Void.class);
+        LoginRequest login = new LoginRequest("load@example.com", "SecurePass123!");
+        AuthenticationResponse auth = restTemplate.postForObject("/api/auth/login", login, AuthenticationResponse.class);
+        HttpEntity<Void> crudRequest = authorized(auth.accessToken());
+        String crudUrl = "/api/expenses?userId=" + auth.user().id();
+
+        long baselineP95 = p95CrudLatencyNanos(crudUrl, crudRequest);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger rejectedLogins = new AtomicInteger();
+        ExecutorService loginStorm = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            loginStorm.submit(() -> {
+                while (running.get()) {
+                    ResponseEntity<String> response = restTemplate.postForEntity("/api/auth/login", login, String.class);
+                    if (response.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE) {
+                        rejectedLogins.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        long saturatedP95;
+        try {
+            TimeUnit.SECONDS.sleep(2);
+            saturatedP95 = p95CrudLatencyNanos(crudUrl, crudRequest);
+        } finally {
+            running.set(false);
+            loginStorm.shutdown();
+            loginStorm.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        assertTrue(rejectedLogins.get() > 0, "login storm should hit the hashing admission limit");
+        assertTrue(
+            saturatedP95 <= baselineP95 * 5 + TimeUnit.MILLISECONDS.toNanos(50),
+            "CRUD p95 went from " + baselineP95 / 1_000 + "us to " + saturatedP95 / 1_000 + "us under login load"
+        );
+    }
+
+    private long p95CrudLatencyNanos(String url, HttpEntity<Void> request) {
+        List<Long> samples = new ArrayList<>(CRUD_SAMPLES);
+        for (int i = 0; i < CRUD_SAMPLES; i++) {
+            long start = System.nanoTime();
+            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, request, String.class);
+            samples.add(System.nanoTime() - start);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+        }
+        Collections.sort(samples);
+        return samples.get((int) (CRUD_SAMPLES * 0.95));
+    }
+
+    private HttpEntity<Void> authorized(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        return new HttpEntity<>(headers);
+    }
+}
@@ -2,6 +2,8 @@ package com.cashly.cashly_api.expenses.application.ports;
 
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -21,6 +23,8 @@ import static org.mockito.Mockito.*;
 
 class ExpenseRepositoryUnitTest {
     
+    private static final PageRequest PAGE = PageRequest.first(50);
+    
     @Mock
     private ExpenseRepository expenseRepository;
     
@@ -34,7 +38,7 @@ class ExpenseRepositoryUnitTest {
         MockitoAnnotations.openMocks(this);
         
         testExpenseId = ExpenseId.generate();
-        testUserId = "user123";
+        testUserId = "00000000-0000-0000-0000-000000000123";
         testCategory = new Category("FOOD_DINING");
         
         testExpense = new Expense(
@@ -103,25 +107,25 @@ class ExpenseRepositoryUnitTest {
     @Test
     void should_FindExpensesByUserId_When_UserHasExpenses() {
         List<Expense> userExpenses = Arrays.asList(testExpense);
-        when(expenseRepository.findByUserId(testUserId)).thenReturn(userExpenses);
+        when(expenseRepository.findByUserId(testUserId, PAGE)).thenReturn(new CursorPage<>(userExpenses, null));
         
-        List<Expense> foundExpenses = expenseRepository.findByUserId(testUserId);
+        List<Expense> foundExpenses = expenseRepository.findByUserId(testUserId, PAGE).items();
         
         assertNotNull(foundExpenses);
         assertEquals(1, foundExpenses.size());
         assertEquals(testExpense, foundExpenses.get(0));
-        verify(expenseRepository, times(1)).findByUserId(testUserId);
+        verify(expenseRepository, times(1)).findByUserId(testUserId, PAGE);
     }
     
     @Test
     void should_ReturnEmptyList_When_UserHasNoExpenses() {
-        when(expenseRepository.findByUserId(testUserId)).thenReturn(Collections.emptyList());
+        when(expenseRepository.findByUserId(testUserId, PAGE)).thenReturn(new CursorPage<>(Collections.emptyList(), null));
         
-        List<Expense> foundExpenses = expenseRepository.findByUserId(testUserId);
+        List<Expense> foundExpenses = expenseRepository.findByUserId(testUserId, PAGE).items();
         
         assertNotNull(foundExpenses);
         assertTrue(foundExpenses.isEmpty());
-        verify(expenseRepository, times(1)).findByUserId(testUserId);
+        verify(expenseRepository, times(1)).findByUserId(testUserId, PAGE);
     }
     
     @Test
@@ -245,14 +249,14 @@ class ExpenseRepositoryUnitTest {
             )
         );
         
-        when(expenseRepository.findByUserId(testUserId)).thenReturn(multipleExpenses);
+        when(expenseRepository.findByUserId(testUserId, PAGE)).thenReturn(new CursorPage<>(multipleExpenses, null));
         
-        List<Expense> foundExpenses = expenseRepository.findByUserId(testUserId);
+        List<Expense> foundExpenses = expenseRepository.findByUserId(testUserId, PAGE).items();
         
         assertNotNull(foundExpenses);
         assertEquals(3, foundExpenses.size());
         assertTrue(foundExpenses.contains(testExpense));
-        verify(expenseRepository, times(1)).findByUserId(testUserId);
+        verify(expenseRepository, times(1)).findByUserId(testUserId, PAGE);
     }
     
     @Test
@@ -322,25 +326,25 @@ class ExpenseRepositoryUnitTest {
     @Test
     void should_HandleEmptyStringUserId_When_FindingByUserId() {
         String emptyUserId = "";
-        when(expenseRepository.findByUserId(emptyUserId)).thenReturn(Collections.emptyList());
+        when(expenseRepository.findByUserId(emptyUserId, PAGE)).thenReturn(new CursorPage<>(Collections.emptyList(), null));
         
-        List<Expense> foundExpenses = expenseRepository.findByUserId(emptyUserId);
+        List<Expense> foundExpenses = expenseRepository.findByUserId(emptyUserId, PAGE).items();
         
         assertNotNull(foundExpenses);
         assertTrue(foundExpenses.isEmpty());
-        verify(expenseRepository, times(1)).findByUserId(emptyUserId);
+        verify(expenseRepository, times(1)).findByUserId(emptyUserId, PAGE);
     }
     
     @Test
     void should_HandleNullUserId_When_FindingByUserId() {
-        when(expenseRepository.findByUserId(null)).thenThrow(new IllegalArgumentException("User ID cannot be null"));
+        when(expenseRepository.findByUserId(null, PAGE)).thenThrow(new IllegalArgumentException("User ID cannot be null"));
         
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class, 
-            () -> expenseRepository.findByUserId(null)
+            () -> expenseRepository.findByUserId(null, PAGE)
         );
         
         assertEquals("User ID cannot be null", exception.getMessage());
-        verify(expenseRepository, times(1)).findByUserId(null);
+        verify(expenseRepository, times(1)).findByUserId(null, PAGE);
     }
 }
\ No newline at end of file
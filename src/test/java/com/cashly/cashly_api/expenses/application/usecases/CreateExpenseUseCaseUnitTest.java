@@ -3,8 +3,10 @@ package com.cashly.cashly_api.expenses.application.usecases;
 import com.cashly.cashly_api.expenses.application.dto.CreateExpenseRequest;
 import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -14,9 +16,12 @@ import org.mockito.MockitoAnnotations;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 class CreateExpenseUseCaseUnitTest {
@@ -24,12 +29,15 @@ class CreateExpenseUseCaseUnitTest {
     @Mock
     private ExpenseRepository expenseRepository;
     
+    @Mock
+    private ExpenseRollupRepository rollupRepository;
+    
     private CreateExpenseUseCase createExpenseUseCase;
     
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        createExpenseUseCase = new CreateExpenseUseCase(expenseRepository);
+        createExpenseUseCase = new CreateExpenseUseCase(expenseRepository, rollupRepository);
     }
     
     @Test
@@ -38,7 +46,7 @@ class CreateExpenseUseCaseUnitTest {
             new BigDecimal("500.00"), 
             "Grocery shopping", 
             "FOOD_DINING", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         Expense savedExpense = new Expense(
@@ -47,7 +55,7 @@ class CreateExpenseUseCaseUnitTest {
             new Description("Grocery shopping"),
             new Category("FOOD_DINING"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         when(expenseRepository.save(any(Expense.class))).thenReturn(savedExpense);
@@ -58,9 +66,10 @@ class CreateExpenseUseCaseUnitTest {
         assertEquals(new BigDecimal("500.00"), response.getAmount());
         assertEquals("Grocery shopping", response.getDescription());
         assertEquals("FOOD_DINING", response.getCategory());
-        assertEquals("user123", response.getUserId());
+        assertEquals("00000000-0000-0000-0000-000000000123", response.getUserId());
         
         verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(rollupRepository, times(1)).add(savedExpense);
     }
     
     @Test
@@ -69,7 +78,7 @@ class CreateExpenseUseCaseUnitTest {
             new BigDecimal("750.00"), 
             "Gas bill", 
             "OTHER", 
-            "user456"
+            "00000000-0000-0000-0000-000000000456"
         );
         
         ArgumentCaptor<Expense> expenseCaptor = ArgumentCaptor.forClass(Expense.class);
@@ -80,7 +89,7 @@ class CreateExpenseUseCaseUnitTest {
             new Description("Gas bill"),
             new Category("OTHER"),
             LocalDate.now(),
-            "user456"
+            "00000000-0000-0000-0000-000000000456"
         );
         
         when(expenseRepository.save(expenseCaptor.capture())).thenReturn(savedExpense);
@@ -92,7 +101,7 @@ class CreateExpenseUseCaseUnitTest {
         assertEquals(new BigDecimal("750.00"), capturedExpense.getAmount().getValue());
         assertEquals("Gas bill", capturedExpense.getDescription().getValue());
         assertEquals("OTHER", capturedExpense.getCategory().getValue());
-        assertEquals("user456", capturedExpense.getUserId());
+        assertEquals("00000000-0000-0000-0000-000000000456", capturedExpense.getUserId());
         assertEquals(LocalDate.now(), capturedExpense.getDate());
     }
     
@@ -113,7 +122,7 @@ class CreateExpenseUseCaseUnitTest {
             null, 
             "Description", 
             "FOOD_DINING", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         IllegalArgumentException exception = assertThrows(
@@ -131,7 +140,7 @@ class CreateExpenseUseCaseUnitTest {
             new BigDecimal("100.00"), 
             null, 
             "FOOD_DINING", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         IllegalArgumentException exception = assertThrows(
@@ -149,7 +158,7 @@ class CreateExpenseUseCaseUnitTest {
             new BigDecimal("100.00"), 
             "Description", 
             null, 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         IllegalArgumentException exception = assertThrows(
@@ -185,7 +194,7 @@ class CreateExpenseUseCaseUnitTest {
             BigDecimal.ZERO, 
             "Zero amount expense", 
             "OTHER", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         Expense savedExpense = new Expense(
@@ -194,7 +203,7 @@ class CreateExpenseUseCaseUnitTest {
             new Description("Zero amount expense"),
             new Category("OTHER"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         when(expenseRepository.save(any(Expense.class))).thenReturn(savedExpense);
@@ -213,7 +222,7 @@ class CreateExpenseUseCaseUnitTest {
             largeAmount, 
             "Large expense", 
             "SHOPPING", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         Expense savedExpense = new Expense(
@@ -222,7 +231,7 @@ class CreateExpenseUseCaseUnitTest {
             new Description("Large expense"),
             new Category("SHOPPING"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         when(expenseRepository.save(any(Expense.class))).thenReturn(savedExpense);
@@ -240,7 +249,7 @@ class CreateExpenseUseCaseUnitTest {
             new BigDecimal("50.00"),
             "",
             "FOOD_DINING",
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         IllegalArgumentException exception = assertThrows(
@@ -258,7 +267,7 @@ class CreateExpenseUseCaseUnitTest {
             new BigDecimal("50.00"),
             "Some expense",
             "",
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         IllegalArgumentException exception = assertThrows(
@@ -294,7 +303,7 @@ class CreateExpenseUseCaseUnitTest {
             new BigDecimal("100.00"), 
             "Test expense", 
             "FOOD_DINING", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         when(expenseRepository.save(any(Expense.class)))
@@ -315,7 +324,7 @@ class CreateExpenseUseCaseUnitTest {
             new BigDecimal("300.00"), 
             "Test expense", 
             "TRANSPORTATION", 
-            "user789"
+            "00000000-0000-0000-0000-000000000789"
         );
         
         LocalDateTime now = LocalDateTime.now();
@@ -325,7 +334,7 @@ class CreateExpenseUseCaseUnitTest {
             new Description("Test expense"),
             new Category("TRANSPORTATION"),
             LocalDate.now(),
-            "user789"
+            "00000000-0000-0000-0000-000000000789"
         );
         
         when(expenseRepository.save(any(Expense.class))).thenReturn(savedExpense);
@@ -340,4 +349,80 @@ class CreateExpenseUseCaseUnitTest {
         
         verify(expenseRepository, times(1)).save(any(Expense.class));
     }
-}
\ No newline at end of file
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_SaveValidExpensesInOneBatch_When_BulkRequestHasRejectedItems() {
+        List<CreateExpenseRequest> requests = List.of(
+            new CreateExpenseRequest(new BigDecimal("10.00"), "Coffee", "FOOD_DINING", "00000000-0000-0000-0000-000000000123"),
+            new CreateExpenseRequest(new BigDecimal("-5.00"), "Refund", "FOOD_DINING", "00000000-0000-0000-0000-000000000123"),
+            new CreateExpenseRequest(new BigDecimal("25.00"), "Taxi", "TRANSPORTATION", "00000000-0000-0000-0000-000000000123")
+        );
+        ArgumentCaptor<List<Expense>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        
+        BulkCreateResponse<ExpenseResponse> response = createExpenseUseCase.executeAll(requests);
+        
+        assertEquals(2, response.created());
+        assertEquals(1, response.rejected());
+        assertFalse(response.allCreated());
+        assertTrue(response.items().get(0).success());
+        assertFalse(response.items().get(1).success());
+        assertEquals(1, response.items().get(1).index());
+        assertNotNull(response.items().get(1).error());
+        assertEquals("Taxi", response.items().get(2).data().getDescription());
+        
+        verify(expenseRepository, times(1)).saveAll(batchCaptor.capture());
+        assertEquals(2, batchCaptor.getValue().size());
+        verify(expenseRepository, never()).save(any(Expense.class));
+        verify(rollupRepository, times(1)).addAll(batchCaptor.getValue());
+    }
+    
+    @Test
+    void should_RejectOnlyThatItem_When_BulkItemHasMalformedUserId() {
+        List<CreateExpenseRequest> requests = List.of(
+            new CreateExpenseRequest(new BigDecimal("10.00"), "Coffee", "FOOD_DINING", "00000000-0000-0000-0000-000000000123"),
+            new CreateExpenseRequest(new BigDecimal("25.00"), "Taxi", "TRANSPORTATION", "user123")
+        );
+        
+        BulkCreateResponse<ExpenseResponse> response = createExpenseUseCase.executeAll(requests);
+        
+        assertEquals(1, response.created());
+        assertEquals(1, response.rejected());
+        assertEquals("Invalid user ID format: user123", response.items().get(1).error());
+        verify(expenseRepository, times(1)).saveAll(argThat(expenses -> expenses.size() == 1));
+        verify(rollupRepository, times(1)).addAll(argThat(expenses -> expenses.size() == 1));
+    }
+    
+    @Test
+    void should_NotSave_When_EveryBulkItemIsRejected() {
+        List<CreateExpenseRequest> requests = List.of(
+            new CreateExpenseRequest(null, "Coffee", "FOOD_DINING", "00000000-0000-0000-0000-000000000123")
+        );
+        
+        BulkCreateResponse<ExpenseResponse> response = createExpenseUseCase.executeAll(requests);
+        
+        assertEquals(0, response.created());
+        assertEquals("Amount cannot be null", response.items().get(0).error());
+        verify(expenseRepository, never()).saveAll(anyList());
+        verifyNoInteractions(rollupRepository);
+    }
+    
+    @Test
+    void should_ThrowException_When_BulkRequestIsEmpty() {
+        assertThrows(IllegalArgumentException.class,
+            () -> createExpenseUseCase.executeAll(Collections.emptyList()));
+        
+        verify(expenseRepository, never()).saveAll(anyList());
+    }
+    
+    @Test
+    void should_ThrowException_When_BulkRequestExceedsMaxBatchSize() {
+        CreateExpenseRequest request = new CreateExpenseRequest(
+            new BigDecimal("1.00"), "Snack", "FOOD_DINING", "00000000-0000-0000-0000-000000000123");
+        List<CreateExpenseRequest> requests = Collections.nCopies(CreateExpenseUseCase.MAX_BATCH_SIZE + 1, request);
+        
+        assertThrows(IllegalArgumentException.class, () -> createExpenseUseCase.executeAll(requests));
+        
+        verify(expenseRepository, never()).saveAll(anyList());
+    }
+}
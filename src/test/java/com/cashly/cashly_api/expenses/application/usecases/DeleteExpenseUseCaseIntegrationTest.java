@@ -0,0 +1,109 @@
+package com.cashly.cashly_api.expenses.application.usecases;
+
+import com.cashly.cashly_api.expenses.domain.entities.Expense;
+import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.expenses.infrastructure.persistence.JdbcExpenseRollupRepository;
+import com.cashly.cashly_api.expenses.infrastructure.persistence.JpaExpenseRepository;
+import com.cashly.cashly_api.infrastructure.persistence.BatchInserter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({DeleteExpenseUseCase.class, JpaExpenseRepository.class, JdbcExpenseRollupRepository.class, BatchInserter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("DeleteExpenseUseCase Integration Tests")
+class DeleteExpenseUseCaseIntegrationTest {
+
+    @Autowired
+    private DeleteExpenseUseCase deleteExpenseUseCase;
+
+    @Autowired
+    private JpaExpenseRepository expenseRepository;
+
+    @Autowired
+    private JdbcExpenseRollupRepository rollupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("should_RemoveFromRollupOnce_When_SameExpenseDeletedConcurrently")
+    void should_RemoveFromRollupOnce_When_SameExpenseDeletedConcurrently() throws Exception {
+        String userId = UUID.randomUUID().toString();
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        Expense lunch = expense(userId, "25.00", lastMonth);
+        Expense dinner = expense(userId, "15.00", lastMonth);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            expenseRepository.saveAll(List.of(lunch, dinner));
+            rollupRepository.addAll(List.of(lunch, dinner));
+        });
+
+        String lunchId = lunch.getId().getValue().toString();
+        CyclicBarrier start = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Boolean>> deletes = executor.invokeAll(List.of(
+                () -> deleteOnce(start, lunchId),
+                () -> deleteOnce(start, lunchId)
+            ));
+
+            assertEquals(1, deletes.stream().filter(this::succeeded).count());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertFalse(expenseRepository.existsById(lunch.getId()));
+        assertEquals(0, new BigDecimal("15.00").compareTo(
+            rollupRepository.calculateTotal(userId, lastMonth, lastMonth).getValue()));
+    }
+
+    private boolean deleteOnce(CyclicBarrier start, String expenseId) throws Exception {
+        start.await();
+        try {
+            deleteExpenseUseCase.execute(expenseId);
+            return true;
+        } catch (RuntimeException e) {
+            assertEquals("Expense not found with ID: " + expenseId, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean succeeded(Future<Boolean> delete) {
+        try {
+            return delete.get();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private Expense expense(String userId, String amount, YearMonth month) {
+        return new Expense(
+            ExpenseId.generate(),
+            new Amount(new BigDecimal(amount)),
+            new Description("Meal"),
+            new Category("FOOD_DINING"),
+            month.atDay(5),
+            userId
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.cashly.cashly_api.expenses.application.usecases;
 
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,9 @@ class DeleteExpenseUseCaseUnitTest {
     @Mock
     private ExpenseRepository expenseRepository;
     
+    @Mock
+    private ExpenseRollupRepository rollupRepository;
+    
     private DeleteExpenseUseCase deleteExpenseUseCase;
     private String validExpenseId;
     private Expense existingExpense;
@@ -29,7 +33,7 @@ class DeleteExpenseUseCaseUnitTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        deleteExpenseUseCase = new DeleteExpenseUseCase(expenseRepository);
+        deleteExpenseUseCase = new DeleteExpenseUseCase(expenseRepository, rollupRepository);
         
         validExpenseId = UUID.randomUUID().toString();
         existingExpense = new Expense(
@@ -38,19 +42,20 @@ class DeleteExpenseUseCaseUnitTest {
             new Description("Test expense"),
             new Category("FOOD_DINING"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
     }
     
     @Test
     void should_DeleteExpense_When_ValidExpenseIdProvided() {
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
         doNothing().when(expenseRepository).deleteById(any(ExpenseId.class));
         
         assertDoesNotThrow(() -> deleteExpenseUseCase.execute(validExpenseId));
         
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, times(1)).deleteById(any(ExpenseId.class));
+        verify(rollupRepository, times(1)).remove(existingExpense);
     }
     
     @Test
@@ -61,7 +66,7 @@ class DeleteExpenseUseCaseUnitTest {
         );
         
         assertEquals("Expense ID cannot be null", exception.getMessage());
-        verify(expenseRepository, never()).findById(any(ExpenseId.class));
+        verify(expenseRepository, never()).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, never()).deleteById(any(ExpenseId.class));
     }
     
@@ -73,13 +78,13 @@ class DeleteExpenseUseCaseUnitTest {
         );
         
         assertTrue(exception.getMessage().contains("Invalid UUID format for expense ID"));
-        verify(expenseRepository, never()).findById(any(ExpenseId.class));
+        verify(expenseRepository, never()).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, never()).deleteById(any(ExpenseId.class));
     }
     
     @Test
     void should_ThrowException_When_ExpenseNotFound() {
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.empty());
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.empty());
         
         RuntimeException exception = assertThrows(
             RuntimeException.class, 
@@ -87,13 +92,13 @@ class DeleteExpenseUseCaseUnitTest {
         );
         
         assertTrue(exception.getMessage().contains("Expense not found with ID"));
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, never()).deleteById(any(ExpenseId.class));
     }
     
     @Test
     void should_HandleRepositoryException_When_FindByIdFails() {
-        when(expenseRepository.findById(any(ExpenseId.class)))
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class)))
             .thenThrow(new RuntimeException("Database connection error"));
         
         RuntimeException exception = assertThrows(
@@ -102,13 +107,13 @@ class DeleteExpenseUseCaseUnitTest {
         );
         
         assertEquals("Database connection error", exception.getMessage());
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, never()).deleteById(any(ExpenseId.class));
     }
     
     @Test
     void should_HandleRepositoryException_When_DeleteFails() {
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
         doThrow(new RuntimeException("Delete operation failed"))
             .when(expenseRepository).deleteById(any(ExpenseId.class));
         
@@ -118,7 +123,7 @@ class DeleteExpenseUseCaseUnitTest {
         );
         
         assertEquals("Delete operation failed", exception.getMessage());
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, times(1)).deleteById(any(ExpenseId.class));
     }
     
@@ -131,15 +136,15 @@ class DeleteExpenseUseCaseUnitTest {
             new Description("Specific expense"),
             new Category("OTHER"),
             LocalDate.now(),
-            "user456"
+            "00000000-0000-0000-0000-000000000456"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(expenseWithSpecificId));
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(expenseWithSpecificId));
         doNothing().when(expenseRepository).deleteById(any(ExpenseId.class));
         
         assertDoesNotThrow(() -> deleteExpenseUseCase.execute(uuidString));
         
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, times(1)).deleteById(any(ExpenseId.class));
     }
     
@@ -154,7 +159,7 @@ class DeleteExpenseUseCaseUnitTest {
         
         assertTrue(exception.getMessage().contains("Invalid UUID format for expense ID"));
         assertTrue(exception.getMessage().contains(incorrectUUID));
-        verify(expenseRepository, never()).findById(any(ExpenseId.class));
+        verify(expenseRepository, never()).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, never()).deleteById(any(ExpenseId.class));
     }
     
@@ -168,7 +173,7 @@ class DeleteExpenseUseCaseUnitTest {
         );
         
         assertTrue(exception.getMessage().contains("Invalid UUID format for expense ID"));
-        verify(expenseRepository, never()).findById(any(ExpenseId.class));
+        verify(expenseRepository, never()).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, never()).deleteById(any(ExpenseId.class));
     }
     
@@ -182,7 +187,7 @@ class DeleteExpenseUseCaseUnitTest {
         );
         
         assertTrue(exception.getMessage().contains("Invalid UUID format for expense ID"));
-        verify(expenseRepository, never()).findById(any(ExpenseId.class));
+        verify(expenseRepository, never()).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, never()).deleteById(any(ExpenseId.class));
     }
     
@@ -194,42 +199,43 @@ class DeleteExpenseUseCaseUnitTest {
         );
         
         assertTrue(exception.getMessage().contains("Invalid UUID format for expense ID"));
-        verify(expenseRepository, never()).findById(any(ExpenseId.class));
+        verify(expenseRepository, never()).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, never()).deleteById(any(ExpenseId.class));
     }
     
     @Test
     void should_DeleteExpenseSuccessfully_When_ExpenseExistsAndRepositoryWorksCorrectly() {
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
         doNothing().when(expenseRepository).deleteById(any(ExpenseId.class));
         
         deleteExpenseUseCase.execute(validExpenseId);
         
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
         verify(expenseRepository, times(1)).deleteById(any(ExpenseId.class));
     }
     
     @Test
     void should_CallRepositoryMethodsInCorrectOrder_When_DeletingExpense() {
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
         doNothing().when(expenseRepository).deleteById(any(ExpenseId.class));
         
         deleteExpenseUseCase.execute(validExpenseId);
         
-        var inOrder = inOrder(expenseRepository);
-        inOrder.verify(expenseRepository).findById(any(ExpenseId.class));
+        var inOrder = inOrder(expenseRepository, rollupRepository);
+        inOrder.verify(expenseRepository).findByIdForUpdate(any(ExpenseId.class));
         inOrder.verify(expenseRepository).deleteById(any(ExpenseId.class));
+        inOrder.verify(rollupRepository).remove(existingExpense);
     }
     
     @Test
     void should_PassCorrectExpenseId_When_CallingRepositoryMethods() {
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
         doNothing().when(expenseRepository).deleteById(any(ExpenseId.class));
         
         deleteExpenseUseCase.execute(validExpenseId);
         
         ExpenseId expectedExpenseId = new ExpenseId(UUID.fromString(validExpenseId));
-        verify(expenseRepository, times(1)).findById(eq(expectedExpenseId));
+        verify(expenseRepository, times(1)).findByIdForUpdate(eq(expectedExpenseId));
         verify(expenseRepository, times(1)).deleteById(eq(expectedExpenseId));
     }
 }
\ No newline at end of file
@@ -39,7 +39,7 @@ class GetExpenseByIdUseCaseUnitTest {
             new Description("Monthly rent"),
             new Category("HOUSING"),
             LocalDate.of(2024, 1, 15),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
     }
     
@@ -118,7 +118,7 @@ class GetExpenseByIdUseCaseUnitTest {
             new Description("Zero amount test"),
             new Category("OTHER"),
             LocalDate.now(),
-            "user456"
+            "00000000-0000-0000-0000-000000000456"
         );
 
         when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(zeroAmountExpense));
@@ -129,7 +129,7 @@ class GetExpenseByIdUseCaseUnitTest {
         assertEquals(BigDecimal.ZERO, response.getAmount());
         assertEquals("Zero amount test", response.getDescription());
         assertEquals("OTHER", response.getCategory());
-        assertEquals("user456", response.getUserId());
+        assertEquals("00000000-0000-0000-0000-000000000456", response.getUserId());
 
         verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
     }
@@ -143,7 +143,7 @@ class GetExpenseByIdUseCaseUnitTest {
             new Description("Large amount expense"),
             new Category("SHOPPING"),
             LocalDate.now(),
-            "user789"
+            "00000000-0000-0000-0000-000000000789"
         );
         
         when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(largeAmountExpense));
@@ -154,7 +154,7 @@ class GetExpenseByIdUseCaseUnitTest {
         assertEquals(largeAmount, response.getAmount());
         assertEquals("Large amount expense", response.getDescription());
         assertEquals("SHOPPING", response.getCategory());
-        assertEquals("user789", response.getUserId());
+        assertEquals("00000000-0000-0000-0000-000000000789", response.getUserId());
         
         verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
     }
@@ -167,7 +167,7 @@ class GetExpenseByIdUseCaseUnitTest {
             new Description("Expense"),
             new Category("OTHER"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(minimalDescriptionExpense));
@@ -190,7 +190,7 @@ class GetExpenseByIdUseCaseUnitTest {
             new Description("Test expense"),
             new Category("OTHER"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
 
         when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(otherCategoryExpense));
@@ -213,7 +213,7 @@ class GetExpenseByIdUseCaseUnitTest {
             new Description("User expense"),
             new Category("FOOD_DINING"),
             LocalDate.now(),
-            "user999"
+            "00000000-0000-0000-0000-000000000999"
         );
 
         when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(validUserIdExpense));
@@ -221,7 +221,7 @@ class GetExpenseByIdUseCaseUnitTest {
         ExpenseResponse response = getExpenseByIdUseCase.execute(validExpenseId);
 
         assertNotNull(response);
-        assertEquals("user999", response.getUserId());
+        assertEquals("00000000-0000-0000-0000-000000000999", response.getUserId());
         assertEquals(new BigDecimal("300.00"), response.getAmount());
         assertEquals("User expense", response.getDescription());
         assertEquals("FOOD_DINING", response.getCategory());
@@ -238,7 +238,7 @@ class GetExpenseByIdUseCaseUnitTest {
             new Description("Specific expense"),
             new Category("OTHER"),
             LocalDate.now(),
-            "user456"
+            "00000000-0000-0000-0000-000000000456"
         );
         
         when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(expenseWithSpecificId));
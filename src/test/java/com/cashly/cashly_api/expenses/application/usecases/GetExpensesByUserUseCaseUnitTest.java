@@ -4,6 +4,9 @@ import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageCursor;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -16,11 +19,14 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 class GetExpensesByUserUseCaseUnitTest {
     
+    private static final PageRequest PAGE = PageRequest.first(50);
+    
     @Mock
     private ExpenseRepository expenseRepository;
     
@@ -33,7 +39,7 @@ class GetExpensesByUserUseCaseUnitTest {
         MockitoAnnotations.openMocks(this);
         getExpensesByUserUseCase = new GetExpensesByUserUseCase(expenseRepository);
         
-        validUserId = "user123";
+        validUserId = "00000000-0000-0000-0000-000000000123";
         testExpenses = Arrays.asList(
             new Expense(
                 ExpenseId.generate(),
@@ -64,9 +70,9 @@ class GetExpensesByUserUseCaseUnitTest {
     
     @Test
     void should_ReturnListOfExpenseResponses_When_ValidUserIdProvided() {
-        when(expenseRepository.findByUserId(validUserId)).thenReturn(testExpenses);
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(page(testExpenses));
         
-        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId);
+        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId, PAGE).items();
         
         assertNotNull(responses);
         assertEquals(3, responses.size());
@@ -78,19 +84,19 @@ class GetExpensesByUserUseCaseUnitTest {
         assertEquals(testExpenses.get(0).getCategory().getValue(), firstResponse.getCategory());
         assertEquals(testExpenses.get(0).getUserId(), firstResponse.getUserId());
         
-        verify(expenseRepository, times(1)).findByUserId(validUserId);
+        verify(expenseRepository, times(1)).findResponsesByUserId(validUserId, PAGE);
     }
     
     @Test
     void should_ReturnEmptyList_When_UserHasNoExpenses() {
-        when(expenseRepository.findByUserId(validUserId)).thenReturn(Collections.emptyList());
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(page(Collections.emptyList()));
         
-        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId);
+        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId, PAGE).items();
         
         assertNotNull(responses);
         assertTrue(responses.isEmpty());
         
-        verify(expenseRepository, times(1)).findByUserId(validUserId);
+        verify(expenseRepository, times(1)).findResponsesByUserId(validUserId, PAGE);
     }
     
     @Test
@@ -104,9 +110,9 @@ class GetExpensesByUserUseCaseUnitTest {
             validUserId
         );
         
-        when(expenseRepository.findByUserId(validUserId)).thenReturn(Collections.singletonList(singleExpense));
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(page(Collections.singletonList(singleExpense)));
         
-        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId);
+        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId, PAGE).items();
         
         assertNotNull(responses);
         assertEquals(1, responses.size());
@@ -118,76 +124,87 @@ class GetExpensesByUserUseCaseUnitTest {
         assertEquals(singleExpense.getCategory().getValue(), response.getCategory());
         assertEquals(singleExpense.getUserId(), response.getUserId());
         
-        verify(expenseRepository, times(1)).findByUserId(validUserId);
+        verify(expenseRepository, times(1)).findResponsesByUserId(validUserId, PAGE);
     }
     
     @Test
     void should_ThrowException_When_UserIdIsNull() {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class, 
-            () -> getExpensesByUserUseCase.execute(null)
+            () -> getExpensesByUserUseCase.execute(null, PAGE)
         );
         
         assertEquals("User ID cannot be null", exception.getMessage());
-        verify(expenseRepository, never()).findByUserId(anyString());
+        verify(expenseRepository, never()).findResponsesByUserId(anyString(), any());
     }
     
     @Test
     void should_ThrowException_When_UserIdIsEmpty() {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class, 
-            () -> getExpensesByUserUseCase.execute("")
+            () -> getExpensesByUserUseCase.execute("", PAGE)
         );
         
         assertEquals("User ID cannot be empty or blank", exception.getMessage());
-        verify(expenseRepository, never()).findByUserId(anyString());
+        verify(expenseRepository, never()).findResponsesByUserId(anyString(), any());
+    }
+    
+    @Test
+    void should_ThrowException_When_UserIdIsNotUuid() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class, 
+            () -> getExpensesByUserUseCase.execute("user123", PAGE)
+        );
+        
+        assertEquals("Invalid user ID format: user123", exception.getMessage());
+        verify(expenseRepository, never()).findResponsesByUserId(anyString(), any());
     }
     
     @Test
     void should_ThrowException_When_UserIdIsWhitespace() {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class, 
-            () -> getExpensesByUserUseCase.execute("   ")
+            () -> getExpensesByUserUseCase.execute("   ", PAGE)
         );
         
         assertEquals("User ID cannot be empty or blank", exception.getMessage());
-        verify(expenseRepository, never()).findByUserId(anyString());
+        verify(expenseRepository, never()).findResponsesByUserId(anyString(), any());
     }
     
     @Test
     void should_ThrowException_When_UserIdIsTab() {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class, 
-            () -> getExpensesByUserUseCase.execute("\t")
+            () -> getExpensesByUserUseCase.execute("\t", PAGE)
         );
         
         assertEquals("User ID cannot be empty or blank", exception.getMessage());
-        verify(expenseRepository, never()).findByUserId(anyString());
+        verify(expenseRepository, never()).findResponsesByUserId(anyString(), any());
     }
     
     @Test
     void should_ThrowException_When_UserIdIsNewline() {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class, 
-            () -> getExpensesByUserUseCase.execute("\n")
+            () -> getExpensesByUserUseCase.execute("\n", PAGE)
         );
         
         assertEquals("User ID cannot be empty or blank", exception.getMessage());
-        verify(expenseRepository, never()).findByUserId(anyString());
+        verify(expenseRepository, never()).findResponsesByUserId(anyString(), any());
     }
     
     @Test
     void should_HandleRepositoryException_When_FindByUserIdFails() {
-        when(expenseRepository.findByUserId(validUserId))
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE))
             .thenThrow(new RuntimeException("Database connection error"));
         
         RuntimeException exception = assertThrows(
             RuntimeException.class, 
-            () -> getExpensesByUserUseCase.execute(validUserId)
+            () -> getExpensesByUserUseCase.execute(validUserId, PAGE)
         );
         
         assertEquals("Database connection error", exception.getMessage());
-        verify(expenseRepository, times(1)).findByUserId(validUserId);
+        verify(expenseRepository, times(1)).findResponsesByUserId(validUserId, PAGE);
     }
     
     @Test
@@ -211,16 +228,16 @@ class GetExpensesByUserUseCaseUnitTest {
             )
         );
         
-        when(expenseRepository.findByUserId(validUserId)).thenReturn(zeroAmountExpenses);
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(page(zeroAmountExpenses));
         
-        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId);
+        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId, PAGE).items();
         
         assertNotNull(responses);
         assertEquals(2, responses.size());
         assertEquals(BigDecimal.ZERO, responses.get(0).getAmount());
         assertEquals(new BigDecimal("100.00"), responses.get(1).getAmount());
         
-        verify(expenseRepository, times(1)).findByUserId(validUserId);
+        verify(expenseRepository, times(1)).findResponsesByUserId(validUserId, PAGE);
     }
     
     @Test
@@ -237,15 +254,15 @@ class GetExpensesByUserUseCaseUnitTest {
             )
         );
         
-        when(expenseRepository.findByUserId(validUserId)).thenReturn(largeAmountExpenses);
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(page(largeAmountExpenses));
         
-        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId);
+        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId, PAGE).items();
         
         assertNotNull(responses);
         assertEquals(1, responses.size());
         assertEquals(largeAmount, responses.get(0).getAmount());
         
-        verify(expenseRepository, times(1)).findByUserId(validUserId);
+        verify(expenseRepository, times(1)).findResponsesByUserId(validUserId, PAGE);
     }
     
     @Test
@@ -261,15 +278,15 @@ class GetExpensesByUserUseCaseUnitTest {
             )
         );
 
-        when(expenseRepository.findByUserId(validUserId)).thenReturn(minimalDescriptionExpenses);
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(page(minimalDescriptionExpenses));
 
-        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId);
+        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId, PAGE).items();
 
         assertNotNull(responses);
         assertEquals(1, responses.size());
         assertEquals("Expense", responses.get(0).getDescription());
 
-        verify(expenseRepository, times(1)).findByUserId(validUserId);
+        verify(expenseRepository, times(1)).findResponsesByUserId(validUserId, PAGE);
     }
     
     @Test
@@ -285,15 +302,15 @@ class GetExpensesByUserUseCaseUnitTest {
             )
         );
 
-        when(expenseRepository.findByUserId(validUserId)).thenReturn(otherCategoryExpenses);
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(page(otherCategoryExpenses));
 
-        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId);
+        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId, PAGE).items();
 
         assertNotNull(responses);
         assertEquals(1, responses.size());
         assertEquals("OTHER", responses.get(0).getCategory());
         
-        verify(expenseRepository, times(1)).findByUserId(validUserId);
+        verify(expenseRepository, times(1)).findResponsesByUserId(validUserId, PAGE);
     }
     
     @Test
@@ -306,9 +323,9 @@ class GetExpensesByUserUseCaseUnitTest {
             new Expense(ExpenseId.generate(), new Amount(new BigDecimal("500.00")), new Description("Expense 5"), new Category("ENTERTAINMENT"), LocalDate.now(), validUserId)
         );
         
-        when(expenseRepository.findByUserId(validUserId)).thenReturn(manyExpenses);
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(page(manyExpenses));
         
-        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId);
+        List<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId, PAGE).items();
         
         assertNotNull(responses);
         assertEquals(5, responses.size());
@@ -321,15 +338,45 @@ class GetExpensesByUserUseCaseUnitTest {
             assertEquals(validUserId, responses.get(i).getUserId());
         }
         
-        verify(expenseRepository, times(1)).findByUserId(validUserId);
+        verify(expenseRepository, times(1)).findResponsesByUserId(validUserId, PAGE);
     }
     
     @Test
     void should_PassCorrectUserId_When_CallingRepository() {
-        when(expenseRepository.findByUserId(validUserId)).thenReturn(testExpenses);
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(page(testExpenses));
         
-        getExpensesByUserUseCase.execute(validUserId);
+        getExpensesByUserUseCase.execute(validUserId, PAGE);
         
-        verify(expenseRepository, times(1)).findByUserId(eq(validUserId));
+        verify(expenseRepository, times(1)).findResponsesByUserId(eq(validUserId), eq(PAGE));
+    }
+    
+    @Test
+    void should_ReturnNextCursor_When_RepositoryReportsMorePages() {
+        PageCursor nextCursor = new PageCursor(
+            testExpenses.get(2).getCreatedAt(), testExpenses.get(2).getId().getValue().toString());
+        when(expenseRepository.findResponsesByUserId(validUserId, PAGE)).thenReturn(new CursorPage<>(responses(testExpenses), nextCursor));
+        
+        CursorPage<ExpenseResponse> responses = getExpensesByUserUseCase.execute(validUserId, PAGE);
+        
+        assertEquals(3, responses.items().size());
+        assertTrue(responses.hasNext());
+        assertEquals(nextCursor, responses.nextCursor());
+    }
+    
+    private static CursorPage<ExpenseResponse> page(List<Expense> expenses) {
+        return new CursorPage<>(responses(expenses), null);
+    }
+    
+    private static List<ExpenseResponse> responses(List<Expense> expenses) {
+        return expenses.stream()
+            .map(expense -> new ExpenseResponse(
+                expense.getId().getValue().toString(),
+                expense.getAmount().getValue(),
+                expense.getDescription().getValue(),
+                expense.getCategory().getValue(),
+                expense.getUserId(),
+                expense.getCreatedAt(),
+                expense.getUpdatedAt()))
+            .toList();
     }
-}
\ No newline at end of file
+}
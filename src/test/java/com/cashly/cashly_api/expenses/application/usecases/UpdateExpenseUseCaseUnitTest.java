@@ -3,6 +3,7 @@ package com.cashly.cashly_api.expenses.application.usecases;
 import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
 import com.cashly.cashly_api.expenses.application.dto.UpdateExpenseRequest;
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.valueobjects.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +26,9 @@ class UpdateExpenseUseCaseUnitTest {
     @Mock
     private ExpenseRepository expenseRepository;
     
+    @Mock
+    private ExpenseRollupRepository rollupRepository;
+    
     private UpdateExpenseUseCase updateExpenseUseCase;
     private String validExpenseId;
     private Expense existingExpense;
@@ -32,7 +36,7 @@ class UpdateExpenseUseCaseUnitTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        updateExpenseUseCase = new UpdateExpenseUseCase(expenseRepository);
+        updateExpenseUseCase = new UpdateExpenseUseCase(expenseRepository, rollupRepository);
         
         validExpenseId = UUID.randomUUID().toString();
         existingExpense = new Expense(
@@ -41,7 +45,7 @@ class UpdateExpenseUseCaseUnitTest {
             new Description("Original description"),
             new Category("FOOD_DINING"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
     }
     
@@ -53,14 +57,29 @@ class UpdateExpenseUseCaseUnitTest {
             null
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
+        verify(rollupRepository).remove(argThat(previous ->
+            new BigDecimal("500.00").equals(previous.getAmount().getValue())));
+        verify(rollupRepository).add(existingExpense);
+    }
+    
+    @Test
+    void should_LeaveRollupsAlone_When_OnlyDescriptionChanges() {
+        UpdateExpenseRequest request = new UpdateExpenseRequest(null, "Updated description", null);
+        
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
+        
+        updateExpenseUseCase.execute(validExpenseId, request);
+        
+        verifyNoInteractions(rollupRepository);
     }
     
     @Test
@@ -71,14 +90,14 @@ class UpdateExpenseUseCaseUnitTest {
             null
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -89,14 +108,14 @@ class UpdateExpenseUseCaseUnitTest {
             "TRANSPORTATION"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -107,28 +126,28 @@ class UpdateExpenseUseCaseUnitTest {
             "HOUSING"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
     void should_NotUpdateFields_When_AllFieldsNull() {
         UpdateExpenseRequest request = new UpdateExpenseRequest(null, null, null);
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -139,14 +158,14 @@ class UpdateExpenseUseCaseUnitTest {
             "OTHER"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -157,14 +176,14 @@ class UpdateExpenseUseCaseUnitTest {
             "OTHER"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -175,14 +194,14 @@ class UpdateExpenseUseCaseUnitTest {
             ""
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -193,14 +212,14 @@ class UpdateExpenseUseCaseUnitTest {
             "   "
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -217,8 +236,8 @@ class UpdateExpenseUseCaseUnitTest {
         );
         
         assertEquals("Expense ID cannot be null", exception.getMessage());
-        verify(expenseRepository, never()).findById(any(ExpenseId.class));
-        verify(expenseRepository, never()).save(any(Expense.class));
+        verify(expenseRepository, never()).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, never()).update(any(Expense.class));
     }
     
     @Test
@@ -229,8 +248,8 @@ class UpdateExpenseUseCaseUnitTest {
         );
         
         assertEquals("Update expense request cannot be null", exception.getMessage());
-        verify(expenseRepository, never()).findById(any(ExpenseId.class));
-        verify(expenseRepository, never()).save(any(Expense.class));
+        verify(expenseRepository, never()).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, never()).update(any(Expense.class));
     }
     
     @Test
@@ -247,8 +266,8 @@ class UpdateExpenseUseCaseUnitTest {
         );
         
         assertTrue(exception.getMessage().contains("Invalid UUID format for expense ID"));
-        verify(expenseRepository, never()).findById(any(ExpenseId.class));
-        verify(expenseRepository, never()).save(any(Expense.class));
+        verify(expenseRepository, never()).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, never()).update(any(Expense.class));
     }
     
     @Test
@@ -259,7 +278,7 @@ class UpdateExpenseUseCaseUnitTest {
             "FOOD_DINING"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.empty());
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.empty());
         
         RuntimeException exception = assertThrows(
             RuntimeException.class, 
@@ -267,8 +286,8 @@ class UpdateExpenseUseCaseUnitTest {
         );
         
         assertTrue(exception.getMessage().contains("Expense not found with ID"));
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, never()).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, never()).update(any(Expense.class));
     }
     
     @Test
@@ -279,14 +298,14 @@ class UpdateExpenseUseCaseUnitTest {
             "OTHER"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -298,14 +317,14 @@ class UpdateExpenseUseCaseUnitTest {
             "SHOPPING"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
         assertNotNull(response);
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -316,7 +335,7 @@ class UpdateExpenseUseCaseUnitTest {
             "FOOD_DINING"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class)))
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class)))
             .thenThrow(new RuntimeException("Database error"));
         
         RuntimeException exception = assertThrows(
@@ -325,8 +344,8 @@ class UpdateExpenseUseCaseUnitTest {
         );
         
         assertEquals("Database error", exception.getMessage());
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, never()).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, never()).update(any(Expense.class));
     }
     
     @Test
@@ -337,8 +356,8 @@ class UpdateExpenseUseCaseUnitTest {
             "FOOD_DINING"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class)))
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class)))
             .thenThrow(new RuntimeException("Save failed"));
         
         RuntimeException exception = assertThrows(
@@ -347,8 +366,8 @@ class UpdateExpenseUseCaseUnitTest {
         );
         
         assertEquals("Save failed", exception.getMessage());
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
     
     @Test
@@ -359,8 +378,8 @@ class UpdateExpenseUseCaseUnitTest {
             "TRANSPORTATION"
         );
         
-        when(expenseRepository.findById(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findByIdForUpdate(any(ExpenseId.class))).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.update(any(Expense.class))).thenReturn(existingExpense);
         
         ExpenseResponse response = updateExpenseUseCase.execute(validExpenseId, request);
         
@@ -374,7 +393,7 @@ class UpdateExpenseUseCaseUnitTest {
         assertEquals(existingExpense.getCreatedAt(), response.getCreatedAt());
         assertEquals(existingExpense.getUpdatedAt(), response.getUpdatedAt());
         
-        verify(expenseRepository, times(1)).findById(any(ExpenseId.class));
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, times(1)).findByIdForUpdate(any(ExpenseId.class));
+        verify(expenseRepository, times(1)).update(any(Expense.class));
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,7 +26,7 @@ class ExpenseUnitTest {
         validDescription = new Description("Grocery shopping");
         validCategory = new Category("FOOD_DINING");
         validDate = LocalDate.of(2024, 1, 15);
-        validUserId = "user123";
+        validUserId = "00000000-0000-0000-0000-000000000123";
     }
 
     @Test
@@ -160,6 +161,17 @@ class ExpenseUnitTest {
         assertEquals("User ID cannot be empty", exception.getMessage());
     }
 
+    @Test
+    void should_ThrowException_When_UserIdIsNotUuid() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new Expense(validExpenseId, validAmount, validDescription, validCategory, validDate, "user123")
+        );
+
+        assertEquals("Invalid user ID format: user123", exception.getMessage());
+    }
+
     @Test
     void should_ThrowException_When_FutureDateProvided() {
         // Arrange
@@ -260,4 +272,33 @@ class ExpenseUnitTest {
         assertTrue(expenseInJanuary.isFromSamePeriod(anotherDateInJanuary));
         assertFalse(expenseInJanuary.isFromSamePeriod(dateInFebruary));
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_KeepPersistedTimestamps_When_Rehydrated() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 16, 14, 45);
+
+        // Act
+        Expense expense = Expense.rehydrate(validExpenseId, validAmount, validDescription, validCategory,
+            validDate, validUserId, createdAt, updatedAt);
+
+        // Assert
+        assertEquals(validExpenseId, expense.getId());
+        assertEquals(validDate, expense.getDate());
+        assertEquals(createdAt, expense.getCreatedAt());
+        assertEquals(updatedAt, expense.getUpdatedAt());
+    }
+
+    @Test
+    void should_ThrowException_When_RehydratedWithBlankUserId() {
+        // Arrange
+        LocalDateTime recordedAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            Expense.rehydrate(validExpenseId, validAmount, validDescription, validCategory,
+                validDate, "  ", recordedAt, recordedAt));
+        assertEquals("User ID cannot be empty", exception.getMessage());
+    }
+}
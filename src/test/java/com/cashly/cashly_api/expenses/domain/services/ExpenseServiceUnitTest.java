@@ -1,11 +1,15 @@
 package com.cashly.cashly_api.expenses.domain.services;
 
 import com.cashly.cashly_api.expenses.application.ports.ExpenseRepository;
+import com.cashly.cashly_api.expenses.application.ports.ExpenseRollupRepository;
 import com.cashly.cashly_api.expenses.domain.entities.Expense;
 import com.cashly.cashly_api.expenses.domain.services.ExpenseService.BudgetUtilization;
 import com.cashly.cashly_api.expenses.domain.services.ExpenseService.CategoryAnalysis;
 import com.cashly.cashly_api.expenses.domain.services.ExpenseService.SpendingAnalysis;
 import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.analytics.AmountSeries;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import com.cashly.cashly_api.shared.analytics.SeriesGranularity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +33,9 @@ class ExpenseServiceUnitTest {
 
     @Mock
     private ExpenseRepository expenseRepository;
+
+    @Mock
+    private ExpenseRollupRepository rollupRepository;
     
     private ExpenseService expenseService;
     private String validUserId;
@@ -37,8 +44,8 @@ class ExpenseServiceUnitTest {
 
     @BeforeEach
     void setUp() {
-        expenseService = new ExpenseService(expenseRepository);
-        validUserId = "user123";
+        expenseService = new ExpenseService(expenseRepository, rollupRepository);
+        validUserId = "00000000-0000-0000-0000-000000000123";
         startDate = LocalDate.of(2024, 1, 1);
         endDate = LocalDate.of(2024, 1, 31);
     }
@@ -48,7 +55,7 @@ class ExpenseServiceUnitTest {
         // Arrange
         LocalDate referenceDate = LocalDate.of(2024, 1, 31);
         Amount expectedTotal = new Amount(new BigDecimal("2300.00"));
-        when(expenseRepository.calculateTotalExpenseForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class)))
+        when(rollupRepository.calculateTotal(validUserId, YearMonth.of(2023, 11), YearMonth.of(2024, 1)))
             .thenReturn(expectedTotal);
         
         // Act
@@ -57,7 +64,8 @@ class ExpenseServiceUnitTest {
         // Assert
         BigDecimal expected = new BigDecimal("2300.00").divide(BigDecimal.valueOf(3), 2, BigDecimal.ROUND_HALF_UP);
         assertEquals(expected, result.getValue());
-        verify(expenseRepository).calculateTotalExpenseForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class));
+        verify(rollupRepository).calculateTotal(validUserId, YearMonth.of(2023, 11), YearMonth.of(2024, 1));
+        verifyNoInteractions(expenseRepository);
     }
 
     @Test
@@ -97,10 +105,11 @@ class ExpenseServiceUnitTest {
         Amount currentExpense = new Amount(new BigDecimal("2300.00"));
         Amount previousExpense = new Amount(BigDecimal.ZERO);
         
-        when(expenseRepository.calculateTotalExpenseForPeriod(eq(validUserId), eq(currentMonth.atDay(1)), eq(currentMonth.atEndOfMonth())))
-            .thenReturn(currentExpense);
-        when(expenseRepository.calculateTotalExpenseForPeriod(eq(validUserId), eq(currentMonth.minusMonths(1).atDay(1)), eq(currentMonth.minusMonths(1).atEndOfMonth())))
-            .thenReturn(previousExpense);
+        Map<YearMonth, Amount> monthlyTotals = new HashMap<>();
+        monthlyTotals.put(currentMonth, currentExpense);
+        monthlyTotals.put(currentMonth.minusMonths(1), previousExpense);
+        when(rollupRepository.calculateMonthlyTotals(validUserId, currentMonth.minusMonths(1), currentMonth))
+            .thenReturn(monthlyTotals);
         
         // Act
         SpendingAnalysis result = expenseService.analyzeSpendingTrend(validUserId, currentMonth);
@@ -112,17 +121,15 @@ class ExpenseServiceUnitTest {
         assertEquals(BigDecimal.ZERO, result.getPreviousMonthExpense().getValue());
         assertEquals(new BigDecimal("100.00"), result.getChangePercentage());
         
-        verify(expenseRepository, times(2)).calculateTotalExpenseForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class));
+        verify(rollupRepository, times(1)).calculateMonthlyTotals(validUserId, currentMonth.minusMonths(1), currentMonth);
     }
 
     @Test
     void should_ReturnZeroChange_When_BothMonthsHaveZeroExpenses() {
         // Arrange
         YearMonth futureMonth = YearMonth.of(2024, 6);
-        Amount zeroExpense = new Amount(BigDecimal.ZERO);
-        
-        when(expenseRepository.calculateTotalExpenseForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class)))
-            .thenReturn(zeroExpense);
+        when(rollupRepository.calculateMonthlyTotals(validUserId, futureMonth.minusMonths(1), futureMonth))
+            .thenReturn(new HashMap<>());
         
         // Act
         SpendingAnalysis result = expenseService.analyzeSpendingTrend(validUserId, futureMonth);
@@ -132,7 +139,7 @@ class ExpenseServiceUnitTest {
         assertEquals(BigDecimal.ZERO, result.getCurrentMonthExpense().getValue());
         assertEquals(BigDecimal.ZERO, result.getPreviousMonthExpense().getValue());
         
-        verify(expenseRepository, times(2)).calculateTotalExpenseForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class));
+        verify(rollupRepository, times(1)).calculateMonthlyTotals(validUserId, futureMonth.minusMonths(1), futureMonth);
     }
 
     @Test
@@ -340,12 +347,8 @@ class ExpenseServiceUnitTest {
         categoryAmounts.put(new Category("FOOD_DINING"), new Amount(new BigDecimal("800.00")));
         categoryAmounts.put(new Category("OTHER"), new Amount(new BigDecimal("300.00")));
         
-        Amount totalExpense = new Amount(new BigDecimal("2300.00"));
-        
-        when(expenseRepository.calculateExpensesByCategory(validUserId, startDate, endDate))
+        when(rollupRepository.calculateByCategory(validUserId, startDate, endDate))
             .thenReturn(categoryAmounts);
-        when(expenseRepository.calculateTotalExpenseForPeriod(validUserId, startDate, endDate))
-            .thenReturn(totalExpense);
         
         // Act
         List<CategoryAnalysis> result = expenseService.analyzeCategoryBreakdown(validUserId, startDate, endDate);
@@ -370,20 +373,17 @@ class ExpenseServiceUnitTest {
         assertEquals(new BigDecimal("300.00"), lowest.getAmount().getValue());
         assertEquals(new BigDecimal("13.04"), lowest.getPercentageOfTotal());
         
-        verify(expenseRepository).calculateExpensesByCategory(validUserId, startDate, endDate);
-        verify(expenseRepository).calculateTotalExpenseForPeriod(validUserId, startDate, endDate);
+        verify(rollupRepository).calculateByCategory(validUserId, startDate, endDate);
+        verifyNoInteractions(expenseRepository);
     }
 
     @Test
     void should_ReturnEmptyList_When_NoExpensesForCategoryBreakdown() {
         // Arrange
         Map<Category, Amount> emptyMap = new HashMap<>();
-        Amount zeroTotal = new Amount(BigDecimal.ZERO);
         
-        when(expenseRepository.calculateExpensesByCategory(validUserId, startDate, endDate))
+        when(rollupRepository.calculateByCategory(validUserId, startDate, endDate))
             .thenReturn(emptyMap);
-        when(expenseRepository.calculateTotalExpenseForPeriod(validUserId, startDate, endDate))
-            .thenReturn(zeroTotal);
         
         // Act
         List<CategoryAnalysis> result = expenseService.analyzeCategoryBreakdown(validUserId, startDate, endDate);
@@ -392,8 +392,7 @@ class ExpenseServiceUnitTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         
-        verify(expenseRepository).calculateExpensesByCategory(validUserId, startDate, endDate);
-        verify(expenseRepository).calculateTotalExpenseForPeriod(validUserId, startDate, endDate);
+        verify(rollupRepository).calculateByCategory(validUserId, startDate, endDate);
     }
 
     @Test
@@ -425,4 +424,49 @@ class ExpenseServiceUnitTest {
         assertThrows(IllegalArgumentException.class, () -> 
             expenseService.analyzeCategoryBreakdown(validUserId, endDate, startDate));
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_ReadRollups_When_MonthlySeriesRequested() {
+        // Arrange
+        LocalDate seriesStart = LocalDate.of(2020, 1, 1);
+        LocalDate seriesEnd = LocalDate.of(2024, 12, 31);
+        when(rollupRepository.calculateMonthlySeries(validUserId, seriesStart, seriesEnd)).thenReturn(List.of(
+            new PeriodTotal(LocalDate.of(2022, 6, 1), new BigDecimal("150.00"), 3)
+        ));
+
+        // Act
+        AmountSeries result = expenseService.analyzeSpendingSeries(validUserId, SeriesGranularity.MONTH, seriesStart, seriesEnd);
+
+        // Assert
+        assertEquals(60, result.points().size());
+        assertEquals(new BigDecimal("150.00"), result.points().get(29).total());
+        assertEquals(3, result.points().get(29).count());
+        assertEquals(new BigDecimal("0.00"), result.points().get(0).total());
+        verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    void should_FoldDailyTotals_When_WeeklySeriesRequested() {
+        // Arrange
+        when(expenseRepository.calculateDailyTotals(validUserId, startDate, endDate)).thenReturn(List.of(
+            new PeriodTotal(LocalDate.of(2024, 1, 2), new BigDecimal("40.00"), 1),
+            new PeriodTotal(LocalDate.of(2024, 1, 5), new BigDecimal("60.00"), 2)
+        ));
+
+        // Act
+        AmountSeries result = expenseService.analyzeSpendingSeries(validUserId, SeriesGranularity.WEEK, startDate, endDate);
+
+        // Assert
+        assertEquals(5, result.points().size());
+        assertEquals(new BigDecimal("100.00"), result.points().get(0).total());
+        assertEquals(3, result.points().get(0).count());
+        verify(rollupRepository, never()).calculateMonthlySeries(any(), any(), any());
+    }
+
+    @Test
+    void should_ThrowException_When_SeriesGranularityIsNull() {
+        assertThrows(IllegalArgumentException.class, () ->
+            expenseService.analyzeSpendingSeries(validUserId, null, startDate, endDate));
+        verifyNoInteractions(expenseRepository, rollupRepository);
+    }
+}
@@ -0,0 +1,137 @@
+package com.cashly.cashly_api.expenses.infrastructure.persistence;
+
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly per-category sums for a user with 1M expenses over four years: the former
+ * {@code created_at} range over {@code (user_id, created_at, id)}, which reads every
+ * amount from the row, against the business-date range over the covering
+ * {@code (user_id, date, category, amount)} index.
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ExpenseAggregationIndexBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int DAYS = 4 * 365;
+    private static final String[] CATEGORIES = {
+        "FOOD_DINING", "TRANSPORTATION", "HOUSING", "HEALTHCARE", "ENTERTAINMENT", "SHOPPING", "OTHER"
+    };
+
+    private Connection connection;
+    private PreparedStatement byCreatedAt;
+    private PreparedStatement byBusinessDate;
+    private byte[] userId;
+    private YearMonth month;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:expense_aggregation;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE expenses (id BINARY(16) PRIMARY KEY, amount DECIMAL(19,2) NOT NULL, "
+                + "description VARCHAR(255) NOT NULL, category VARCHAR(50) NOT NULL, date DATE NOT NULL, "
+                + "user_id BINARY(16) NOT NULL, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_expenses_user_created_id ON expenses (user_id, created_at, id)");
+            statement.execute("CREATE INDEX idx_expenses_user_date_category_amount "
+                + "ON expenses (user_id, date, category, amount)");
+        }
+
+        userId = UuidBinaryConverter.toBytes(UUID.randomUUID().toString());
+        LocalDate firstDay = LocalDate.now().minusDays(DAYS);
+        month = YearMonth.from(firstDay.plusDays(DAYS / 2));
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO expenses (id, amount, description, category, date, user_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                LocalDate date = firstDay.plusDays((long) i * DAYS / ROWS);
+                Timestamp recordedAt = Timestamp.valueOf(date.plusDays(i % 4).atTime(12, i % 60));
+                insert.setBytes(1, UuidBinaryConverter.toBytes(UUID.randomUUID().toString()));
+                insert.setBigDecimal(2, BigDecimal.valueOf(100 + i % 10_000, 2));
+                insert.setString(3, "Expense " + i);
+                insert.setString(4, CATEGORIES[i % CATEGORIES.length]);
+                insert.setDate(5, Date.valueOf(date));
+                insert.setBytes(6, userId);
+                insert.setTimestamp(7, recordedAt);
+                insert.setTimestamp(8, recordedAt);
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        byCreatedAt = connection.prepareStatement("SELECT category, COALESCE(SUM(amount), 0) FROM expenses "
+            + "WHERE user_id = ? AND created_at BETWEEN ? AND ? GROUP BY category");
+        byCreatedAt.setBytes(1, userId);
+        byCreatedAt.setTimestamp(2, Timestamp.valueOf(month.atDay(1).atStartOfDay()));
+        byCreatedAt.setTimestamp(3, Timestamp.valueOf(month.atEndOfMonth().atTime(23, 59, 59, 999_999_999)));
+
+        byBusinessDate = connection.prepareStatement("SELECT category, COALESCE(SUM(amount), 0) FROM expenses "
+            + "WHERE user_id = ? AND date BETWEEN ? AND ? GROUP BY category");
+        byBusinessDate.setBytes(1, userId);
+        byBusinessDate.setDate(2, Date.valueOf(month.atDay(1)));
+        byBusinessDate.setDate(3, Date.valueOf(month.atEndOfMonth()));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void createdAtRange(Blackhole blackhole) throws SQLException {
+        consume(byCreatedAt, blackhole);
+    }
+
+    @Benchmark
+    public void businessDateCoveringIndex(Blackhole blackhole) throws SQLException {
+        consume(byBusinessDate, blackhole);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ExpenseAggregationIndexBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    private static void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+        try (ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                blackhole.consume(rows.getString(1));
+                blackhole.consume(rows.getBigDecimal(2));
+            }
+        }
+    }
+}
@@ -32,7 +32,7 @@ class ExpenseEntityUnitTest {
         testDescription = "Test expense";
         testCategory = "FOOD_DINING";
         testDate = LocalDate.of(2024, 1, 15);
-        testUserId = "user123";
+        testUserId = "00000000-0000-0000-0000-000000000123";
         testCreatedAt = LocalDateTime.of(2024, 1, 15, 10, 30, 0);
         testUpdatedAt = LocalDateTime.of(2024, 1, 16, 14, 45, 0);
 
@@ -239,7 +239,7 @@ class ExpenseEntityUnitTest {
 
     @Test
     void should_SetAndGetUserId_When_ValidUserIdProvided() {
-        String newUserId = "user456";
+        String newUserId = "00000000-0000-0000-0000-000000000456";
         testEntity.setUserId(newUserId);
         
         assertEquals(newUserId, testEntity.getUserId());
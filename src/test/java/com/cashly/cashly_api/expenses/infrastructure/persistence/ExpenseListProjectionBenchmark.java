@@ -0,0 +1,156 @@
+package com.cashly.cashly_api.expenses.infrastructure.persistence;
+
+import com.cashly.cashly_api.expenses.application.dto.ExpenseResponse;
+import com.cashly.cashly_api.expenses.domain.entities.Expense;
+import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walking every list page of a 10k-expense user: managed entities mapped through the
+ * domain against JPQL constructor projections straight into response DTOs. Allocation
+ * per walk is reported by the GC profiler as {@code gc.alloc.rate.norm}.
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpenseListProjectionBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int PAGE_SIZE = 200;
+    private static final String USER_ID = UUID.randomUUID().toString();
+
+    private static final String ENTITY_FIRST_PAGE =
+        "SELECT e FROM ExpenseEntity e WHERE e.userId = :userId ORDER BY e.createdAt DESC, e.id DESC";
+    private static final String ENTITY_PAGE_AFTER =
+        "SELECT e FROM ExpenseEntity e WHERE e.userId = :userId " +
+        "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+        "ORDER BY e.createdAt DESC, e.id DESC";
+    private static final String RESPONSE_FIRST_PAGE =
+        "SELECT new com.cashly.cashly_api.expenses.application.dto.ExpenseResponse(" +
+        "e.id, e.amount, e.description, e.category, e.userId, e.createdAt, e.updatedAt) " +
+        "FROM ExpenseEntity e WHERE e.userId = :userId ORDER BY e.createdAt DESC, e.id DESC";
+    private static final String RESPONSE_PAGE_AFTER =
+        "SELECT new com.cashly.cashly_api.expenses.application.dto.ExpenseResponse(" +
+        "e.id, e.amount, e.description, e.category, e.userId, e.createdAt, e.updatedAt) " +
+        "FROM ExpenseEntity e WHERE e.userId = :userId " +
+        "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+        "ORDER BY e.createdAt DESC, e.id DESC";
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(ExpenseEntity.class)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:expense-projection;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .setProperty("hibernate.auto_quote_keyword", "true")
+            .setProperty("hibernate.jdbc.batch_size", "500")
+            .buildSessionFactory();
+
+        LocalDate today = LocalDate.now();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(ExpenseEntity.fromDomain(new Expense(
+                    ExpenseId.generate(),
+                    new Amount(new BigDecimal("10.00").add(BigDecimal.valueOf(i % 500))),
+                    new Description("Expense " + i),
+                    new Category("OTHER"),
+                    today.minusDays(i % 365),
+                    USER_ID
+                )));
+                if (i % 500 == 499) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void managedEntities(Blackhole blackhole) {
+        sessionFactory.inSession(session -> {
+            List<ExpenseEntity> page = firstPage(session, ENTITY_FIRST_PAGE, ExpenseEntity.class);
+            while (!page.isEmpty()) {
+                for (ExpenseEntity row : page) {
+                    blackhole.consume(toResponse(row.toDomain()));
+                }
+                ExpenseEntity last = page.get(page.size() - 1);
+                page = pageAfter(session, ENTITY_PAGE_AFTER, ExpenseEntity.class, last.getCreatedAt(), last.getId());
+            }
+        });
+    }
+
+    @Benchmark
+    public void dtoProjection(Blackhole blackhole) {
+        sessionFactory.inSession(session -> {
+            List<ExpenseResponse> page = firstPage(session, RESPONSE_FIRST_PAGE, ExpenseResponse.class);
+            while (!page.isEmpty()) {
+                page.forEach(blackhole::consume);
+                ExpenseResponse last = page.get(page.size() - 1);
+                page = pageAfter(session, RESPONSE_PAGE_AFTER, ExpenseResponse.class, last.getCreatedAt(), last.getId());
+            }
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ExpenseListProjectionBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+
+    private static <T> List<T> firstPage(Session session, String query, Class<T> type) {
+        return session.createQuery(query, type)
+            .setParameter("userId", USER_ID)
+            .setMaxResults(PAGE_SIZE)
+            .getResultList();
+    }
+
+    private static <T> List<T> pageAfter(Session session, String query, Class<T> type,
+                                         LocalDateTime createdAt, String id) {
+        return session.createQuery(query, type)
+            .setParameter("userId", USER_ID)
+            .setParameter("createdAt", createdAt)
+            .setParameter("id", id)
+            .setMaxResults(PAGE_SIZE)
+            .getResultList();
+    }
+
+    private static ExpenseResponse toResponse(Expense expense) {
+        return new ExpenseResponse(
+            expense.getId().getValue().toString(),
+            expense.getAmount().getValue(),
+            expense.getDescription().getValue(),
+            expense.getCategory().getValue(),
+            expense.getUserId(),
+            expense.getCreatedAt(),
+            expense.getUpdatedAt()
+        );
+    }
+}
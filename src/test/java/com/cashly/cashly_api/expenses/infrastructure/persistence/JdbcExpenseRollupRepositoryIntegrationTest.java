@@ -0,0 +1,156 @@
+package com.cashly.cashly_api.expenses.infrastructure.persistence;
+
+import com.cashly.cashly_api.expenses.domain.entities.Expense;
+import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.infrastructure.persistence.BatchInserter;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JdbcExpenseRollupRepository.class, JpaExpenseRepository.class, BatchInserter.class})
+@DisplayName("JdbcExpenseRollupRepository Integration Tests")
+class JdbcExpenseRollupRepositoryIntegrationTest {
+
+    @Autowired
+    private JdbcExpenseRollupRepository rollupRepository;
+
+    @Autowired
+    private JpaExpenseRepository expenseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private String userId;
+    private YearMonth lastMonth;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID().toString();
+        lastMonth = YearMonth.now().minusMonths(1);
+    }
+
+    @Test
+    @DisplayName("should_KeepMonthlyTotals_When_ExpensesAreAddedAndRemoved")
+    void should_KeepMonthlyTotals_When_ExpensesAreAddedAndRemoved() {
+        Expense lunch = expense("25.00", "FOOD_DINING", lastMonth.atDay(3));
+        Expense dinner = expense("15.00", "FOOD_DINING", lastMonth.atDay(9));
+        Expense taxi = expense("30.00", "TRANSPORTATION", lastMonth.atDay(10));
+
+        rollupRepository.addAll(List.of(lunch, dinner));
+        rollupRepository.add(taxi);
+        rollupRepository.remove(taxi);
+
+        Map<Category, Amount> byCategory = rollupRepository.calculateByCategory(
+            userId, lastMonth.atDay(1), lastMonth.atEndOfMonth());
+
+        assertEquals(1, byCategory.size());
+        assertEquals(0, new BigDecimal("40.00").compareTo(byCategory.get(new Category("FOOD_DINING")).getValue()));
+        assertEquals(0, new BigDecimal("40.00").compareTo(
+            rollupRepository.calculateTotal(userId, lastMonth, lastMonth).getValue()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(
+            rollupRepository.calculateTotal(userId, lastMonth.minusMonths(1), lastMonth.minusMonths(1)).getValue()));
+    }
+
+    @Test
+    @DisplayName("should_MatchRawExpenses_When_RebuildingDriftedRollups")
+    void should_MatchRawExpenses_When_RebuildingDriftedRollups() {
+        Expense rent = expense("900.00", "HOUSING", lastMonth.atDay(1));
+        Expense groceries = expense("60.00", "FOOD_DINING", lastMonth.atEndOfMonth());
+        expenseRepository.saveAll(List.of(rent, groceries));
+        entityManager.flush();
+        rollupRepository.add(rent);
+
+        assertTrue(rollupRepository.findUserIds(null, 10).contains(userId));
+
+        rollupRepository.rebuild(userId);
+
+        Map<Category, Amount> byCategory = rollupRepository.calculateByCategory(
+            userId, lastMonth.atDay(1), lastMonth.atEndOfMonth());
+        assertEquals(2, byCategory.size());
+        assertEquals(0, new BigDecimal("900.00").compareTo(byCategory.get(new Category("HOUSING")).getValue()));
+        assertEquals(0, new BigDecimal("60.00").compareTo(byCategory.get(new Category("FOOD_DINING")).getValue()));
+        assertEquals(0, new BigDecimal("960.00").compareTo(
+            rollupRepository.calculateTotal(userId, lastMonth, lastMonth).getValue()));
+    }
+
+    @Test
+    @DisplayName("should_ReadPartialMonthsFromExpenses_When_PeriodSpansMonthBoundaries")
+    void should_ReadPartialMonthsFromExpenses_When_PeriodSpansMonthBoundaries() {
+        YearMonth firstMonth = lastMonth.minusMonths(2);
+        Expense headIn = expense("20.00", "HOUSING", firstMonth.atDay(20));
+        Expense headOut = expense("99.00", "HOUSING", firstMonth.atDay(19));
+        Expense whole = expense("600.00", "HOUSING", firstMonth.plusMonths(1).atDay(15));
+        Expense tailIn = expense("30.00", "OTHER", lastMonth.atDay(10));
+        Expense tailOut = expense("99.00", "OTHER", lastMonth.atDay(11));
+        expenseRepository.saveAll(List.of(headIn, headOut, whole, tailIn, tailOut));
+        entityManager.flush();
+        rollupRepository.addAll(List.of(headIn, headOut, whole, tailIn, tailOut));
+
+        Map<Category, Amount> byCategory = rollupRepository.calculateByCategory(
+            userId, firstMonth.atDay(20), lastMonth.atDay(10));
+        Map<YearMonth, Amount> byMonth = rollupRepository.calculateMonthlyTotals(userId, firstMonth, lastMonth);
+
+        assertEquals(0, new BigDecimal("620.00").compareTo(byCategory.get(new Category("HOUSING")).getValue()));
+        assertEquals(0, new BigDecimal("30.00").compareTo(byCategory.get(new Category("OTHER")).getValue()));
+        assertEquals(3, byMonth.size());
+        assertEquals(0, new BigDecimal("119.00").compareTo(byMonth.get(firstMonth).getValue()));
+        assertEquals(0, new BigDecimal("129.00").compareTo(byMonth.get(lastMonth).getValue()));
+    }
+
+    @Test
+    @DisplayName("should_CountOnlyDaysInRange_When_MonthlySeriesSpansPartialMonths")
+    void should_CountOnlyDaysInRange_When_MonthlySeriesSpansPartialMonths() {
+        YearMonth firstMonth = lastMonth.minusMonths(2);
+        Expense headIn = expense("20.00", "HOUSING", firstMonth.atDay(20));
+        Expense headOut = expense("99.00", "HOUSING", firstMonth.atDay(19));
+        Expense wholeRent = expense("600.00", "HOUSING", firstMonth.plusMonths(1).atDay(1));
+        Expense wholeFood = expense("45.00", "FOOD_DINING", firstMonth.plusMonths(1).atDay(15));
+        Expense tailIn = expense("30.00", "OTHER", lastMonth.atDay(10));
+        Expense tailOut = expense("99.00", "OTHER", lastMonth.atDay(11));
+        List<Expense> expenses = List.of(headIn, headOut, wholeRent, wholeFood, tailIn, tailOut);
+        expenseRepository.saveAll(expenses);
+        entityManager.flush();
+        rollupRepository.addAll(expenses);
+
+        Map<LocalDate, PeriodTotal> byMonth = rollupRepository.calculateMonthlySeries(
+                userId, firstMonth.atDay(20), lastMonth.atDay(10)).stream()
+            .collect(Collectors.toMap(PeriodTotal::periodStart, Function.identity()));
+
+        assertEquals(3, byMonth.size());
+        assertEquals(0, new BigDecimal("20.00").compareTo(byMonth.get(firstMonth.atDay(1)).total()));
+        assertEquals(1, byMonth.get(firstMonth.atDay(1)).count());
+        assertEquals(0, new BigDecimal("645.00").compareTo(byMonth.get(firstMonth.plusMonths(1).atDay(1)).total()));
+        assertEquals(2, byMonth.get(firstMonth.plusMonths(1).atDay(1)).count());
+        assertEquals(0, new BigDecimal("30.00").compareTo(byMonth.get(lastMonth.atDay(1)).total()));
+    }
+
+    private Expense expense(String amount, String category, LocalDate date) {
+        return new Expense(
+            ExpenseId.generate(),
+            new Amount(new BigDecimal(amount)),
+            new Description(category + " on " + date),
+            new Category(category),
+            date,
+            userId
+        );
+    }
+}
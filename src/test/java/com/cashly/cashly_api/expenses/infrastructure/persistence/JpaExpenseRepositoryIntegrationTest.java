@@ -0,0 +1,111 @@
+package com.cashly.cashly_api.expenses.infrastructure.persistence;
+
+import com.cashly.cashly_api.expenses.domain.entities.Expense;
+import com.cashly.cashly_api.expenses.domain.valueobjects.*;
+import com.cashly.cashly_api.infrastructure.persistence.BatchInserter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaExpenseRepository.class, BatchInserter.class})
+@DisplayName("JpaExpenseRepository Integration Tests")
+class JpaExpenseRepositoryIntegrationTest {
+
+    @Autowired
+    private JpaExpenseRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private String userId;
+    private YearMonth lastMonth;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        userId = UUID.randomUUID().toString();
+        lastMonth = YearMonth.now().minusMonths(1);
+    }
+
+    @Test
+    @DisplayName("should_AggregateByBusinessDate_When_RecordedInLaterMonth")
+    void should_AggregateByBusinessDate_When_RecordedInLaterMonth() {
+        LocalDateTime recordedNow = LocalDateTime.now();
+        repository.saveAll(List.of(
+            expense("25.00", "FOOD_DINING", lastMonth.atDay(3), recordedNow),
+            expense("15.00", "FOOD_DINING", lastMonth.atEndOfMonth(), recordedNow),
+            expense("30.00", "TRANSPORTATION", lastMonth.atDay(10), recordedNow),
+            expense("99.00", "FOOD_DINING", lastMonth.plusMonths(1).atDay(1), lastMonth.atDay(20).atStartOfDay())
+        ));
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDate start = lastMonth.atDay(1);
+        LocalDate end = lastMonth.atEndOfMonth();
+        Amount total = repository.calculateTotalExpenseForPeriod(userId, start, end);
+        Map<Category, Amount> byCategory = repository.calculateExpensesByCategory(userId, start, end);
+        Category highest = repository.analyzeHighestSpendingCategory(userId, start, end);
+
+        assertEquals(0, new BigDecimal("70.00").compareTo(total.getValue()));
+        assertEquals(0, new BigDecimal("40.00").compareTo(byCategory.get(new Category("FOOD_DINING")).getValue()));
+        assertEquals(0, new BigDecimal("30.00").compareTo(byCategory.get(new Category("TRANSPORTATION")).getValue()));
+        assertEquals(2, byCategory.size());
+        assertEquals(new Category("FOOD_DINING"), highest);
+    }
+
+    @Test
+    @DisplayName("should_ComputeCategoryPercentagesInOneQuery_When_ExpensesExist")
+    void should_ComputeCategoryPercentagesInOneQuery_When_ExpensesExist() {
+        LocalDateTime recordedNow = LocalDateTime.now();
+        repository.saveAll(List.of(
+            expense("30.00", "FOOD_DINING", lastMonth.atDay(3), recordedNow),
+            expense("10.00", "FOOD_DINING", lastMonth.atDay(4), recordedNow),
+            expense("60.00", "HOUSING", lastMonth.atDay(5), recordedNow)
+        ));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Map<Category, Double> percentages = repository.calculateCategoryPercentages(
+            userId, lastMonth.atDay(1), lastMonth.atEndOfMonth());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(40.0, percentages.get(new Category("FOOD_DINING")));
+        assertEquals(60.0, percentages.get(new Category("HOUSING")));
+    }
+
+    private Expense expense(String amount, String category, LocalDate date, LocalDateTime recordedAt) {
+        return Expense.rehydrate(
+            ExpenseId.generate(),
+            new Amount(new BigDecimal(amount)),
+            new Description(category + " on " + date),
+            new Category(category),
+            date,
+            userId,
+            recordedAt,
+            recordedAt
+        );
+    }
+}
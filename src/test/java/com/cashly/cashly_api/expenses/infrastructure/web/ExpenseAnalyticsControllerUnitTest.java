@@ -6,6 +6,8 @@ import com.cashly.cashly_api.expenses.domain.services.ExpenseService.BudgetUtili
 import com.cashly.cashly_api.expenses.domain.services.ExpenseService.CategoryAnalysis;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Amount;
 import com.cashly.cashly_api.expenses.domain.valueobjects.Category;
+import com.cashly.cashly_api.shared.analytics.AmountSeries;
+import com.cashly.cashly_api.shared.analytics.SeriesGranularity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -231,4 +233,43 @@ class ExpenseAnalyticsControllerUnitTest {
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
         verifyNoInteractions(expenseService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_ReturnSeries_When_ValidSeriesRequested() {
+        // Arrange
+        String userId = "user123";
+        LocalDate start = LocalDate.parse("2024-01-01");
+        LocalDate end = LocalDate.parse("2024-01-14");
+        AmountSeries expectedSeries = AmountSeries.fill(SeriesGranularity.WEEK, start, end, List.of());
+
+        when(expenseService.analyzeSpendingSeries(userId, SeriesGranularity.WEEK, start, end)).thenReturn(expectedSeries);
+
+        // Act
+        ResponseEntity<AmountSeries> result = controller.getSeries(userId, "week", "2024-01-01", "2024-01-14");
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(expectedSeries, result.getBody());
+        verify(expenseService).analyzeSpendingSeries(userId, SeriesGranularity.WEEK, start, end);
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_SeriesRequestedWithInvalidGranularity() {
+        // Act
+        ResponseEntity<AmountSeries> result = controller.getSeries("user123", "quarter", "2024-01-01", "2024-03-31");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        verifyNoInteractions(expenseService);
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_SeriesRequestedWithInvalidDate() {
+        // Act
+        ResponseEntity<AmountSeries> result = controller.getSeries("user123", "MONTH", "2024-01-01", "invalid-date");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        verifyNoInteractions(expenseService);
+    }
+}
@@ -0,0 +1,77 @@
+package com.cashly.cashly_api.exports.application.usecases;
+
+import com.cashly.cashly_api.exports.application.ports.ExportSource;
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportDataset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports 5M transactions in both formats inside a forked JVM capped at a 32 MB heap.
+ * Materialising the rows would need well over a gigabyte, so the child only exits
+ * cleanly if rows flow through the writer one at a time.
+ */
+@DisplayName("Export Memory Integration Tests")
+class ExportUserDataMemoryIntegrationTest {
+
+    private static final int ROWS = 5_000_000;
+    private static final String MAX_HEAP = "-Xmx32m";
+
+    @Test
+    @DisplayName("should_ExportFiveMillionRows_When_HeapIsCappedAt32Megabytes")
+    void should_ExportFiveMillionRows_When_HeapIsCappedAt32Megabytes() throws Exception {
+        Process process = new ProcessBuilder(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                MAX_HEAP,
+                "-XX:+ExitOnOutOfMemoryError",
+                "-cp", System.getProperty("java.class.path"),
+                ExportUserDataMemoryIntegrationTest.class.getName()))
+            .redirectErrorStream(true)
+            .start();
+
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(5, TimeUnit.MINUTES), "export did not finish in time");
+        assertEquals(0, process.exitValue(), output);
+        assertTrue(output.contains("ndjson=" + ROWS + " csv=" + ROWS), output);
+    }
+
+    public static void main(String[] args) throws IOException {
+        ExportUserDataUseCase useCase = new ExportUserDataUseCase(new SyntheticTransactionSource());
+        String userId = UUID.randomUUID().toString();
+
+        long ndjson = useCase.execute(userId, "transactions", "ndjson").writeTo(OutputStream.nullOutputStream());
+        long csv = useCase.execute(userId, "transactions", "csv").writeTo(OutputStream.nullOutputStream());
+
+        System.out.println("ndjson=" + ndjson + " csv=" + csv);
+    }
+
+    private static final class SyntheticTransactionSource implements ExportSource {
+
+        @Override
+        public long stream(ExportDataset dataset, String userId, RowHandler handler) throws IOException {
+            LocalDate today = LocalDate.now();
+            LocalDateTime now = LocalDateTime.now();
+            String accountId = UUID.randomUUID().toString();
+            for (int i = 0; i < ROWS; i++) {
+                handler.accept(new Object[] {
+                    UUID.randomUUID().toString(), userId, "DEPOSIT", "COMPLETED",
+                    BigDecimal.valueOf(10_000 + i, 2), "USD", "Deposit " + i, today.minusDays(i % 3650),
+                    null, accountId, null, null, now.minusSeconds(i), now
+                });
+            }
+            return ROWS;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.cashly.cashly_api.exports.application.usecases;
+
+import com.cashly.cashly_api.exports.application.dto.ExportStream;
+import com.cashly.cashly_api.exports.application.ports.ExportSource;
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportDataset;
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportUserDataUseCase Unit Tests")
+class ExportUserDataUseCaseUnitTest {
+
+    private static final String USER_ID = "6f1c2a4e-7d3b-4c5a-9e8f-0a1b2c3d4e5f";
+
+    @Mock
+    private ExportSource exportSource;
+
+    private ExportUserDataUseCase exportUserDataUseCase;
+
+    @BeforeEach
+    void setUp() {
+        exportUserDataUseCase = new ExportUserDataUseCase(exportSource);
+    }
+
+    @Test
+    @DisplayName("should_NotReadRows_When_ExportPrepared")
+    void should_NotReadRows_When_ExportPrepared() {
+        ExportStream export = exportUserDataUseCase.execute(USER_ID, "expenses", "csv");
+
+        assertEquals(ExportFormat.CSV, export.format());
+        assertEquals("expenses.csv", export.fileName());
+        verifyNoInteractions(exportSource);
+    }
+
+    @Test
+    @DisplayName("should_WriteEverySourceRow_When_ExportStreamed")
+    void should_WriteEverySourceRow_When_ExportStreamed() throws IOException {
+        when(exportSource.stream(eq(ExportDataset.EXPENSES), eq(USER_ID), any())).thenAnswer(invocation -> {
+            ExportSource.RowHandler handler = invocation.getArgument(2);
+            for (int i = 0; i < 3; i++) {
+                handler.accept(new Object[] {"id" + i, USER_ID, new BigDecimal("9.99"), "Coffee", "FOOD",
+                    LocalDate.of(2025, 1, 1), LocalDateTime.of(2025, 1, 1, 8, 0), LocalDateTime.of(2025, 1, 1, 8, 0)});
+            }
+            return 3L;
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportUserDataUseCase.execute(USER_ID, "expenses", "ndjson").writeTo(out);
+
+        assertEquals(3, rows);
+        assertEquals(3, out.toString(StandardCharsets.UTF_8).lines().count());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_UserIdIsEmpty")
+    void should_ThrowException_When_UserIdIsEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> exportUserDataUseCase.execute(" ", "expenses", "csv"));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_UserIdIsNotUuid")
+    void should_ThrowException_When_UserIdIsNotUuid() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> exportUserDataUseCase.execute("user123", "expenses", "csv"));
+
+        assertTrue(exception.getMessage().contains("Invalid user ID format"));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_DatasetUnknown")
+    void should_ThrowException_When_DatasetUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> exportUserDataUseCase.execute(USER_ID, "accounts", "csv"));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_FormatUnknown")
+    void should_ThrowException_When_FormatUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> exportUserDataUseCase.execute(USER_ID, "incomes", "xlsx"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.cashly.cashly_api.exports.application.writers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvRecordWriter Unit Tests")
+class CsvRecordWriterUnitTest {
+
+    private static final List<String> COLUMNS = List.of("id", "amount", "description", "date");
+
+    @Test
+    @DisplayName("should_WriteHeaderAndRows_When_RowsWritten")
+    void should_WriteHeaderAndRows_When_RowsWritten() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecordWriter writer = new CsvRecordWriter(COLUMNS, out);
+
+        writer.write(new Object[] {"a1", new BigDecimal("1E+3"), "Rent", LocalDate.of(2025, 1, 31)});
+        writer.finish();
+
+        assertEquals("id,amount,description,date\r\na1,1000,Rent,2025-01-31\r\n",
+            out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("should_QuoteField_When_ValueContainsSeparatorQuoteOrNewline")
+    void should_QuoteField_When_ValueContainsSeparatorQuoteOrNewline() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecordWriter writer = new CsvRecordWriter(COLUMNS, out);
+
+        writer.write(new Object[] {"a1", BigDecimal.ONE, "Dinner, \"Chez Nous\"\nparty", null});
+        writer.finish();
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("a1,1,\"Dinner, \"\"Chez Nous\"\"\nparty\",\r\n"));
+    }
+
+    @Test
+    @DisplayName("should_LeaveStreamOpen_When_Finished")
+    void should_LeaveStreamOpen_When_Finished() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("writer must not close the caller's stream");
+            }
+        };
+
+        new CsvRecordWriter(COLUMNS, out).finish();
+
+        assertTrue(out.size() > 0);
+    }
+}
@@ -0,0 +1,60 @@
+package com.cashly.cashly_api.exports.application.writers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NdjsonRecordWriter Unit Tests")
+class NdjsonRecordWriterUnitTest {
+
+    private static final List<String> COLUMNS = List.of("id", "amount", "date", "createdAt", "incomeId");
+
+    @Test
+    @DisplayName("should_WriteOneObjectPerLine_When_RowsWritten")
+    void should_WriteOneObjectPerLine_When_RowsWritten() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecordWriter writer = new NdjsonRecordWriter(COLUMNS, out);
+
+        writer.write(new Object[] {"a1", new BigDecimal("12.50"), LocalDate.of(2025, 1, 31),
+            LocalDateTime.of(2025, 1, 31, 8, 15), null});
+        writer.write(new Object[] {"a2", new BigDecimal("3.00"), LocalDate.of(2025, 2, 1),
+            LocalDateTime.of(2025, 2, 1, 9, 0), "b2"});
+        writer.finish();
+
+        assertEquals(
+            "{\"id\":\"a1\",\"amount\":12.50,\"date\":\"2025-01-31\",\"createdAt\":\"2025-01-31T08:15\",\"incomeId\":null}\n" +
+            "{\"id\":\"a2\",\"amount\":3.00,\"date\":\"2025-02-01\",\"createdAt\":\"2025-02-01T09:00\",\"incomeId\":\"b2\"}\n",
+            out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("should_EscapeStrings_When_ValueContainsJsonSpecialCharacters")
+    void should_EscapeStrings_When_ValueContainsJsonSpecialCharacters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecordWriter writer = new NdjsonRecordWriter(List.of("description"), out);
+
+        writer.write(new Object[] {"Line \"one\"\nline two"});
+        writer.finish();
+
+        assertEquals("{\"description\":\"Line \\\"one\\\"\\nline two\"}\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("should_WriteNothing_When_NoRows")
+    void should_WriteNothing_When_NoRows() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new NdjsonRecordWriter(COLUMNS, out).finish();
+
+        assertEquals(0, out.size());
+    }
+}
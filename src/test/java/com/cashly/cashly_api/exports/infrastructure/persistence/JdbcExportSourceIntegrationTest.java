@@ -0,0 +1,100 @@
+package com.cashly.cashly_api.exports.infrastructure.persistence;
+
+import com.cashly.cashly_api.expenses.domain.entities.Expense;
+import com.cashly.cashly_api.expenses.domain.valueobjects.Amount;
+import com.cashly.cashly_api.expenses.domain.valueobjects.Category;
+import com.cashly.cashly_api.expenses.domain.valueobjects.Description;
+import com.cashly.cashly_api.expenses.domain.valueobjects.ExpenseId;
+import com.cashly.cashly_api.expenses.infrastructure.persistence.ExpenseEntity;
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportDataset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JdbcExportSource.class)
+@DisplayName("JdbcExportSource Integration Tests")
+class JdbcExportSourceIntegrationTest {
+
+    private static final String USER_ID = "6f1c2a4e-7d3b-4c5a-9e8f-0a1b2c3d4e5f";
+    private static final String OTHER_USER_ID = "7a2d3b5f-8e4c-4d6b-8f9a-1b2c3d4e5f60";
+
+    @Autowired
+    private JdbcExportSource exportSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("should_StreamOnlyUsersRowsInColumnOrder_When_ExpensesExported")
+    void should_StreamOnlyUsersRowsInColumnOrder_When_ExpensesExported() throws IOException {
+        Expense rent = persistExpense(USER_ID, "1200.00", "Rent");
+        persistExpense(USER_ID, "45.10", "Groceries");
+        persistExpense(OTHER_USER_ID, "9.99", "Someone else");
+        entityManager.flush();
+
+        List<Object[]> rows = new ArrayList<>();
+        long count = exportSource.stream(ExportDataset.EXPENSES, USER_ID, rows::add);
+
+        assertEquals(2, count);
+        assertEquals(2, rows.size());
+        Object[] first = rows.stream()
+            .filter(row -> row[0].equals(rent.getId().getValue().toString()))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(ExportDataset.EXPENSES.columns().size(), first.length);
+        assertEquals(USER_ID, first[1]);
+        assertEquals(0, new BigDecimal("1200.00").compareTo((BigDecimal) first[2]));
+        assertEquals("Rent", first[3]);
+        assertEquals("HOUSING", first[4]);
+        assertEquals(LocalDate.now(), first[5]);
+    }
+
+    @Test
+    @DisplayName("should_StreamNothing_When_UserHasNoRows")
+    void should_StreamNothing_When_UserHasNoRows() throws IOException {
+        long count = exportSource.stream(ExportDataset.TRANSACTIONS, USER_ID, row -> fail("no rows expected"));
+
+        assertEquals(0, count);
+    }
+
+    @Test
+    @DisplayName("should_PropagateWriteFailure_When_HandlerThrowsIOException")
+    void should_PropagateWriteFailure_When_HandlerThrowsIOException() {
+        persistExpense(USER_ID, "10.00", "Coffee");
+        entityManager.flush();
+
+        IOException exception = assertThrows(IOException.class, () ->
+            exportSource.stream(ExportDataset.EXPENSES, USER_ID, row -> {
+                throw new IOException("client went away");
+            }));
+
+        assertEquals("client went away", exception.getMessage());
+    }
+
+    private Expense persistExpense(String userId, String amount, String description) {
+        Expense expense = new Expense(
+            ExpenseId.generate(),
+            new Amount(new BigDecimal(amount)),
+            new Description(description),
+            new Category("HOUSING"),
+            LocalDate.now(),
+            userId
+        );
+        entityManager.persist(ExpenseEntity.fromDomain(expense));
+        return expense;
+    }
+}
@@ -0,0 +1,60 @@
+package com.cashly.cashly_api.exports.infrastructure.web;
+
+import com.cashly.cashly_api.exports.application.dto.ExportStream;
+import com.cashly.cashly_api.exports.application.usecases.ExportUserDataUseCase;
+import com.cashly.cashly_api.exports.domain.valueobjects.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportControllerUnitTest {
+
+    private static final long REQUEST_TIMEOUT_MILLIS = 1_800_000L;
+
+    @Mock
+    private ExportUserDataUseCase exportUserDataUseCase;
+
+    @Mock
+    private AsyncWebRequest asyncWebRequest;
+
+    private ExportController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new ExportController(exportUserDataUseCase, REQUEST_TIMEOUT_MILLIS);
+    }
+
+    @Test
+    void should_ExtendAsyncTimeoutForThisRequest_When_ExportStreamed() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncWebRequest);
+
+        when(exportUserDataUseCase.execute("user123", "expenses", "ndjson"))
+            .thenReturn(new ExportStream(ExportFormat.NDJSON, "expenses.ndjson", out -> 0));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result =
+            controller.export("expenses", "user123", "ndjson", new ServletWebRequest(request, response));
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("application/x-ndjson", result.getHeaders().getContentType().toString());
+        verify(asyncWebRequest).setTimeout(REQUEST_TIMEOUT_MILLIS);
+    }
+}
@@ -0,0 +1,67 @@
+package com.cashly.cashly_api.imports.application.services;
+
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StatementFingerprinter Unit Tests")
+class StatementFingerprinterUnitTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 14);
+
+    private static StatementLine coffee(String reference) {
+        return new StatementLine(DAY, new BigDecimal("-3.50"), "EUR", "Coffee", reference);
+    }
+
+    @Test
+    @DisplayName("should_ReturnSameFingerprint_When_StatementReimported")
+    void should_ReturnSameFingerprint_When_StatementReimported() {
+        String first = new StatementFingerprinter("account123").next(coffee(null));
+        String second = new StatementFingerprinter("account123").next(coffee(null));
+
+        assertEquals(first, second);
+        assertEquals(64, first.length());
+    }
+
+    @Test
+    @DisplayName("should_KeepIdenticalLinesDistinct_When_RepeatedWithinStatement")
+    void should_KeepIdenticalLinesDistinct_When_RepeatedWithinStatement() {
+        StatementFingerprinter fingerprinter = new StatementFingerprinter("account123");
+
+        assertNotEquals(fingerprinter.next(coffee(null)), fingerprinter.next(coffee(null)));
+    }
+
+    @Test
+    @DisplayName("should_KeyByBankReference_When_ReferencePresent")
+    void should_KeyByBankReference_When_ReferencePresent() {
+        StatementFingerprinter fingerprinter = new StatementFingerprinter("account123");
+        StatementLine relabelled = new StatementLine(DAY, new BigDecimal("-3.50"), "EUR", "COFFEE SHOP", "REF-1");
+
+        assertEquals(fingerprinter.next(coffee("REF-1")), fingerprinter.next(relabelled));
+    }
+
+    @Test
+    @DisplayName("should_ScopeFingerprint_When_AccountsDiffer")
+    void should_ScopeFingerprint_When_AccountsDiffer() {
+        assertNotEquals(
+            new StatementFingerprinter("account123").next(coffee("REF-1")),
+            new StatementFingerprinter("account456").next(coffee("REF-1"))
+        );
+    }
+
+    @Test
+    @DisplayName("should_IgnoreAmountScale_When_ComparingContent")
+    void should_IgnoreAmountScale_When_ComparingContent() {
+        StatementLine rescaled = new StatementLine(DAY, new BigDecimal("-3.5"), "eur", " coffee ", null);
+
+        assertEquals(
+            new StatementFingerprinter("account123").next(coffee(null)),
+            new StatementFingerprinter("account123").next(rescaled)
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.cashly.cashly_api.imports.application.services;
+
+import com.cashly.cashly_api.imports.application.ports.ImportJobRepository;
+import com.cashly.cashly_api.imports.application.ports.StatementParser;
+import com.cashly.cashly_api.imports.application.services.StatementBatchWriter.PendingLine;
+import com.cashly.cashly_api.imports.domain.entities.ImportJob;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobStatus;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatementImporter Unit Tests")
+class StatementImporterUnitTest {
+
+    @Mock
+    private StatementBatchWriter batchWriter;
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    private final InputStream content = new ByteArrayInputStream(new byte[0]);
+
+    private ImportJob newJob() {
+        return new ImportJob(ImportJobId.generate(), "00000000-0000-0000-0000-000000000123", "00000000-0000-0000-0000-00000000a123", StatementFormat.CSV);
+    }
+
+    private StatementImporter importer(StatementParser parser, int batchSize) {
+        return new StatementImporter(List.of(parser), batchWriter, importJobRepository, batchSize);
+    }
+
+    private static StatementParser emitting(int lines, int rejections) {
+        return new StatementParser() {
+            @Override
+            public StatementFormat format() {
+                return StatementFormat.CSV;
+            }
+
+            @Override
+            public void parse(InputStream content, LineHandler handler) {
+                for (int i = 0; i < lines; i++) {
+                    handler.accept(new StatementLine(LocalDate.of(2025, 1, 1), new BigDecimal("-1.00"), "EUR",
+                        "Line " + i, null));
+                }
+                for (int i = 0; i < rejections; i++) {
+                    handler.reject(lines + i + 1, "bad line");
+                }
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("should_WriteFullBatchesAndRemainder_When_StatementParsed")
+    @SuppressWarnings("unchecked")
+    void should_WriteFullBatchesAndRemainder_When_StatementParsed() {
+        ImportJob job = newJob();
+
+        importer(emitting(25, 2), 10).run(job, "EUR", content);
+
+        ArgumentCaptor<List<PendingLine>> batches = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Long> rejections = ArgumentCaptor.forClass(Long.class);
+        verify(batchWriter, times(3)).write(eq(job), eq("EUR"), batches.capture(), rejections.capture());
+        assertEquals(List.of(10, 10, 5), batches.getAllValues().stream().map(List::size).toList());
+        assertEquals(List.of(0L, 0L, 2L), rejections.getAllValues());
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+    }
+
+    @Test
+    @DisplayName("should_SkipWrite_When_StatementHasNoEntries")
+    void should_SkipWrite_When_StatementHasNoEntries() {
+        ImportJob job = newJob();
+
+        importer(emitting(0, 0), 10).run(job, "EUR", content);
+
+        verifyNoInteractions(batchWriter);
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        verify(importJobRepository, times(2)).update(job);
+    }
+
+    @Test
+    @DisplayName("should_FailJobWithReason_When_DocumentUnreadable")
+    void should_FailJobWithReason_When_DocumentUnreadable() throws IOException {
+        StatementParser parser = mock(StatementParser.class);
+        when(parser.format()).thenReturn(StatementFormat.CSV);
+        doThrow(new IllegalArgumentException("Statement is empty")).when(parser).parse(any(), any());
+        ImportJob job = newJob();
+
+        importer(parser, 10).run(job, "EUR", content);
+
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        assertEquals("Statement is empty", job.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("should_FailJob_When_BatchWriteFails")
+    void should_FailJob_When_BatchWriteFails() {
+        doThrow(new IllegalStateException("deadlock")).when(batchWriter).write(any(), any(), anyList(), anyLong());
+        ImportJob job = newJob();
+
+        importer(emitting(3, 0), 10).run(job, "EUR", content);
+
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        assertTrue(job.getErrorMessage().startsWith("Import failed after"));
+    }
+
+    @Test
+    @DisplayName("should_FailJob_When_NoParserForFormat")
+    void should_FailJob_When_NoParserForFormat() {
+        ImportJob job = new ImportJob(ImportJobId.generate(), "00000000-0000-0000-0000-000000000123", "00000000-0000-0000-0000-00000000a123", StatementFormat.OFX);
+
+        importer(emitting(1, 0), 10).run(job, "EUR", content);
+
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        verifyNoInteractions(batchWriter);
+    }
+}
@@ -0,0 +1,130 @@
+package com.cashly.cashly_api.imports.application.usecases;
+
+import com.cashly.cashly_api.accounts.application.ports.AccountRepository;
+import com.cashly.cashly_api.accounts.domain.entities.Account;
+import com.cashly.cashly_api.accounts.domain.valueobjects.*;
+import com.cashly.cashly_api.imports.application.dto.ImportJobResponse;
+import com.cashly.cashly_api.imports.application.ports.ImportJobExecutor;
+import com.cashly.cashly_api.imports.application.ports.ImportJobRepository;
+import com.cashly.cashly_api.imports.application.services.StatementImporter;
+import com.cashly.cashly_api.imports.domain.entities.ImportJob;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobStatus;
+import com.cashly.cashly_api.shared.exceptions.ServiceOverloadedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StartStatementImportUseCase Unit Tests")
+class StartStatementImportUseCaseUnitTest {
+
+    private static final String USER_ID = "00000000-0000-0000-0000-000000000123";
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private StatementImporter statementImporter;
+
+    @Mock
+    private ImportJobExecutor importJobExecutor;
+
+    private StartStatementImportUseCase startStatementImportUseCase;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        startStatementImportUseCase = new StartStatementImportUseCase(
+            accountRepository, importJobRepository, statementImporter, importJobExecutor);
+        account = new Account(
+            AccountId.generate(),
+            new AccountName("Checking"),
+            new AccountType("CHECKING"),
+            new Balance(new BigDecimal("1000.00")),
+            new Currency("EUR"),
+            USER_ID
+        );
+    }
+
+    private static InputStream statement() {
+        return new ByteArrayInputStream("date,amount,description\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String accountId() {
+        return account.getId().getValue().toString();
+    }
+
+    @Test
+    @DisplayName("should_QueueImport_When_AccountBelongsToUser")
+    void should_QueueImport_When_AccountBelongsToUser() throws IOException {
+        when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+        when(importJobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImportJobResponse response = startStatementImportUseCase.execute(USER_ID, accountId(), "csv", statement());
+
+        assertEquals(ImportJobStatus.QUEUED.name(), response.status());
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(importJobExecutor).submit(task.capture());
+        task.getValue().run();
+        ArgumentCaptor<Path> stagedStatement = ArgumentCaptor.forClass(Path.class);
+        verify(statementImporter).run(any(ImportJob.class), eq("EUR"), stagedStatement.capture());
+        assertEquals("date,amount,description\n", Files.readString(stagedStatement.getValue()));
+        Files.deleteIfExists(stagedStatement.getValue());
+    }
+
+    @Test
+    @DisplayName("should_ThrowNotFound_When_AccountBelongsToAnotherUser")
+    void should_ThrowNotFound_When_AccountBelongsToAnotherUser() {
+        when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> startStatementImportUseCase.execute("otherUser", accountId(), "csv", statement()));
+
+        assertTrue(exception.getMessage().contains("not found"));
+        verifyNoInteractions(importJobRepository, importJobExecutor);
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_FormatUnsupported")
+    void should_ThrowException_When_FormatUnsupported() {
+        assertThrows(IllegalArgumentException.class,
+            () -> startStatementImportUseCase.execute(USER_ID, accountId(), "qif", statement()));
+        verifyNoInteractions(accountRepository, importJobExecutor);
+    }
+
+    @Test
+    @DisplayName("should_FailJob_When_QueueIsFull")
+    void should_FailJob_When_QueueIsFull() {
+        when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+        when(importJobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new RejectedExecutionException("full")).when(importJobExecutor).submit(any());
+
+        assertThrows(ServiceOverloadedException.class,
+            () -> startStatementImportUseCase.execute(USER_ID, accountId(), "csv", statement()));
+
+        ArgumentCaptor<ImportJob> job = ArgumentCaptor.forClass(ImportJob.class);
+        verify(importJobRepository).update(job.capture());
+        assertEquals(ImportJobStatus.FAILED, job.getValue().getStatus());
+    }
+}
@@ -0,0 +1,80 @@
+package com.cashly.cashly_api.imports.domain.entities;
+
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobId;
+import com.cashly.cashly_api.imports.domain.valueobjects.ImportJobStatus;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ImportJob Unit Tests")
+class ImportJobUnitTest {
+
+    private ImportJob newJob() {
+        return new ImportJob(ImportJobId.generate(), "00000000-0000-0000-0000-000000000123", "00000000-0000-0000-0000-00000000a123", StatementFormat.CSV);
+    }
+
+    @Test
+    @DisplayName("should_StartQueued_When_Created")
+    void should_StartQueued_When_Created() {
+        ImportJob job = newJob();
+
+        assertEquals(ImportJobStatus.QUEUED, job.getStatus());
+        assertEquals(0, job.getLinesRead());
+        assertNull(job.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_UserIdIsBlank")
+    void should_ThrowException_When_UserIdIsBlank() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ImportJob(ImportJobId.generate(), " ", "00000000-0000-0000-0000-00000000a123", StatementFormat.CSV));
+    }
+
+    @Test
+    @DisplayName("should_AccumulateProgress_When_BatchesRecorded")
+    void should_AccumulateProgress_When_BatchesRecorded() {
+        ImportJob job = newJob();
+        job.start();
+
+        job.recordBatch(1000, 990, 8, 2);
+        job.recordBatch(500, 500, 0, 0);
+        job.complete();
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(1500, job.getLinesRead());
+        assertEquals(1490, job.getImported());
+        assertEquals(8, job.getDuplicates());
+        assertEquals(2, job.getRejected());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_RecordingProgressBeforeStart")
+    void should_ThrowException_When_RecordingProgressBeforeStart() {
+        ImportJob job = newJob();
+
+        assertThrows(IllegalStateException.class, () -> job.recordBatch(1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("should_TruncateReason_When_FailedWithLongMessage")
+    void should_TruncateReason_When_FailedWithLongMessage() {
+        ImportJob job = newJob();
+
+        job.fail("x".repeat(600));
+
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        assertEquals(500, job.getErrorMessage().length());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_FailingCompletedJob")
+    void should_ThrowException_When_FailingCompletedJob() {
+        ImportJob job = newJob();
+        job.start();
+        job.complete();
+
+        assertThrows(IllegalStateException.class, () -> job.fail("late failure"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.cashly.cashly_api.imports.infrastructure.parsers;
+
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Camt053StatementParser Unit Tests")
+class Camt053StatementParserUnitTest {
+
+    private final Camt053StatementParser parser = new Camt053StatementParser();
+
+    private RecordingHandler parse(String xml) throws IOException {
+        RecordingHandler handler = new RecordingHandler();
+        parser.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), handler);
+        return handler;
+    }
+
+    @Test
+    @DisplayName("should_ReadBookedEntries_When_StatementIsValid")
+    void should_ReadBookedEntries_When_StatementIsValid() throws IOException {
+        RecordingHandler handler = parse("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.08">
+              <BkToCstmrStmt>
+                <Stmt>
+                  <Bal><Amt Ccy="EUR">1000.00</Amt><CdtDbtInd>CRDT</CdtDbtInd></Bal>
+                  <Ntry>
+                    <Amt Ccy="EUR">12.30</Amt>
+                    <CdtDbtInd>DBIT</CdtDbtInd>
+                    <Sts><Cd>BOOK</Cd></Sts>
+                    <BookgDt><Dt>2025-03-14</Dt></BookgDt>
+                    <AcctSvcrRef>REF-1</AcctSvcrRef>
+                    <NtryDtls><TxDtls>
+                      <Amt Ccy="EUR">12.30</Amt>
+                      <RmtInf><Ustrd>Bakery</Ustrd><Ustrd>Invoice 7</Ustrd></RmtInf>
+                    </TxDtls></NtryDtls>
+                  </Ntry>
+                  <Ntry>
+                    <Amt Ccy="EUR">2500.00</Amt>
+                    <CdtDbtInd>CRDT</CdtDbtInd>
+                    <Sts>BOOK</Sts>
+                    <BookgDt><DtTm>2025-03-15T08:00:00</DtTm></BookgDt>
+                    <AddtlNtryInf>Salary</AddtlNtryInf>
+                  </Ntry>
+                  <Ntry>
+                    <Amt Ccy="EUR">5.00</Amt>
+                    <CdtDbtInd>DBIT</CdtDbtInd>
+                    <Sts><Cd>PDNG</Cd></Sts>
+                    <BookgDt><Dt>2025-03-16</Dt></BookgDt>
+                  </Ntry>
+                </Stmt>
+              </BkToCstmrStmt>
+            </Document>
+            """);
+
+        assertEquals(List.of(
+            new StatementLine(LocalDate.of(2025, 3, 14), new BigDecimal("-12.30"), "EUR", "Bakery Invoice 7", "REF-1"),
+            new StatementLine(LocalDate.of(2025, 3, 15), new BigDecimal("2500.00"), "EUR", "Salary", null)
+        ), handler.lines);
+        assertEquals(List.of(3L), handler.rejected);
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_DocumentDeclaresExternalEntity")
+    void should_ThrowException_When_DocumentDeclaresExternalEntity() {
+        String xml = """
+            <?xml version="1.0"?>
+            <!DOCTYPE Document [<!ENTITY secret SYSTEM "file:///etc/passwd">]>
+            <Document><BkToCstmrStmt><Stmt><Ntry>
+              <Amt Ccy="EUR">1.00</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+              <BookgDt><Dt>2025-03-14</Dt></BookgDt><AddtlNtryInf>&secret;</AddtlNtryInf>
+            </Ntry></Stmt></BkToCstmrStmt></Document>
+            """;
+
+        assertThrows(IllegalArgumentException.class, () -> parse(xml));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_DocumentIsNotCamt053")
+    void should_ThrowException_When_DocumentIsNotCamt053() {
+        assertThrows(IllegalArgumentException.class, () -> parse("<Document><Other/></Document>"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.cashly.cashly_api.imports.infrastructure.parsers;
+
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvStatementParser Unit Tests")
+class CsvStatementParserUnitTest {
+
+    private final CsvStatementParser parser = new CsvStatementParser();
+
+    private RecordingHandler parse(String csv) throws IOException {
+        RecordingHandler handler = new RecordingHandler();
+        parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), handler);
+        return handler;
+    }
+
+    @Test
+    @DisplayName("should_ReadLines_When_HeaderNamesColumns")
+    void should_ReadLines_When_HeaderNamesColumns() throws IOException {
+        RecordingHandler handler = parse("""
+            date,description,amount,currency,reference
+            2025-03-14,Coffee,-3.50,EUR,REF-1
+            2025-03-15,"Salary, March",2500.00,EUR,REF-2
+            """);
+
+        assertEquals(List.of(
+            new StatementLine(LocalDate.of(2025, 3, 14), new BigDecimal("-3.50"), "EUR", "Coffee", "REF-1"),
+            new StatementLine(LocalDate.of(2025, 3, 15), new BigDecimal("2500.00"), "EUR", "Salary, March", "REF-2")
+        ), handler.lines);
+        assertTrue(handler.rejected.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should_DetectSemicolonDelimiter_When_HeaderUsesIt")
+    void should_DetectSemicolonDelimiter_When_HeaderUsesIt() throws IOException {
+        RecordingHandler handler = parse("\uFEFFBooking Date;Memo;Amount\n2025-03-14;Bakery;-1.234,50\n");
+
+        assertEquals(1, handler.lines.size());
+        assertEquals(new BigDecimal("-1234.50"), handler.lines.get(0).amount());
+        assertEquals("Bakery", handler.lines.get(0).description());
+        assertNull(handler.lines.get(0).bankReference());
+    }
+
+    @Test
+    @DisplayName("should_RejectLineAndContinue_When_RowIsMalformed")
+    void should_RejectLineAndContinue_When_RowIsMalformed() throws IOException {
+        RecordingHandler handler = parse("""
+            date,description,amount
+            14/03/2025,Coffee,-3.50
+            2025-03-15,Lunch,abc
+            2025-03-16,Dinner,-20.00
+            """);
+
+        assertEquals(1, handler.lines.size());
+        assertEquals(List.of(2L, 3L), handler.rejected);
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_RequiredColumnMissing")
+    void should_ThrowException_When_RequiredColumnMissing() {
+        assertThrows(IllegalArgumentException.class, () -> parse("date,amount\n2025-03-14,-3.50\n"));
+    }
+}
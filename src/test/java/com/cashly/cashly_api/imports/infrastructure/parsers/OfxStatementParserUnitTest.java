@@ -0,0 +1,103 @@
+package com.cashly.cashly_api.imports.infrastructure.parsers;
+
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OfxStatementParser Unit Tests")
+class OfxStatementParserUnitTest {
+
+    private final OfxStatementParser parser = new OfxStatementParser();
+
+    private RecordingHandler parse(String ofx) throws IOException {
+        RecordingHandler handler = new RecordingHandler();
+        parser.parse(new ByteArrayInputStream(ofx.getBytes(StandardCharsets.UTF_8)), handler);
+        return handler;
+    }
+
+    @Test
+    @DisplayName("should_ReadTransactions_When_StatementIsSgml")
+    void should_ReadTransactions_When_StatementIsSgml() throws IOException {
+        RecordingHandler handler = parse("""
+            OFXHEADER:100
+            DATA:OFXSGML
+            VERSION:102
+
+            <OFX>
+            <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+            <CURDEF>USD
+            <BANKTRANLIST>
+            <STMTTRN>
+            <TRNTYPE>DEBIT
+            <DTPOSTED>20250314120000[-5:EST]
+            <TRNAMT>-42.10
+            <FITID>202503140001
+            <NAME>Grocery &amp; Co
+            </STMTTRN>
+            <STMTTRN>
+            <TRNTYPE>CREDIT
+            <DTPOSTED>20250315
+            <TRNAMT>1500.00
+            <FITID>202503150001
+            <MEMO>Payroll
+            </STMTTRN>
+            </BANKTRANLIST>
+            </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+            </OFX>
+            """);
+
+        assertEquals(2, handler.lines.size());
+        assertEquals(
+            new StatementLine(LocalDate.of(2025, 3, 14), new BigDecimal("-42.10"), "USD", "Grocery & Co", "202503140001"),
+            handler.lines.get(0)
+        );
+        assertEquals("Payroll", handler.lines.get(1).description());
+        assertFalse(handler.lines.get(1).isDebit());
+    }
+
+    @Test
+    @DisplayName("should_ReadTransactions_When_StatementIsXml")
+    void should_ReadTransactions_When_StatementIsXml() throws IOException {
+        RecordingHandler handler = parse("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <?OFX OFXHEADER="200" VERSION="220"?>
+            <OFX>
+              <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+                <CURDEF>EUR</CURDEF>
+                <BANKTRANLIST>
+                  <STMTTRN>
+                    <DTPOSTED>20250314</DTPOSTED>
+                    <TRNAMT>-9.99</TRNAMT>
+                    <FITID>A1</FITID>
+                    <NAME>Streaming</NAME>
+                  </STMTTRN>
+                  <STMTTRN>
+                    <TRNAMT>-1.00</TRNAMT>
+                    <FITID>A2</FITID>
+                  </STMTTRN>
+                </BANKTRANLIST>
+              </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+            </OFX>
+            """);
+
+        assertEquals(1, handler.lines.size());
+        assertEquals("EUR", handler.lines.get(0).currency());
+        assertEquals("A1", handler.lines.get(0).bankReference());
+        assertEquals(List.of(2L), handler.rejected);
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_DocumentIsNotOfx")
+    void should_ThrowException_When_DocumentIsNotOfx() {
+        assertThrows(IllegalArgumentException.class, () -> parse("date,amount,description\n"));
+    }
+}
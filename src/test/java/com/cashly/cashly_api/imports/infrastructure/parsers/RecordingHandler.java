@@ -0,0 +1,23 @@
+package com.cashly.cashly_api.imports.infrastructure.parsers;
+
+import com.cashly.cashly_api.imports.application.ports.StatementParser;
+import com.cashly.cashly_api.imports.domain.valueobjects.StatementLine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class RecordingHandler implements StatementParser.LineHandler {
+
+    final List<StatementLine> lines = new ArrayList<>();
+    final List<Long> rejected = new ArrayList<>();
+
+    @Override
+    public void accept(StatementLine line) {
+        lines.add(line);
+    }
+
+    @Override
+    public void reject(long entryNumber, String reason) {
+        rejected.add(entryNumber);
+    }
+}
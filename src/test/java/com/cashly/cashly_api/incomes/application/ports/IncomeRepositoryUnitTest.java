@@ -2,6 +2,8 @@ package com.cashly.cashly_api.incomes.application.ports;
 
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
@@ -46,8 +48,8 @@ public class IncomeRepositoryUnitTest {
         
         // Assert
         assertDoesNotThrow(() -> {
-            Method findByUserIdMethod = repositoryClass.getMethod("findByUserId", String.class);
-            assertEquals(List.class, findByUserIdMethod.getReturnType());
+            Method findByUserIdMethod = repositoryClass.getMethod("findByUserId", String.class, PageRequest.class);
+            assertEquals(CursorPage.class, findByUserIdMethod.getReturnType());
         });
     }
     
@@ -3,8 +3,10 @@ package com.cashly.cashly_api.incomes.application.usecases;
 import com.cashly.cashly_api.incomes.application.dto.CreateIncomeRequest;
 import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -12,9 +14,13 @@ import org.mockito.MockitoAnnotations;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 public class CreateIncomeUseCaseUnitTest {
@@ -22,13 +28,16 @@ public class CreateIncomeUseCaseUnitTest {
     @Mock
     private IncomeRepository incomeRepository;
     
+    @Mock
+    private IncomeRollupRepository rollupRepository;
+    
     private CreateIncomeUseCase createIncomeUseCase;
     
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         // This will fail until we create the use case
-        createIncomeUseCase = new CreateIncomeUseCase(incomeRepository);
+        createIncomeUseCase = new CreateIncomeUseCase(incomeRepository, rollupRepository);
     }
     
     @Test
@@ -38,7 +47,7 @@ public class CreateIncomeUseCaseUnitTest {
             new BigDecimal("1000.00"), 
             "Salary payment", 
             "SALARY", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         Income savedIncome = new Income(
@@ -47,7 +56,7 @@ public class CreateIncomeUseCaseUnitTest {
             new Description("Salary payment"),
             new Category("SALARY"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         when(incomeRepository.save(any(Income.class))).thenReturn(savedIncome);
@@ -64,6 +73,7 @@ public class CreateIncomeUseCaseUnitTest {
         assertEquals(savedIncome.getUserId(), response.getUserId());
         
         verify(incomeRepository, times(1)).save(any(Income.class));
+        verify(rollupRepository, times(1)).add(savedIncome);
     }
     
     @Test
@@ -73,7 +83,7 @@ public class CreateIncomeUseCaseUnitTest {
             null, 
             "Salary payment", 
             "SALARY", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         // Act & Assert
@@ -91,7 +101,7 @@ public class CreateIncomeUseCaseUnitTest {
             new BigDecimal("1000.00"), 
             null, 
             "SALARY", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         // Act & Assert
@@ -109,7 +119,7 @@ public class CreateIncomeUseCaseUnitTest {
             new BigDecimal("1000.00"), 
             "Salary payment", 
             "INVALID_CATEGORY", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         // Act & Assert
@@ -145,7 +155,7 @@ public class CreateIncomeUseCaseUnitTest {
             new BigDecimal("-100.00"), 
             "Invalid income", 
             "SALARY", 
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         // Act & Assert
@@ -155,4 +165,70 @@ public class CreateIncomeUseCaseUnitTest {
         
         verify(incomeRepository, never()).save(any(Income.class));
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void should_ReportEachItem_When_BulkRequestProvided() {
+        // Arrange
+        List<CreateIncomeRequest> requests = List.of(
+            new CreateIncomeRequest(new BigDecimal("1000.00"), "Salary payment", "SALARY", "00000000-0000-0000-0000-000000000123"),
+            new CreateIncomeRequest(new BigDecimal("200.00"), "Side project", null, "00000000-0000-0000-0000-000000000123")
+        );
+        
+        // Act
+        BulkCreateResponse<IncomeResponse> response = createIncomeUseCase.executeAll(requests);
+        
+        // Assert
+        assertEquals(1, response.created());
+        assertEquals(1, response.rejected());
+        assertEquals("SALARY", response.items().get(0).data().getCategory());
+        assertEquals("Category cannot be null", response.items().get(1).error());
+        
+        verify(incomeRepository, times(1)).saveAll(argThat(incomes -> incomes.size() == 1));
+        verify(rollupRepository, times(1)).addAll(argThat(incomes -> incomes.size() == 1));
+        verify(incomeRepository, never()).save(any(Income.class));
+    }
+    
+    @Test
+    public void should_RejectOnlyThatItem_When_BulkItemHasMalformedUserId() {
+        // Arrange
+        List<CreateIncomeRequest> requests = List.of(
+            new CreateIncomeRequest(new BigDecimal("1000.00"), "Salary payment", "SALARY", "not-a-uuid"),
+            new CreateIncomeRequest(new BigDecimal("200.00"), "Side project", "BUSINESS", "00000000-0000-0000-0000-000000000123")
+        );
+        
+        // Act
+        BulkCreateResponse<IncomeResponse> response = createIncomeUseCase.executeAll(requests);
+        
+        // Assert
+        assertEquals(1, response.created());
+        assertEquals("Invalid user ID format: not-a-uuid", response.items().get(0).error());
+        assertEquals("BUSINESS", response.items().get(1).data().getCategory());
+        
+        verify(incomeRepository, times(1)).saveAll(argThat(incomes -> incomes.size() == 1));
+    }
+    
+    @Test
+    public void should_ThrowException_When_BulkRequestIsNull() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            createIncomeUseCase.executeAll(null);
+        });
+        
+        verify(incomeRepository, never()).saveAll(anyList());
+    }
+    
+    @Test
+    public void should_ThrowException_When_BulkRequestExceedsMaxBatchSize() {
+        // Arrange
+        CreateIncomeRequest request = new CreateIncomeRequest(
+            new BigDecimal("1.00"), "Interest", "INVESTMENT", "00000000-0000-0000-0000-000000000123");
+        List<CreateIncomeRequest> requests = Collections.nCopies(CreateIncomeUseCase.MAX_BATCH_SIZE + 1, request);
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            createIncomeUseCase.executeAll(requests);
+        });
+        
+        verify(incomeRepository, never()).saveAll(anyList());
+    }
+}
@@ -1,6 +1,7 @@
 package com.cashly.cashly_api.incomes.application.usecases;
 
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,12 +23,15 @@ public class DeleteIncomeUseCaseUnitTest {
     @Mock
     private IncomeRepository incomeRepository;
     
+    @Mock
+    private IncomeRollupRepository rollupRepository;
+    
     private DeleteIncomeUseCase deleteIncomeUseCase;
     
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        deleteIncomeUseCase = new DeleteIncomeUseCase(incomeRepository);
+        deleteIncomeUseCase = new DeleteIncomeUseCase(incomeRepository, rollupRepository);
     }
     
     @Test
@@ -41,18 +45,19 @@ public class DeleteIncomeUseCaseUnitTest {
             new Description("Salary payment"),
             new Category("SALARY"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.of(income));
+        when(incomeRepository.findByIdForUpdate(incomeId)).thenReturn(Optional.of(income));
         doNothing().when(incomeRepository).deleteById(incomeId);
         
         // Act
         assertDoesNotThrow(() -> deleteIncomeUseCase.execute(incomeIdString));
         
         // Assert
-        verify(incomeRepository, times(1)).findById(incomeId);
+        verify(incomeRepository, times(1)).findByIdForUpdate(incomeId);
         verify(incomeRepository, times(1)).deleteById(incomeId);
+        verify(rollupRepository, times(1)).remove(income);
     }
     
     @Test
@@ -61,14 +66,14 @@ public class DeleteIncomeUseCaseUnitTest {
         String incomeIdString = "123e4567-e89b-12d3-a456-426614174000";
         IncomeId incomeId = new IncomeId(UUID.fromString(incomeIdString));
         
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.empty());
+        when(incomeRepository.findByIdForUpdate(incomeId)).thenReturn(Optional.empty());
         
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
             deleteIncomeUseCase.execute(incomeIdString);
         });
         
-        verify(incomeRepository, times(1)).findById(incomeId);
+        verify(incomeRepository, times(1)).findByIdForUpdate(incomeId);
         verify(incomeRepository, never()).deleteById(any(IncomeId.class));
     }
     
@@ -82,7 +87,7 @@ public class DeleteIncomeUseCaseUnitTest {
             deleteIncomeUseCase.execute(incomeIdString);
         });
         
-        verify(incomeRepository, never()).findById(any(IncomeId.class));
+        verify(incomeRepository, never()).findByIdForUpdate(any(IncomeId.class));
         verify(incomeRepository, never()).deleteById(any(IncomeId.class));
     }
     
@@ -96,7 +101,7 @@ public class DeleteIncomeUseCaseUnitTest {
             deleteIncomeUseCase.execute(incomeIdString);
         });
         
-        verify(incomeRepository, never()).findById(any(IncomeId.class));
+        verify(incomeRepository, never()).findByIdForUpdate(any(IncomeId.class));
         verify(incomeRepository, never()).deleteById(any(IncomeId.class));
     }
 }
\ No newline at end of file
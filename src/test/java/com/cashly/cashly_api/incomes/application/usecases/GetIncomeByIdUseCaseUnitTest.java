@@ -42,7 +42,7 @@ public class GetIncomeByIdUseCaseUnitTest {
             new Description("Salary payment"),
             new Category("SALARY"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
         when(incomeRepository.findById(incomeId)).thenReturn(Optional.of(income));
@@ -4,6 +4,8 @@ import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -16,11 +18,14 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 public class GetIncomesByUserUseCaseUnitTest {
     
+    private static final PageRequest PAGE = PageRequest.first(50);
+    
     @Mock
     private IncomeRepository incomeRepository;
     
@@ -36,7 +41,7 @@ public class GetIncomesByUserUseCaseUnitTest {
     @Test
     public void should_ReturnIncomes_When_UserHasIncomes() {
         // Arrange
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         Income income1 = new Income(
             IncomeId.generate(),
             new Amount(new BigDecimal("1000.00")),
@@ -55,10 +60,10 @@ public class GetIncomesByUserUseCaseUnitTest {
         );
         
         List<Income> incomes = Arrays.asList(income1, income2);
-        when(incomeRepository.findByUserId(userId)).thenReturn(incomes);
+        when(incomeRepository.findResponsesByUserId(userId, PAGE)).thenReturn(new CursorPage<>(responses(incomes), null));
         
         // Act
-        List<IncomeResponse> responses = getIncomesByUserUseCase.execute(userId);
+        List<IncomeResponse> responses = getIncomesByUserUseCase.execute(userId, PAGE).items();
         
         // Assert
         assertNotNull(responses);
@@ -78,23 +83,23 @@ public class GetIncomesByUserUseCaseUnitTest {
         assertEquals(income2.getCategory().getValue(), response2.getCategory());
         assertEquals(income2.getUserId(), response2.getUserId());
         
-        verify(incomeRepository, times(1)).findByUserId(userId);
+        verify(incomeRepository, times(1)).findResponsesByUserId(userId, PAGE);
     }
     
     @Test
     public void should_ReturnEmptyList_When_UserHasNoIncomes() {
         // Arrange
-        String userId = "user123";
-        when(incomeRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
+        String userId = "00000000-0000-0000-0000-000000000123";
+        when(incomeRepository.findResponsesByUserId(userId, PAGE)).thenReturn(new CursorPage<>(Collections.emptyList(), null));
         
         // Act
-        List<IncomeResponse> responses = getIncomesByUserUseCase.execute(userId);
+        List<IncomeResponse> responses = getIncomesByUserUseCase.execute(userId, PAGE).items();
         
         // Assert
         assertNotNull(responses);
         assertTrue(responses.isEmpty());
         
-        verify(incomeRepository, times(1)).findByUserId(userId);
+        verify(incomeRepository, times(1)).findResponsesByUserId(userId, PAGE);
     }
     
     @Test
@@ -104,10 +109,10 @@ public class GetIncomesByUserUseCaseUnitTest {
         
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> {
-            getIncomesByUserUseCase.execute(userId);
+            getIncomesByUserUseCase.execute(userId, PAGE);
         });
         
-        verify(incomeRepository, never()).findByUserId(anyString());
+        verify(incomeRepository, never()).findResponsesByUserId(anyString(), any());
     }
     
     @Test
@@ -117,10 +122,10 @@ public class GetIncomesByUserUseCaseUnitTest {
         
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> {
-            getIncomesByUserUseCase.execute(userId);
+            getIncomesByUserUseCase.execute(userId, PAGE);
         });
         
-        verify(incomeRepository, never()).findByUserId(anyString());
+        verify(incomeRepository, never()).findResponsesByUserId(anyString(), any());
     }
     
     @Test
@@ -130,9 +135,22 @@ public class GetIncomesByUserUseCaseUnitTest {
         
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> {
-            getIncomesByUserUseCase.execute(userId);
+            getIncomesByUserUseCase.execute(userId, PAGE);
         });
         
-        verify(incomeRepository, never()).findByUserId(anyString());
+        verify(incomeRepository, never()).findResponsesByUserId(anyString(), any());
+    }
+    
+    private static List<IncomeResponse> responses(List<Income> incomes) {
+        return incomes.stream()
+            .map(income -> new IncomeResponse(
+                income.getId().getValue().toString(),
+                income.getAmount().getValue(),
+                income.getDescription().getValue(),
+                income.getCategory().getValue(),
+                income.getUserId(),
+                income.getCreatedAt(),
+                income.getUpdatedAt()))
+            .toList();
     }
-}
\ No newline at end of file
+}
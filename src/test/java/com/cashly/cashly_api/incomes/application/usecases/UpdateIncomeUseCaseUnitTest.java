@@ -3,6 +3,7 @@ package com.cashly.cashly_api.incomes.application.usecases;
 import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.application.dto.UpdateIncomeRequest;
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,12 +25,15 @@ public class UpdateIncomeUseCaseUnitTest {
     @Mock
     private IncomeRepository incomeRepository;
     
+    @Mock
+    private IncomeRollupRepository rollupRepository;
+    
     private UpdateIncomeUseCase updateIncomeUseCase;
     
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        updateIncomeUseCase = new UpdateIncomeUseCase(incomeRepository);
+        updateIncomeUseCase = new UpdateIncomeUseCase(incomeRepository, rollupRepository);
     }
     
     @Test
@@ -45,11 +49,11 @@ public class UpdateIncomeUseCaseUnitTest {
             new Description("Original description"),
             new Category("SALARY"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.of(existingIncome));
-        when(incomeRepository.save(any(Income.class))).thenReturn(existingIncome);
+        when(incomeRepository.findByIdForUpdate(incomeId)).thenReturn(Optional.of(existingIncome));
+        when(incomeRepository.update(any(Income.class))).thenReturn(existingIncome);
         
         // Act
         IncomeResponse response = updateIncomeUseCase.execute(incomeIdString, request);
@@ -58,8 +62,10 @@ public class UpdateIncomeUseCaseUnitTest {
         assertNotNull(response);
         assertEquals(incomeIdString, response.getId());
         
-        verify(incomeRepository, times(1)).findById(incomeId);
-        verify(incomeRepository, times(1)).save(any(Income.class));
+        verify(incomeRepository, times(1)).findByIdForUpdate(incomeId);
+        verify(incomeRepository, times(1)).update(any(Income.class));
+        verify(rollupRepository).remove(argThat(previous -> "SALARY".equals(previous.getCategory().getValue())));
+        verify(rollupRepository).add(existingIncome);
     }
     
     @Test
@@ -75,11 +81,11 @@ public class UpdateIncomeUseCaseUnitTest {
             new Description("Original description"),
             new Category("SALARY"),
             LocalDate.now(),
-            "user123"
+            "00000000-0000-0000-0000-000000000123"
         );
         
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.of(existingIncome));
-        when(incomeRepository.save(any(Income.class))).thenReturn(existingIncome);
+        when(incomeRepository.findByIdForUpdate(incomeId)).thenReturn(Optional.of(existingIncome));
+        when(incomeRepository.update(any(Income.class))).thenReturn(existingIncome);
         
         // Act
         IncomeResponse response = updateIncomeUseCase.execute(incomeIdString, request);
@@ -88,8 +94,9 @@ public class UpdateIncomeUseCaseUnitTest {
         assertNotNull(response);
         assertEquals(incomeIdString, response.getId());
         
-        verify(incomeRepository, times(1)).findById(incomeId);
-        verify(incomeRepository, times(1)).save(any(Income.class));
+        verify(incomeRepository, times(1)).findByIdForUpdate(incomeId);
+        verify(incomeRepository, times(1)).update(any(Income.class));
+        verifyNoInteractions(rollupRepository);
     }
     
     @Test
@@ -99,15 +106,15 @@ public class UpdateIncomeUseCaseUnitTest {
         IncomeId incomeId = new IncomeId(UUID.fromString(incomeIdString));
         UpdateIncomeRequest request = new UpdateIncomeRequest("Updated description", "BUSINESS");
         
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.empty());
+        when(incomeRepository.findByIdForUpdate(incomeId)).thenReturn(Optional.empty());
         
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
             updateIncomeUseCase.execute(incomeIdString, request);
         });
         
-        verify(incomeRepository, times(1)).findById(incomeId);
-        verify(incomeRepository, never()).save(any(Income.class));
+        verify(incomeRepository, times(1)).findByIdForUpdate(incomeId);
+        verify(incomeRepository, never()).update(any(Income.class));
     }
     
     @Test
@@ -121,8 +128,8 @@ public class UpdateIncomeUseCaseUnitTest {
             updateIncomeUseCase.execute(incomeIdString, request);
         });
         
-        verify(incomeRepository, never()).findById(any(IncomeId.class));
-        verify(incomeRepository, never()).save(any(Income.class));
+        verify(incomeRepository, never()).findByIdForUpdate(any(IncomeId.class));
+        verify(incomeRepository, never()).update(any(Income.class));
     }
     
     @Test
@@ -136,7 +143,7 @@ public class UpdateIncomeUseCaseUnitTest {
             updateIncomeUseCase.execute(incomeIdString, request);
         });
         
-        verify(incomeRepository, never()).findById(any(IncomeId.class));
-        verify(incomeRepository, never()).save(any(Income.class));
+        verify(incomeRepository, never()).findByIdForUpdate(any(IncomeId.class));
+        verify(incomeRepository, never()).update(any(Income.class));
     }
 }
\ No newline at end of file
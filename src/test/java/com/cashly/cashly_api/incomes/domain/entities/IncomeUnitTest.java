@@ -25,7 +25,7 @@ class IncomeUnitTest {
         validDescription = new Description("Monthly salary");
         validCategory = new Category("SALARY");
         validDate = LocalDate.of(2024, 1, 15);
-        validUserId = "user123";
+        validUserId = "00000000-0000-0000-0000-000000000123";
     }
 
     @Test
@@ -1,9 +1,13 @@
 package com.cashly.cashly_api.incomes.domain.services;
 
 import com.cashly.cashly_api.incomes.application.ports.IncomeRepository;
+import com.cashly.cashly_api.incomes.application.ports.IncomeRollupRepository;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.services.IncomeService.IncomeGrowthAnalysis;
 import com.cashly.cashly_api.incomes.domain.valueobjects.*;
+import com.cashly.cashly_api.shared.analytics.AmountSeries;
+import com.cashly.cashly_api.shared.analytics.PeriodTotal;
+import com.cashly.cashly_api.shared.analytics.SeriesGranularity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +31,9 @@ class IncomeServiceUnitTest {
 
     @Mock
     private IncomeRepository incomeRepository;
+
+    @Mock
+    private IncomeRollupRepository rollupRepository;
     
     private IncomeService incomeService;
     private String validUserId;
@@ -35,8 +42,8 @@ class IncomeServiceUnitTest {
 
     @BeforeEach
     void setUp() {
-        incomeService = new IncomeService(incomeRepository);
-        validUserId = "user123";
+        incomeService = new IncomeService(incomeRepository, rollupRepository);
+        validUserId = "00000000-0000-0000-0000-000000000123";
         startDate = LocalDate.of(2024, 1, 1);
         endDate = LocalDate.of(2024, 1, 31);
     }
@@ -46,7 +53,7 @@ class IncomeServiceUnitTest {
         // Arrange
         LocalDate referenceDate = LocalDate.of(2024, 1, 31);
         Amount expectedTotal = new Amount(new BigDecimal("3700.00"));
-        when(incomeRepository.calculateTotalIncomeForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class)))
+        when(rollupRepository.calculateTotal(eq(validUserId), any(YearMonth.class), any(YearMonth.class)))
             .thenReturn(expectedTotal);
         
         // Act
@@ -55,7 +62,8 @@ class IncomeServiceUnitTest {
         // Assert
         BigDecimal expected = new BigDecimal("3700.00").divide(BigDecimal.valueOf(3), 2, BigDecimal.ROUND_HALF_UP);
         assertEquals(expected, result.getValue());
-        verify(incomeRepository).calculateTotalIncomeForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class));
+        verify(rollupRepository).calculateTotal(eq(validUserId), any(YearMonth.class), any(YearMonth.class));
+        verifyNoInteractions(incomeRepository);
     }
 
     @Test
@@ -95,10 +103,11 @@ class IncomeServiceUnitTest {
         Amount currentIncome = new Amount(new BigDecimal("3700.00"));
         Amount previousIncome = new Amount(BigDecimal.ZERO);
         
-        when(incomeRepository.calculateTotalIncomeForPeriod(eq(validUserId), eq(currentMonth.atDay(1)), eq(currentMonth.atEndOfMonth())))
-            .thenReturn(currentIncome);
-        when(incomeRepository.calculateTotalIncomeForPeriod(eq(validUserId), eq(currentMonth.minusMonths(1).atDay(1)), eq(currentMonth.minusMonths(1).atEndOfMonth())))
-            .thenReturn(previousIncome);
+        Map<YearMonth, Amount> monthlyTotals = new HashMap<>();
+        monthlyTotals.put(currentMonth, currentIncome);
+        monthlyTotals.put(currentMonth.minusMonths(1), previousIncome);
+        when(rollupRepository.calculateMonthlyTotals(validUserId, currentMonth.minusMonths(1), currentMonth))
+            .thenReturn(monthlyTotals);
         
         // Act
         IncomeGrowthAnalysis result = incomeService.analyzeIncomeGrowth(validUserId, currentMonth);
@@ -110,17 +119,15 @@ class IncomeServiceUnitTest {
         assertEquals(BigDecimal.ZERO, result.getPreviousMonthIncome().getValue());
         assertEquals(new BigDecimal("100.00"), result.getGrowthPercentage());
         
-        verify(incomeRepository, times(2)).calculateTotalIncomeForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class));
+        verify(rollupRepository, times(1)).calculateMonthlyTotals(validUserId, currentMonth.minusMonths(1), currentMonth);
     }
 
     @Test
     void should_ReturnZeroGrowth_When_BothMonthsHaveZeroIncome() {
         // Arrange
         YearMonth futureMonth = YearMonth.of(2024, 6);
-        Amount zeroIncome = new Amount(BigDecimal.ZERO);
-        
-        when(incomeRepository.calculateTotalIncomeForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class)))
-            .thenReturn(zeroIncome);
+        when(rollupRepository.calculateMonthlyTotals(validUserId, futureMonth.minusMonths(1), futureMonth))
+            .thenReturn(new HashMap<>());
         
         // Act
         IncomeGrowthAnalysis result = incomeService.analyzeIncomeGrowth(validUserId, futureMonth);
@@ -130,7 +137,7 @@ class IncomeServiceUnitTest {
         assertEquals(BigDecimal.ZERO, result.getCurrentMonthIncome().getValue());
         assertEquals(BigDecimal.ZERO, result.getPreviousMonthIncome().getValue());
         
-        verify(incomeRepository, times(2)).calculateTotalIncomeForPeriod(eq(validUserId), any(LocalDate.class), any(LocalDate.class));
+        verify(rollupRepository, times(1)).calculateMonthlyTotals(validUserId, futureMonth.minusMonths(1), futureMonth);
     }
 
     @Test
@@ -219,4 +226,49 @@ class IncomeServiceUnitTest {
         assertThrows(IllegalArgumentException.class, () -> 
             incomeService.isSignificantIncome(testAmount, averageIncome, threshold));
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_ReadRollups_When_MonthlySeriesRequested() {
+        // Arrange
+        LocalDate seriesStart = LocalDate.of(2020, 1, 1);
+        LocalDate seriesEnd = LocalDate.of(2024, 12, 31);
+        when(rollupRepository.calculateMonthlySeries(validUserId, seriesStart, seriesEnd)).thenReturn(List.of(
+            new PeriodTotal(LocalDate.of(2022, 6, 1), new BigDecimal("150.00"), 3)
+        ));
+
+        // Act
+        AmountSeries result = incomeService.analyzeIncomeSeries(validUserId, SeriesGranularity.MONTH, seriesStart, seriesEnd);
+
+        // Assert
+        assertEquals(60, result.points().size());
+        assertEquals(new BigDecimal("150.00"), result.points().get(29).total());
+        assertEquals(3, result.points().get(29).count());
+        assertEquals(new BigDecimal("0.00"), result.points().get(0).total());
+        verifyNoInteractions(incomeRepository);
+    }
+
+    @Test
+    void should_FoldDailyTotals_When_WeeklySeriesRequested() {
+        // Arrange
+        when(incomeRepository.calculateDailyTotals(validUserId, startDate, endDate)).thenReturn(List.of(
+            new PeriodTotal(LocalDate.of(2024, 1, 2), new BigDecimal("40.00"), 1),
+            new PeriodTotal(LocalDate.of(2024, 1, 5), new BigDecimal("60.00"), 2)
+        ));
+
+        // Act
+        AmountSeries result = incomeService.analyzeIncomeSeries(validUserId, SeriesGranularity.WEEK, startDate, endDate);
+
+        // Assert
+        assertEquals(5, result.points().size());
+        assertEquals(new BigDecimal("100.00"), result.points().get(0).total());
+        assertEquals(3, result.points().get(0).count());
+        verify(rollupRepository, never()).calculateMonthlySeries(any(), any(), any());
+    }
+
+    @Test
+    void should_ThrowException_When_SeriesGranularityIsNull() {
+        assertThrows(IllegalArgumentException.class, () ->
+            incomeService.analyzeIncomeSeries(validUserId, null, startDate, endDate));
+        verifyNoInteractions(incomeRepository, rollupRepository);
+    }
+}
@@ -24,7 +24,7 @@ class IncomeEntityUnitTest {
         Description description = new Description("Monthly salary");
         Category category = new Category("SALARY");
         LocalDate date = LocalDate.now();
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         
         Income domainIncome = new Income(incomeId, amount, description, category, date, userId);
         
@@ -52,7 +52,7 @@ class IncomeEntityUnitTest {
         String description = "Business revenue";
         String category = "BUSINESS";
         LocalDate date = LocalDate.now().minusDays(1);
-        String userId = "user456";
+        String userId = "00000000-0000-0000-0000-000000000456";
         LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
         LocalDateTime updatedAt = LocalDateTime.now();
         
@@ -91,7 +91,7 @@ class IncomeEntityUnitTest {
         entity.setDescription("Test income");
         entity.setCategory("INVALID_CATEGORY");
         entity.setDate(LocalDate.now());
-        entity.setUserId("user123");
+        entity.setUserId("00000000-0000-0000-0000-000000000123");
         entity.setCreatedAt(LocalDateTime.now());
         entity.setUpdatedAt(LocalDateTime.now());
         
@@ -111,7 +111,7 @@ class IncomeEntityUnitTest {
         entity.setDescription("Test income");
         entity.setCategory("SALARY");
         entity.setDate(LocalDate.now());
-        entity.setUserId("user123");
+        entity.setUserId("00000000-0000-0000-0000-000000000123");
         entity.setCreatedAt(LocalDateTime.now());
         entity.setUpdatedAt(LocalDateTime.now());
         
@@ -141,7 +141,7 @@ class IncomeEntityUnitTest {
         existingEntity.setDescription("Old description");
         existingEntity.setCategory("SALARY");
         existingEntity.setDate(LocalDate.now());
-        existingEntity.setUserId("user123");
+        existingEntity.setUserId("00000000-0000-0000-0000-000000000123");
         existingEntity.setCreatedAt(LocalDateTime.now().minusHours(1));
         existingEntity.setUpdatedAt(LocalDateTime.now().minusHours(1));
 
@@ -150,7 +150,7 @@ class IncomeEntityUnitTest {
         Description newDescription = new Description("Updated description");
         Category category = new Category("BUSINESS");
         LocalDate date = LocalDate.now();
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         
         Income updatedDomainIncome = new Income(incomeId, newAmount, newDescription, category, date, userId);
         
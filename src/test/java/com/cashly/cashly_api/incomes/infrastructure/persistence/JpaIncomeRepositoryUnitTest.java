@@ -1,13 +1,19 @@
 package com.cashly.cashly_api.incomes.infrastructure.persistence;
 
+import com.cashly.cashly_api.incomes.application.dto.IncomeResponse;
 import com.cashly.cashly_api.incomes.domain.entities.Income;
 import com.cashly.cashly_api.incomes.domain.valueobjects.*;
+import com.cashly.cashly_api.infrastructure.persistence.BatchInserter;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageCursor;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -28,11 +34,14 @@ class JpaIncomeRepositoryUnitTest {
     @Mock
     private SpringDataIncomeRepository springDataRepository;
 
+    @Mock
+    private BatchInserter batchInserter;
+
     private JpaIncomeRepository jpaIncomeRepository;
 
     @BeforeEach
     void setUp() {
-        jpaIncomeRepository = new JpaIncomeRepository(springDataRepository);
+        jpaIncomeRepository = new JpaIncomeRepository(springDataRepository, batchInserter);
     }
 
     @Test
@@ -54,6 +63,68 @@ class JpaIncomeRepositoryUnitTest {
         verify(springDataRepository).save(any(IncomeEntity.class));
     }
 
+    @Test
+    @DisplayName("should_InsertNewEntitiesInBatch_When_SavingSeveralIncomes")
+    void should_InsertNewEntitiesInBatch_When_SavingSeveralIncomes() {
+        // Arrange
+        List<Income> incomes = List.of(createSampleIncome(), createSampleIncome());
+
+        // Act
+        List<Income> savedIncomes = jpaIncomeRepository.saveAll(incomes);
+
+        // Assert
+        assertThat(savedIncomes).isSameAs(incomes);
+        verify(batchInserter).insertAll(argThat(entities -> entities.size() == 2
+            && entities.stream().allMatch(entity -> ((IncomeEntity) entity).isNew())));
+        verify(springDataRepository, never()).save(any(IncomeEntity.class));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_SaveAllReceivesNull")
+    void should_ThrowException_When_SaveAllReceivesNull() {
+        // Act & Assert
+        assertThatThrownBy(() -> jpaIncomeRepository.saveAll(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Incomes cannot be null");
+    }
+
+    @Test
+    @DisplayName("should_UpdateIncomeInSingleStatement_When_ExistingIncomeProvided")
+    void should_UpdateIncomeInSingleStatement_When_ExistingIncomeProvided() {
+        // Arrange
+        Income domainIncome = createSampleIncome();
+        domainIncome.updateDescription(new Description("Updated salary"));
+
+        given(springDataRepository.updateDetails(
+            domainIncome.getId().getValue().toString(),
+            domainIncome.getAmount().getValue(),
+            "Updated salary",
+            domainIncome.getCategory().getValue(),
+            domainIncome.getUpdatedAt()
+        )).willReturn(1);
+
+        // Act
+        Income updatedIncome = jpaIncomeRepository.update(domainIncome);
+
+        // Assert
+        assertThat(updatedIncome).isSameAs(domainIncome);
+        verify(springDataRepository, never()).findById(anyString());
+        verify(springDataRepository, never()).save(any(IncomeEntity.class));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_UpdatedIncomeDoesNotExist")
+    void should_ThrowException_When_UpdatedIncomeDoesNotExist() {
+        // Arrange
+        Income domainIncome = createSampleIncome();
+        given(springDataRepository.updateDetails(anyString(), any(), anyString(), anyString(), any())).willReturn(0);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jpaIncomeRepository.update(domainIncome))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Income not found: " + domainIncome.getId().getValue());
+    }
+
     @Test
     @DisplayName("should_FindIncomeById_When_IncomeExists")
     void should_FindIncomeById_When_IncomeExists() {
@@ -92,28 +163,111 @@ class JpaIncomeRepositoryUnitTest {
     @DisplayName("should_FindIncomesByUserId_When_UserHasIncomes")
     void should_FindIncomesByUserId_When_UserHasIncomes() {
         // Arrange
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         List<IncomeEntity> entities = Arrays.asList(
             createSampleIncomeEntity("1"),
             createSampleIncomeEntity("2")
         );
         
-        given(springDataRepository.findByUserIdOrderByCreatedAtDesc(userId)).willReturn(entities);
+        given(springDataRepository.findFirstPageByUserId(userId, Limit.of(11))).willReturn(entities);
+        
+        // Act
+        CursorPage<Income> incomes = jpaIncomeRepository.findByUserId(userId, PageRequest.first(10));
+        
+        // Assert
+        assertThat(incomes.items()).hasSize(2);
+        assertThat(incomes.items()).allMatch(income -> income.getUserId().equals(userId));
+        assertThat(incomes.hasNext()).isFalse();
+        verify(springDataRepository).findFirstPageByUserId(userId, Limit.of(11));
+    }
+
+    @Test
+    @DisplayName("should_ReturnNextCursor_When_MoreIncomesThanPageSize")
+    void should_ReturnNextCursor_When_MoreIncomesThanPageSize() {
+        // Arrange
+        String userId = "00000000-0000-0000-0000-000000000123";
+        List<IncomeEntity> entities = Arrays.asList(
+            createSampleIncomeEntity("1"),
+            createSampleIncomeEntity("2"),
+            createSampleIncomeEntity("3")
+        );
+        
+        given(springDataRepository.findFirstPageByUserId(userId, Limit.of(3))).willReturn(entities);
+        
+        // Act
+        CursorPage<Income> incomes = jpaIncomeRepository.findByUserId(userId, PageRequest.first(2));
+        
+        // Assert
+        assertThat(incomes.items()).hasSize(2);
+        assertThat(incomes.nextCursor()).isEqualTo(
+            new PageCursor(entities.get(1).getCreatedAt(), entities.get(1).getId()));
+    }
+
+    @Test
+    @DisplayName("should_SeekPastCursor_When_FollowingPageRequested")
+    void should_SeekPastCursor_When_FollowingPageRequested() {
+        // Arrange
+        String userId = "00000000-0000-0000-0000-000000000123";
+        PageCursor cursor = new PageCursor(LocalDateTime.now().minusDays(1), UUID.randomUUID().toString());
+        
+        given(springDataRepository.findPageByUserIdAfter(userId, cursor.position(), cursor.id(), Limit.of(11)))
+            .willReturn(List.of());
+        
+        // Act
+        CursorPage<Income> incomes = jpaIncomeRepository.findByUserId(userId, new PageRequest(cursor, 10));
+        
+        // Assert
+        assertThat(incomes.items()).isEmpty();
+        assertThat(incomes.hasNext()).isFalse();
+        verify(springDataRepository, never()).findFirstPageByUserId(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("should_CursorOnProjectedResponses_When_MoreResponsesThanPageSize")
+    void should_CursorOnProjectedResponses_When_MoreResponsesThanPageSize() {
+        // Arrange
+        String userId = "00000000-0000-0000-0000-000000000123";
+        LocalDateTime now = LocalDateTime.now();
+        List<IncomeResponse> responses = List.of(
+            new IncomeResponse("3", new BigDecimal("30.00"), "Third", "SALARY", userId, now, now),
+            new IncomeResponse("2", new BigDecimal("20.00"), "Second", "SALARY", userId, now, now),
+            new IncomeResponse("1", new BigDecimal("10.00"), "First", "SALARY", userId, now, now)
+        );
+        
+        given(springDataRepository.findFirstResponsePageByUserId(userId, Limit.of(3))).willReturn(responses);
+        
+        // Act
+        CursorPage<IncomeResponse> page = jpaIncomeRepository.findResponsesByUserId(userId, PageRequest.first(2));
+        
+        // Assert
+        assertThat(page.items()).containsExactlyElementsOf(responses.subList(0, 2));
+        assertThat(page.nextCursor()).isEqualTo(new PageCursor(now, "2"));
+        verify(springDataRepository, never()).findFirstPageByUserId(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("should_SeekPastCursor_When_FollowingResponsePageRequested")
+    void should_SeekPastCursor_When_FollowingResponsePageRequested() {
+        // Arrange
+        String userId = "00000000-0000-0000-0000-000000000123";
+        PageCursor cursor = new PageCursor(LocalDateTime.now().minusDays(1), UUID.randomUUID().toString());
+        
+        given(springDataRepository.findResponsePageByUserIdAfter(userId, cursor.position(), cursor.id(), Limit.of(11)))
+            .willReturn(List.of());
         
         // Act
-        List<Income> incomes = jpaIncomeRepository.findByUserId(userId);
+        CursorPage<IncomeResponse> page = jpaIncomeRepository.findResponsesByUserId(userId, new PageRequest(cursor, 10));
         
         // Assert
-        assertThat(incomes).hasSize(2);
-        assertThat(incomes).allMatch(income -> income.getUserId().equals(userId));
-        verify(springDataRepository).findByUserIdOrderByCreatedAtDesc(userId);
+        assertThat(page.items()).isEmpty();
+        verify(springDataRepository, never()).findFirstResponsePageByUserId(anyString(), any());
     }
 
     @Test
     @DisplayName("should_FindIncomesByUserIdAndDateRange_When_FilteringByDateRange")
     void should_FindIncomesByUserIdAndDateRange_When_FilteringByDateRange() {
         // Arrange
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         LocalDateTime startDate = LocalDateTime.now().minusDays(10);
         LocalDateTime endDate = LocalDateTime.now().minusDays(1);
         List<IncomeEntity> entities = Arrays.asList(createSampleIncomeEntity("1"));
@@ -133,7 +287,7 @@ class JpaIncomeRepositoryUnitTest {
     @DisplayName("should_FindIncomesByUserIdAndCategory_When_FilteringByCategory")
     void should_FindIncomesByUserIdAndCategory_When_FilteringByCategory() {
         // Arrange
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         Category category = new Category("SALARY");
         List<IncomeEntity> entities = Arrays.asList(createSampleIncomeEntity("1"));
         
@@ -219,7 +373,7 @@ class JpaIncomeRepositoryUnitTest {
     @DisplayName("should_ThrowException_When_FindByUserIdReceivesNull")
     void should_ThrowException_When_FindByUserIdReceivesNull() {
         // Act & Assert
-        assertThatThrownBy(() -> jpaIncomeRepository.findByUserId(null))
+        assertThatThrownBy(() -> jpaIncomeRepository.findByUserId(null, PageRequest.first(10)))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("User ID cannot be null");
         
@@ -230,7 +384,7 @@ class JpaIncomeRepositoryUnitTest {
     @DisplayName("should_ThrowException_When_FindByUserIdReceivesEmpty")
     void should_ThrowException_When_FindByUserIdReceivesEmpty() {
         // Act & Assert
-        assertThatThrownBy(() -> jpaIncomeRepository.findByUserId(""))
+        assertThatThrownBy(() -> jpaIncomeRepository.findByUserId("", PageRequest.first(10)))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("User ID cannot be empty");
         
@@ -241,7 +395,7 @@ class JpaIncomeRepositoryUnitTest {
     @DisplayName("should_ThrowException_When_DateRangeParametersAreNull")
     void should_ThrowException_When_DateRangeParametersAreNull() {
         // Arrange
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         LocalDateTime validDate = LocalDateTime.now();
         
         // Act & Assert
@@ -264,7 +418,7 @@ class JpaIncomeRepositoryUnitTest {
     @DisplayName("should_ThrowException_When_CategoryParametersAreNull")
     void should_ThrowException_When_CategoryParametersAreNull() {
         // Arrange
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         Category validCategory = new Category("SALARY");
         
         // Act & Assert
@@ -307,7 +461,7 @@ class JpaIncomeRepositoryUnitTest {
         Description description = new Description("Test income");
         Category category = new Category("SALARY");
         LocalDate date = LocalDate.now();
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         
         return new Income(incomeId, amount, description, category, date, userId);
     }
@@ -321,7 +475,7 @@ class JpaIncomeRepositoryUnitTest {
         entity.setDescription("Test income");
         entity.setCategory("SALARY");
         entity.setDate(LocalDate.now());
-        entity.setUserId("user123");
+        entity.setUserId("00000000-0000-0000-0000-000000000123");
         entity.setCreatedAt(LocalDateTime.now());
         entity.setUpdatedAt(LocalDateTime.now());
         return entity;
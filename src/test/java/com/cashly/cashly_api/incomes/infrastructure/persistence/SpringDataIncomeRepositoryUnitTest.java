@@ -19,6 +19,13 @@ import static org.assertj.core.api.Assertions.*;
 @DisplayName("SpringDataIncomeRepository Unit Tests")
 class SpringDataIncomeRepositoryUnitTest {
 
+    private static final String INCOME_1 = "00000000-0000-0000-0000-000000000001";
+    private static final String INCOME_2 = "00000000-0000-0000-0000-000000000002";
+    private static final String INCOME_3 = "00000000-0000-0000-0000-000000000003";
+    private static final String USER_ID = "6f1c2a4e-7d3b-4c5a-9e8f-0a1b2c3d4e5f";
+    private static final String OTHER_USER_ID = "7a2d3b5f-8e4c-4d6b-8f9a-1b2c3d4e5f60";
+    private static final String UNKNOWN_ID = "ffffffff-ffff-4fff-bfff-ffffffffffff";
+
     @Autowired
     private SpringDataIncomeRepository repository;
 
@@ -26,17 +33,17 @@ class SpringDataIncomeRepositoryUnitTest {
     @DisplayName("should_SaveAndFindIncomeEntity_When_ValidEntityProvided")
     void should_SaveAndFindIncomeEntity_When_ValidEntityProvided() {
         // Arrange
-        IncomeEntity entity = createSampleIncomeEntity("1", "user123", "SALARY");
+        IncomeEntity entity = createSampleIncomeEntity(INCOME_1, USER_ID, "SALARY");
         
         // Act
         IncomeEntity savedEntity = repository.save(entity);
-        Optional<IncomeEntity> foundEntity = repository.findById("1");
+        Optional<IncomeEntity> foundEntity = repository.findById(INCOME_1);
         
         // Assert
         assertThat(savedEntity).isNotNull();
         assertThat(foundEntity).isPresent();
-        assertThat(foundEntity.get().getId()).isEqualTo("1");
-        assertThat(foundEntity.get().getUserId()).isEqualTo("user123");
+        assertThat(foundEntity.get().getId()).isEqualTo(INCOME_1);
+        assertThat(foundEntity.get().getUserId()).isEqualTo(USER_ID);
         assertThat(foundEntity.get().getCategory()).isEqualTo("SALARY");
     }
 
@@ -44,42 +51,42 @@ class SpringDataIncomeRepositoryUnitTest {
     @DisplayName("should_FindIncomesByUserId_When_UserHasIncomes")
     void should_FindIncomesByUserId_When_UserHasIncomes() {
         // Arrange
-        IncomeEntity income1 = createSampleIncomeEntity("1", "user123", "SALARY");
-        IncomeEntity income2 = createSampleIncomeEntity("2", "user123", "BUSINESS");
-        IncomeEntity income3 = createSampleIncomeEntity("3", "user456", "SALARY");
+        IncomeEntity income1 = createSampleIncomeEntity(INCOME_1, USER_ID, "SALARY");
+        IncomeEntity income2 = createSampleIncomeEntity(INCOME_2, USER_ID, "BUSINESS");
+        IncomeEntity income3 = createSampleIncomeEntity(INCOME_3, OTHER_USER_ID, "SALARY");
         
         repository.save(income1);
         repository.save(income2);
         repository.save(income3);
         
         // Act
-        List<IncomeEntity> userIncomes = repository.findByUserIdOrderByCreatedAtDesc("user123");
+        List<IncomeEntity> userIncomes = repository.findByUserIdOrderByCreatedAtDesc(USER_ID);
         
         // Assert
         assertThat(userIncomes).hasSize(2);
-        assertThat(userIncomes).extracting(IncomeEntity::getUserId).containsOnly("user123");
-        assertThat(userIncomes).extracting(IncomeEntity::getId).containsExactly("2", "1"); // Ordered by createdAt desc
+        assertThat(userIncomes).extracting(IncomeEntity::getUserId).containsOnly(USER_ID);
+        assertThat(userIncomes).extracting(IncomeEntity::getId).containsExactly(INCOME_2, INCOME_1); // Ordered by createdAt desc
     }
 
     @Test
     @DisplayName("should_FindIncomesByUserIdAndCategory_When_FilteringByCategory")
     void should_FindIncomesByUserIdAndCategory_When_FilteringByCategory() {
         // Arrange
-        IncomeEntity income1 = createSampleIncomeEntity("1", "user123", "SALARY");
-        IncomeEntity income2 = createSampleIncomeEntity("2", "user123", "BUSINESS");
-        IncomeEntity income3 = createSampleIncomeEntity("3", "user123", "SALARY");
+        IncomeEntity income1 = createSampleIncomeEntity(INCOME_1, USER_ID, "SALARY");
+        IncomeEntity income2 = createSampleIncomeEntity(INCOME_2, USER_ID, "BUSINESS");
+        IncomeEntity income3 = createSampleIncomeEntity(INCOME_3, USER_ID, "SALARY");
         
         repository.save(income1);
         repository.save(income2);
         repository.save(income3);
         
         // Act
-        List<IncomeEntity> salaryIncomes = repository.findByUserIdAndCategoryOrderByCreatedAtDesc("user123", "SALARY");
+        List<IncomeEntity> salaryIncomes = repository.findByUserIdAndCategoryOrderByCreatedAtDesc(USER_ID, "SALARY");
         
         // Assert
         assertThat(salaryIncomes).hasSize(2);
         assertThat(salaryIncomes).extracting(IncomeEntity::getCategory).containsOnly("SALARY");
-        assertThat(salaryIncomes).extracting(IncomeEntity::getId).containsExactly("3", "1"); // Ordered by createdAt desc
+        assertThat(salaryIncomes).extracting(IncomeEntity::getId).containsExactly(INCOME_3, INCOME_1); // Ordered by createdAt desc
     }
 
     @Test
@@ -90,13 +97,13 @@ class SpringDataIncomeRepositoryUnitTest {
         LocalDateTime startDate = now.minusDays(10);
         LocalDateTime endDate = now.minusDays(1);
         
-        IncomeEntity income1 = createSampleIncomeEntity("1", "user123", "SALARY");
+        IncomeEntity income1 = createSampleIncomeEntity(INCOME_1, USER_ID, "SALARY");
         income1.setCreatedAt(now.minusDays(15)); // Outside range
         
-        IncomeEntity income2 = createSampleIncomeEntity("2", "user123", "BUSINESS");
+        IncomeEntity income2 = createSampleIncomeEntity(INCOME_2, USER_ID, "BUSINESS");
         income2.setCreatedAt(now.minusDays(5)); // Inside range
         
-        IncomeEntity income3 = createSampleIncomeEntity("3", "user123", "INVESTMENT");
+        IncomeEntity income3 = createSampleIncomeEntity(INCOME_3, USER_ID, "INVESTMENT");
         income3.setCreatedAt(now.minusDays(3)); // Inside range
         
         repository.save(income1);
@@ -105,22 +112,22 @@ class SpringDataIncomeRepositoryUnitTest {
         
         // Act
         List<IncomeEntity> incomesInRange = repository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(
-            "user123", startDate, endDate);
+            USER_ID, startDate, endDate);
         
         // Assert
         assertThat(incomesInRange).hasSize(2);
-        assertThat(incomesInRange).extracting(IncomeEntity::getId).containsExactly("3", "2");
+        assertThat(incomesInRange).extracting(IncomeEntity::getId).containsExactly(INCOME_3, INCOME_2);
     }
 
     @Test
     @DisplayName("should_ReturnEmptyList_When_NoIncomesFoundForUser")
     void should_ReturnEmptyList_When_NoIncomesFoundForUser() {
         // Arrange
-        IncomeEntity income = createSampleIncomeEntity("1", "user123", "SALARY");
+        IncomeEntity income = createSampleIncomeEntity(INCOME_1, USER_ID, "SALARY");
         repository.save(income);
         
         // Act
-        List<IncomeEntity> userIncomes = repository.findByUserIdOrderByCreatedAtDesc("nonexistent");
+        List<IncomeEntity> userIncomes = repository.findByUserIdOrderByCreatedAtDesc(UNKNOWN_ID);
         
         // Assert
         assertThat(userIncomes).isEmpty();
@@ -130,11 +137,11 @@ class SpringDataIncomeRepositoryUnitTest {
     @DisplayName("should_ReturnEmptyList_When_NoIncomesFoundForCategory")
     void should_ReturnEmptyList_When_NoIncomesFoundForCategory() {
         // Arrange
-        IncomeEntity income = createSampleIncomeEntity("1", "user123", "SALARY");
+        IncomeEntity income = createSampleIncomeEntity(INCOME_1, USER_ID, "SALARY");
         repository.save(income);
         
         // Act
-        List<IncomeEntity> incomes = repository.findByUserIdAndCategoryOrderByCreatedAtDesc("user123", "INVESTMENT");
+        List<IncomeEntity> incomes = repository.findByUserIdAndCategoryOrderByCreatedAtDesc(USER_ID, "INVESTMENT");
         
         // Assert
         assertThat(incomes).isEmpty();
@@ -144,12 +151,12 @@ class SpringDataIncomeRepositoryUnitTest {
     @DisplayName("should_DeleteIncome_When_ValidIdProvided")
     void should_DeleteIncome_When_ValidIdProvided() {
         // Arrange
-        IncomeEntity income = createSampleIncomeEntity("1", "user123", "SALARY");
+        IncomeEntity income = createSampleIncomeEntity(INCOME_1, USER_ID, "SALARY");
         repository.save(income);
         
         // Act
-        repository.deleteById("1");
-        Optional<IncomeEntity> deletedIncome = repository.findById("1");
+        repository.deleteById(INCOME_1);
+        Optional<IncomeEntity> deletedIncome = repository.findById(INCOME_1);
         
         // Assert
         assertThat(deletedIncome).isNotPresent();
@@ -159,12 +166,12 @@ class SpringDataIncomeRepositoryUnitTest {
     @DisplayName("should_CheckExistence_When_ValidIdProvided")
     void should_CheckExistence_When_ValidIdProvided() {
         // Arrange
-        IncomeEntity income = createSampleIncomeEntity("1", "user123", "SALARY");
+        IncomeEntity income = createSampleIncomeEntity(INCOME_1, USER_ID, "SALARY");
         repository.save(income);
         
         // Act & Assert
-        assertThat(repository.existsById("1")).isTrue();
-        assertThat(repository.existsById("nonexistent")).isFalse();
+        assertThat(repository.existsById(INCOME_1)).isTrue();
+        assertThat(repository.existsById(UNKNOWN_ID)).isFalse();
     }
 
     private IncomeEntity createSampleIncomeEntity(String id, String userId, String category) {
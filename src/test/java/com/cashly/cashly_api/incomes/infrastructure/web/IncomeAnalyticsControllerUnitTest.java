@@ -3,6 +3,8 @@ package com.cashly.cashly_api.incomes.infrastructure.web;
 import com.cashly.cashly_api.incomes.domain.services.IncomeService;
 import com.cashly.cashly_api.incomes.domain.services.IncomeService.IncomeGrowthAnalysis;
 import com.cashly.cashly_api.incomes.domain.valueobjects.Amount;
+import com.cashly.cashly_api.shared.analytics.AmountSeries;
+import com.cashly.cashly_api.shared.analytics.SeriesGranularity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -13,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -240,4 +243,43 @@ class IncomeAnalyticsControllerUnitTest {
             controller.getMonthlyAverage(userId, monthsParam, referenceDateParam)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_ReturnSeries_When_ValidSeriesRequested() {
+        // Arrange
+        String userId = "user123";
+        LocalDate start = LocalDate.parse("2024-01-01");
+        LocalDate end = LocalDate.parse("2024-01-14");
+        AmountSeries expectedSeries = AmountSeries.fill(SeriesGranularity.WEEK, start, end, List.of());
+
+        when(incomeService.analyzeIncomeSeries(userId, SeriesGranularity.WEEK, start, end)).thenReturn(expectedSeries);
+
+        // Act
+        ResponseEntity<AmountSeries> result = controller.getSeries(userId, "week", "2024-01-01", "2024-01-14");
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(expectedSeries, result.getBody());
+        verify(incomeService).analyzeIncomeSeries(userId, SeriesGranularity.WEEK, start, end);
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_SeriesRequestedWithInvalidGranularity() {
+        // Act
+        ResponseEntity<AmountSeries> result = controller.getSeries("user123", "quarter", "2024-01-01", "2024-03-31");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        verifyNoInteractions(incomeService);
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_SeriesRequestedWithInvalidDate() {
+        // Act
+        ResponseEntity<AmountSeries> result = controller.getSeries("user123", "MONTH", "2024-01-01", "invalid-date");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        verifyNoInteractions(incomeService);
+    }
+}
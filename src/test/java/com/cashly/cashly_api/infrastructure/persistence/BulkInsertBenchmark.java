@@ -0,0 +1,144 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import com.cashly.cashly_api.shared.utils.UuidV7;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing 1k and 100k expense rows: one committed insert per row, as clients
+ * calling {@code POST /api/expenses} in a loop do today, against a single transaction
+ * with JDBC batches of the configured size and against multi-row {@code INSERT}s, which
+ * is what {@code rewriteBatchedStatements} makes the MySQL driver send.
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String COLUMNS = "(id, amount, description, category, user_id, created_at)";
+    private static final String PLACEHOLDERS = "(?, ?, ?, ?, ?, ?)";
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private Connection connection;
+    private byte[] userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bulk_insert;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE expenses (id BINARY(16) PRIMARY KEY, amount DECIMAL(15,2) NOT NULL, "
+                + "description VARCHAR(255) NOT NULL, category VARCHAR(50) NOT NULL, user_id BINARY(16) NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL)");
+        }
+        userId = UuidBinaryConverter.toBytes(UuidV7.generate().toString());
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE expenses");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void commitPerRow() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO expenses " + COLUMNS + " VALUES " + PLACEHOLDERS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 0, i);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    @Benchmark
+    public void jdbcBatch() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO expenses " + COLUMNS + " VALUES " + PLACEHOLDERS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 0, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void multiRowInsert() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(multiRowSql(BATCH_SIZE))) {
+            int full = rows - rows % BATCH_SIZE;
+            for (int start = 0; start < full; start += BATCH_SIZE) {
+                for (int row = 0; row < BATCH_SIZE; row++) {
+                    bind(insert, row, start + row);
+                }
+                insert.executeUpdate();
+            }
+            if (full < rows) {
+                try (PreparedStatement tail = connection.prepareStatement(multiRowSql(rows - full))) {
+                    for (int row = 0; full + row < rows; row++) {
+                        bind(tail, row, full + row);
+                    }
+                    tail.executeUpdate();
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(BulkInsertBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    private void bind(PreparedStatement insert, int row, int i) throws SQLException {
+        int offset = row * 6;
+        insert.setBytes(offset + 1, UuidBinaryConverter.toBytes(UuidV7.generate().toString()));
+        insert.setBigDecimal(offset + 2, BigDecimal.valueOf(1_000 + i, 2));
+        insert.setString(offset + 3, "Imported expense " + i);
+        insert.setString(offset + 4, "OTHER");
+        insert.setBytes(offset + 5, userId);
+        insert.setTimestamp(offset + 6, new Timestamp(System.currentTimeMillis()));
+    }
+
+    private static String multiRowSql(int rowCount) {
+        StringBuilder sql = new StringBuilder("INSERT INTO expenses ").append(COLUMNS).append(" VALUES ");
+        for (int row = 0; row < rowCount; row++) {
+            sql.append(row == 0 ? "" : ", ").append(PLACEHOLDERS);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes against two embedded H2 databases whose {@code node} row names the instance,
+ * so each read reveals which pool served it.
+ */
+@DisplayName("ReadWriteRoutingDataSource Integration Tests")
+class ReadWriteRoutingDataSourceIntegrationTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicReference<String> currentUser = new AtomicReference<>();
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = node("primary");
+        replica = node("replica");
+        meterRegistry = new SimpleMeterRegistry();
+
+        Ticker ticker = nanos::get;
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+            primary, replica, new RecentWriters(WINDOW, 1000, ticker), currentUser::get, meterRegistry);
+        LazyConnectionDataSourceProxy dataSource = routing.lazyProxy();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    private static EmbeddedDatabase node(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .setName(name + "-" + UUID.randomUUID())
+            .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return database;
+    }
+
+    private String servedBy(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private double routes(String role, String reason) {
+        return meterRegistry.get(ReadWriteRoutingDataSource.ROUTING_METRIC)
+            .tag("role", role).tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("should_UseReplica_When_TransactionIsReadOnly")
+    void should_UseReplica_When_TransactionIsReadOnly() {
+        currentUser.set("user123");
+
+        assertEquals("replica", servedBy(readOnly));
+        assertEquals(1.0, routes("replica", "read"));
+    }
+
+    @Test
+    @DisplayName("should_UsePrimary_When_TransactionWrites")
+    void should_UsePrimary_When_TransactionWrites() {
+        assertEquals("primary", servedBy(readWrite));
+        assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        assertEquals(2.0, routes("primary", "write"));
+    }
+
+    @Test
+    @DisplayName("should_ReadOwnWritesFromPrimary_When_WithinWindow")
+    void should_ReadOwnWritesFromPrimary_When_WithinWindow() {
+        currentUser.set("user123");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = 'primary'"));
+
+        assertEquals("primary", servedBy(readOnly));
+        assertEquals(1.0, routes("primary", "read-your-writes"));
+
+        currentUser.set("user456");
+        assertEquals("replica", servedBy(readOnly));
+    }
+
+    @Test
+    @DisplayName("should_ReturnToReplica_When_WindowElapsed")
+    void should_ReturnToReplica_When_WindowElapsed() {
+        currentUser.set("user123");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = 'primary'"));
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW.toMillis() + 1));
+
+        assertEquals("replica", servedBy(readOnly));
+    }
+
+    @Test
+    @DisplayName("should_NotStickToPrimary_When_WriterIsAnonymous")
+    void should_NotStickToPrimary_When_WriterIsAnonymous() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = 'primary'"));
+
+        assertEquals("replica", servedBy(readOnly));
+    }
+}
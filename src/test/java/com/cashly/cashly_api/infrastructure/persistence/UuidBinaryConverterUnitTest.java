@@ -0,0 +1,58 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidBinaryConverter Unit Tests")
+class UuidBinaryConverterUnitTest {
+
+    private final UuidBinaryConverter converter = new UuidBinaryConverter();
+
+    @Test
+    @DisplayName("should_RoundTripUuid_When_ConvertedToBytesAndBack")
+    void should_RoundTripUuid_When_ConvertedToBytesAndBack() {
+        String uuid = UUID.randomUUID().toString();
+
+        byte[] bytes = converter.convertToDatabaseColumn(uuid);
+
+        assertEquals(UuidBinaryConverter.BINARY_LENGTH, bytes.length);
+        assertEquals(uuid, converter.convertToEntityAttribute(bytes));
+    }
+
+    @Test
+    @DisplayName("should_KeepMostSignificantBitsFirst_When_ConvertingToBytes")
+    void should_KeepMostSignificantBitsFirst_When_ConvertingToBytes() {
+        byte[] bytes = UuidBinaryConverter.toBytes("01234567-89ab-cdef-0123-456789abcdef");
+
+        assertEquals((byte) 0x01, bytes[0]);
+        assertEquals((byte) 0xef, bytes[15]);
+    }
+
+    @Test
+    @DisplayName("should_ReturnNull_When_ValueIsNull")
+    void should_ReturnNull_When_ValueIsNull() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_ValueIsNotUuid")
+    void should_ThrowException_When_ValueIsNotUuid() {
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToDatabaseColumn("user123"));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_ColumnHasWrongLength")
+    void should_ThrowException_When_ColumnHasWrongLength() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> converter.convertToEntityAttribute(new byte[36])
+        );
+
+        assertEquals("UUID column must hold exactly 16 bytes", exception.getMessage());
+    }
+}
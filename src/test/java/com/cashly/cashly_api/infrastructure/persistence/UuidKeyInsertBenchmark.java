@@ -0,0 +1,82 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import com.cashly.cashly_api.shared.utils.UuidV7;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput into a {@code BINARY(16)} primary key that already holds 500k rows,
+ * with random version 4 keys against time-ordered {@code UuidV7} keys.
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidKeyInsertBenchmark {
+
+    private static final int SEEDED_ROWS = 500_000;
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:uuid_insert_" + version + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE transactions (id BINARY(16) PRIMARY KEY, amount DECIMAL(15,2) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO transactions (id, amount) VALUES (?, ?)");
+        for (int i = 0; i < SEEDED_ROWS / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setBytes(1, UuidBinaryConverter.toBytes(nextId().toString()));
+            insert.setBigDecimal(2, BigDecimal.TEN);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(UuidKeyInsertBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    private UUID nextId() {
+        return "v7".equals(version) ? UuidV7.generate() : UUID.randomUUID();
+    }
+}
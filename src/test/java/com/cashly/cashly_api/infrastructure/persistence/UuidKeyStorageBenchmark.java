@@ -0,0 +1,113 @@
+package com.cashly.cashly_api.infrastructure.persistence;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range scans over the {@code (user_id, id)} index of a seeded transactions table with
+ * UUID keys stored as {@code VARCHAR(36)} against {@code BINARY(16)}. The table size on
+ * disk for each layout is printed once after seeding.
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidKeyStorageBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int USERS = 200;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"VARCHAR(36)", "BINARY(16)"})
+    public String keyType;
+
+    private Connection connection;
+    private PreparedStatement rangeScan;
+    private Object[] userKeys;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:uuid_keys_" + keyType.hashCode() + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE transactions (id " + keyType + " PRIMARY KEY, user_id " + keyType
+                + " NOT NULL, amount DECIMAL(15,2) NOT NULL)");
+            statement.execute("CREATE INDEX idx_transactions_user_id ON transactions(user_id, id)");
+        }
+
+        userKeys = new Object[USERS];
+        for (int i = 0; i < USERS; i++) {
+            userKeys[i] = key(UUID.randomUUID().toString());
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO transactions (id, user_id, amount) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setObject(1, key(UUID.randomUUID().toString()));
+                insert.setObject(2, userKeys[i % USERS]);
+                insert.setBigDecimal(3, BigDecimal.valueOf(i, 2));
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet size = statement.executeQuery("SELECT DISK_SPACE_USED('TRANSACTIONS')")) {
+            size.next();
+            System.out.printf("%n%s keys: %,d rows use %,d bytes%n", keyType, ROWS, size.getLong(1));
+        }
+
+        rangeScan = connection.prepareStatement(
+            "SELECT id FROM transactions WHERE user_id = ? ORDER BY id LIMIT " + PAGE_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void rangeScanByUser(Blackhole blackhole) throws SQLException {
+        rangeScan.setObject(1, userKeys[ThreadLocalRandom.current().nextInt(USERS)]);
+        try (ResultSet rows = rangeScan.executeQuery()) {
+            while (rows.next()) {
+                blackhole.consume(rows.getObject(1));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(UuidKeyStorageBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    private Object key(String uuid) {
+        return keyType.startsWith("BINARY") ? UuidBinaryConverter.toBytes(uuid) : uuid;
+    }
+}
@@ -0,0 +1,109 @@
+package com.cashly.cashly_api.shared.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Amount Series Unit Tests")
+class AmountSeriesUnitTest {
+
+    @Test
+    @DisplayName("should_FillEmptyBuckets_When_DaysHaveNoRows")
+    void should_FillEmptyBuckets_When_DaysHaveNoRows() {
+        LocalDate start = LocalDate.of(2024, 2, 27);
+
+        AmountSeries series = AmountSeries.fill(SeriesGranularity.DAY, start, LocalDate.of(2024, 3, 2), List.of(
+            new PeriodTotal(LocalDate.of(2024, 2, 28), new BigDecimal("12.50"), 2),
+            new PeriodTotal(LocalDate.of(2024, 3, 1), new BigDecimal("7.25"), 1)
+        ));
+
+        assertEquals(5, series.points().size());
+        assertEquals(LocalDate.of(2024, 2, 29), series.points().get(2).periodStart());
+        assertEquals(new BigDecimal("0.00"), series.points().get(2).total());
+        assertEquals(0, series.points().get(2).count());
+        assertEquals(new BigDecimal("12.50"), series.points().get(1).total());
+        assertEquals(2, series.points().get(1).count());
+        assertEquals(new BigDecimal("7.25"), series.points().get(3).total());
+    }
+
+    @Test
+    @DisplayName("should_SumDailyRowsIntoIsoWeeks_When_GranularityIsWeek")
+    void should_SumDailyRowsIntoIsoWeeks_When_GranularityIsWeek() {
+        // 2024-03-06 is a Wednesday, so the first bucket starts on Monday 2024-03-04
+        AmountSeries series = AmountSeries.fill(
+            SeriesGranularity.WEEK, LocalDate.of(2024, 3, 6), LocalDate.of(2024, 3, 20), List.of(
+                new PeriodTotal(LocalDate.of(2024, 3, 6), new BigDecimal("10.00"), 1),
+                new PeriodTotal(LocalDate.of(2024, 3, 10), new BigDecimal("5.55"), 3),
+                new PeriodTotal(LocalDate.of(2024, 3, 18), new BigDecimal("1.45"), 1)
+            ));
+
+        assertEquals(3, series.points().size());
+        assertEquals(LocalDate.of(2024, 3, 4), series.points().get(0).periodStart());
+        assertEquals(new BigDecimal("15.55"), series.points().get(0).total());
+        assertEquals(4, series.points().get(0).count());
+        assertEquals(new BigDecimal("0.00"), series.points().get(1).total());
+        assertEquals(new BigDecimal("1.45"), series.points().get(2).total());
+    }
+
+    @Test
+    @DisplayName("should_SkipRows_When_OutsideTheRange")
+    void should_SkipRows_When_OutsideTheRange() {
+        AmountSeries series = AmountSeries.fill(
+            SeriesGranularity.MONTH, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 10), List.of(
+                new PeriodTotal(LocalDate.of(2023, 12, 1), new BigDecimal("99.00"), 1),
+                new PeriodTotal(LocalDate.of(2024, 2, 1), new BigDecimal("20.00"), 1),
+                new PeriodTotal(LocalDate.of(2024, 3, 1), new BigDecimal("99.00"), 1)
+            ));
+
+        assertEquals(2, series.points().size());
+        assertEquals(new BigDecimal("0.00"), series.points().get(0).total());
+        assertEquals(new BigDecimal("20.00"), series.points().get(1).total());
+    }
+
+    @Test
+    @DisplayName("should_CountSixtyMonths_When_FiveYearMonthlySeriesRequested")
+    void should_CountSixtyMonths_When_FiveYearMonthlySeriesRequested() {
+        assertEquals(60, AmountSeries.bucketCount(
+            SeriesGranularity.MONTH, LocalDate.of(2020, 1, 1), LocalDate.of(2024, 12, 31)));
+        assertEquals(1, AmountSeries.bucketCount(
+            SeriesGranularity.WEEK, LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 10)));
+    }
+
+    @Test
+    @DisplayName("should_Throw_When_TooManyBucketsRequested")
+    void should_Throw_When_TooManyBucketsRequested() {
+        assertThrows(IllegalArgumentException.class, () ->
+            AmountSeries.bucketCount(SeriesGranularity.DAY, LocalDate.of(2010, 1, 1), LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("should_RejectRange_When_ValidatingBeforeQuerying")
+    void should_RejectRange_When_ValidatingBeforeQuerying() {
+        assertDoesNotThrow(() ->
+            AmountSeries.validateRange(SeriesGranularity.WEEK, LocalDate.of(2010, 1, 1), LocalDate.of(2024, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () ->
+            AmountSeries.validateRange(SeriesGranularity.DAY, LocalDate.of(2010, 1, 1), LocalDate.of(2024, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () ->
+            AmountSeries.validateRange(null, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+    }
+
+    @Test
+    @DisplayName("should_Throw_When_StartDateIsAfterEndDate")
+    void should_Throw_When_StartDateIsAfterEndDate() {
+        assertThrows(IllegalArgumentException.class, () ->
+            AmountSeries.fill(SeriesGranularity.DAY, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), List.of()));
+    }
+
+    @Test
+    @DisplayName("should_ReturnNull_When_GranularityIsUnknown")
+    void should_ReturnNull_When_GranularityIsUnknown() {
+        assertEquals(SeriesGranularity.WEEK, SeriesGranularity.parse("week"));
+        assertNull(SeriesGranularity.parse("quarter"));
+        assertNull(SeriesGranularity.parse(null));
+    }
+}
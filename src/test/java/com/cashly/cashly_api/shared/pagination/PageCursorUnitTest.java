@@ -0,0 +1,99 @@
+package com.cashly.cashly_api.shared.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Keyset Pagination Unit Tests")
+class PageCursorUnitTest {
+
+    @Test
+    @DisplayName("should_RoundTrip_When_CursorEncodedAndDecoded")
+    void should_RoundTrip_When_CursorEncodedAndDecoded() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000), UUID.randomUUID().toString());
+
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("should_ProduceUrlSafeToken_When_Encoded")
+    void should_ProduceUrlSafeToken_When_Encoded() {
+        String token = new PageCursor(LocalDateTime.now(), UUID.randomUUID().toString()).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "token should not need URL escaping");
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_TokenIsNotBase64")
+    void should_ThrowException_When_TokenIsNotBase64() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> PageCursor.decode("not a cursor!"));
+
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_TokenIdIsNotUuid")
+    void should_ThrowException_When_TokenIdIsNotUuid() {
+        String token = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("2025-01-01T00:00|' OR 1=1".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_TokenIsBlank")
+    void should_ThrowException_When_TokenIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_PageSizeIsNotPositive")
+    void should_ThrowException_When_PageSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> PageRequest.first(0));
+    }
+
+    @Test
+    @DisplayName("should_DropLookaheadRowAndPointCursorAtLastItem_When_MoreRowsThanSize")
+    void should_DropLookaheadRowAndPointCursorAtLastItem_When_MoreRowsThanSize() {
+        CursorPage<String> page = CursorPage.fromLookahead(List.of("a", "b", "c"), 2, PageCursorUnitTest::cursorOf);
+
+        assertEquals(List.of("a", "b"), page.items());
+        assertTrue(page.hasNext());
+        assertEquals(cursorOf("b"), page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("should_HaveNoNextCursor_When_RowsFitInPage")
+    void should_HaveNoNextCursor_When_RowsFitInPage() {
+        CursorPage<String> page = CursorPage.fromLookahead(List.of("a", "b"), 2, PageCursorUnitTest::cursorOf);
+
+        assertEquals(List.of("a", "b"), page.items());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("should_KeepCursor_When_PageMapped")
+    void should_KeepCursor_When_PageMapped() {
+        CursorPage<String> page = CursorPage.fromLookahead(List.of("a", "b", "c"), 2, PageCursorUnitTest::cursorOf);
+
+        CursorPage<String> mapped = page.map(String::toUpperCase);
+
+        assertEquals(List.of("A", "B"), mapped.items());
+        assertEquals(page.nextCursor(), mapped.nextCursor());
+    }
+
+    private static PageCursor cursorOf(String item) {
+        return new PageCursor(LocalDateTime.of(2025, 1, 1, 0, 0), UUID.nameUUIDFromBytes(item.getBytes(StandardCharsets.UTF_8)).toString());
+    }
+}
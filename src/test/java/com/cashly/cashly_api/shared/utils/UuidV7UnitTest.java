@@ -0,0 +1,79 @@
+package com.cashly.cashly_api.shared.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidV7 Unit Tests")
+class UuidV7UnitTest {
+
+    @Test
+    @DisplayName("should_SetVersionAndVariant_When_Generated")
+    void should_SetVersionAndVariant_When_Generated() {
+        UUID uuid = UuidV7.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("should_EmbedCurrentTimestamp_When_Generated")
+    void should_EmbedCurrentTimestamp_When_Generated() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+        assertTrue(timestamp >= before, "timestamp should not be earlier than generation");
+        assertTrue(timestamp <= after + 1, "timestamp should not run ahead of the clock");
+    }
+
+    @Test
+    @DisplayName("should_IncreaseStrictly_When_GeneratedWithinSameMillisecond")
+    void should_IncreaseStrictly_When_GeneratedWithinSameMillisecond() {
+        String previous = UuidV7.generate().toString();
+
+        for (int i = 0; i < 10_000; i++) {
+            String next = UuidV7.generate().toString();
+            assertTrue(next.compareTo(previous) > 0, "expected " + next + " > " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("should_GenerateUniqueIds_When_CalledConcurrently")
+    void should_GenerateUniqueIds_When_CalledConcurrently() throws Exception {
+        int threads = 8;
+        int perThread = 5_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(UuidV7.generate());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+    }
+}
@@ -0,0 +1,42 @@
+package com.cashly.cashly_api.shared.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Uuids Unit Tests")
+class UuidsUnitTest {
+
+    @Test
+    @DisplayName("should_AcceptId_When_CanonicalUuid")
+    void should_AcceptId_When_CanonicalUuid() {
+        assertTrue(Uuids.isValid(UUID.randomUUID().toString()));
+        assertTrue(Uuids.isValid(UuidV7.generate().toString().toUpperCase()));
+    }
+
+    @Test
+    @DisplayName("should_RejectId_When_NotCanonicalUuid")
+    void should_RejectId_When_NotCanonicalUuid() {
+        assertFalse(Uuids.isValid(null));
+        assertFalse(Uuids.isValid(""));
+        assertFalse(Uuids.isValid("user123"));
+        assertFalse(Uuids.isValid("1-1-1-1-1"));
+        assertFalse(Uuids.isValid("123e4567e89b12d3a456426614174000"));
+        assertFalse(Uuids.isValid("123e4567-e89b-12d3-a456-42661417400g"));
+        assertFalse(Uuids.isValid(" 123e4567-e89b-12d3-a456-42661417400"));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_RequiringMalformedId")
+    void should_ThrowException_When_RequiringMalformedId() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> Uuids.requireValid("user123", "user ID")
+        );
+
+        assertEquals("Invalid user ID format: user123", exception.getMessage());
+    }
+}
@@ -0,0 +1,88 @@
+package com.cashly.cashly_api.transactions.application.usecases;
+
+import com.cashly.cashly_api.shared.dto.BulkCreateResponse;
+import com.cashly.cashly_api.transactions.application.dto.CreateTransactionRequest;
+import com.cashly.cashly_api.transactions.application.dto.TransactionResponse;
+import com.cashly.cashly_api.transactions.application.ports.TransactionRepository;
+import com.cashly.cashly_api.transactions.domain.entities.Transaction;
+import com.cashly.cashly_api.transactions.domain.services.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateTransactionUseCase Unit Tests")
+class CreateTransactionUseCaseUnitTest {
+
+    private static final String USER_ID = "00000000-0000-0000-0000-000000000123";
+    private static final String ACCOUNT_ID = "00000000-0000-0000-0000-00000000a123";
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private CreateTransactionUseCase createTransactionUseCase;
+
+    @BeforeEach
+    void setUp() {
+        createTransactionUseCase = new CreateTransactionUseCase(transactionRepository, new TransactionService());
+    }
+
+    @Test
+    @DisplayName("should_RejectOnlyThatItem_When_BulkItemHasMalformedAccountId")
+    void should_RejectOnlyThatItem_When_BulkItemHasMalformedAccountId() {
+        List<CreateTransactionRequest> requests = List.of(
+            deposit(ACCOUNT_ID),
+            deposit("account123"),
+            deposit(ACCOUNT_ID)
+        );
+
+        BulkCreateResponse<TransactionResponse> response = createTransactionUseCase.executeAll(requests);
+
+        assertEquals(2, response.created());
+        assertEquals(1, response.rejected());
+        assertFalse(response.items().get(1).success());
+        assertEquals("Invalid destination account ID format: account123", response.items().get(1).error());
+        verify(transactionRepository, times(1)).saveAll(argThat(transactions -> transactions.size() == 2));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("should_ThrowException_When_SingleRequestHasMalformedUserId")
+    void should_ThrowException_When_SingleRequestHasMalformedUserId() {
+        CreateTransactionRequest request = deposit(ACCOUNT_ID);
+        request.setUserId("user123");
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> createTransactionUseCase.execute(request)
+        );
+
+        assertEquals("Invalid user ID format: user123", exception.getMessage());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private CreateTransactionRequest deposit(String destinationAccountId) {
+        return new CreateTransactionRequest(
+            USER_ID,
+            "DEPOSIT",
+            new BigDecimal("50.00"),
+            "USD",
+            "Cash deposit",
+            null,
+            null,
+            destinationAccountId,
+            null,
+            null
+        );
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,15 +15,15 @@ class TransactionUnitTest {
     void should_CreateTransaction_When_ValidTransferParametersProvided() {
         // Arrange
         TransactionId id = TransactionId.generate();
-        String userId = "user123";
+        String userId = "00000000-0000-0000-0000-000000000123";
         TransactionType type = TransactionType.TRANSFER;
         TransactionStatus status = TransactionStatus.PENDING;
         Amount amount = new Amount(new BigDecimal("100.00"));
         String currency = "USD";
         Description description = new Description("Transfer to savings");
         TransactionDate date = TransactionDate.now();
-        String sourceAccountId = "source123";
-        String destinationAccountId = "dest123";
+        String sourceAccountId = "00000000-0000-0000-0000-00000000b123";
+        String destinationAccountId = "00000000-0000-0000-0000-00000000c123";
 
         // Act
         Transaction transaction = new Transaction(id, userId, type, status, amount, currency,
@@ -45,9 +46,9 @@ class TransactionUnitTest {
         Amount amount = new Amount(new BigDecimal("500.00"));
 
         // Act
-        Transaction transaction = new Transaction(id, "user123", TransactionType.DEPOSIT,
+        Transaction transaction = new Transaction(id, "00000000-0000-0000-0000-000000000123", TransactionType.DEPOSIT,
             TransactionStatus.PENDING, amount, "USD", new Description("Salary deposit"),
-            TransactionDate.now(), null, "dest123", null, null);
+            TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Assert
         assertNotNull(transaction);
@@ -62,9 +63,9 @@ class TransactionUnitTest {
         Amount amount = new Amount(new BigDecimal("200.00"));
 
         // Act
-        Transaction transaction = new Transaction(id, "user123", TransactionType.WITHDRAWAL,
+        Transaction transaction = new Transaction(id, "00000000-0000-0000-0000-000000000123", TransactionType.WITHDRAWAL,
             TransactionStatus.PENDING, amount, "USD", new Description("ATM withdrawal"),
-            TransactionDate.now(), "source123", null, null, null);
+            TransactionDate.now(), "00000000-0000-0000-0000-00000000b123", null, null, null);
 
         // Assert
         assertNotNull(transaction);
@@ -79,9 +80,9 @@ class TransactionUnitTest {
         Amount amount = new Amount(new BigDecimal("75.50"));
 
         // Act
-        Transaction transaction = new Transaction(id, "user123", TransactionType.PAYMENT,
+        Transaction transaction = new Transaction(id, "00000000-0000-0000-0000-000000000123", TransactionType.PAYMENT,
             TransactionStatus.PENDING, amount, "USD", new Description("Online purchase"),
-            TransactionDate.now(), "source123", null, "expense123", null);
+            TransactionDate.now(), "00000000-0000-0000-0000-00000000b123", null, "00000000-0000-0000-0000-00000000e123", null);
 
         // Assert
         assertNotNull(transaction);
@@ -96,9 +97,9 @@ class TransactionUnitTest {
         Amount amount = new Amount(new BigDecimal("50.00"));
 
         // Act
-        Transaction transaction = new Transaction(id, "user123", TransactionType.REFUND,
+        Transaction transaction = new Transaction(id, "00000000-0000-0000-0000-000000000123", TransactionType.REFUND,
             TransactionStatus.PENDING, amount, "USD", new Description("Product refund"),
-            TransactionDate.now(), null, "dest123", null, "income123");
+            TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, "00000000-0000-0000-0000-00000000f123");
 
         // Assert
         assertNotNull(transaction);
@@ -111,9 +112,9 @@ class TransactionUnitTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Transaction(null, "user123", TransactionType.DEPOSIT,
+            () -> new Transaction(null, "00000000-0000-0000-0000-000000000123", TransactionType.DEPOSIT,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-                new Description("Test"), TransactionDate.now(), null, "dest123", null, null)
+                new Description("Test"), TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, null)
         );
         assertEquals("Transaction ID cannot be null", exception.getMessage());
     }
@@ -125,7 +126,7 @@ class TransactionUnitTest {
             IllegalArgumentException.class,
             () -> new Transaction(TransactionId.generate(), null, TransactionType.DEPOSIT,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-                new Description("Test"), TransactionDate.now(), null, "dest123", null, null)
+                new Description("Test"), TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, null)
         );
         assertEquals("User ID cannot be null or empty", exception.getMessage());
     }
@@ -137,7 +138,7 @@ class TransactionUnitTest {
             IllegalArgumentException.class,
             () -> new Transaction(TransactionId.generate(), "  ", TransactionType.DEPOSIT,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-                new Description("Test"), TransactionDate.now(), null, "dest123", null, null)
+                new Description("Test"), TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, null)
         );
         assertEquals("User ID cannot be null or empty", exception.getMessage());
     }
@@ -147,9 +148,9 @@ class TransactionUnitTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Transaction(TransactionId.generate(), "user123", TransactionType.TRANSFER,
+            () -> new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123", TransactionType.TRANSFER,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-                new Description("Test"), TransactionDate.now(), null, "dest123", null, null)
+                new Description("Test"), TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, null)
         );
         assertTrue(exception.getMessage().contains("TRANSFER requires a source account"));
     }
@@ -159,9 +160,9 @@ class TransactionUnitTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Transaction(TransactionId.generate(), "user123", TransactionType.TRANSFER,
+            () -> new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123", TransactionType.TRANSFER,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-                new Description("Test"), TransactionDate.now(), "source123", null, null, null)
+                new Description("Test"), TransactionDate.now(), "00000000-0000-0000-0000-00000000b123", null, null, null)
         );
         assertTrue(exception.getMessage().contains("TRANSFER requires a destination account"));
     }
@@ -171,7 +172,7 @@ class TransactionUnitTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Transaction(TransactionId.generate(), "user123", TransactionType.DEPOSIT,
+            () -> new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123", TransactionType.DEPOSIT,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
                 new Description("Test"), TransactionDate.now(), null, null, null, null)
         );
@@ -183,21 +184,33 @@ class TransactionUnitTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Transaction(TransactionId.generate(), "user123", TransactionType.WITHDRAWAL,
+            () -> new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123", TransactionType.WITHDRAWAL,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
                 new Description("Test"), TransactionDate.now(), null, null, null, null)
         );
         assertTrue(exception.getMessage().contains("WITHDRAWAL requires a source account"));
     }
 
+    @Test
+    void should_ThrowException_When_AccountIdIsNotUuid() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123", TransactionType.TRANSFER,
+                TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
+                new Description("Test"), TransactionDate.now(), "source123", "00000000-0000-0000-0000-00000000c123", null, null)
+        );
+        assertEquals("Invalid source account ID format: source123", exception.getMessage());
+    }
+
     @Test
     void should_ThrowException_When_SameAccountAsSourceAndDestination() {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Transaction(TransactionId.generate(), "user123", TransactionType.TRANSFER,
+            () -> new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123", TransactionType.TRANSFER,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-                new Description("Test"), TransactionDate.now(), "account123", "account123", null, null)
+                new Description("Test"), TransactionDate.now(), "00000000-0000-0000-0000-00000000a123", "00000000-0000-0000-0000-00000000a123", null, null)
         );
         assertEquals("Source and destination accounts cannot be the same", exception.getMessage());
     }
@@ -207,9 +220,9 @@ class TransactionUnitTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Transaction(TransactionId.generate(), "user123", TransactionType.DEPOSIT,
+            () -> new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123", TransactionType.DEPOSIT,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-                new Description("Test"), TransactionDate.now(), null, "dest123", "expense123", null)
+                new Description("Test"), TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", "00000000-0000-0000-0000-00000000e123", null)
         );
         assertTrue(exception.getMessage().contains("cannot be linked to an expense"));
     }
@@ -219,9 +232,9 @@ class TransactionUnitTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Transaction(TransactionId.generate(), "user123", TransactionType.WITHDRAWAL,
+            () -> new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123", TransactionType.WITHDRAWAL,
                 TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-                new Description("Test"), TransactionDate.now(), "source123", null, null, "income123")
+                new Description("Test"), TransactionDate.now(), "00000000-0000-0000-0000-00000000b123", null, null, "00000000-0000-0000-0000-00000000f123")
         );
         assertTrue(exception.getMessage().contains("cannot be linked to an income"));
     }
@@ -320,21 +333,21 @@ class TransactionUnitTest {
         Transaction transaction = createValidTransaction(TransactionStatus.PENDING);
 
         // Act & Assert
-        assertTrue(transaction.belongsToUser("user123"));
+        assertTrue(transaction.belongsToUser("00000000-0000-0000-0000-000000000123"));
         assertFalse(transaction.belongsToUser("otherUser"));
     }
 
     @Test
     void should_ReturnTrue_When_TransactionInvolvesAccount() {
         // Arrange
-        Transaction transaction = new Transaction(TransactionId.generate(), "user123",
+        Transaction transaction = new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123",
             TransactionType.TRANSFER, TransactionStatus.PENDING,
             new Amount(new BigDecimal("100")), "USD", new Description("Test"),
-            TransactionDate.now(), "source123", "dest123", null, null);
+            TransactionDate.now(), "00000000-0000-0000-0000-00000000b123", "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Act & Assert
-        assertTrue(transaction.involvesAccount("source123"));
-        assertTrue(transaction.involvesAccount("dest123"));
+        assertTrue(transaction.involvesAccount("00000000-0000-0000-0000-00000000b123"));
+        assertTrue(transaction.involvesAccount("00000000-0000-0000-0000-00000000c123"));
         assertFalse(transaction.involvesAccount("other123"));
     }
 
@@ -353,10 +366,10 @@ class TransactionUnitTest {
     @Test
     void should_NormalizeCurrency_When_LowercaseProvided() {
         // Arrange & Act
-        Transaction transaction = new Transaction(TransactionId.generate(), "user123",
+        Transaction transaction = new Transaction(TransactionId.generate(), "00000000-0000-0000-0000-000000000123",
             TransactionType.DEPOSIT, TransactionStatus.PENDING,
             new Amount(new BigDecimal("100")), "usd", new Description("Test"),
-            TransactionDate.now(), null, "dest123", null, null);
+            TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Assert
         assertEquals("USD", transaction.getCurrency());
@@ -365,25 +378,25 @@ class TransactionUnitTest {
     @Test
     void should_TrimUserId_When_WhitespaceProvided() {
         // Arrange & Act
-        Transaction transaction = new Transaction(TransactionId.generate(), "  user123  ",
+        Transaction transaction = new Transaction(TransactionId.generate(), "  00000000-0000-0000-0000-000000000123  ",
             TransactionType.DEPOSIT, TransactionStatus.PENDING,
             new Amount(new BigDecimal("100")), "USD", new Description("Test"),
-            TransactionDate.now(), null, "dest123", null, null);
+            TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Assert
-        assertEquals("user123", transaction.getUserId());
+        assertEquals("00000000-0000-0000-0000-000000000123", transaction.getUserId());
     }
 
     @Test
     void should_BeEqual_When_SameIdUsed() {
         // Arrange
         TransactionId id = TransactionId.generate();
-        Transaction transaction1 = new Transaction(id, "user123", TransactionType.DEPOSIT,
+        Transaction transaction1 = new Transaction(id, "00000000-0000-0000-0000-000000000123", TransactionType.DEPOSIT,
             TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-            new Description("Test"), TransactionDate.now(), null, "dest123", null, null);
-        Transaction transaction2 = new Transaction(id, "user123", TransactionType.DEPOSIT,
+            new Description("Test"), TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, null);
+        Transaction transaction2 = new Transaction(id, "00000000-0000-0000-0000-000000000123", TransactionType.DEPOSIT,
             TransactionStatus.PENDING, new Amount(new BigDecimal("100")), "USD",
-            new Description("Test"), TransactionDate.now(), null, "dest123", null, null);
+            new Description("Test"), TransactionDate.now(), null, "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Act & Assert
         assertEquals(transaction1, transaction2);
@@ -410,14 +423,14 @@ class TransactionUnitTest {
 
         // Assert
         assertTrue(result.contains("Transaction"));
-        assertTrue(result.contains("user123"));
+        assertTrue(result.contains("00000000-0000-0000-0000-000000000123"));
         assertTrue(result.contains("DEPOSIT"));
     }
 
     private Transaction createValidTransaction(TransactionStatus status) {
         return new Transaction(
             TransactionId.generate(),
-            "user123",
+            "00000000-0000-0000-0000-000000000123",
             TransactionType.DEPOSIT,
             status,
             new Amount(new BigDecimal("100.00")),
@@ -425,9 +438,29 @@ class TransactionUnitTest {
             new Description("Test transaction"),
             TransactionDate.now(),
             null,
-            "dest123",
+            "00000000-0000-0000-0000-00000000c123",
             null,
             null
         );
     }
+
+    @Test
+    void should_KeepPersistedState_When_Rehydrated() {
+        // Arrange
+        TransactionId id = TransactionId.generate();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 16, 14, 45);
+
+        // Act
+        Transaction transaction = Transaction.rehydrate(id, "00000000-0000-0000-0000-000000000123", TransactionType.DEPOSIT,
+            TransactionStatus.COMPLETED, new Amount(new BigDecimal("100.00")), "USD",
+            new Description("Salary deposit"), TransactionDate.rehydrate(LocalDate.of(2024, 1, 15)),
+            null, "00000000-0000-0000-0000-00000000c123", null, null, createdAt, updatedAt);
+
+        // Assert
+        assertEquals(id, transaction.getId());
+        assertEquals(TransactionStatus.COMPLETED, transaction.getStatus());
+        assertEquals(createdAt, transaction.getCreatedAt());
+        assertEquals(updatedAt, transaction.getUpdatedAt());
+    }
 }
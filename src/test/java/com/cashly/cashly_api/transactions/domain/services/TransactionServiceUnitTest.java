@@ -21,7 +21,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ValidateSuccessfully_When_ValidTransferProvided() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.TRANSFER, "source123", "dest123", null, null);
+        Transaction transaction = createTransaction(TransactionType.TRANSFER, "00000000-0000-0000-0000-00000000b123", "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Act & Assert
         assertDoesNotThrow(() -> transactionService.validateTransactionIntegrity(transaction));
@@ -30,7 +30,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ValidateSuccessfully_When_ValidDepositProvided() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "dest123", null, null);
+        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Act & Assert
         assertDoesNotThrow(() -> transactionService.validateTransactionIntegrity(transaction));
@@ -39,7 +39,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ValidateSuccessfully_When_ValidWithdrawalProvided() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.WITHDRAWAL, "source123", null, null, null);
+        Transaction transaction = createTransaction(TransactionType.WITHDRAWAL, "00000000-0000-0000-0000-00000000b123", null, null, null);
 
         // Act & Assert
         assertDoesNotThrow(() -> transactionService.validateTransactionIntegrity(transaction));
@@ -48,7 +48,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ValidateSuccessfully_When_ValidPaymentProvided() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.PAYMENT, "source123", null, "expense123", null);
+        Transaction transaction = createTransaction(TransactionType.PAYMENT, "00000000-0000-0000-0000-00000000b123", null, "00000000-0000-0000-0000-00000000e123", null);
 
         // Act & Assert
         assertDoesNotThrow(() -> transactionService.validateTransactionIntegrity(transaction));
@@ -57,7 +57,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ValidateSuccessfully_When_ValidRefundProvided() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.REFUND, null, "dest123", null, "income123");
+        Transaction transaction = createTransaction(TransactionType.REFUND, null, "00000000-0000-0000-0000-00000000c123", null, "00000000-0000-0000-0000-00000000f123");
 
         // Act & Assert
         assertDoesNotThrow(() -> transactionService.validateTransactionIntegrity(transaction));
@@ -76,7 +76,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ValidateTransactionIntegritySuccessfully_When_ValidTransferProvided() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.TRANSFER, "source123", "dest123", null, null);
+        Transaction transaction = createTransaction(TransactionType.TRANSFER, "00000000-0000-0000-0000-00000000b123", "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Act & Assert
         assertDoesNotThrow(() -> transactionService.validateTransactionIntegrity(transaction));
@@ -85,7 +85,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ReturnTrue_When_PendingTransactionCanBeModified() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "dest123", null, null);
+        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Act
         boolean canModify = transactionService.canTransactionBeModified(transaction);
@@ -97,7 +97,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ReturnFalse_When_CompletedTransactionCannotBeModified() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "dest123", null, null);
+        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "00000000-0000-0000-0000-00000000c123", null, null);
         transaction.complete();
 
         // Act
@@ -110,7 +110,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ReturnTrue_When_PendingTransactionCanBeCancelled() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "dest123", null, null);
+        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "00000000-0000-0000-0000-00000000c123", null, null);
 
         // Act
         boolean canCancel = transactionService.canTransactionBeCancelled(transaction);
@@ -122,7 +122,7 @@ class TransactionServiceUnitTest {
     @Test
     void should_ReturnFalse_When_CompletedTransactionCannotBeCancelled() {
         // Arrange
-        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "dest123", null, null);
+        Transaction transaction = createTransaction(TransactionType.DEPOSIT, null, "00000000-0000-0000-0000-00000000c123", null, null);
         transaction.complete();
 
         // Act
@@ -154,7 +154,7 @@ class TransactionServiceUnitTest {
                                          String destinationAccountId, String expenseId, String incomeId) {
         return new Transaction(
             TransactionId.generate(),
-            "user123",
+            "00000000-0000-0000-0000-000000000123",
             type,
             TransactionStatus.PENDING,
             new Amount(new BigDecimal("100.00")),
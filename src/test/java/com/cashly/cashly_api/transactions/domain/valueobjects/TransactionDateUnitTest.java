@@ -178,4 +178,16 @@ class TransactionDateUnitTest {
         assertTrue(result.contains("TransactionDate"));
         assertTrue(result.contains(date.toString()));
     }
+
+    @Test
+    void should_AcceptFutureDate_When_Rehydrated() {
+        // Arrange
+        LocalDate futureDate = LocalDate.now().plusDays(1);
+
+        // Act
+        TransactionDate transactionDate = TransactionDate.rehydrate(futureDate);
+
+        // Assert
+        assertEquals(futureDate, transactionDate.getValue());
+    }
 }
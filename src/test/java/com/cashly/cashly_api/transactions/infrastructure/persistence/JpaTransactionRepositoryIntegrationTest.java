@@ -0,0 +1,323 @@
+package com.cashly.cashly_api.transactions.infrastructure.persistence;
+
+import com.cashly.cashly_api.infrastructure.persistence.BatchInserter;
+import com.cashly.cashly_api.infrastructure.persistence.UuidBinaryConverter;
+import com.cashly.cashly_api.shared.pagination.CursorPage;
+import com.cashly.cashly_api.shared.pagination.PageRequest;
+import com.cashly.cashly_api.transactions.application.dto.TransactionResponse;
+import com.cashly.cashly_api.transactions.domain.entities.Transaction;
+import com.cashly.cashly_api.transactions.domain.valueobjects.*;
+import jakarta.persistence.Query;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaTransactionRepository.class, BatchInserter.class})
+@DisplayName("JpaTransactionRepository Integration Tests")
+class JpaTransactionRepositoryIntegrationTest {
+
+    @Autowired
+    private JpaTransactionRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Transaction transaction;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        transaction = new Transaction(
+            TransactionId.generate(),
+            UUID.randomUUID().toString(),
+            TransactionType.DEPOSIT,
+            TransactionStatus.PENDING,
+            new Amount(new BigDecimal("500.00")),
+            "USD",
+            new Description("Salary deposit"),
+            TransactionDate.now(),
+            null,
+            UUID.randomUUID().toString(),
+            null,
+            null
+        );
+    }
+
+    @Test
+    @DisplayName("should_IssueSingleInsert_When_NewTransactionSaved")
+    void should_IssueSingleInsert_When_NewTransactionSaved() {
+        statistics.clear();
+
+        repository.save(transaction);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("should_IssueSingleUpdate_When_ExistingTransactionUpdated")
+    void should_IssueSingleUpdate_When_ExistingTransactionUpdated() {
+        repository.save(transaction);
+        entityManager.flush();
+        entityManager.clear();
+
+        transaction.complete();
+        statistics.clear();
+
+        repository.update(transaction);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        TransactionEntity stored = entityManager.find(
+            TransactionEntity.class, transaction.getId().getValue().toString()
+        );
+        assertEquals("COMPLETED", stored.getTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("should_BatchInserts_When_SeveralTransactionsSaved")
+    void should_BatchInserts_When_SeveralTransactionsSaved() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            transactions.add(new Transaction(
+                TransactionId.generate(),
+                transaction.getUserId(),
+                TransactionType.DEPOSIT,
+                TransactionStatus.PENDING,
+                new Amount(new BigDecimal("10.00")),
+                "USD",
+                new Description("Imported deposit " + i),
+                TransactionDate.now(),
+                null,
+                transaction.getDestinationAccountId(),
+                null,
+                null
+            ));
+        }
+        statistics.clear();
+
+        repository.saveAll(transactions);
+
+        assertEquals(20, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(20L, entityManager.getEntityManager()
+            .createQuery("select count(t) from TransactionEntity t", Long.class)
+            .getSingleResult());
+    }
+
+    @Test
+    @DisplayName("should_KeepLoadedEntitiesManaged_When_BatchInserting")
+    void should_KeepLoadedEntitiesManaged_When_BatchInserting() {
+        repository.save(transaction);
+        entityManager.flush();
+        entityManager.clear();
+        TransactionEntity loaded = entityManager.find(
+            TransactionEntity.class, transaction.getId().getValue().toString()
+        );
+
+        repository.saveAll(List.of(new Transaction(
+            TransactionId.generate(),
+            transaction.getUserId(),
+            TransactionType.DEPOSIT,
+            TransactionStatus.PENDING,
+            new Amount(new BigDecimal("10.00")),
+            "USD",
+            new Description("Imported deposit"),
+            TransactionDate.now(),
+            null,
+            transaction.getDestinationAccountId(),
+            null,
+            null
+        )));
+
+        assertTrue(entityManager.getEntityManager().contains(loaded));
+    }
+
+    @Test
+    @DisplayName("should_VisitEveryTransactionOnce_When_WalkingAccountPages")
+    void should_VisitEveryTransactionOnce_When_WalkingAccountPages() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            transactions.add(new Transaction(
+                TransactionId.generate(),
+                transaction.getUserId(),
+                TransactionType.DEPOSIT,
+                TransactionStatus.PENDING,
+                new Amount(new BigDecimal("10.00")),
+                "USD",
+                new Description("Same-day deposit " + i),
+                TransactionDate.now(),
+                null,
+                transaction.getDestinationAccountId(),
+                null,
+                null
+            ));
+        }
+        repository.saveAll(transactions);
+
+        List<String> visited = new ArrayList<>();
+        PageRequest page = PageRequest.first(2);
+        CursorPage<Transaction> result;
+        do {
+            result = repository.findByAccountId(transaction.getDestinationAccountId(), page);
+            result.items().forEach(t -> visited.add(t.getId().getValue().toString()));
+            page = new PageRequest(result.nextCursor(), 2);
+        } while (result.hasNext());
+
+        List<String> expected = transactions.stream()
+            .map(t -> t.getId().getValue().toString())
+            .sorted(Comparator.reverseOrder())
+            .toList();
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    @DisplayName("should_WalkSamePagesWithoutLoadingEntities_When_ProjectingUserResponses")
+    void should_WalkSamePagesWithoutLoadingEntities_When_ProjectingUserResponses() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            transactions.add(new Transaction(
+                TransactionId.generate(),
+                transaction.getUserId(),
+                TransactionType.DEPOSIT,
+                TransactionStatus.PENDING,
+                new Amount(new BigDecimal("10.00")),
+                "USD",
+                new Description("Same-day deposit " + i),
+                TransactionDate.now(),
+                null,
+                transaction.getDestinationAccountId(),
+                null,
+                null
+            ));
+        }
+        repository.saveAll(transactions);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<String> visited = new ArrayList<>();
+        PageRequest page = PageRequest.first(2);
+        CursorPage<TransactionResponse> result;
+        do {
+            result = repository.findResponsesByUserId(transaction.getUserId(), page);
+            result.items().forEach(response -> visited.add(response.getId()));
+            page = new PageRequest(result.nextCursor(), 2);
+        } while (result.hasNext());
+
+        List<String> expected = transactions.stream()
+            .map(t -> t.getId().getValue().toString())
+            .sorted(Comparator.reverseOrder())
+            .toList();
+        assertEquals(expected, visited);
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        TransactionResponse first = repository.findResponsesByAccountId(
+            transaction.getDestinationAccountId(), PageRequest.first(1)).items().get(0);
+        assertEquals(expected.get(0), first.getId());
+        assertEquals("DEPOSIT", first.getType());
+        assertEquals("PENDING", first.getStatus());
+        assertEquals(transaction.getDestinationAccountId(), first.getDestinationAccountId());
+    }
+
+    @Test
+    @DisplayName("should_MergeBothSidesInDateOrder_When_WalkingAccountPages")
+    void should_MergeBothSidesInDateOrder_When_WalkingAccountPages() {
+        String accountId = UUID.randomUUID().toString();
+        String otherAccountId = UUID.randomUUID().toString();
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            boolean outgoing = i % 2 == 0;
+            transactions.add(new Transaction(
+                TransactionId.generate(),
+                transaction.getUserId(),
+                TransactionType.TRANSFER,
+                TransactionStatus.PENDING,
+                new Amount(new BigDecimal("10.00")),
+                "USD",
+                new Description("Transfer " + i),
+                new TransactionDate(LocalDate.now().minusDays(i / 2)),
+                outgoing ? accountId : otherAccountId,
+                outgoing ? otherAccountId : accountId,
+                null,
+                null
+            ));
+        }
+        repository.saveAll(transactions);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> visited = new ArrayList<>();
+        PageRequest page = PageRequest.first(4);
+        CursorPage<TransactionResponse> result;
+        do {
+            result = repository.findResponsesByAccountId(accountId, page);
+            result.items().forEach(response -> visited.add(response.getId()));
+            page = new PageRequest(result.nextCursor(), 4);
+        } while (result.hasNext());
+
+        List<String> expected = transactions.stream()
+            .sorted(Comparator.comparing((Transaction t) -> t.getTransactionDate().getValue())
+                .thenComparing(t -> t.getId().getValue().toString())
+                .reversed())
+            .map(t -> t.getId().getValue().toString())
+            .toList();
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    @DisplayName("should_RangeScanBothAccountIndexes_When_PlanningAccountPageLookup")
+    void should_RangeScanBothAccountIndexes_When_PlanningAccountPageLookup() {
+        byte[] accountId = UuidBinaryConverter.toBytes(UUID.randomUUID().toString());
+
+        String firstPagePlan = explain(SpringDataTransactionRepository.ACCOUNT_FIRST_PAGE_IDS_SQL)
+            .setParameter("accountId", accountId)
+            .setParameter("limit", 21)
+            .getSingleResult().toString();
+        String pageAfterPlan = explain(SpringDataTransactionRepository.ACCOUNT_PAGE_IDS_AFTER_SQL)
+            .setParameter("accountId", accountId)
+            .setParameter("transactionDate", LocalDate.now())
+            .setParameter("id", UuidBinaryConverter.toBytes(UUID.randomUUID().toString()))
+            .setParameter("limit", 21)
+            .getSingleResult().toString();
+
+        for (String plan : List.of(firstPagePlan, pageAfterPlan)) {
+            String normalized = plan.toUpperCase(Locale.ROOT);
+            assertTrue(normalized.contains("IDX_TRANSACTIONS_SOURCE_DATE_ID"), plan);
+            assertTrue(normalized.contains("IDX_TRANSACTIONS_DESTINATION_DATE_ID"), plan);
+            assertFalse(normalized.contains("TABLESCAN"), plan);
+        }
+    }
+
+    private Query explain(String sql) {
+        return entityManager.getEntityManager().createNativeQuery("EXPLAIN " + sql);
+    }
+}
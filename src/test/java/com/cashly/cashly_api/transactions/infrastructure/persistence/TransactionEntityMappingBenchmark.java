@@ -0,0 +1,104 @@
+package com.cashly.cashly_api.transactions.infrastructure.persistence;
+
+import com.cashly.cashly_api.transactions.domain.entities.Transaction;
+import com.cashly.cashly_api.transactions.domain.valueobjects.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping 100k loaded rows to domain transactions: the former constructor plus
+ * per-row reflective timestamp injection against the {@code rehydrate} factory.
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionEntityMappingBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private List<TransactionEntity> rows;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(ROWS);
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ROWS; i++) {
+            TransactionEntity entity = new TransactionEntity();
+            entity.setId(UUID.randomUUID().toString());
+            entity.setUserId("user123");
+            entity.setTransactionType(TransactionType.DEPOSIT.name());
+            entity.setTransactionStatus(TransactionStatus.COMPLETED.name());
+            entity.setAmount(new BigDecimal("100.00").add(BigDecimal.valueOf(i)));
+            entity.setCurrency("USD");
+            entity.setDescription("Deposit " + i);
+            entity.setTransactionDate(today.minusDays(i % 365));
+            entity.setDestinationAccountId("dest123");
+            entity.setCreatedAt(now.minusMinutes(i));
+            entity.setUpdatedAt(now);
+            rows.add(entity);
+        }
+    }
+
+    @Benchmark
+    public void reflectiveTimestamps(Blackhole blackhole) throws ReflectiveOperationException {
+        for (TransactionEntity row : rows) {
+            blackhole.consume(reflectiveToDomain(row));
+        }
+    }
+
+    @Benchmark
+    public void rehydrationFactory(Blackhole blackhole) {
+        for (TransactionEntity row : rows) {
+            blackhole.consume(row.toDomain());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(TransactionEntityMappingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    private static Transaction reflectiveToDomain(TransactionEntity row) throws ReflectiveOperationException {
+        Transaction transaction = new Transaction(
+            new TransactionId(UUID.fromString(row.getId())),
+            row.getUserId(),
+            TransactionType.fromString(row.getTransactionType()),
+            TransactionStatus.fromString(row.getTransactionStatus()),
+            new Amount(row.getAmount()),
+            row.getCurrency(),
+            new Description(row.getDescription()),
+            new TransactionDate(row.getTransactionDate()),
+            row.getSourceAccountId(),
+            row.getDestinationAccountId(),
+            row.getExpenseId(),
+            row.getIncomeId()
+        );
+
+        Field createdAtField = Transaction.class.getDeclaredField("createdAt");
+        Field updatedAtField = Transaction.class.getDeclaredField("updatedAt");
+        createdAtField.setAccessible(true);
+        updatedAtField.setAccessible(true);
+        createdAtField.set(transaction, row.getCreatedAt());
+        updatedAtField.set(transaction, row.getUpdatedAt());
+
+        return transaction;
+    }
+}